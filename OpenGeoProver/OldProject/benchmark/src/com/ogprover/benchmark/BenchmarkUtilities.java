@@ -0,0 +1,204 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.apache.log4j.Level;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.io.CustomFileReader;
+import com.ogprover.utilities.io.OGPOutput;
+import com.ogprover.utilities.logger.FileLogger;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class with utility methods shared by JMH benchmarks: preparing of
+ * 		prover settings, generating of reproducible random polynomials and
+ * 		copying of input theorems from corpus to input directory of prover.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class BenchmarkUtilities {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Name of system property with path of directory with sample theorems in OGP XML format
+	 */
+	public static final String CORPUS_DIR_PROPERTY = "ogp.benchmark.corpus";
+	/**
+	 * Default directory with sample theorems (relative to project directory)
+	 */
+	public static final String DEFAULT_CORPUS_DIR = "documentation/testing_and_reports/ogp_xml_files/samples";
+	/**
+	 * Seed of generator of random polynomials - same seed gives same polynomials in each run
+	 */
+	public static final long RANDOM_SEED = 20111123L;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that creates prover settings without report output and with
+	 * logging of errors only, so logging doesn't affect measurements. Settings
+	 * are created only if they don't exist, so this method can be called from
+	 * setup of each state used by benchmark.
+	 */
+	public static void initializeSettings() {
+		if (OpenGeoProver.settings != null)
+			return;
+		OpenGeoProver.settings = new OGPConfigurationSettings();
+		OpenGeoProver.settings.setOutput(new OGPOutput(null, null));
+		((FileLogger) OpenGeoProver.settings.getLogger()).setLevel(Level.ERROR);
+	}
+
+	/**
+	 * Method that releases resources of prover settings (cancels timer thread).
+	 */
+	public static void releaseSettings() {
+		if (OpenGeoProver.settings != null) {
+			OpenGeoProver.settings.getTimer().cancel();
+			OpenGeoProver.settings = null;
+		}
+	}
+
+	/**
+	 * Method that generates random x-polynomial with integer coefficients.
+	 *
+	 * @param rnd			Random numbers generator
+	 * @param numOfTerms	Number of generated terms (similar terms are merged so
+	 * 						the resulting polynomial can have less terms)
+	 * @param numOfVars		Number of x-variables
+	 * @param maxDegree		Maximal degree of each variable
+	 * @return				Generated polynomial
+	 */
+	public static XPolynomial randomXPolynomial(Random rnd, int numOfTerms, int numOfVars, int maxDegree) {
+		XPolynomial xp = new XPolynomial();
+
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			XTerm xt = new XTerm(BenchmarkUtilities.randomCoefficient(rnd));
+
+			for (int jj = 1; jj <= numOfVars; jj++) {
+				int exp = rnd.nextInt(maxDegree + 1);
+
+				if (exp > 0)
+					xt.addPower(new Power(Variable.VAR_TYPE_UX_X, jj, exp));
+			}
+			xp.addTerm(xt);
+		}
+		return xp;
+	}
+
+	/**
+	 * Method that generates random u-polynomial with integer coefficients.
+	 *
+	 * @param rnd			Random numbers generator
+	 * @param numOfTerms	Number of generated terms
+	 * @param numOfVars		Number of u-variables
+	 * @param maxDegree		Maximal degree of each variable
+	 * @return				Generated polynomial
+	 */
+	public static UPolynomial randomUPolynomial(Random rnd, int numOfTerms, int numOfVars, int maxDegree) {
+		UPolynomial up = new UPolynomial();
+
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			UTerm ut = new UTerm(BenchmarkUtilities.randomCoefficient(rnd));
+
+			for (int jj = 1; jj <= numOfVars; jj++) {
+				int exp = rnd.nextInt(maxDegree + 1);
+
+				if (exp > 0)
+					ut.addPower(new Power(Variable.VAR_TYPE_UX_U, jj, exp));
+			}
+			up.addTerm(ut);
+		}
+		return up;
+	}
+
+	/**
+	 * @param rnd	Random numbers generator
+	 * @return		Random non-zero integer coefficient from [-9, 9]
+	 */
+	private static long randomCoefficient(Random rnd) {
+		long cf = rnd.nextInt(9) + 1;
+
+		return rnd.nextBoolean() ? cf : -cf;
+	}
+
+	/**
+	 * Method that copies sample theorem from corpus directory to input
+	 * directory of prover, where XML parser of prover expects it.
+	 *
+	 * @param theoremName	Base name of XML file with theorem
+	 * @throws IOException	If theorem can't be copied
+	 */
+	public static void prepareInputFile(String theoremName) throws IOException {
+		String corpusDir = System.getProperty(CORPUS_DIR_PROPERTY, DEFAULT_CORPUS_DIR);
+
+		BenchmarkUtilities.prepareInputFile(new File(corpusDir, theoremName + ".xml"));
+	}
+
+	/**
+	 * Method that copies XML file with theorem to input directory of prover,
+	 * so it can be read by its base name.
+	 *
+	 * @param source		XML file with theorem
+	 * @throws IOException	If theorem can't be copied
+	 */
+	public static void prepareInputFile(File source) throws IOException {
+		File inputDir = new File(CustomFileReader.INPUT_DIR_NAME);
+
+		if (!inputDir.isDirectory() && !inputDir.mkdirs())
+			throw new IOException("Failed to create input directory " + inputDir.getAbsolutePath());
+
+		InputStream in = new FileInputStream(source);
+		try {
+			OutputStream out = new FileOutputStream(new File(inputDir, source.getName()));
+			try {
+				byte[] buffer = new byte[8192];
+				int len;
+
+				while ((len = in.read(buffer)) > 0)
+					out.write(buffer, 0, len);
+			} finally {
+				out.close();
+			}
+		} finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.test.formats.ogp_xml.OGPCPXMLParser;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>JMH benchmarks for operations used by Wu's method: pseudo division
+ * 		of random x-polynomials and triangulation of system of hypotheses
+ * 		of sample theorems.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolySystemBenchmark {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Index of x-variable over which pseudo division is performed
+	 */
+	private static final int PREM_VAR_INDEX = 4;
+
+	/**
+	 * Polynomial which is pseudo divided
+	 */
+	private XPolynomial dividend;
+	/**
+	 * Divisor in pseudo division
+	 */
+	private XPolynomial divisor;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== NESTED CLASSES ============================
+	 * ======================================================================
+	 */
+	/**
+	 * State with hypotheses of sample theorem in algebraic form; it is
+	 * separated from state of enclosing class so pseudo division is not
+	 * repeated for each sample theorem.
+	 */
+	@State(Scope.Benchmark)
+	public static class HypothesesState {
+		/**
+		 * Base name of sample theorem whose hypotheses are triangulated
+		 */
+		@Param({"ogp_simson", "ogp_butterfly", "ogp_Euler"})
+		public String theoremName;
+		/**
+		 * Hypotheses of sample theorem in algebraic form
+		 */
+		private Vector<XPolynomial> hypotheses;
+		/**
+		 * System which is triangulated in one invocation of benchmark
+		 */
+		private XPolySystem system;
+
+		/**
+		 * Method that reads sample theorem and transforms it to algebraic form.
+		 *
+		 * @throws IOException	If sample theorem can't be read
+		 */
+		@Setup(Level.Trial)
+		public void prepare() throws IOException {
+			BenchmarkUtilities.initializeSettings();
+			BenchmarkUtilities.prepareInputFile(this.theoremName);
+			OGPTP consProtocol = new OGPCPXMLParser().readGeoTheoremFromXML(this.theoremName);
+
+			if (consProtocol == null || !consProtocol.isValid() || consProtocol.convertToAlgebraicForm() != OGPConstants.RET_CODE_SUCCESS)
+				throw new IOException("Failed to transform theorem " + this.theoremName + " to algebraic form");
+
+			XPolySystem hypothesesSystem = consProtocol.getAlgebraicGeoTheorem().getHypotheses();
+			this.hypotheses = new Vector<XPolynomial>();
+			for (int ii = 0, jj = hypothesesSystem.numOfPols(); ii < jj; ii++)
+				this.hypotheses.add((XPolynomial) hypothesesSystem.getXPoly(ii).clone());
+		}
+
+		/**
+		 * Method that prepares fresh copy of system of hypotheses, since
+		 * triangulation changes the system.
+		 */
+		@Setup(Level.Invocation)
+		public void prepareSystem() {
+			this.system = new XPolySystem();
+			for (XPolynomial xp : this.hypotheses)
+				this.system.addXPoly((XPolynomial) xp.clone());
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that prepares operands of benchmarks.
+	 */
+	@Setup(Level.Trial)
+	public void prepare() {
+		BenchmarkUtilities.initializeSettings();
+		Random rnd = new Random(BenchmarkUtilities.RANDOM_SEED);
+
+		this.dividend = BenchmarkUtilities.randomXPolynomial(rnd, 40, PREM_VAR_INDEX, 4);
+		this.divisor = BenchmarkUtilities.randomXPolynomial(rnd, 10, PREM_VAR_INDEX, 2);
+		XTerm leadingTerm = new XTerm(1);
+		leadingTerm.addPower(new Power(Variable.VAR_TYPE_UX_X, PREM_VAR_INDEX, 3));
+		this.divisor.addTerm(leadingTerm); // divisor surely contains variable of division
+	}
+
+	/**
+	 * Method that releases resources used by benchmarks.
+	 */
+	@TearDown(Level.Trial)
+	public void release() {
+		BenchmarkUtilities.releaseSettings();
+	}
+
+	/**
+	 * @return	Pseudo remainder of two random polynomials
+	 */
+	@Benchmark
+	public XPolynomial pseudoReminder() {
+		return ((XPolynomial) this.dividend.clone()).pseudoReminder(this.divisor, PREM_VAR_INDEX);
+	}
+
+	/**
+	 * @param state		State with system of hypotheses
+	 * @return			Return code of triangulation of system of hypotheses
+	 */
+	@Benchmark
+	public int triangulate(HypothesesState state) {
+		return state.system.triangulate();
+	}
+}
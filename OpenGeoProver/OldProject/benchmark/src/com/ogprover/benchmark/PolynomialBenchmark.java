@@ -0,0 +1,141 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.XPolynomial;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>JMH benchmarks for basic operations of polynomial core: sequential
+ * 		and concurrent multiplication of polynomials and reduction of
+ * 		rational u-fractions. Operands are random polynomials generated
+ * 		with fixed seed, so each run measures same work.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialBenchmark {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Number of generated terms of each factor
+	 */
+	@Param({"50", "200", "600"})
+	public int numOfTerms;
+	/**
+	 * Number of threads used for concurrent multiplication
+	 */
+	@Param({"4"})
+	public int numOfThreads;
+	/**
+	 * First factor
+	 */
+	private XPolynomial firstFactor;
+	/**
+	 * Second factor
+	 */
+	private XPolynomial secondFactor;
+	/**
+	 * U-fraction with common factor of numerator and denominator
+	 */
+	private UFraction fraction;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that prepares operands of benchmarks.
+	 */
+	@Setup
+	public void prepare() {
+		BenchmarkUtilities.initializeSettings();
+		Random rnd = new Random(BenchmarkUtilities.RANDOM_SEED);
+
+		this.firstFactor = BenchmarkUtilities.randomXPolynomial(rnd, this.numOfTerms, 6, 3);
+		this.secondFactor = BenchmarkUtilities.randomXPolynomial(rnd, this.numOfTerms, 6, 3);
+
+		// fraction (f*g)/(f*h) whose reduction has to find common factor f
+		int numOfUTerms = Math.max(2, this.numOfTerms / 25);
+		UPolynomial f = BenchmarkUtilities.randomUPolynomial(rnd, numOfUTerms, 3, 2);
+		UPolynomial g = BenchmarkUtilities.randomUPolynomial(rnd, numOfUTerms, 3, 2);
+		UPolynomial h = BenchmarkUtilities.randomUPolynomial(rnd, numOfUTerms, 3, 2);
+		this.fraction = new UFraction((UPolynomial) f.clone().multiplyByPolynomial(g), (UPolynomial) f.clone().multiplyByPolynomial(h));
+	}
+
+	/**
+	 * Method that releases resources used by benchmarks.
+	 */
+	@TearDown
+	public void release() {
+		BenchmarkUtilities.releaseSettings();
+	}
+
+	/**
+	 * @return	Product of two polynomials calculated in current thread
+	 */
+	@Benchmark
+	public Polynomial multiplyByPolynomial() {
+		return this.firstFactor.clone().multiplyByPolynomial(this.secondFactor);
+	}
+
+	/**
+	 * @return	Product of two polynomials calculated concurrently
+	 */
+	@Benchmark
+	public Polynomial multiplyByPolynomialConcurrently() {
+		return this.firstFactor.clone().multiplyByPolynomialConcurrently(this.secondFactor, this.numOfThreads);
+	}
+
+	/**
+	 * @return	Reduced u-fraction
+	 */
+	@Benchmark
+	public UFraction reduceUFraction() {
+		return this.fraction.clone().reduce();
+	}
+}
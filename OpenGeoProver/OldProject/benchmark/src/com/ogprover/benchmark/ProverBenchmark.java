@@ -0,0 +1,222 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark;
+
+import java.io.IOException;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.expressions.AMExpression;
+import com.ogprover.pp.tp.expressions.AreaOfTriangle;
+import com.ogprover.pp.tp.expressions.BasicNumber;
+import com.ogprover.pp.tp.expressions.Difference;
+import com.ogprover.pp.tp.expressions.Fraction;
+import com.ogprover.pp.tp.geoconstruction.AMIntersectionPoint;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.PRatioPoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.ndgcondition.SimpleNDGCondition;
+import com.ogprover.pp.tp.thmstatement.AreaMethodTheoremStatement;
+import com.ogprover.test.formats.ogp_xml.OGPCPXMLParser;
+import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.thmprover.WuMethodProver;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>JMH benchmarks for end-to-end runs of provers. Wu's method is
+ * 		measured on sample theorems from
+ * 		<i>documentation/testing_and_reports/ogp_xml_files/samples</i>, from
+ * 		reading of XML file to the end of proof. Area method is measured on
+ * 		theorems built with constructions of area method (these samples use
+ * 		constructions which area method prover can't eliminate).</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProverBenchmark {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Name of area method theorem: midpoints of two sides of triangle make line parallel to third side
+	 */
+	public static final String AM_THM_MIDSEGMENT = "midsegment";
+	/**
+	 * Name of area method theorem: medians of triangle are concurrent
+	 */
+	public static final String AM_THM_CENTROID = "centroid";
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== NESTED CLASSES ============================
+	 * ======================================================================
+	 */
+	/**
+	 * State with sample theorem for Wu's method.
+	 */
+	@State(Scope.Benchmark)
+	public static class WuTheoremState {
+		/**
+		 * Base name of XML file with sample theorem
+		 */
+		@Param({"ogp_midsegment", "ogp_orthocenter1", "ogp_ceva1", "ogp_simson", "ogp_gergonne",
+			    "ogp_butterfly", "ogp_pentagon_gold", "ogp_Euler"})
+		public String theoremName;
+
+		/**
+		 * Method that copies sample theorem to input directory of prover.
+		 *
+		 * @throws IOException	If sample theorem can't be copied
+		 */
+		@Setup(Level.Trial)
+		public void prepare() throws IOException {
+			BenchmarkUtilities.initializeSettings();
+			BenchmarkUtilities.prepareInputFile(this.theoremName);
+		}
+	}
+
+	/**
+	 * State with theorem for area method.
+	 */
+	@State(Scope.Benchmark)
+	public static class AreaMethodTheoremState {
+		/**
+		 * Name of theorem
+		 */
+		@Param({AM_THM_MIDSEGMENT, AM_THM_CENTROID})
+		public String theoremName;
+
+		/**
+		 * Method that prepares settings of area method prover.
+		 */
+		@Setup(Level.Trial)
+		public void prepare() {
+			BenchmarkUtilities.initializeSettings();
+			AreaMethodProver.setDebugMode(false);
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that releases resources used by benchmarks.
+	 */
+	@TearDown(Level.Trial)
+	public void release() {
+		BenchmarkUtilities.releaseSettings();
+	}
+
+	/**
+	 * Method that reads sample theorem, transforms it to algebraic form
+	 * and proves it by Wu's method.
+	 *
+	 * @param state		State with sample theorem
+	 * @return			Return code of prover
+	 */
+	@Benchmark
+	public int wuMethodProver(WuTheoremState state) {
+		OGPTP consProtocol = new OGPCPXMLParser().readGeoTheoremFromXML(state.theoremName);
+
+		if (consProtocol == null || !consProtocol.isValid())
+			return OGPConstants.ERR_CODE_GENERAL;
+
+		int retCode = consProtocol.convertToAlgebraicForm();
+		if (retCode != OGPConstants.RET_CODE_SUCCESS)
+			return retCode;
+		return new WuMethodProver(consProtocol.getAlgebraicGeoTheorem()).prove();
+	}
+
+	/**
+	 * Method that builds theorem with constructions of area method and proves it.
+	 *
+	 * @param state		State with name of theorem
+	 * @return			Return code of prover
+	 */
+	@Benchmark
+	public int areaMethodProver(AreaMethodTheoremState state) {
+		Vector<GeoConstruction> constructions = new Vector<GeoConstruction>();
+		Vector<AMExpression> statements = new Vector<AMExpression>();
+		Point a = new FreePoint("A");
+		Point b = new FreePoint("B");
+		Point c = new FreePoint("C");
+		constructions.add(a);
+		constructions.add(b);
+		constructions.add(c);
+
+		if (AM_THM_MIDSEGMENT.equals(state.theoremName)) {
+			Point m = new PRatioPoint("M", a, a, b, ProverBenchmark.half());
+			Point n = new PRatioPoint("N", a, a, c, ProverBenchmark.half());
+			constructions.add(m);
+			constructions.add(n);
+			// MN is parallel to BC
+			statements.add(new Difference(new AreaOfTriangle(m, b, c), new AreaOfTriangle(n, b, c)));
+		}
+		else {
+			Point ma = new PRatioPoint("Ma", b, b, c, ProverBenchmark.half());
+			Point mb = new PRatioPoint("Mb", a, a, c, ProverBenchmark.half());
+			Point mc = new PRatioPoint("Mc", a, a, b, ProverBenchmark.half());
+			Point g = new AMIntersectionPoint("G", a, ma, b, mb);
+			constructions.add(ma);
+			constructions.add(mb);
+			constructions.add(mc);
+			constructions.add(g);
+			// G is on median CMc
+			statements.add(new AreaOfTriangle(c, g, mc));
+		}
+
+		AreaMethodTheoremStatement statement = new AreaMethodTheoremStatement(state.theoremName, statements);
+		return new AreaMethodProver(statement, constructions, new Vector<SimpleNDGCondition>()).prove();
+	}
+
+	/**
+	 * @return	Expression for number 1/2
+	 */
+	private static AMExpression half() {
+		return new Fraction(new BasicNumber(1), new BasicNumber(2));
+	}
+}
@@ -0,0 +1,258 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark.regression;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Vector;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for set of results of theorems from corpus, sorted by theorem
+ * 		names, together with time of calibration workload of the run. It is
+ * 		stored in text file (baseline) and compared against results of new
+ * 		run of corpus.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class CorpusBaseline {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Prefix of comment line of baseline file with time of calibration workload
+	 */
+	public static final String CALIBRATION_PREFIX = "# calibration_ms" + CorpusResult.SEPARATOR;
+	/**
+	 * Outcome of run stopped by time limit; its resources depend on speed
+	 * of machine and are not compared
+	 */
+	public static final String OUTCOME_TIME_LIMIT = "ERR_TIME";
+
+	/**
+	 * Results of theorems mapped by theorem names
+	 */
+	private Map<String, CorpusResult> results = new TreeMap<String, CorpusResult>();
+	/**
+	 * Time of calibration workload in milliseconds (0 if unknown)
+	 */
+	private long calibrationMillis = 0;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the results sorted by theorem names
+	 */
+	public Collection<CorpusResult> getResults() {
+		return results.values();
+	}
+
+	/**
+	 * @return the time of calibration workload in milliseconds
+	 */
+	public long getCalibrationMillis() {
+		return calibrationMillis;
+	}
+
+	/**
+	 * @param calibrationMillis the time of calibration workload in milliseconds to set
+	 */
+	public void setCalibrationMillis(long calibrationMillis) {
+		this.calibrationMillis = calibrationMillis;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that adds result of theorem, replacing previous result of same theorem.
+	 *
+	 * @param result	Result to add
+	 */
+	public void addResult(CorpusResult result) {
+		this.results.put(result.getTheoremName(), result);
+	}
+
+	/**
+	 * @param theoremName	Name of theorem
+	 * @return				Result of theorem or null if there is no result for that theorem
+	 */
+	public CorpusResult getResult(String theoremName) {
+		return this.results.get(theoremName);
+	}
+
+	/**
+	 * Method that copies known failure marks from previous baseline to results
+	 * of this run, for theorems whose outcome hasn't changed. This keeps marks
+	 * which have been added manually to baseline file.
+	 *
+	 * @param previous	Previous baseline
+	 */
+	public void keepKnownFailures(CorpusBaseline previous) {
+		for (CorpusResult current : this.results.values()) {
+			CorpusResult base = previous.getResult(current.getTheoremName());
+
+			if (base != null && base.isKnownFailure() && base.getOutcome().equals(current.getOutcome()))
+				current.setKnownFailure(true);
+		}
+	}
+
+	/**
+	 * Method that writes all results to baseline file.
+	 *
+	 * @param file			Baseline file
+	 * @throws IOException	If file can't be written
+	 */
+	public void write(File file) throws IOException {
+		BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+
+		try {
+			writer.write(CorpusResult.HEADER);
+			writer.newLine();
+			writer.write(CALIBRATION_PREFIX + this.calibrationMillis);
+			writer.newLine();
+			for (CorpusResult result : this.results.values()) {
+				writer.write(result.toLine());
+				writer.newLine();
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reads results from baseline file. Empty lines and lines
+	 * starting with '#' are skipped, except the line with time of calibration
+	 * workload.
+	 *
+	 * @param file			Baseline file
+	 * @return				Read baseline
+	 * @throws IOException	If file can't be read or it contains line in bad format
+	 */
+	public static CorpusBaseline read(File file) throws IOException {
+		CorpusBaseline baseline = new CorpusBaseline();
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+
+		try {
+			String line;
+			int lineNum = 0;
+
+			while ((line = reader.readLine()) != null) {
+				lineNum++;
+				if (line.startsWith(CALIBRATION_PREFIX)) {
+					try {
+						baseline.calibrationMillis = Long.parseLong(line.substring(CALIBRATION_PREFIX.length()));
+					} catch (NumberFormatException e) {
+						throw new IOException("Bad format of line " + lineNum + " of baseline file " + file.getPath());
+					}
+					continue;
+				}
+				if (line.length() == 0 || line.startsWith("#"))
+					continue;
+
+				CorpusResult result = CorpusResult.fromLine(line);
+				if (result == null)
+					throw new IOException("Bad format of line " + lineNum + " of baseline file " + file.getPath());
+				baseline.addResult(result);
+			}
+		} finally {
+			reader.close();
+		}
+		return baseline;
+	}
+
+	/**
+	 * Method that compares results of new run with this baseline. Regression
+	 * is changed outcome or increase of relative time, biggest polynomial or
+	 * allocated memory by more than given relative threshold. Increase of time
+	 * converted to milliseconds of new run must also exceed given absolute
+	 * tolerance, so noise of measuring short proofs is not reported.
+	 * <br><br>
+	 * Changed outcome of known failure is only reported as note. Resources
+	 * are not compared for known failures and for runs stopped by time limit.
+	 *
+	 * @param currentRun		Results of new run
+	 * @param threshold			Relative threshold (e.g. 0.25 for 25%)
+	 * @param timeTolerance		Absolute tolerance of time in milliseconds
+	 * @param notes				List where descriptions of changes which are
+	 * 							not regressions are added
+	 * @return					List of descriptions of regressions, empty if there
+	 * 							are no regressions
+	 */
+	public Vector<String> findRegressions(CorpusBaseline currentRun, double threshold, long timeTolerance, Vector<String> notes) {
+		Vector<String> regressions = new Vector<String>();
+
+		for (CorpusResult current : currentRun.getResults()) {
+			CorpusResult base = this.results.get(current.getTheoremName());
+
+			if (base == null)
+				continue; // new theorem - nothing to compare with
+
+			String name = current.getTheoremName();
+			if (!base.getOutcome().equals(current.getOutcome())) {
+				if (base.isKnownFailure())
+					notes.add(name + ": outcome of known failure changed from " + base.getOutcome() + " to " + current.getOutcome());
+				else
+					regressions.add(name + ": outcome changed from " + base.getOutcome() + " to " + current.getOutcome());
+			}
+			if (base.isKnownFailure() || current.isKnownFailure() ||
+				base.getOutcome().equals(OUTCOME_TIME_LIMIT) || current.getOutcome().equals(OUTCOME_TIME_LIMIT))
+				continue;
+
+			double timeIncrease = (current.getRelativeTime() - base.getRelativeTime()) * currentRun.getCalibrationMillis();
+			if (timeIncrease > timeTolerance &&
+				CorpusBaseline.exceedsThreshold(base.getRelativeTime(), current.getRelativeTime(), threshold))
+				regressions.add(name + ": relative time increased from " + CorpusResult.formatRelativeTime(base.getRelativeTime()) +
+								" to " + CorpusResult.formatRelativeTime(current.getRelativeTime()));
+			if (CorpusBaseline.exceedsThreshold(base.getMaxNumOfTerms(), current.getMaxNumOfTerms(), threshold))
+				regressions.add(name + ": biggest polynomial increased from " + base.getMaxNumOfTerms() + " to " + current.getMaxNumOfTerms() + " terms");
+			if (base.getAllocatedBytes() != CorpusResult.ALLOCATION_UNKNOWN && current.getAllocatedBytes() != CorpusResult.ALLOCATION_UNKNOWN &&
+				CorpusBaseline.exceedsThreshold(base.getAllocatedBytes(), current.getAllocatedBytes(), threshold))
+				regressions.add(name + ": allocation increased from " + base.getAllocatedBytes() + " to " + current.getAllocatedBytes() + " bytes");
+		}
+		return regressions;
+	}
+
+	/**
+	 * @param baseValue		Value from baseline
+	 * @param currentValue	Value from new run
+	 * @param threshold		Relative threshold
+	 * @return				True if new value is bigger than base value by more than threshold
+	 */
+	private static boolean exceedsThreshold(double baseValue, double currentValue, double threshold) {
+		return currentValue > baseValue * (1 + threshold);
+	}
+}
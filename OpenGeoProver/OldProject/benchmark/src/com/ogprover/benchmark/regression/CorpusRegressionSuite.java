@@ -0,0 +1,518 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark.regression;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.Vector;
+
+import com.ogprover.benchmark.BenchmarkUtilities;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.test.formats.ogp_xml.OGPCPXMLParser;
+import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.thmprover.WuMethodProver;
+import com.ogprover.utilities.OGPTimer;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Performance regression suite which processes all theorems from
+ * 		corpus directories (theorems are proved by Wu's method and
+ * 		RC-constructibility problems are transformed to polynomial form)
+ * 		and records outcome, wall time, biggest polynomial and allocated
+ * 		memory for each theorem. Wall time is recorded relative to time of
+ * 		fixed calibration workload (which doesn't use prover) measured at
+ * 		start of run, so baseline doesn't depend on speed of machine.
+ * 		Results are either saved as new baseline or compared against
+ * 		existing baseline, when suite fails if some theorem changed outcome
+ * 		or became more expensive than allowed by threshold.
+ * 		<br><br>
+ * 		Theorems whose processing throws exception are marked in baseline
+ * 		as known failures, and so can be other theorems by editing of
+ * 		baseline file; these marks are kept when baseline is updated while
+ * 		outcome stays the same.
+ * 		<br><br>
+ * 		Usage (from project directory):<br>
+ * 		<code>CorpusRegressionSuite [-u] [-b baseline_file] [-t threshold] [-d time_tolerance_ms]
+ * 		[-r repeats_of_short_runs] [-l time_limit_sec] [-w thm_proving_dir]... [-c rc_constructibility_dir]...</code>
+ * 		<br>where <code>-u</code> updates baseline instead of comparing with it.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class CorpusRegressionSuite {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Default baseline file (relative to project directory)
+	 */
+	public static final String DEFAULT_BASELINE_FILE = "benchmark/baseline/corpus_baseline.txt";
+	/**
+	 * Default directory with theorems for proving
+	 */
+	public static final String DEFAULT_THM_PROVING_DIR = "documentation/testing_and_reports/simple_Wu's_method_results";
+	/**
+	 * Default directory with RC-constructibility problems
+	 */
+	public static final String DEFAULT_RC_CONS_DIR = "documentation/testing_and_reports/rc_constructibility";
+	/**
+	 * Default relative threshold of regression
+	 */
+	public static final double DEFAULT_THRESHOLD = 0.25;
+	/**
+	 * Default absolute tolerance of time regression in milliseconds
+	 */
+	public static final long DEFAULT_TIME_TOLERANCE = 100;
+	/**
+	 * Default number of runs of each theorem
+	 */
+	public static final int DEFAULT_REPEATS = 3;
+	/**
+	 * Runs shorter than this number of milliseconds are repeated to reduce
+	 * noise of measuring; longer runs are measured only once
+	 */
+	public static final long REPEAT_TIME_LIMIT = 5000;
+	/**
+	 * Default time limit for one theorem in seconds
+	 */
+	public static final int DEFAULT_TIME_LIMIT = 60;
+	/**
+	 * Number of runs of calibration workload which warm up JIT compiler
+	 * and are not measured
+	 */
+	public static final int CALIBRATION_WARMUP_RUNS = 3;
+	/**
+	 * Number of measured runs of calibration workload; median time is used
+	 */
+	public static final int CALIBRATION_RUNS = 5;
+	/**
+	 * Number of steps of calibration workload
+	 */
+	public static final int CALIBRATION_STEPS = 200000;
+	/**
+	 * Seed of random numbers of calibration workload
+	 */
+	public static final long CALIBRATION_SEED = 20121010L;
+
+	/**
+	 * Outcome when theorem can't be read
+	 */
+	public static final String OUTCOME_READ_FAILED = "READ_FAILED";
+	/**
+	 * Outcome when construction protocol is not valid
+	 */
+	public static final String OUTCOME_INVALID = "INVALID";
+	/**
+	 * Prefix of outcome when exception is thrown while processing theorem
+	 */
+	public static final String OUTCOME_EXCEPTION_PREFIX = "EXCEPTION_";
+
+	/**
+	 * Directories with theorems for proving
+	 */
+	private Vector<File> thmProvingDirs = new Vector<File>();
+	/**
+	 * Directories with RC-constructibility problems
+	 */
+	private Vector<File> rcConsDirs = new Vector<File>();
+	/**
+	 * Number of runs of short theorems; result of fastest run is recorded
+	 */
+	private int repeats = DEFAULT_REPEATS;
+	/**
+	 * Time limit for one theorem in milliseconds
+	 */
+	private long timeLimit = DEFAULT_TIME_LIMIT * 1000L;
+	/**
+	 * Time of calibration workload in milliseconds
+	 */
+	private long calibrationMillis = 1;
+	/**
+	 * Checksum of calibration workload, which prevents JIT compiler from
+	 * removing the workload
+	 */
+	private static volatile int calibrationChecksum = 0;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that processes all theorems from corpus directories.
+	 *
+	 * @return				Results of all theorems
+	 * @throws IOException	If some theorem can't be copied to input directory
+	 */
+	public CorpusBaseline runCorpus() throws IOException {
+		CorpusBaseline results = new CorpusBaseline();
+
+		this.calibrationMillis = CorpusRegressionSuite.calibrate();
+		System.out.println(CorpusBaseline.CALIBRATION_PREFIX + this.calibrationMillis);
+		results.setCalibrationMillis(this.calibrationMillis);
+		for (File dir : this.thmProvingDirs)
+			this.runDirectory(dir, dir.getName(), OGPConstants.OGP_MODE_THM_PROVING, results);
+		for (File dir : this.rcConsDirs)
+			this.runDirectory(dir, dir.getName(), OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY, results);
+		return results;
+	}
+
+	/**
+	 * Method that recursively processes all XML files from directory.
+	 *
+	 * @param dir			Directory with theorems
+	 * @param prefix		Prefix of theorem names - path of directory relative to
+	 * 						corpus directory
+	 * @param ogpMode		Execution mode of prover
+	 * @param results		Results where results of theorems are added
+	 * @throws IOException	If some theorem can't be copied to input directory
+	 */
+	private void runDirectory(File dir, String prefix, int ogpMode, CorpusBaseline results) throws IOException {
+		File[] files = dir.listFiles();
+
+		if (files == null) {
+			System.out.println("Corpus directory " + dir.getPath() + " doesn't exist.");
+			return;
+		}
+
+		Arrays.sort(files);
+		for (File file : files) {
+			if (file.isDirectory())
+				this.runDirectory(file, prefix + "/" + file.getName(), ogpMode, results);
+			else if (file.getName().endsWith(".xml")) {
+				String baseName = file.getName().substring(0, file.getName().length() - 4);
+				CorpusResult result = this.runTheorem(file, prefix + "/" + baseName, ogpMode);
+
+				System.out.println(result.toLine());
+				results.addResult(result);
+			}
+		}
+	}
+
+	/**
+	 * Method that processes one theorem and returns result of fastest run.
+	 * Theorem is processed several times only if its processing is short.
+	 * Outcome and biggest polynomial don't depend on run.
+	 *
+	 * @param file			XML file with theorem
+	 * @param theoremName	Name of theorem in results
+	 * @param ogpMode		Execution mode of prover
+	 * @return				Result of fastest run
+	 * @throws IOException	If theorem can't be copied to input directory
+	 */
+	private CorpusResult runTheorem(File file, String theoremName, int ogpMode) throws IOException {
+		BenchmarkUtilities.prepareInputFile(file);
+
+		String baseName = file.getName().substring(0, file.getName().length() - 4);
+		CorpusResult best = null;
+		long bestTimeMillis = 0;
+
+		for (int ii = 0; ii < this.repeats; ii++) {
+			OpenGeoProver.settings.setOgpMode(ogpMode);
+			OpenGeoProver.settings.setMaxNumOfTerms(0);
+			OpenGeoProver.settings.getTimer().cancel();
+			OpenGeoProver.settings.setTimer(new OGPTimer());
+
+			long startAlloc = CorpusRegressionSuite.allocatedBytes();
+			long startTime = System.nanoTime();
+			String outcome;
+			try {
+				outcome = this.processTheorem(baseName, ogpMode);
+			} catch (RuntimeException e) {
+				// prover failure on one theorem must not stop the whole suite
+				OpenGeoProver.settings.getLogger().error("Exception thrown while processing theorem " + theoremName + ": " + e);
+				outcome = OUTCOME_EXCEPTION_PREFIX + e.getClass().getSimpleName();
+			}
+			long timeMillis = (System.nanoTime() - startTime) / 1000000;
+			long endAlloc = CorpusRegressionSuite.allocatedBytes();
+			long alloc = (startAlloc == CorpusResult.ALLOCATION_UNKNOWN) ? CorpusResult.ALLOCATION_UNKNOWN : endAlloc - startAlloc;
+
+			OpenGeoProver.settings.getTimer().cancel();
+			if (best == null || timeMillis < bestTimeMillis) {
+				boolean knownFailure = outcome.startsWith(OUTCOME_EXCEPTION_PREFIX);
+
+				best = new CorpusResult(theoremName, ogpMode, outcome, knownFailure, (double) timeMillis / this.calibrationMillis,
+										OpenGeoProver.settings.getMaxNumOfTerms(), alloc);
+				bestTimeMillis = timeMillis;
+			}
+			if (timeMillis >= REPEAT_TIME_LIMIT)
+				break;
+		}
+		return best;
+	}
+
+	/**
+	 * Method that reads theorem and processes it in given mode, the same
+	 * way as main method of prover does.
+	 *
+	 * @param baseName	Base name of XML file in input directory
+	 * @param ogpMode	Execution mode of prover
+	 * @return			Outcome in readable form
+	 */
+	private String processTheorem(String baseName, int ogpMode) {
+		OGPTP consProtocol = new OGPCPXMLParser().readGeoTheoremFromXML(baseName);
+
+		if (consProtocol == null)
+			return OUTCOME_READ_FAILED;
+
+		if (ogpMode == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			OpenGeoProver.settings.getTimer().setTimer(this.timeLimit);
+			return CorpusRegressionSuite.outcomeToString(consProtocol.transformRcConsProblemToPolynomialForm(), ogpMode);
+		}
+
+		if (!consProtocol.isValid())
+			return OUTCOME_INVALID;
+
+		int retCode = consProtocol.convertToAlgebraicForm();
+		if (retCode != OGPConstants.RET_CODE_SUCCESS)
+			return CorpusRegressionSuite.outcomeToString(retCode, ogpMode);
+
+		OpenGeoProver.settings.getTimer().setTimer(this.timeLimit);
+		return CorpusRegressionSuite.outcomeToString(new WuMethodProver(consProtocol.getAlgebraicGeoTheorem()).prove(), ogpMode);
+	}
+
+	/**
+	 * @param retCode	Return code of prover
+	 * @param ogpMode	Execution mode of prover
+	 * @return			Return code in readable form
+	 */
+	private static String outcomeToString(int retCode, int ogpMode) {
+		switch (retCode) {
+		case OGPConstants.ERR_CODE_GENERAL:
+			return "ERR_GENERAL";
+		case OGPConstants.ERR_CODE_TIME:
+			return "ERR_TIME";
+		case OGPConstants.ERR_CODE_SPACE:
+			return "ERR_SPACE";
+		case OGPConstants.ERR_CODE_NULL:
+			return "ERR_NULL";
+		}
+
+		if (ogpMode == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			if (retCode == OGPConstants.RET_CODE_SUCCESS)
+				return "SUCCESS";
+		}
+		else {
+			switch (retCode) {
+			case TheoremProver.THEO_PROVE_RET_CODE_FALSE:
+				return "FALSE";
+			case TheoremProver.THEO_PROVE_RET_CODE_TRUE:
+				return "TRUE";
+			case TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN:
+				return "UNKNOWN";
+			}
+		}
+		return "CODE_" + retCode;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that measures time of calibration workload: arithmetic of big
+	 * integers and operations of sorted map with reproducible random values,
+	 * which resemble operations with polynomials but don't depend on
+	 * prover code, so changes of prover don't change the calibration.
+	 *
+	 * Median of measured runs is used, since fastest run of such short
+	 * workload varies between runs of JVM much more than median.
+	 *
+	 * @return	Median time of run of workload in milliseconds (at least 1)
+	 */
+	private static long calibrate() {
+		Vector<Long> times = new Vector<Long>();
+
+		for (int ii = 0; ii < CALIBRATION_WARMUP_RUNS + CALIBRATION_RUNS; ii++) {
+			long startTime = System.nanoTime();
+			Random random = new Random(CALIBRATION_SEED);
+			Map<Integer, BigInteger> map = new TreeMap<Integer, BigInteger>();
+
+			for (int jj = 0; jj < CALIBRATION_STEPS; jj++)
+				CorpusRegressionSuite.calibrationStep(random, map);
+
+			int checksum = 0;
+			for (BigInteger value : map.values())
+				checksum += value.hashCode();
+			calibrationChecksum += checksum;
+
+			if (ii >= CALIBRATION_WARMUP_RUNS)
+				times.add(Long.valueOf((System.nanoTime() - startTime) / 1000000));
+		}
+		Collections.sort(times);
+		return Math.max(1, times.get(times.size() / 2).longValue());
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that performs one step of calibration workload. It is separate
+	 * method so JIT compiler compiles it the same way in every run of JVM.
+	 *
+	 * @param random	Generator of random numbers
+	 * @param map		Map with big integers
+	 */
+	private static void calibrationStep(Random random, Map<Integer, BigInteger> map) {
+		Integer key = Integer.valueOf(random.nextInt(1000));
+		BigInteger value = new BigInteger(128, random).multiply(new BigInteger(128, random));
+		BigInteger oldValue = map.get(key);
+
+		if (oldValue == null)
+			map.put(key, value);
+		else if (oldValue.bitLength() > 512)
+			map.remove(key);
+		else
+			map.put(key, oldValue.add(value).shiftLeft(1));
+	}
+
+	/**
+	 * Method that retrieves number of bytes allocated by current thread so
+	 * far. Allocations of other threads (e.g. threads of concurrent
+	 * multiplication of polynomials) are not counted.
+	 *
+	 * @return	Number of allocated bytes or CorpusResult.ALLOCATION_UNKNOWN
+	 * 			if JVM doesn't support measuring of allocated memory
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled())
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return CorpusResult.ALLOCATION_UNKNOWN;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Main method of regression suite. Exit status is 0 when baseline is
+	 * updated or when there are no regressions, and 1 otherwise.
+	 *
+	 * @param args	Arguments of command line
+	 */
+	public static void main(String[] args) {
+		CorpusRegressionSuite suite = new CorpusRegressionSuite();
+		File baselineFile = new File(DEFAULT_BASELINE_FILE);
+		boolean update = false;
+		double threshold = DEFAULT_THRESHOLD;
+		long timeTolerance = DEFAULT_TIME_TOLERANCE;
+
+		try {
+			for (int ii = 0; ii < args.length; ii++) {
+				String arg = args[ii];
+
+				if (arg.equals("-u"))
+					update = true;
+				else if (ii + 1 == args.length) {
+					System.out.println("Missing value of option " + arg);
+					System.exit(1);
+				}
+				else if (arg.equals("-b"))
+					baselineFile = new File(args[++ii]);
+				else if (arg.equals("-t"))
+					threshold = Double.parseDouble(args[++ii]);
+				else if (arg.equals("-d"))
+					timeTolerance = Long.parseLong(args[++ii]);
+				else if (arg.equals("-r"))
+					suite.repeats = Math.max(1, Integer.parseInt(args[++ii]));
+				else if (arg.equals("-l"))
+					suite.timeLimit = Long.parseLong(args[++ii]) * 1000L;
+				else if (arg.equals("-w"))
+					suite.thmProvingDirs.add(new File(args[++ii]));
+				else if (arg.equals("-c"))
+					suite.rcConsDirs.add(new File(args[++ii]));
+				else {
+					System.out.println("Unknown option " + arg);
+					System.exit(1);
+				}
+			}
+		} catch (NumberFormatException e) {
+			System.out.println("Bad numeric value in command line: " + e.getMessage());
+			System.exit(1);
+		}
+
+		if (suite.thmProvingDirs.isEmpty() && suite.rcConsDirs.isEmpty()) {
+			suite.thmProvingDirs.add(new File(DEFAULT_THM_PROVING_DIR));
+			suite.rcConsDirs.add(new File(DEFAULT_RC_CONS_DIR));
+		}
+
+		int exitStatus = 0;
+		BenchmarkUtilities.initializeSettings();
+		try {
+			CorpusBaseline baseline = null;
+			if (!update)
+				baseline = CorpusBaseline.read(baselineFile); // read it before long run, to fail fast if it is missing
+			else if (baselineFile.isFile()) {
+				try {
+					baseline = CorpusBaseline.read(baselineFile); // to keep known failures
+				} catch (IOException e) {
+					System.out.println("Note: previous baseline is not read, known failures are not kept: " + e.getMessage());
+				}
+			}
+
+			CorpusBaseline currentRun = suite.runCorpus();
+
+			if (update) {
+				if (baseline != null)
+					currentRun.keepKnownFailures(baseline);
+				File parentDir = baselineFile.getAbsoluteFile().getParentFile();
+				if (!parentDir.isDirectory() && !parentDir.mkdirs())
+					throw new IOException("Failed to create directory " + parentDir.getPath());
+				currentRun.write(baselineFile);
+				System.out.println("Baseline saved to " + baselineFile.getPath());
+			}
+			else {
+				for (CorpusResult base : baseline.getResults()) {
+					if (currentRun.getResult(base.getTheoremName()) == null)
+						System.out.println("Note: theorem " + base.getTheoremName() + " from baseline has not been run.");
+				}
+				for (CorpusResult current : currentRun.getResults()) {
+					if (baseline.getResult(current.getTheoremName()) == null)
+						System.out.println("Note: theorem " + current.getTheoremName() + " is not in baseline.");
+				}
+
+				Vector<String> notes = new Vector<String>();
+				Vector<String> regressions = baseline.findRegressions(currentRun, threshold, timeTolerance, notes);
+				for (String note : notes)
+					System.out.println("Note: " + note);
+				if (regressions.isEmpty())
+					System.out.println("No regressions compared to baseline " + baselineFile.getPath());
+				else {
+					System.out.println("Regressions compared to baseline " + baselineFile.getPath() + ":");
+					for (String regression : regressions)
+						System.out.println("  " + regression);
+					exitStatus = 1;
+				}
+			}
+		} catch (IOException e) {
+			System.out.println(e.getMessage());
+			exitStatus = 1;
+		}
+		BenchmarkUtilities.releaseSettings();
+		System.exit(exitStatus);
+	}
+}
@@ -0,0 +1,251 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.benchmark.regression;
+
+import java.util.Locale;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for result of one theorem from corpus: outcome of prover, its
+ * 		status (whether it is known failure) and used resources (wall time,
+ * 		biggest polynomial and allocated memory). Wall time is recorded
+ * 		relative to time of calibration workload of the same run, so results
+ * 		from different machines can be compared. Result is written to baseline
+ * 		file as one line with tab separated values.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class CorpusResult {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Separator of values in one line of baseline file
+	 */
+	public static final String SEPARATOR = "\t";
+	/**
+	 * Header line of baseline file which describes columns
+	 */
+	public static final String HEADER = "# theorem" + SEPARATOR + "mode" + SEPARATOR + "outcome" + SEPARATOR + "status" + SEPARATOR +
+										"relative_time" + SEPARATOR + "max_terms" + SEPARATOR + "allocated_bytes";
+	/**
+	 * Status of theorem with expected outcome
+	 */
+	public static final String STATUS_OK = "OK";
+	/**
+	 * Status of theorem whose outcome is known failure of prover (e.g. exception);
+	 * change of its outcome is not regression and its resources are not compared
+	 */
+	public static final String STATUS_KNOWN_FAILURE = "KNOWN_FAILURE";
+	/**
+	 * Value of allocated memory when JVM doesn't support its measuring
+	 */
+	public static final long ALLOCATION_UNKNOWN = -1;
+
+	/**
+	 * Name of theorem - path of its file relative to corpus directory, without extension
+	 */
+	private String theoremName;
+	/**
+	 * Execution mode of prover (one of OGPConstants.OGP_MODE_xxx values)
+	 */
+	private int ogpMode;
+	/**
+	 * Outcome of prover in readable form
+	 */
+	private String outcome;
+	/**
+	 * Flag which marks outcome as known failure of prover
+	 */
+	private boolean knownFailure;
+	/**
+	 * Wall time of processing of theorem divided by time of calibration workload
+	 */
+	private double relativeTime;
+	/**
+	 * Number of terms of biggest polynomial obtained during processing of theorem
+	 */
+	private int maxNumOfTerms;
+	/**
+	 * Number of bytes allocated during processing of theorem
+	 */
+	private long allocatedBytes;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the theorem name
+	 */
+	public String getTheoremName() {
+		return theoremName;
+	}
+
+	/**
+	 * @return the execution mode
+	 */
+	public int getOgpMode() {
+		return ogpMode;
+	}
+
+	/**
+	 * @return the outcome
+	 */
+	public String getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * @return the flag whether outcome is known failure
+	 */
+	public boolean isKnownFailure() {
+		return knownFailure;
+	}
+
+	/**
+	 * @param knownFailure the flag whether outcome is known failure to set
+	 */
+	public void setKnownFailure(boolean knownFailure) {
+		this.knownFailure = knownFailure;
+	}
+
+	/**
+	 * @return the wall time relative to time of calibration workload
+	 */
+	public double getRelativeTime() {
+		return relativeTime;
+	}
+
+	/**
+	 * @return the number of terms of biggest polynomial
+	 */
+	public int getMaxNumOfTerms() {
+		return maxNumOfTerms;
+	}
+
+	/**
+	 * @return the number of allocated bytes
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param theoremName		Name of theorem
+	 * @param ogpMode			Execution mode of prover
+	 * @param outcome			Outcome of prover
+	 * @param knownFailure		Flag whether outcome is known failure
+	 * @param relativeTime		Wall time relative to time of calibration workload
+	 * @param maxNumOfTerms		Number of terms of biggest polynomial
+	 * @param allocatedBytes	Number of allocated bytes
+	 */
+	public CorpusResult(String theoremName, int ogpMode, String outcome, boolean knownFailure, double relativeTime, int maxNumOfTerms, long allocatedBytes) {
+		this.theoremName = theoremName;
+		this.ogpMode = ogpMode;
+		this.outcome = outcome;
+		this.knownFailure = knownFailure;
+		this.relativeTime = relativeTime;
+		this.maxNumOfTerms = maxNumOfTerms;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that writes this result as one line of baseline file.
+	 *
+	 * @return	Line with tab separated values
+	 */
+	public String toLine() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(this.theoremName);
+		sb.append(SEPARATOR);
+		sb.append(this.ogpMode);
+		sb.append(SEPARATOR);
+		sb.append(this.outcome);
+		sb.append(SEPARATOR);
+		sb.append(this.knownFailure ? STATUS_KNOWN_FAILURE : STATUS_OK);
+		sb.append(SEPARATOR);
+		sb.append(CorpusResult.formatRelativeTime(this.relativeTime));
+		sb.append(SEPARATOR);
+		sb.append(this.maxNumOfTerms);
+		sb.append(SEPARATOR);
+		sb.append(this.allocatedBytes);
+		return sb.toString();
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that formats relative time independently of default locale.
+	 *
+	 * @param relativeTime	Wall time relative to time of calibration workload
+	 * @return				Relative time with four decimals
+	 */
+	public static String formatRelativeTime(double relativeTime) {
+		return String.format(Locale.ROOT, "%.4f", relativeTime);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reads result from one line of baseline file.
+	 *
+	 * @param line	Line with tab separated values
+	 * @return		Read result or null in case of bad format of line
+	 */
+	public static CorpusResult fromLine(String line) {
+		String[] values = line.split(SEPARATOR);
+
+		if (values.length != 7)
+			return null;
+
+		boolean knownFailure;
+		if (values[3].equals(STATUS_KNOWN_FAILURE))
+			knownFailure = true;
+		else if (values[3].equals(STATUS_OK))
+			knownFailure = false;
+		else
+			return null;
+
+		try {
+			return new CorpusResult(values[0], Integer.parseInt(values[1]), values[2], knownFailure, Double.parseDouble(values[4]),
+									Integer.parseInt(values[5]), Long.parseLong(values[6]));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
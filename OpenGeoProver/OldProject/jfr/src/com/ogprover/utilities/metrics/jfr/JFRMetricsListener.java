@@ -0,0 +1,114 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics.jfr;
+
+import jdk.jfr.Event;
+
+import com.ogprover.utilities.metrics.IMetricsListener;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Listener of prover metrics which records spans as Java Flight
+ * 		Recorder events. Event is started together with span and it is
+ * 		attached to span until span is finished, when attributes of span
+ * 		are copied to fields of event. When events are disabled in
+ * 		flight recording (or JFR is not recording at all), nothing is
+ * 		attached and finishing of span doesn't do anything.
+ * 		<br>
+ * 		Listener is added to metrics by command line option "-m F" and
+ * 		recording is started by JVM option -XX:StartFlightRecording.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class JFRMetricsListener implements IMetricsListener {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * @see com.ogprover.utilities.metrics.IMetricsListener#spanStarted(com.ogprover.utilities.metrics.MetricsSpan)
+	 */
+	public void spanStarted(MetricsSpan span) {
+		Event event;
+
+		if (OGPMetrics.SPAN_PSEUDO_DIVISION.equals(span.getName()))
+			event = new PseudoDivisionEvent();
+		else if (OGPMetrics.SPAN_TRIANGULATION_STEP.equals(span.getName()))
+			event = new TriangulationStepEvent();
+		else
+			event = new StageEvent();
+
+		if (!event.isEnabled())
+			return;
+
+		event.begin();
+		span.setAttachment(event);
+	}
+
+	/**
+	 * @see com.ogprover.utilities.metrics.IMetricsListener#spanFinished(com.ogprover.utilities.metrics.MetricsSpan)
+	 */
+	public void spanFinished(MetricsSpan span) {
+		if (!(span.getAttachment() instanceof Event))
+			return;
+
+		Event event = (Event)span.getAttachment();
+
+		span.setAttachment(null);
+		event.end();
+		if (!event.shouldCommit())
+			return; // e.g. event is shorter than threshold
+
+		if (event instanceof PseudoDivisionEvent) {
+			PseudoDivisionEvent pdEvent = (PseudoDivisionEvent)event;
+
+			pdEvent.theorem = span.getTheoremName();
+			pdEvent.variableIndex = span.getAttribute(OGPMetrics.ATTR_VARIABLE_INDEX, -1);
+			pdEvent.dividendTerms = span.getAttribute(OGPMetrics.ATTR_DIVIDEND_TERMS, -1);
+			pdEvent.divisorTerms = span.getAttribute(OGPMetrics.ATTR_DIVISOR_TERMS, -1);
+			pdEvent.remainderTerms = span.getAttribute(OGPMetrics.ATTR_REMAINDER_TERMS, -1);
+			pdEvent.steps = span.getAttribute(OGPMetrics.ATTR_STEPS, -1);
+		}
+		else if (event instanceof TriangulationStepEvent) {
+			TriangulationStepEvent tsEvent = (TriangulationStepEvent)event;
+
+			tsEvent.theorem = span.getTheoremName();
+			tsEvent.variableIndex = span.getAttribute(OGPMetrics.ATTR_VARIABLE_INDEX, -1);
+			tsEvent.polynomials = span.getAttribute(OGPMetrics.ATTR_POLYNOMIALS, -1);
+		}
+		else {
+			StageEvent stageEvent = (StageEvent)event;
+
+			stageEvent.stage = span.getName();
+			stageEvent.theorem = span.getTheoremName();
+			stageEvent.constructions = span.getAttribute(OGPMetrics.ATTR_CONSTRUCTIONS, -1);
+			stageEvent.polynomials = span.getAttribute(OGPMetrics.ATTR_POLYNOMIALS, -1);
+			stageEvent.ndgConditions = span.getAttribute(OGPMetrics.ATTR_NDG_CONDITIONS, -1);
+		}
+		event.commit();
+	}
+}
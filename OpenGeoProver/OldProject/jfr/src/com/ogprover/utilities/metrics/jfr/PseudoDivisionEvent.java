@@ -0,0 +1,78 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Java Flight Recorder event for calculation of pseudo remainder.
+ * 		Since there are many short pseudo divisions, by default only those
+ * 		which last at least 1 ms are recorded; threshold can be changed in
+ * 		recording settings.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@Name("com.ogprover.PseudoDivision")
+@Label("Pseudo Division")
+@Category({"OpenGeoProver"})
+@Description("Calculation of pseudo remainder of two polynomials")
+@StackTrace(false)
+@Threshold("1 ms")
+public class PseudoDivisionEvent extends Event {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Name of theorem
+	 */
+	@Label("Theorem")
+	String theorem;
+	/**
+	 * Index of variable over which pseudo division is performed
+	 */
+	@Label("Variable Index")
+	long variableIndex;
+	/**
+	 * Number of terms of dividend
+	 */
+	@Label("Dividend Terms")
+	long dividendTerms;
+	/**
+	 * Number of terms of divisor
+	 */
+	@Label("Divisor Terms")
+	long divisorTerms;
+	/**
+	 * Number of terms of remainder
+	 */
+	@Label("Remainder Terms")
+	long remainderTerms;
+	/**
+	 * Number of steps of pseudo division
+	 */
+	@Label("Steps")
+	long steps;
+}
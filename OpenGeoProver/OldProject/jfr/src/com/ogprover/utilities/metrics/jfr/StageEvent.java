@@ -0,0 +1,71 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Java Flight Recorder event for one stage of prover (e.g. reading
+ * 		of XML file, transformation to algebraic form, Wu's method, NDG
+ * 		translation or writing of report). Sizes which are not known for
+ * 		some stage have value -1.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@Name("com.ogprover.Stage")
+@Label("Prover Stage")
+@Category({"OpenGeoProver"})
+@Description("Stage of processing of theorem")
+@StackTrace(false)
+public class StageEvent extends Event {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Name of stage (name of span)
+	 */
+	@Label("Stage")
+	String stage;
+	/**
+	 * Name of theorem
+	 */
+	@Label("Theorem")
+	String theorem;
+	/**
+	 * Number of construction steps
+	 */
+	@Label("Constructions")
+	long constructions;
+	/**
+	 * Number of polynomials
+	 */
+	@Label("Polynomials")
+	long polynomials;
+	/**
+	 * Number of NDG conditions
+	 */
+	@Label("NDG Conditions")
+	long ndgConditions;
+}
@@ -0,0 +1,59 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Java Flight Recorder event for one step of triangulation of
+ * 		polynomial system, in which system is made free of one variable.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+@Name("com.ogprover.TriangulationStep")
+@Label("Triangulation Step")
+@Category({"OpenGeoProver"})
+@Description("Step of triangulation of polynomial system")
+@StackTrace(false)
+public class TriangulationStepEvent extends Event {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Name of theorem
+	 */
+	@Label("Theorem")
+	String theorem;
+	/**
+	 * Index of chosen variable
+	 */
+	@Label("Variable Index")
+	long variableIndex;
+	/**
+	 * Number of polynomials which contain chosen variable
+	 */
+	@Label("Polynomials")
+	long polynomials;
+}
@@ -0,0 +1,152 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.main;
+
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ogprover.multithread.ProblemProcessingThread;
+import com.ogprover.utilities.OGPUtilities;
+import com.ogprover.utilities.logger.ILogger;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Main class for processing of batch of geometry problems (e.g. analysis
+ *     of RC-constructibility of set of problems). Problems are processed
+ *     concurrently, each in its own prover session, by specified number of
+ *     threads. Problems share symbolic conditions of constructions and their
+ *     compiled templates, while all other data (construction protocol with
+ *     its cache of instantiated conditions, polynomial system, log file,
+ *     output files and result) belong to session of single problem and are
+ *     released when processing of problem ends. Each problem is parsed
+ *     separately (construction protocol is changed while it is transformed
+ *     to algebraic form) and its polynomial system is triangulated by the
+ *     same exact arithmetic as when it is processed alone, since decisions
+ *     of triangulation depend on exact cancellation of terms.
+ *     <br>
+ *     Command line is:
+ *     <br>
+ *     <b>numOfThreads problem1[,problem2,...] [options]</b>
+ *     <br>
+ *     where problems are names of input files and options are same as for
+ *     OpenGeoProver (without names of input and output files) and are used
+ *     for all problems. Results of each problem are written to output files
+ *     with same name as problem, and summary of batch is printed to standard
+ *     output.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class OGPBatchRunner {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * MAIN method - starting point of batch processing
+	 *
+	 * @param args		Arguments of command line
+	 */
+	public static void main(String[] args) {
+		OpenGeoProver.settings = new OGPConfigurationSettings(); // settings used by main thread only - each problem has its own session
+		ILogger logger = OpenGeoProver.settings.getLogger();
+
+		if (args.length < 2) {
+			System.out.println("Correct command line is: numOfThreads problem1[,problem2,...] [options]\nwhere options are same as for OpenGeoProver (without -I and -O options) and are used for all problems.\n");
+			OGPParameters.printHelp();
+			OpenGeoProver.settings.getTimer().cancel(); // cancel default timer task
+			return;
+		}
+
+		int numOfThreads = 0;
+
+		try {
+			numOfThreads = Integer.parseInt(args[0]);
+		} catch (NumberFormatException e) {
+			numOfThreads = 0;
+		}
+		if (numOfThreads <= 0 || numOfThreads > OGPConstants.maxNumOfThreads) {
+			System.out.println("Number of threads must be between 1 and " + OGPConstants.maxNumOfThreads + ".");
+			OpenGeoProver.settings.getTimer().cancel();
+			return;
+		}
+
+		String[] problemNames = args[1].split(",");
+		String[] commonArgs = new String[args.length - 2];
+
+		System.arraycopy(args, 2, commonArgs, 0, commonArgs.length);
+
+		/*
+		 * Processing of problems
+		 */
+		logger.info("Processing batch of " + problemNames.length + " problems with " + numOfThreads + " threads...");
+		ExecutorService service = Executors.newFixedThreadPool(numOfThreads);
+		Vector<ProblemProcessingThread> tasks = new Vector<ProblemProcessingThread>();
+		Vector<Future<Integer>> results = new Vector<Future<Integer>>();
+
+		for (String problemName : problemNames) {
+			ProblemProcessingThread task = new ProblemProcessingThread(problemName, commonArgs);
+
+			tasks.add(task);
+			results.add(service.submit(task));
+		}
+		service.shutdown(); // prevent submitting new tasks and keep already submitted until they complete
+
+		/*
+		 * Summary of batch - in order of problems
+		 */
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("\nResults of batch:\n");
+		for (int ii = 0, jj = tasks.size(); ii < jj; ii++) {
+			ProblemProcessingThread task = tasks.get(ii);
+
+			try {
+				results.get(ii).get();
+			} catch (InterruptedException e) {
+				logger.error("Processing of batch has been interrupted");
+				service.shutdownNow();
+				break;
+			} catch (ExecutionException e) {
+				logger.error("Exception thrown during processing of problem " + task.getProblemName() + ": " + e.getCause());
+			}
+
+			sb.append(task.getProblemName());
+			sb.append("\t");
+			sb.append((task.getVerdict() != null) ? task.getVerdict() : "error");
+			sb.append("\t");
+			sb.append(OGPUtilities.roundUpToPrecision(task.getTimeSec()));
+			sb.append(" seconds\n");
+		}
+
+		System.out.println(sb.toString());
+		logger.info(sb.toString());
+		OpenGeoProver.settings.getTimer().cancel();
+	}
+}
@@ -13,6 +13,7 @@ import com.ogprover.utilities.Stopwatch;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.logger.FileLogger;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 /**
  * <dl>
@@ -27,6 +28,8 @@ import com.ogprover.utilities.logger.ILogger;
  *     		<li>Timer for limiting time of prover execution</li>
  *     		<li>Information about time spent in execution of some parts of prover work</li>
  *     		<li>Information about space complexity of current prover session</li>
+ *     		<li>Metrics collected during prover execution</li>
+ *     		<li>Result of prover execution in machine readable form</li>
  *     </ul></dd>
  * </dl>
  * 
@@ -71,6 +74,14 @@ public class OGPConfigurationSettings {
 	 * Maximal number of terms in polynomials obtained during execution of prover
 	 */
 	private int maxNumOfTerms = 0;
+	/**
+	 * Metrics (counters, histograms and spans) collected during execution of prover
+	 */
+	private OGPMetrics metrics = null;
+	/**
+	 * Result of prover execution (verdict, times of stages, sizes, NDG conditions)
+	 */
+	private OGPResult result = null;
 	/**
 	 * Execution mode for OGP application (one of OGPConstants.OGP_MODE_xxx constants).
 	 * The default value is mode for theorem proving.
@@ -118,6 +129,17 @@ public class OGPConfigurationSettings {
 	 * Return code of pseudo division operation
 	 */
 	private int retCodeOfPseudoDivision = OGPConstants.RET_CODE_SUCCESS;
+	/**
+	 * <i>
+	 * Prover sessions bound to threads. When session is bound to current
+	 * thread, global settings object (OpenGeoProver.settings) delegates all
+	 * calls to settings of that session, so several problems can be processed
+	 * concurrently, each in its own thread. Threads started from thread with
+	 * bound session (e.g. threads for multiplication of polynomials) inherit
+	 * its session.
+	 * </i>
+	 */
+	private static final InheritableThreadLocal<OGPConfigurationSettings> boundSessions = new InheritableThreadLocal<OGPConfigurationSettings>();
 	
 	
 
@@ -132,7 +154,7 @@ public class OGPConfigurationSettings {
 	 * @param parameters The parameters to set
 	 */
 	public void setParameters(OGPParameters parameters) {
-		this.parameters = parameters;
+		this.getSession().parameters = parameters;
 	}
 
 	/**
@@ -141,7 +163,7 @@ public class OGPConfigurationSettings {
 	 * @return The parameters
 	 */
 	public OGPParameters getParameters() {
-		return parameters;
+		return this.getSession().parameters;
 	}
 
 	/**
@@ -150,7 +172,7 @@ public class OGPConfigurationSettings {
 	 * @param output The objects for output details to set
 	 */
 	public void setOutput(OGPOutput output) {
-		this.output = output;
+		this.getSession().output = output;
 	}
 
 	/**
@@ -159,7 +181,7 @@ public class OGPConfigurationSettings {
 	 * @return The prover output details
 	 */
 	public OGPOutput getOutput() {
-		return output;
+		return this.getSession().output;
 	}
 
 	/**
@@ -168,7 +190,7 @@ public class OGPConfigurationSettings {
 	 * @param timer The timer object to set
 	 */
 	public void setTimer(OGPTimer timer) {
-		this.timer = timer;
+		this.getSession().timer = timer;
 	}
 
 	/**
@@ -177,7 +199,7 @@ public class OGPConfigurationSettings {
 	 * @return The prover's timer
 	 */
 	public OGPTimer getTimer() {
-		return timer;
+		return this.getSession().timer;
 	}
 
 	/**
@@ -186,7 +208,7 @@ public class OGPConfigurationSettings {
 	 * @param stopwatch The stopwatch to set
 	 */
 	public void setStopwacth(Stopwatch stopwatch) {
-		this.stopwatch = stopwatch;
+		this.getSession().stopwatch = stopwatch;
 	}
 
 	/**
@@ -195,7 +217,7 @@ public class OGPConfigurationSettings {
 	 * @return The stopwatch of prover
 	 */
 	public Stopwatch getStopwacth() {
-		return stopwatch;
+		return this.getSession().stopwatch;
 	}
 
 	/**
@@ -205,7 +227,7 @@ public class OGPConfigurationSettings {
 	 * @param maxNumOfTerms The maximal number of terms to set
 	 */
 	public void setMaxNumOfTerms(int maxNumOfTerms) {
-		this.maxNumOfTerms = maxNumOfTerms;
+		this.getSession().maxNumOfTerms = maxNumOfTerms;
 	}
 
 	/**
@@ -215,21 +237,57 @@ public class OGPConfigurationSettings {
 	 * @return The maximal number of terms
 	 */
 	public int getMaxNumOfTerms() {
-		return maxNumOfTerms;
+		return this.getSession().maxNumOfTerms;
+	}
+
+	/**
+	 * Method that sets metrics of prover
+	 * 
+	 * @param metrics The metrics to set
+	 */
+	public void setMetrics(OGPMetrics metrics) {
+		this.getSession().metrics = metrics;
+	}
+
+	/**
+	 * Method that retrieves metrics collected during execution of prover
+	 * 
+	 * @return The prover's metrics
+	 */
+	public OGPMetrics getMetrics() {
+		return this.getSession().metrics;
+	}
+
+	/**
+	 * Method that sets result of prover execution
+	 * 
+	 * @param result The result to set
+	 */
+	public void setResult(OGPResult result) {
+		this.getSession().result = result;
+	}
+
+	/**
+	 * Method that retrieves result of prover execution
+	 * 
+	 * @return The prover's result
+	 */
+	public OGPResult getResult() {
+		return this.getSession().result;
 	}
 
 	/**
 	 * @param ogpMode the ogpMode to set
 	 */
 	public void setOgpMode(int ogpMode) {
-		this.ogpMode = ogpMode;
+		this.getSession().ogpMode = ogpMode;
 	}
 
 	/**
 	 * @return the ogpMode
 	 */
 	public int getOgpMode() {
-		return ogpMode;
+		return this.getSession().ogpMode;
 	}
 
 	/**
@@ -238,7 +296,7 @@ public class OGPConfigurationSettings {
 	 * @param logger The logger to set
 	 */
 	public void setLogger(ILogger logger) {
-		this.logger = logger;
+		this.getSession().logger = logger;
 	}
 
 	/**
@@ -247,35 +305,35 @@ public class OGPConfigurationSettings {
 	 * @return The logger
 	 */
 	public ILogger getLogger() {
-		return logger;
+		return this.getSession().logger;
 	}
 	
 	/**
 	 * @param parsedTP the parsedTP to set
 	 */
 	public void setParsedTP(OGPTP parsedTP) {
-		this.parsedTP = parsedTP;
+		this.getSession().parsedTP = parsedTP;
 	}
 
 	/**
 	 * @return the parsedTP
 	 */
 	public OGPTP getParsedTP() {
-		return parsedTP;
+		return this.getSession().parsedTP;
 	}
 
 	/**
 	 * @param retCodeOfPseudoDivision the retCodeOfPseudoDivision to set
 	 */
 	public void setRetCodeOfPseudoDivision(int retCodeOfPseudoDivision) {
-		this.retCodeOfPseudoDivision = retCodeOfPseudoDivision;
+		this.getSession().retCodeOfPseudoDivision = retCodeOfPseudoDivision;
 	}
 
 	/**
 	 * @return the retCodeOfPseudoDivision
 	 */
 	public int getRetCodeOfPseudoDivision() {
-		return retCodeOfPseudoDivision;
+		return this.getSession().retCodeOfPseudoDivision;
 	}
 	
 	
@@ -315,6 +373,8 @@ public class OGPConfigurationSettings {
 		this.setOutput(new OGPOutput(null, null));
 		this.setTimer(new OGPTimer());
 		this.setStopwacth(new Stopwatch());
+		this.setMetrics(new OGPMetrics());
+		this.setResult(new OGPResult());
 		
 		if (logFileName != null)
 			this.logFileName = logFileName;
@@ -343,6 +403,57 @@ public class OGPConfigurationSettings {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that binds settings of prover session to current thread.
+	 * All calls to global settings object made from this thread (or
+	 * from threads it starts) are delegated to settings of that session.
+	 * 
+	 * @param session	Settings of prover session
+	 */
+	public static void bindSession(OGPConfigurationSettings session) {
+		OGPConfigurationSettings.boundSessions.set(session);
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that unbinds prover session from current thread, so
+	 * global settings object is used again.
+	 */
+	public static void unbindSession() {
+		OGPConfigurationSettings.boundSessions.remove();
+	}
+	
+	/**
+	 * Method that releases resources of prover session: thread of its timer
+	 * is stopped and its log file is closed (see {@link FileLogger#close()}).
+	 * Session should not be used after this.
+	 */
+	public void close() {
+		OGPConfigurationSettings session = this.getSession();
+		
+		session.timer.cancel();
+		if (session.logger instanceof FileLogger)
+			((FileLogger)session.logger).close();
+	}
+	
+	/**
+	 * Method that retrieves settings to which calls to this object are delegated -
+	 * for global settings object these are settings of session bound to current
+	 * thread, if there is such session; otherwise it is this object itself.
+	 * 
+	 * @return	Settings of current prover session
+	 */
+	private OGPConfigurationSettings getSession() {
+		if (this == OpenGeoProver.settings) {
+			OGPConfigurationSettings session = OGPConfigurationSettings.boundSessions.get();
+			
+			if (session != null)
+				return session;
+		}
+		return this;
+	}
+	
 	/**
 	 * Method to log space error during pseudo division.
 	 * It is called from pseudo division algorithm to save
@@ -356,10 +467,10 @@ public class OGPConfigurationSettings {
 		sb.append("Space limit exceeded in pseudo division. Obtained polynomial with ");
 		sb.append(numOfTerms);
 		sb.append(" terms");
-		this.logger.error(sb.toString());
+		this.getLogger().error(sb.toString());
 		
 		this.setRetCodeOfPseudoDivision(OGPConstants.ERR_CODE_SPACE);
-		this.maxNumOfTerms = numOfTerms;
+		this.setMaxNumOfTerms(numOfTerms);
 	}
 	
 	/**
@@ -369,7 +480,7 @@ public class OGPConfigurationSettings {
 	 * them in reports.
 	 */
 	public void logTimeErrorInPseudoDivision() {
-		this.logger.error("Time limit exceeded in pseudo division");
+		this.getLogger().error("Time limit exceeded in pseudo division");
 		
 		this.setRetCodeOfPseudoDivision(OGPConstants.ERR_CODE_TIME);
 	}
@@ -383,7 +494,7 @@ public class OGPConfigurationSettings {
 	 * @param errorMsg		Error message for log file
 	 */
 	public void logGeneralErrorInPseudoDivision(String errorMsg) {
-		this.logger.error(errorMsg);
+		this.getLogger().error(errorMsg);
 		
 		this.setRetCodeOfPseudoDivision(OGPConstants.ERR_CODE_GENERAL);
 	}
@@ -131,6 +131,10 @@ public class OGPConstants {
 	 * <i><b>Default parameter value for space limit</b></i>
 	 */
 	public static final String DEF_VAL_PARAM_SPACE_LIMIT = "2000"; // maximal number of terms
+	/**
+	 * <i><b>Default parameter value for format of metrics file</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_METRICS_FORMAT = "N"; // metrics are not collected
 	
 	
 	
@@ -38,7 +38,7 @@ public class OGPParameters {
 	
 	// list of parameters' names
 	// usage of parameters/options:
-	// 		OGP [-M ogpMode]-I theorem01[.gcl/xml] -i G -O theorem01_output -o A -p W -c 2 -l B [-v] -t 10000 -s 2000
+	// 		OGP [-M ogpMode]-I theorem01[.gcl/xml] -i G -O theorem01_output -o A -p W -c 2 -l B [-v] -t 10000 -s 2000 -m J
 	// there is default value for each parameter; they are defined in OGPConstants.java class as
 	// DEF_VAL_PARAM_xxx values.
 	/**
@@ -76,7 +76,8 @@ public class OGPParameters {
 	/**
 	 * <i><b>
 	 * Parameter for format of output file: can be X (for XML), 
-	 * L (for LaTeX); A (for all) and N (for none - report will not be created;
+	 * L (for LaTeX); J (for JSON file with result of prover only);
+	 * A (for all) and N (for none - report will not be created;
 	 * proving will be faster); A is default
 	 * </b></i>
 	 */
@@ -122,6 +123,16 @@ public class OGPParameters {
 	 * </b></i>
 	 */
 	public static final String PARAM_SPACE_LIMIT = "s";
+	/**
+	 * <i><b>
+	 * Parameter for format of file with prover metrics (counters of steps of
+	 * algorithms, histograms of sizes of polynomials and durations of prover's
+	 * phases): can be J (for JSON), P (for Prometheus text format), F (for no file -
+	 * phases are recorded as Java Flight Recorder events) or N (for none - metrics
+	 * will not be collected); N is default. File has same base name as output file.
+	 * </b></i>
+	 */
+	public static final String PARAM_METRICS_FORMAT = "m";
 	
 	// other variables
 	/**
@@ -155,7 +166,8 @@ public class OGPParameters {
 			key.equals(OGPParameters.PARAM_LOG_LEVEL) ||
 			key.equals(OGPParameters.PARAM_VERBOSE) ||
 			key.equals(OGPParameters.PARAM_TIME_LIMIT) ||
-			key.equals(OGPParameters.PARAM_SPACE_LIMIT))
+			key.equals(OGPParameters.PARAM_SPACE_LIMIT) ||
+			key.equals(OGPParameters.PARAM_METRICS_FORMAT))
 			return this.params.put(key, value);
 		
 		OpenGeoProver.settings.getLogger().error("Bad parameter name passed in.");
@@ -345,7 +357,8 @@ public class OGPParameters {
 			key.equals(OGPParameters.PARAM_LOG_LEVEL) ||
 			key.equals(OGPParameters.PARAM_VERBOSE) ||
 			key.equals(OGPParameters.PARAM_TIME_LIMIT) ||
-			key.equals(OGPParameters.PARAM_SPACE_LIMIT))
+			key.equals(OGPParameters.PARAM_SPACE_LIMIT) ||
+			key.equals(OGPParameters.PARAM_METRICS_FORMAT))
 			return this.params.get(key);
 		
 		OpenGeoProver.settings.getLogger().error("Bad parameter name passed in.");
@@ -397,6 +410,13 @@ public class OGPParameters {
 		return this.get(OGPParameters.PARAM_OUTPUT_FORMAT);
 	}
 	
+	/**
+	 * @return	Format of metrics file
+	 */
+	public String getMetricsFormat() {
+		return this.get(OGPParameters.PARAM_METRICS_FORMAT);
+	}
+	
 	/**
 	 * @return	Constant representing prover type
 	 */
@@ -538,6 +558,7 @@ public class OGPParameters {
 		this.params.put(OGPParameters.PARAM_VERBOSE, OGPConstants.DEF_VAL_PARAM_VERBOSE);
 		this.params.put(OGPParameters.PARAM_TIME_LIMIT, OGPConstants.DEF_VAL_PARAM_TIME_LIMIT);
 		this.params.put(OGPParameters.PARAM_SPACE_LIMIT, OGPConstants.DEF_VAL_PARAM_SPACE_LIMIT);
+		this.params.put(OGPParameters.PARAM_METRICS_FORMAT, OGPConstants.DEF_VAL_PARAM_METRICS_FORMAT);
 	}
 	
 	
@@ -562,7 +583,7 @@ public class OGPParameters {
 		sb.append("\n\n-O\tname of output file (format can be tex or xml file);\n\t name is not required - default name is \"");
 		sb.append(OGPConstants.DEF_VAL_PARAM_OUTPUT_FILE);
 		sb.append("\"");
-		sb.append("\n\n-o\tformat of output file - can be \"L\" for (la)tex file, \"X\" for xml file,\n\t \"A\" for all formats or \"N\" to not create the output reports; \n\tdefault is \"");
+		sb.append("\n\n-o\tformat of output file - can be \"L\" for (la)tex file, \"X\" for xml file,\n\t \"J\" for compact JSON file with result only (verdict, times, sizes and NDG conditions),\n\t \"A\" for all formats or \"N\" to not create the output reports; \n\tdefault is \"");
 		sb.append(OGPConstants.DEF_VAL_PARAM_OUTPUT_FORMAT);
 		sb.append("\"");
 		sb.append("\n\n-p\tprover method - can be \"W\" for Wu's method or \"G\" for Groebner basis method - default is \"");
@@ -580,6 +601,9 @@ public class OGPParameters {
 		sb.append(Double.parseDouble(OGPConstants.DEF_VAL_PARAM_TIME_LIMIT)/1000);
 		sb.append("\n\n-s\tspace limit as maximal number of terms in single polynomial obtained during proving process;\n\t default is ");
 		sb.append(OGPConstants.DEF_VAL_PARAM_SPACE_LIMIT);
+		sb.append("\n\n-m\tformat of file with prover metrics - can be \"J\" for JSON, \"P\" for Prometheus text format,\n\t \"F\" to record prover phases as Java Flight Recorder events instead of writing file\n\t (needs OGP JFR library in class path) or \"N\" to not collect metrics; default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_METRICS_FORMAT);
+		sb.append("\"");
 		sb.append("\n\n");
 		
 		System.out.println(sb.toString());
@@ -761,7 +785,7 @@ public class OGPParameters {
 						ii++;
 					}
 					else {
-						if (!paramValue.equals("X") && !paramValue.equals("L") && !paramValue.equals("A") && !paramValue.equals("N")) {
+						if (!paramValue.equals("X") && !paramValue.equals("L") && !paramValue.equals("J") && !paramValue.equals("A") && !paramValue.equals("N")) {
 							logger.error("Bad output format provided - ignoring this parameter.");
 							retCode = OGPConstants.ERR_CODE_GENERAL;
 						}
@@ -877,6 +901,24 @@ public class OGPParameters {
 					}
 				}
 				
+				// format of metrics file
+				else if (paramName.equals(OGPParameters.PARAM_METRICS_FORMAT)) {
+					if (paramValue == null) {
+						logger.error("Missing format of metrics file - metrics are not collected by default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						if (!paramValue.equals("J") && !paramValue.equals("P") && !paramValue.equals("F") && !paramValue.equals("N")) {
+							logger.error("Bad format of metrics file provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.put(OGPParameters.PARAM_METRICS_FORMAT, paramValue);
+						ii += 2;
+					}
+				}
+				
 				// not supported parameter
 				else {
 					logger.error("Found unknown parameter '" + paramName + "'.");
@@ -902,4 +944,33 @@ public class OGPParameters {
 	public boolean createReport() {
 		return !OpenGeoProver.settings.getParameters().getOutputFormat().equals("N");
 	}
+	
+	/**
+	 * Method that checks if JSON file with result of prover has to be created.
+	 * 
+	 * @return	TRUE if JSON result has to be created, or FALSE otherwise.
+	 */
+	public boolean createJSONResult() {
+		String outputFormat = OpenGeoProver.settings.getParameters().getOutputFormat();
+		
+		return outputFormat.equals("J") || outputFormat.equals("A");
+	}
+	
+	/**
+	 * Method that checks if prover metrics have to be collected.
+	 * 
+	 * @return	TRUE if metrics have to be collected, or FALSE otherwise.
+	 */
+	public boolean collectMetrics() {
+		return !OpenGeoProver.settings.getParameters().getMetricsFormat().equals("N");
+	}
+	
+	/**
+	 * Method that checks if prover phases have to be recorded as Java Flight Recorder events.
+	 * 
+	 * @return	TRUE if JFR events have to be recorded, or FALSE otherwise.
+	 */
+	public boolean recordJFREvents() {
+		return OpenGeoProver.settings.getParameters().getMetricsFormat().equals("F");
+	}
 }
@@ -159,7 +159,7 @@ public class OGPReport {
 			}
 		}
 		
-		String statusText;
+		String statusText = null;
 		
 		switch (proverRetCode) {
 		case TheoremProver.THEO_PROVE_RET_CODE_FALSE:
@@ -263,6 +263,8 @@ public class OGPReport {
 			break;
 		}
 		
+		OpenGeoProver.settings.getResult().setStatus(proverRetCode, statusText);
+		
 		StringBuilder sb = new StringBuilder();
 		sb.append("Time spent by the prover is ");
 		sb.append(OGPUtilities.roundUpToPrecision(stopwatch.getTimeIntSec()));
@@ -377,6 +379,8 @@ public class OGPReport {
 		// Write NDGs to output files
 		for (AlgebraicNDGCondition ndgc : this.thmProtocol.getAlgebraicNDGConditions()) {
 			String ndgcText = ndgc.getBestDescription();
+			
+			OpenGeoProver.settings.getResult().addNDGCondition((ndgcText == null || ndgcText.length() == 0) ? null : ndgcText, ndgc.getPolynomial().print());
 				
 			try {
 				if (ndgcText == null || ndgcText.length() == 0) {
@@ -397,6 +401,7 @@ public class OGPReport {
 		}
 			
 		stopwatch.endMeasureTime();
+		OpenGeoProver.settings.getResult().addStageTime(OGPResult.STAGE_NDG_CONDITIONS, stopwatch.getTimeIntMillisec());
 		
 		try {
 			output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
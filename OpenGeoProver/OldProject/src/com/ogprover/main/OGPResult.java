@@ -0,0 +1,361 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.main;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.utilities.io.JSONFileWriter;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for result of prover execution in compact machine readable
+ *     form, which is written to JSON file alongside LaTeX and XML reports.
+ *     It contains verdict of prover, time spent in each stage of execution,
+ *     sizes of problem and NDG conditions in readable and polynomial form.
+ *     <br><br>
+ *     Schema of JSON result (members are always written in this order;
+ *     member which value is unknown has null value):
+ *     <pre>
+ *     {"schema":"ogp_result","schema_version":1,
+ *      "theorem":name,"mode":"theorem_proving"|"rc_constructibility",
+ *      "prover":"wu"|"groebner"|"area"|null,
+ *      "verdict":"proved"|"disproved"|"unknown"|"transformed"|"time_limit"|"space_limit"|"error",
+ *      "status":text of status,
+ *      "times_ms":{stage:milliseconds,...},
+ *      "sizes":{"hypotheses":n,"statement_terms":n,"max_terms":n,"ndg_conditions":n},
+ *      "ndg_conditions":[{"text":text,"polynomial":text},...]}
+ *     </pre></dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class OGPResult {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * <i><b>Version of schema of JSON result - it has to be increased when schema is changed</b></i>
+	 */
+	public static final int SCHEMA_VERSION = 1;
+	/**
+	 * <i><b>Suffix of base name of file with JSON result (added to name of output file)</b></i>
+	 */
+	public static final String FILE_NAME_SUFFIX = "_result";
+
+	/*
+	 * Names of stages of prover execution
+	 */
+	/**
+	 * <i><b>Transformation of construction protocol to algebraic form</b></i>
+	 */
+	public static final String STAGE_ALGEBRAIC_FORM = "algebraic_form";
+	/**
+	 * <i><b>Execution of prover method</b></i>
+	 */
+	public static final String STAGE_PROVER = "prover";
+	/**
+	 * <i><b>Processing of NDG conditions</b></i>
+	 */
+	public static final String STAGE_NDG_CONDITIONS = "ndg_conditions";
+	/**
+	 * <i><b>Transformation of RC-constructibility problem to polynomial form</b></i>
+	 */
+	public static final String STAGE_RC_TRANSFORMATION = "rc_transformation";
+	/**
+	 * <i><b>Analysis of degrees of field extensions of RC-constructibility problem</b></i>
+	 */
+	public static final String STAGE_RC_DEGREE_ANALYSIS = "rc_degree_analysis";
+
+	/**
+	 * Name of theorem
+	 */
+	private String theoremName = null;
+	/**
+	 * Return code of prover (one of TheoremProver.THEO_PROVE_RET_CODE_xxx codes
+	 * or OGPConstants.ERR_CODE_xxx codes), or of RC-constructibility transformation
+	 */
+	private int retCode = OGPConstants.ERR_CODE_GENERAL;
+	/**
+	 * Text of status of prover execution
+	 */
+	private String statusText = null;
+	/**
+	 * Time spent in stages of prover execution (in milliseconds), in order of stages
+	 */
+	private Map<String, Long> stageTimes = new LinkedHashMap<String, Long>();
+	/**
+	 * Number of hypotheses (-1 if unknown)
+	 */
+	private int numOfHypotheses = -1;
+	/**
+	 * Number of terms of statement polynomial (-1 if unknown)
+	 */
+	private int numOfStatementTerms = -1;
+	/**
+	 * NDG conditions - each of them is pair of texts: readable form (or null)
+	 * and polynomial form
+	 */
+	private Vector<String[]> ndgConditions = new Vector<String[]>();
+	/**
+	 * Verdict of analysis of RC-constructibility by degrees of field
+	 * extensions (null if analysis hasn't been done)
+	 */
+	private String rcConstructibility = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param theoremName the theoremName to set
+	 */
+	public void setTheoremName(String theoremName) {
+		this.theoremName = theoremName;
+	}
+
+	/**
+	 * @return the theoremName
+	 */
+	public String getTheoremName() {
+		return this.theoremName;
+	}
+
+	/**
+	 * @param retCode the retCode to set
+	 * @param statusText the statusText to set
+	 */
+	public void setStatus(int retCode, String statusText) {
+		this.retCode = retCode;
+		this.statusText = statusText;
+	}
+
+	/**
+	 * @return the retCode
+	 */
+	public int getRetCode() {
+		return this.retCode;
+	}
+
+	/**
+	 * @return the statusText
+	 */
+	public String getStatusText() {
+		return this.statusText;
+	}
+
+	/**
+	 * @param numOfHypotheses the numOfHypotheses to set
+	 */
+	public void setNumOfHypotheses(int numOfHypotheses) {
+		this.numOfHypotheses = numOfHypotheses;
+	}
+
+	/**
+	 * @param numOfStatementTerms the numOfStatementTerms to set
+	 */
+	public void setNumOfStatementTerms(int numOfStatementTerms) {
+		this.numOfStatementTerms = numOfStatementTerms;
+	}
+
+	/**
+	 * @return the ndgConditions
+	 */
+	public Vector<String[]> getNDGConditions() {
+		return this.ndgConditions;
+	}
+
+	/**
+	 * @param rcConstructibility the rcConstructibility to set
+	 */
+	public void setRcConstructibility(String rcConstructibility) {
+		this.rcConstructibility = rcConstructibility;
+	}
+
+	/**
+	 * @return the rcConstructibility
+	 */
+	public String getRcConstructibility() {
+		return this.rcConstructibility;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that records time spent in one stage of prover execution.
+	 *
+	 * @param stage		Name of stage (one of STAGE_xxx values)
+	 * @param millisec	Time in milliseconds (rounded to whole milliseconds)
+	 */
+	public void addStageTime(String stage, double millisec) {
+		this.stageTimes.put(stage, Long.valueOf(Math.round(millisec)));
+	}
+
+	/**
+	 * Method that adds NDG condition.
+	 *
+	 * @param text			Readable form of condition (null if it is not available)
+	 * @param polynomial	Polynomial form of condition
+	 */
+	public void addNDGCondition(String text, String polynomial) {
+		this.ndgConditions.add(new String[] {text, polynomial});
+	}
+
+	/**
+	 * Method that retrieves verdict of prover execution from return code.
+	 *
+	 * @return	Verdict as it is written in JSON result
+	 */
+	public String getVerdict() {
+		switch (this.retCode) {
+		case OGPConstants.ERR_CODE_TIME:
+			return "time_limit";
+		case OGPConstants.ERR_CODE_SPACE:
+			return "space_limit";
+		}
+
+		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY)
+			return (this.retCode == OGPConstants.RET_CODE_SUCCESS) ? "transformed" : "error";
+
+		switch (this.retCode) {
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE:
+			return "proved";
+		case TheoremProver.THEO_PROVE_RET_CODE_FALSE:
+			return "disproved";
+		case TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN:
+			return "unknown";
+		default:
+			return "error";
+		}
+	}
+
+	/**
+	 * Method that writes this result as JSON object.
+	 *
+	 * @param writer	JSON writer
+	 * @throws IOException
+	 */
+	public void writeToJSON(JSONFileWriter writer) throws IOException {
+		OGPConfigurationSettings settings = OpenGeoProver.settings;
+		String proverName = null;
+
+		writer.beginObject();
+		writer.writeName("schema");
+		writer.writeValue("ogp_result");
+		writer.writeName("schema_version");
+		writer.writeValue(SCHEMA_VERSION);
+		writer.writeName("theorem");
+		writer.writeValue(this.theoremName);
+
+		writer.writeName("mode");
+		if (settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY)
+			writer.writeValue("rc_constructibility");
+		else {
+			writer.writeValue("theorem_proving");
+			switch (settings.getParameters().getProver()) {
+			case TheoremProver.TP_TYPE_WU:
+				proverName = "wu";
+				break;
+			case TheoremProver.TP_TYPE_GROEBNER:
+				proverName = "groebner";
+				break;
+			case TheoremProver.TP_TYPE_AREA:
+				proverName = "area";
+				break;
+			}
+		}
+		writer.writeName("prover");
+		writer.writeValue(proverName);
+
+		writer.writeName("verdict");
+		writer.writeValue(this.getVerdict());
+		writer.writeName("status");
+		writer.writeValue(this.statusText);
+		if (settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			writer.writeName("constructibility");
+			writer.writeValue(this.rcConstructibility);
+		}
+
+		writer.writeName("times_ms");
+		writer.beginObject();
+		for (Map.Entry<String, Long> entry : this.stageTimes.entrySet()) {
+			writer.writeName(entry.getKey());
+			writer.writeValue(entry.getValue().longValue());
+		}
+		writer.endObject();
+
+		writer.writeName("sizes");
+		writer.beginObject();
+		writer.writeName("hypotheses");
+		writer.writeValue(this.numOfHypotheses);
+		writer.writeName("statement_terms");
+		writer.writeValue(this.numOfStatementTerms);
+		writer.writeName("max_terms");
+		writer.writeValue(settings.getMaxNumOfTerms());
+		writer.writeName("ndg_conditions");
+		writer.writeValue(this.ndgConditions.size());
+		writer.endObject();
+
+		writer.writeName("ndg_conditions");
+		writer.beginArray();
+		for (String[] ndgc : this.ndgConditions) {
+			writer.beginObject();
+			writer.writeName("text");
+			writer.writeValue(ndgc[0]);
+			writer.writeName("polynomial");
+			writer.writeValue(ndgc[1]);
+			writer.endObject();
+		}
+		writer.endArray();
+		writer.endObject();
+		writer.write("\n");
+	}
+
+	/**
+	 * Method that writes this result to JSON file in output directory.
+	 *
+	 * @param fileName	Name of output file (suffix of result file is added to it)
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL in case of error
+	 */
+	public int writeToFile(String fileName) {
+		JSONFileWriter writer = null;
+
+		try {
+			writer = new JSONFileWriter(fileName + OGPResult.FILE_NAME_SUFFIX);
+			this.writeToJSON(writer);
+		} catch (IOException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to write result to JSON file.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (writer != null)
+				writer.close();
+		}
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+}
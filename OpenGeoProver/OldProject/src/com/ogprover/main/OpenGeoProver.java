@@ -21,6 +21,8 @@ import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.io.XMLFileWriter;
 import com.ogprover.utilities.logger.FileLogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 
 /**
@@ -67,11 +69,6 @@ public class OpenGeoProver {
 	 */
 	public static void main(String[] args) {
 		OpenGeoProver.settings = new OGPConfigurationSettings(); // TODO - this currently creates log file with default name and location, but later it should be allowed to set these elements in command line
-		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		FileLogger logger = (FileLogger) OpenGeoProver.settings.getLogger();
-		Stopwatch stopwatch = OpenGeoProver.settings.getStopwacth();
-		OGPTimer timer = OpenGeoProver.settings.getTimer();
 		
 		// prover's introduction message
 		StringBuilder sb = new StringBuilder();
@@ -83,17 +80,38 @@ public class OpenGeoProver {
 		sb.append("Type \"-h\" or \"--help\" if necessary, for explanation about correct usage of command line.\n\n");
 		System.out.println(sb.toString());
 		
-		int retCode = OGPConstants.RET_CODE_SUCCESS;
-		
-		/*
-		 *  STEP 1 - Parsing command line and filling parameters
-		 */
 		if (args.length == 1 && (args[0].equals("-h") || args[0].equals("--help"))) {
 			OGPParameters.printHelp();
-			timer.cancel(); // cancel default timer task
+			OpenGeoProver.settings.getTimer().cancel(); // cancel default timer task
 			return;
 		}
 		
+		OpenGeoProver.processProblem(args);
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that processes one geometry problem: it reads the problem specified
+	 * in command line, invokes prover (or transformation of RC-constructibility
+	 * problem) and writes the results. All settings are retrieved from global
+	 * settings object, so if prover session is bound to current thread (see
+	 * {@link OGPConfigurationSettings#bindSession(OGPConfigurationSettings)}),
+	 * problem is processed with settings of that session.
+	 * 
+	 * @param args		Arguments of command line
+	 */
+	public static void processProblem(String[] args) {
+		OGPParameters parameters = OpenGeoProver.settings.getParameters();
+		OGPOutput output = OpenGeoProver.settings.getOutput();
+		FileLogger logger = (FileLogger) OpenGeoProver.settings.getLogger();
+		Stopwatch stopwatch = OpenGeoProver.settings.getStopwacth();
+		OGPTimer timer = OpenGeoProver.settings.getTimer();
+		StringBuilder sb = null;
+		int retCode = OGPConstants.RET_CODE_SUCCESS;
+		
+		/*
+		 *  STEP 1 - Parsing command line and filling parameters
+		 */
 		logger.info("Parsing command line...");
 		retCode = OGPParameters.readParametersFromCommandLine(args);
 		
@@ -106,6 +124,14 @@ public class OpenGeoProver {
 		// setting log level and verbose flag in logger
 		logger.setLevel(parameters.getLogLevel());
 		logger.setVerbose(parameters.getVerbose());
+		logger.setAsynchronous(true); // from now on, messages are written to log file by background thread
+		
+		// enabling collection of prover metrics
+		OpenGeoProver.settings.getMetrics().setEnabled(parameters.collectMetrics());
+		if (parameters.recordJFREvents() && OpenGeoProver.settings.getMetrics().addListener(OGPMetrics.JFR_LISTENER_CLASS_NAME) != OGPConstants.RET_CODE_SUCCESS) {
+			logger.error("Failed to start recording of JFR events - prover metrics will not be collected.");
+			OpenGeoProver.settings.getMetrics().setEnabled(false);
+		}
 		
 		// creating output files
 		if (parameters.createReport()) {
@@ -119,7 +145,7 @@ public class OpenGeoProver {
 				return;
 			}
 			
-			if (!outputFmt.equals("A") && !outputFmt.equals("L") && !outputFmt.equals("X")) {
+			if (!outputFmt.equals("A") && !outputFmt.equals("L") && !outputFmt.equals("X") && !outputFmt.equals("J")) {
 				logger.error("Invalid format of output file.");
 				return;
 			}
@@ -147,6 +173,7 @@ public class OpenGeoProver {
 			}
 			
 			output = new OGPOutput(latexWriter, xmlWriter);
+			output.setDeferred(true); // report is rendered from recorded events after prover has finished
 			OpenGeoProver.settings.setOutput(output);
 		}
 		
@@ -160,6 +187,8 @@ public class OpenGeoProver {
 		OGPTP consProtocol = null;
 		
 		if (parameters.getInputFile() != null) { // reading problem from file
+			OpenGeoProver.settings.getMetrics().setTheoremName(parameters.getInputFile()); // spans are assigned to input file
+			
 			if (parameters.getInputFormat().equals("O")) { // xml file which contains geometric construction and theorem statement
 				OGPCPXMLParser parser = new OGPCPXMLParser();
 				consProtocol = parser.readGeoTheoremFromXML(parameters.getInputFile());
@@ -206,6 +235,9 @@ public class OpenGeoProver {
 			// TODO
 		}
 		
+		if (consProtocol != null)
+			OpenGeoProver.settings.getResult().setTheoremName(consProtocol.getTheoremName());
+		
 		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 			/*
 			 *  STEP 3 - Invoking prover
@@ -240,6 +272,7 @@ public class OpenGeoProver {
 				}
 			
 				OpenGeoProver.settings.getStopwacth().endMeasureTime();
+				OpenGeoProver.settings.getResult().addStageTime(OGPResult.STAGE_ALGEBRAIC_FORM, stopwatch.getTimeIntMillisec());
 				try {
 					output.openSubSection("Time spent for transformation of Construction Protocol to algebraic form", false);
 					output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
@@ -258,14 +291,24 @@ public class OpenGeoProver {
 		
 			logger.info("Invoking prover method...");
 			int proverType = parameters.getProver();
+			
+			if (theorem != null) {
+				if (theorem.getHypotheses() != null)
+					OpenGeoProver.settings.getResult().setNumOfHypotheses(theorem.getHypotheses().numOfPols());
+				if (theorem.getStatement() != null)
+					OpenGeoProver.settings.getResult().setNumOfStatementTerms(theorem.getStatement().getTerms().size());
+			}
 			AlgebraicMethodProver proverMethod = null;
 			
 			if (proverType == TheoremProver.TP_TYPE_WU) { // Wu's method
 				proverMethod = new WuMethodProver(theorem);
 				timer.setTimer(parameters.getTimeLimit()); // setting timer
 				stopwatch.startMeasureTime();
+				MetricsSpan proverSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_WU_METHOD);
 				retCode = proverMethod.prove();
+				proverSpan.end();
 				stopwatch.endMeasureTime();
+				OpenGeoProver.settings.getResult().addStageTime(OGPResult.STAGE_PROVER, stopwatch.getTimeIntMillisec());
 			}
 			else if (proverType == TheoremProver.TP_TYPE_GROEBNER) { // Groebner basis method
 				// TODO
@@ -281,15 +324,32 @@ public class OpenGeoProver {
 			 *  STEP 4 - Presenting results to standard output and in report file(s)
 			 */
 			logger.info("Prover results:\n");
-			if (report != null)
+			if (report != null) {
+				MetricsSpan reportSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_REPORT);
 				report.printProverResults(retCode);
+				reportSpan.end();
+			}
 		}
 		else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			timer.setTimer(parameters.getTimeLimit());
 			stopwatch.startMeasureTime();
+			MetricsSpan rcSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_RC_TRANSFORMATION);
 			int result = consProtocol.transformRcConsProblemToPolynomialForm();
+			rcSpan.end();
 			stopwatch.endMeasureTime();
 			timer.cancel();  // cancel timer task
+			OpenGeoProver.settings.getResult().addStageTime(OGPResult.STAGE_RC_TRANSFORMATION, stopwatch.getTimeIntMillisec());
+			
+			if (result == OGPConstants.RET_CODE_SUCCESS) {
+				Stopwatch analysisStopwatch = new Stopwatch(); // stopwatch of prover keeps time of transformation for report
+				analysisStopwatch.startMeasureTime();
+				MetricsSpan analysisSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_RC_DEGREE_ANALYSIS);
+				if (consProtocol.analyzeRcConsProblemDegrees() != OGPConstants.RET_CODE_SUCCESS)
+					logger.error("Failed to analyze degrees of field extensions.");
+				analysisSpan.end();
+				analysisStopwatch.endMeasureTime();
+				OpenGeoProver.settings.getResult().addStageTime(OGPResult.STAGE_RC_DEGREE_ANALYSIS, analysisStopwatch.getTimeIntMillisec());
+			}
 			
 			if (parameters.createReport()) {
 				try {
@@ -341,11 +401,16 @@ public class OpenGeoProver {
 				logger.error(message);
 			}
 			System.out.println(message);
+			OpenGeoProver.settings.getResult().setStatus(result, message);
 			if (parameters.createReport()) {
 				try {
 					output.openEnum(SpecialFileFormatting.ENUM_COMMAND_DESCRIPTION);
 					output.openItemWithDesc("Success Message:");
 					output.closeItemWithDesc(message);
+					if (OpenGeoProver.settings.getResult().getRcConstructibility() != null) {
+						output.openItemWithDesc("RC-constructibility:");
+						output.closeItemWithDesc(OpenGeoProver.settings.getResult().getRcConstructibility().replace('_', ' '));
+					}
 					output.openItemWithDesc("Space Complexity:");
 					output.closeItemWithDesc(spaceReport);
 					output.openItemWithDesc("Time Complexity:");
@@ -359,5 +424,20 @@ public class OpenGeoProver {
 				}
 			}
 		}
+		
+		// closing of output starts rendering of report files in background thread
+		output.close();
+		
+		/*
+		 *  STEP 5 - Writing result in JSON format and collected prover metrics
+		 */
+		if (parameters.createJSONResult()) {
+			if (OpenGeoProver.settings.getResult().writeToFile(parameters.getOutputFile()) != OGPConstants.RET_CODE_SUCCESS)
+				logger.error("Failed to write result of prover.");
+		}
+		if (parameters.collectMetrics() && !parameters.recordJFREvents()) {
+			if (OpenGeoProver.settings.getMetrics().writeToFile(parameters.getOutputFile(), parameters.getMetricsFormat()) != OGPConstants.RET_CODE_SUCCESS)
+				logger.error("Failed to write prover metrics.");
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.multithread;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.polynomials.SymbolicPolynomial;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for thread for instantiation of condition of set of points
+ *     for one candidate collection of points. Instantiation only reads
+ *     points and symbolic condition, so candidates for same point can be
+ *     instantiated concurrently.
+ *     <br>
+ *     Candidates are numbered in order in which they were found. When
+ *     candidate gives zero polynomial, no later candidate can be better,
+ *     so its number is stored in shared cut-off index and all later
+ *     candidates are skipped.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ConditionInstantiationThread implements Callable<XPolynomial> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Symbolic condition to instantiate
+	 */
+	private SymbolicPolynomial condition;
+	/**
+	 * Points assigned to symbolic labels of condition
+	 */
+	private Map<String, Point> pointsMap;
+	/**
+	 * Number of candidate in order of search
+	 */
+	private int candidateIndex;
+	/**
+	 * Shared number of first candidate that gave zero polynomial
+	 */
+	private AtomicInteger cutOffIndex;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param condition			Symbolic condition to instantiate
+	 * @param pointsMap			Points assigned to symbolic labels
+	 * @param candidateIndex	Number of candidate in order of search
+	 * @param cutOffIndex		Shared number of first candidate that gave
+	 * 							zero polynomial (Integer.MAX_VALUE if there is none)
+	 */
+	public ConditionInstantiationThread(SymbolicPolynomial condition, Map<String, Point> pointsMap, int candidateIndex, AtomicInteger cutOffIndex) {
+		this.condition = condition;
+		this.pointsMap = pointsMap;
+		this.candidateIndex = candidateIndex;
+		this.cutOffIndex = cutOffIndex;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Main thread method - call()
+	 *
+	 * @return	Instantiated condition, or null if candidate has been skipped
+	 * 			or if instantiation failed
+	 * @see java.util.concurrent.Callable#call()
+	 */
+	public XPolynomial call() {
+		if (this.candidateIndex > this.cutOffIndex.get())
+			return null;
+
+		XPolynomial insCondition = OGPTP.instantiateCondition(this.condition, this.pointsMap);
+
+		if (insCondition != null && insCondition.isZero()) {
+			int currCutOff = this.cutOffIndex.get();
+
+			while (this.candidateIndex < currCutOff && !this.cutOffIndex.compareAndSet(currCutOff, this.candidateIndex))
+				currCutOff = this.cutOffIndex.get();
+		}
+		return insCondition;
+	}
+}
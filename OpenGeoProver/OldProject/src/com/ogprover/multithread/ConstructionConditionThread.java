@@ -0,0 +1,206 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.multithread;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.polynomials.SymbolicPolynomial;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for thread for instantiation of condition of set of points
+ *     for one candidate collection of points when point is being
+ *     transformed to algebraic form. Instantiated condition is only
+ *     checked (see {@link Point#checkConstructionPolynomial(XPolynomial)}),
+ *     so neither the point nor the system of hypotheses is changed and
+ *     candidates for same point can be processed concurrently.
+ *     <br>
+ *     Candidates are numbered in order in which they were found. When
+ *     candidate's polynomial would not be added to system (coordinates
+ *     of point would be renamed, or it is bad polynomial), search ends
+ *     with that candidate, so its number is stored in shared cut-off index
+ *     and all later candidates are skipped.
+ *     <br>
+ *     Condition is instantiated and reduced through cache of instantiated
+ *     conditions, so same polynomial is not reduced again for other
+ *     candidates. Ranks of polynomials that would be added to system are
+ *     stored in shared array, and polynomial whose rank is not lower than
+ *     rank of some earlier candidate is not returned since it can't be
+ *     chosen.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ConstructionConditionThread implements Callable<XPolynomial> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>
+	 * Rank of candidate which has not been instantiated yet or
+	 * whose polynomial would not be added to system
+	 * </b></i>
+	 */
+	public static final long UNKNOWN_RANK = Long.MAX_VALUE;
+	/**
+	 * Symbolic condition to instantiate
+	 */
+	private SymbolicPolynomial condition;
+	/**
+	 * Points assigned to symbolic labels of condition
+	 */
+	private Map<String, Point> pointsMap;
+	/**
+	 * Point which is being transformed to algebraic form
+	 */
+	private Point point;
+	/**
+	 * Number of candidate in order of search
+	 */
+	private int candidateIndex;
+	/**
+	 * Shared number of first candidate that ends the search
+	 */
+	private AtomicInteger cutOffIndex;
+	/**
+	 * Shared ranks of candidates (see {@link #getRank(XPolynomial)})
+	 */
+	private AtomicLongArray ranks;
+	/**
+	 * Result of check of instantiated condition - one of PROCESSPOLY_RETCODE_xxx
+	 * constants from Point class or ERR_CODE_GENERAL
+	 */
+	private int retCode = OGPConstants.ERR_CODE_GENERAL;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the retCode
+	 */
+	public int getRetCode() {
+		return retCode;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param condition			Symbolic condition to instantiate
+	 * @param pointsMap			Points assigned to symbolic labels
+	 * @param point				Point which is being transformed
+	 * @param candidateIndex	Number of candidate in order of search
+	 * @param cutOffIndex		Shared number of first candidate that ends
+	 * 							the search (Integer.MAX_VALUE if there is none)
+	 * @param ranks				Shared ranks of all candidates (initially
+	 * 							filled with UNKNOWN_RANK)
+	 */
+	public ConstructionConditionThread(SymbolicPolynomial condition, Map<String, Point> pointsMap, Point point, int candidateIndex, AtomicInteger cutOffIndex, AtomicLongArray ranks) {
+		this.condition = condition;
+		this.pointsMap = pointsMap;
+		this.point = point;
+		this.candidateIndex = candidateIndex;
+		this.cutOffIndex = cutOffIndex;
+		this.ranks = ranks;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates rank of polynomial. Polynomial with lower
+	 * rank has lower degree, or same degree and less terms.
+	 *
+	 * @param xPoly		Polynomial
+	 * @return			Rank of polynomial
+	 */
+	public static long getRank(XPolynomial xPoly) {
+		return (((long)xPoly.getPolynomialDegree()) << 32) | xPoly.getTerms().size();
+	}
+
+	/**
+	 * Main thread method - call()
+	 *
+	 * @return	Instantiated and reduced condition, or null if candidate has
+	 * 			been skipped, if it can't be better than some earlier candidate
+	 * 			(return code is PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM then), or if
+	 * 			its polynomial would not be added to system or can't be obtained
+	 * 			and candidate ends the search
+	 * @see java.util.concurrent.Callable#call()
+	 */
+	public XPolynomial call() {
+		if (this.candidateIndex > this.cutOffIndex.get())
+			return null;
+
+		XPolynomial insCondition = OGPTP.instantiateReducedCondition(this.condition, this.pointsMap);
+
+		if (insCondition == null) {
+			this.retCode = OGPConstants.ERR_CODE_GENERAL;
+			this.cutOff();
+			return null;
+		}
+
+		this.retCode = this.point.checkConstructionPolynomial(insCondition);
+		if (this.retCode != Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM) {
+			this.cutOff();
+			return null;
+		}
+
+		long rank = ConstructionConditionThread.getRank(insCondition);
+
+		this.ranks.set(this.candidateIndex, rank);
+		for (int ii = 0; ii < this.candidateIndex; ii++) {
+			if (this.ranks.get(ii) <= rank)
+				return null; // earlier candidate is at least as good as this one
+		}
+		return insCondition;
+	}
+
+	/**
+	 * Method that stores number of this candidate as cut-off index
+	 * if it is lower than current one.
+	 */
+	private void cutOff() {
+		int currCutOff = this.cutOffIndex.get();
+
+		while (this.candidateIndex < currCutOff && !this.cutOffIndex.compareAndSet(currCutOff, this.candidateIndex))
+			currCutOff = this.cutOffIndex.get();
+	}
+}
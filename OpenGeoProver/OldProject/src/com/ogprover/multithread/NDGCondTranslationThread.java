@@ -0,0 +1,91 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.multithread;
+
+import java.util.concurrent.Callable;
+
+import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for thread for translation of one NDG condition to user
+ *     readable form. Each NDG condition uses its own points position
+ *     checkers with their own auxiliary construction protocols, and results
+ *     of translation are stored in that NDG condition object, so translations
+ *     of different NDG conditions of same construction protocol can run
+ *     concurrently.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class NDGCondTranslationThread implements Callable<Integer> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * NDG condition to translate
+	 */
+	private AlgebraicNDGCondition ndgCond;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the NDG condition which is translated by this thread
+	 */
+	public AlgebraicNDGCondition getNDGCond() {
+		return ndgCond;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param ndgCond	NDG condition to translate
+	 */
+	public NDGCondTranslationThread(AlgebraicNDGCondition ndgCond) {
+		this.ndgCond = ndgCond;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Main thread method - call()
+	 *
+	 * @return	Return code of translation of NDG condition
+	 * @see java.util.concurrent.Callable#call()
+	 */
+	public Integer call() {
+		return Integer.valueOf(this.ndgCond.transformToUserReadableForm());
+	}
+}
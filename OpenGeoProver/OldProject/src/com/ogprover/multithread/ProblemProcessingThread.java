@@ -0,0 +1,148 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.multithread;
+
+import java.util.concurrent.Callable;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPParameters;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.Stopwatch;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for thread for processing of one geometry problem from batch.
+ *     Problem is processed in its own prover session (with its own
+ *     parameters, log file, output, timer and result) which is bound to
+ *     this thread, so problems from batch can be processed concurrently.
+ *     Problem is read from input file and results are written to output
+ *     files with same name as problem.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ProblemProcessingThread implements Callable<Integer> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Name of problem (name of input file)
+	 */
+	private String problemName;
+	/**
+	 * Arguments of command line common for all problems from batch
+	 */
+	private String[] commonArgs;
+	/**
+	 * Verdict of processing of problem (as it is written in JSON result)
+	 */
+	private String verdict = null;
+	/**
+	 * Time spent in processing of problem, in seconds
+	 */
+	private double timeSec = 0;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Name of problem
+	 */
+	public String getProblemName() {
+		return this.problemName;
+	}
+
+	/**
+	 * @return	Verdict of processing of problem, or null if problem
+	 * 			has not been processed
+	 */
+	public String getVerdict() {
+		return this.verdict;
+	}
+
+	/**
+	 * @return	Time spent in processing of problem, in seconds
+	 */
+	public double getTimeSec() {
+		return this.timeSec;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param problemName	Name of problem (name of input file)
+	 * @param commonArgs	Arguments of command line common for all problems
+	 * 						(without names of input and output files)
+	 */
+	public ProblemProcessingThread(String problemName, String[] commonArgs) {
+		this.problemName = problemName;
+		this.commonArgs = commonArgs;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Main thread method - call()
+	 *
+	 * @return	Return code of processing of problem (as it is written in
+	 * 			result of prover session)
+	 * @see java.util.concurrent.Callable#call()
+	 */
+	public Integer call() {
+		String[] args = new String[this.commonArgs.length + 4];
+
+		System.arraycopy(this.commonArgs, 0, args, 0, this.commonArgs.length);
+		args[this.commonArgs.length] = "-" + OGPParameters.PARAM_INPUT_FILE;
+		args[this.commonArgs.length + 1] = this.problemName;
+		args[this.commonArgs.length + 2] = "-" + OGPParameters.PARAM_OUTPUT_FILE;
+		args[this.commonArgs.length + 3] = this.problemName;
+
+		// each problem has its own log file
+		OGPConfigurationSettings session = new OGPConfigurationSettings(OGPConfigurationSettings.defaultLogFileName + "_" + this.problemName);
+		Stopwatch stopwatch = new Stopwatch();
+
+		OGPConfigurationSettings.bindSession(session);
+		try {
+			stopwatch.startMeasureTime();
+			OpenGeoProver.processProblem(args);
+			stopwatch.endMeasureTime();
+			this.timeSec = stopwatch.getTimeIntSec();
+			this.verdict = OpenGeoProver.settings.getResult().getVerdict();
+			return Integer.valueOf(OpenGeoProver.settings.getResult().getRetCode());
+		} finally {
+			session.close(); // timer and log file are not released when processing fails
+			OGPConfigurationSettings.unbindSession();
+		}
+	}
+}
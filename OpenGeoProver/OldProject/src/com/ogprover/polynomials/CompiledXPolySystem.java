@@ -0,0 +1,125 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Map;
+import java.util.Vector;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for system of x-polynomials compiled for instantiation of its
+ * 		variables by values (see {@link CompiledXPolynomial}). All polynomials
+ * 		of system share same variable slots.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class CompiledXPolySystem {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Compiled polynomials of system
+	 */
+	private CompiledXPolynomial[] polynomials;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param index		Index of polynomial in system
+	 * @return the compiled polynomial
+	 */
+	public CompiledXPolynomial getCompiledXPoly(int index) {
+		return polynomials[index];
+	}
+
+	/**
+	 * @return the number of polynomials in system
+	 */
+	public int numOfPols() {
+		return polynomials.length;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param polynomials	Compiled polynomials
+	 */
+	private CompiledXPolySystem(CompiledXPolynomial[] polynomials) {
+		this.polynomials = polynomials;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that compiles passed in system of x-polynomials for instantiation
+	 * (see {@link #instantiate(double[])}).
+	 *
+	 * @param system		System to compile
+	 * @param variables		List of variables to be instantiated; index of variable
+	 * 						in this list is its slot in array of values
+	 * @return				Compiled system
+	 */
+	public static CompiledXPolySystem compileForInstantiation(XPolySystem system, Vector<UXVariable> variables) {
+		Map<Variable, Integer> slotMap = CompiledXPolynomial.makeSlotMap(variables);
+		CompiledXPolynomial[] polynomials = new CompiledXPolynomial[system.numOfPols()];
+
+		for (int ii = 0; ii < polynomials.length; ii++)
+			polynomials[ii] = CompiledXPolynomial.compileForInstantiation(system.getXPoly(ii), slotMap, variables.size());
+		return new CompiledXPolySystem(polynomials);
+	}
+
+	/**
+	 * Method that instantiates all polynomials of system compiled by
+	 * {@link #compileForInstantiation(XPolySystem, Vector)}. Powers of
+	 * values of variables are calculated once for whole system.
+	 *
+	 * @param values	Values of variables by their slots
+	 * @return			Instantiated system, or null in case of error
+	 */
+	public XPolySystem instantiate(double[] values) {
+		XPolySystem resXPSys = new XPolySystem();
+		double[][] powerCache = new double[values.length][];
+
+		for (int ii = 0; ii < this.polynomials.length; ii++) {
+			XPolynomial xp = this.polynomials[ii].instantiate(values, powerCache);
+
+			if (xp == null)
+				return null;
+			resXPSys.addXPoly(xp);
+		}
+		return resXPSys;
+	}
+}
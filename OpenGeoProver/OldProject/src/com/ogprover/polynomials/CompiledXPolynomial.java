@@ -0,0 +1,688 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Vector;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.Interval;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for x-polynomial compiled for fast numeric evaluation.
+ * 		Each variable of polynomial is assigned a slot in array of values
+ * 		and polynomial is flattened to array of instructions over these slots,
+ * 		so it can be evaluated many times for different values of variables
+ * 		without creation of any objects and without map lookups (as opposed to
+ * 		{@link XPolynomial#instantiateVariablesWithValues(Map)}).
+ * 		Polynomial can also be evaluated together with bound of its rounding
+ * 		error, for certified decision whether its value is non-zero; polynomials
+ * 		evaluated this way at fixed pseudo-random point (their compiled forms are
+ * 		kept by polynomials themselves) are used for quick decisions that two polynomials
+ * 		are different, before they are compared symbolically (e.g. when
+ * 		positions of points are matched with NDG conditions, see
+ * 		{@link PositionPolynomial}, or when polynomial is checked to be
+ * 		power of linear factor, see {@link XPolynomial#getLinearFactorOfPower(int)}).
+ * 		<br>
+ * 		Polynomial compiled for instantiation may contain variables without
+ * 		slots; these are kept in instantiated polynomial, while all other
+ * 		variables are replaced by their values (as in
+ * 		{@link XPolynomial#instantiateVariablesWithValues(Map)}, but values of
+ * 		powers of variables are calculated only once).
+ * 		Objects of this class are immutable and can be shared between threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class CompiledXPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Seed for fixed pseudo-random values of variables</b></i>
+	 */
+	public static final long RANDOM_POINT_SEED = 20273L;
+	/**
+	 * <i><b>Unit roundoff of double arithmetic</b></i>
+	 */
+	private static final double UNIT_ROUNDOFF = 0x1p-53;
+	/**
+	 * <i><b>Factor by which bound of error is enlarged after each operation, to cover
+	 * rounding errors made in calculation of bound itself</b></i>
+	 */
+	private static final double ERROR_BOUND_INFLATION = 1 + 0x1p-50;
+
+	/**
+	 * Instructions of compiled polynomial. For each x-term there are:
+	 * number of u-terms in numerator of its coefficient followed by these u-terms,
+	 * number of u-terms in denominator (zero when denominator is one) followed by
+	 * these u-terms, and number of x-powers followed by pairs (slot, exponent).
+	 * Each u-term is number of its powers followed by pairs (slot, exponent).
+	 * Power of variable without slot has negative slot -1-k, where k is
+	 * index of that power in array of kept powers.
+	 */
+	private int[] code;
+	/**
+	 * Coefficients of u-terms, in same order as u-terms appear in instructions
+	 */
+	private double[] coeffs;
+	/**
+	 * Powers of variables without slots, which are kept during instantiation
+	 */
+	private Power[] keptPowers;
+	/**
+	 * Number of x-terms of compiled polynomial
+	 */
+	private int numOfXTerms;
+	/**
+	 * Number of variable slots (length of array of values needed for evaluation)
+	 */
+	private int numOfSlots;
+	/**
+	 * Fixed pseudo-random values of variables by their slots, for polynomial compiled
+	 * by {@link #evaluateAtRandomPoint(XPolynomial)} (null for other polynomials)
+	 */
+	private double[] randomPointValues = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the number of variable slots
+	 */
+	public int getNumOfSlots() {
+		return numOfSlots;
+	}
+
+	/**
+	 * @return the number of x-terms of compiled polynomial
+	 */
+	public int getNumOfXTerms() {
+		return numOfXTerms;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param code			Instructions
+	 * @param coeffs		Coefficients of u-terms
+	 * @param keptPowers	Powers of variables without slots
+	 * @param numOfXTerms	Number of x-terms
+	 * @param numOfSlots	Number of variable slots
+	 */
+	private CompiledXPolynomial(int[] code, double[] coeffs, Power[] keptPowers, int numOfXTerms, int numOfSlots) {
+		this.code = code;
+		this.coeffs = coeffs;
+		this.keptPowers = keptPowers;
+		this.numOfXTerms = numOfXTerms;
+		this.numOfSlots = numOfSlots;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that makes map of variable slots.
+	 *
+	 * @param variables		List of variables; index of variable in this list is its slot
+	 * @return				Map from variables to their slots
+	 */
+	static Map<Variable, Integer> makeSlotMap(Vector<UXVariable> variables) {
+		Map<Variable, Integer> slotMap = new HashMap<Variable, Integer>();
+
+		for (int ii = 0, jj = variables.size(); ii < jj; ii++)
+			slotMap.put(variables.get(ii), Integer.valueOf(ii));
+		return slotMap;
+	}
+
+	/**
+	 * Method that retrieves fixed pseudo-random value of variable. Value depends
+	 * only on type and index of variable, so values of separately compiled
+	 * polynomials are their values at same point.
+	 *
+	 * @param var	Variable
+	 * @return		Value of variable, between 0.5 and 1.5
+	 */
+	public static double getRandomValue(Variable var) {
+		long code = 2 * var.getIndex() + var.getVariableType();
+
+		return 0.5 + new Random(RANDOM_POINT_SEED + code * 0x9E3779B97F4A7C15L).nextDouble();
+	}
+
+	/**
+	 * Method that evaluates passed in x-polynomial at point made of fixed
+	 * pseudo-random values of its variables (see {@link #getRandomValue(Variable)}).
+	 * Two polynomials are certainly different when difference of their values at
+	 * that point doesn't contain zero. Polynomial is compiled on first evaluation
+	 * and its compiled form is kept until its terms are changed.
+	 *
+	 * @param xpoly		X-polynomial
+	 * @return			Interval which certainly contains the value of polynomial at that point
+	 * @see #evaluateWithErrorBound(double[])
+	 */
+	public static Interval evaluateAtRandomPoint(XPolynomial xpoly) {
+		CompiledXPolynomial compiled = xpoly.getCompiledAtRandomPoint();
+
+		if (compiled == null) {
+			Map<Variable, Integer> slotMap = new HashMap<Variable, Integer>();
+			ArrayList<Double> valueList = new ArrayList<Double>();
+
+			for (Term t : xpoly.getTerms().values()) {
+				XTerm xt = (XTerm)t;
+
+				addRandomValues(xt, slotMap, valueList);
+				for (Term ut : xt.getUCoeff().getNumerator().getTerms().values())
+					addRandomValues(ut, slotMap, valueList);
+				if (xt.getUCoeff().getDenominator() != null) {
+					for (Term ut : xt.getUCoeff().getDenominator().getTerms().values())
+						addRandomValues(ut, slotMap, valueList);
+				}
+			}
+
+			double[] values = new double[valueList.size()];
+			for (int ii = 0; ii < values.length; ii++)
+				values[ii] = valueList.get(ii).doubleValue();
+			compiled = compile(xpoly, slotMap, values.length);
+			compiled.randomPointValues = values; // set before compiled polynomial is shared
+			xpoly.setCompiledAtRandomPoint(compiled);
+		}
+
+		return compiled.evaluateWithErrorBound(compiled.randomPointValues);
+	}
+
+	/**
+	 * Method that assigns slots and fixed pseudo-random values to variables of term
+	 * which don't have them yet.
+	 *
+	 * @param t				Term
+	 * @param slotMap		Map from variables to their slots
+	 * @param valueList		Values of variables by their slots
+	 */
+	private static void addRandomValues(Term t, Map<Variable, Integer> slotMap, ArrayList<Double> valueList) {
+		for (Power pow : t.getPowers()) {
+			Variable var = pow.getVariable();
+
+			if (!slotMap.containsKey(var)) {
+				slotMap.put(var, Integer.valueOf(valueList.size()));
+				valueList.add(Double.valueOf(getRandomValue(var)));
+			}
+		}
+	}
+
+	/**
+	 * Method that compiles passed in x-polynomial.
+	 *
+	 * @param xpoly			X-polynomial to compile
+	 * @param variables		List of variables; index of variable in this list is
+	 * 						its slot in array of values passed to {@link #evaluate(double[])}
+	 * @return				Compiled polynomial, or null in case of error (when polynomial
+	 * 						contains variable which is not in passed in list)
+	 */
+	public static CompiledXPolynomial compile(XPolynomial xpoly, Vector<UXVariable> variables) {
+		return compile(xpoly, makeSlotMap(variables), variables.size());
+	}
+
+	/**
+	 * Method that compiles passed in x-polynomial.
+	 *
+	 * @param xpoly			X-polynomial to compile
+	 * @param slotMap		Map from variables to their slots
+	 * @param numOfSlots	Number of slots
+	 * @return				Compiled polynomial, or null in case of error
+	 */
+	static CompiledXPolynomial compile(XPolynomial xpoly, Map<Variable, Integer> slotMap, int numOfSlots) {
+		return compile(xpoly, slotMap, numOfSlots, false);
+	}
+
+	/**
+	 * Method that compiles passed in x-polynomial for instantiation
+	 * (see {@link #instantiate(double[], double[])}).
+	 *
+	 * @param xpoly			X-polynomial to compile
+	 * @param slotMap		Map from variables to be instantiated to their slots
+	 * @param numOfSlots	Number of slots
+	 * @return				Compiled polynomial
+	 */
+	static CompiledXPolynomial compileForInstantiation(XPolynomial xpoly, Map<Variable, Integer> slotMap, int numOfSlots) {
+		return compile(xpoly, slotMap, numOfSlots, true);
+	}
+
+	/**
+	 * Method that compiles passed in x-polynomial.
+	 *
+	 * @param xpoly			X-polynomial to compile
+	 * @param slotMap		Map from variables to their slots
+	 * @param numOfSlots	Number of slots
+	 * @param bKeepPowers	True if powers of variables without slots are kept,
+	 * 						false if they are error
+	 * @return				Compiled polynomial, or null in case of error
+	 */
+	private static CompiledXPolynomial compile(XPolynomial xpoly, Map<Variable, Integer> slotMap, int numOfSlots, boolean bKeepPowers) {
+		ArrayList<Integer> codeList = new ArrayList<Integer>();
+		ArrayList<Double> coeffList = new ArrayList<Double>();
+		ArrayList<Power> keptList = bKeepPowers ? new ArrayList<Power>() : null;
+		int numOfXTerms = 0;
+
+		for (Term t : xpoly.getTermsAsDescList()) {
+			XTerm xt = (XTerm)t;
+			UFraction uCoeff = xt.getUCoeff();
+			UPolynomial uNum = uCoeff.getNumerator();
+			UPolynomial uDen = uCoeff.getDenominator();
+
+			// denominator equal to one is skipped; other denominators are kept as they are
+			// (not merged into numerator) so coefficients stay exact for certified evaluation
+			boolean bUnitDen = false;
+			if (uDen != null && uDen.getTerms().size() == 1) {
+				UTerm ut = (UTerm)uDen.getTerms().firstKey();
+				bUnitDen = ut.getPowers().size() == 0 && ut.getCoeff() == 1;
+			}
+
+			if (!compileUPolynomial(uNum, slotMap, codeList, coeffList, keptList))
+				return null;
+			if (bUnitDen || uDen == null)
+				codeList.add(Integer.valueOf(0));
+			else if (!compileUPolynomial(uDen, slotMap, codeList, coeffList, keptList))
+				return null;
+			if (!compilePowers(xt, slotMap, codeList, keptList))
+				return null;
+			numOfXTerms++;
+		}
+
+		int[] code = new int[codeList.size()];
+		for (int ii = 0; ii < code.length; ii++)
+			code[ii] = codeList.get(ii).intValue();
+		double[] coeffs = new double[coeffList.size()];
+		for (int ii = 0; ii < coeffs.length; ii++)
+			coeffs[ii] = coeffList.get(ii).doubleValue();
+		Power[] keptPowers = (keptList != null) ? keptList.toArray(new Power[keptList.size()]) : new Power[0];
+
+		return new CompiledXPolynomial(code, coeffs, keptPowers, numOfXTerms, numOfSlots);
+	}
+
+	/**
+	 * Method that appends instructions of u-polynomial.
+	 *
+	 * @param upoly			U-polynomial
+	 * @param slotMap		Map from variables to their slots
+	 * @param codeList		List of instructions
+	 * @param coeffList		List of coefficients
+	 * @param keptList		List of kept powers, or null if all variables must have slots
+	 * @return				True if successful, false otherwise
+	 */
+	private static boolean compileUPolynomial(UPolynomial upoly, Map<Variable, Integer> slotMap, ArrayList<Integer> codeList, ArrayList<Double> coeffList, ArrayList<Power> keptList) {
+		if (upoly == null) {
+			codeList.add(Integer.valueOf(0));
+			return true;
+		}
+
+		codeList.add(Integer.valueOf(upoly.getTerms().size()));
+		for (Term t : upoly.getTermsAsDescList()) {
+			coeffList.add(Double.valueOf(((UTerm)t).getCoeff()));
+			if (!compilePowers(t, slotMap, codeList, keptList))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that appends instructions for powers of term.
+	 *
+	 * @param t				Term
+	 * @param slotMap		Map from variables to their slots
+	 * @param codeList		List of instructions
+	 * @param keptList		List of kept powers, or null if all variables must have slots
+	 * @return				True if successful, false otherwise
+	 */
+	private static boolean compilePowers(Term t, Map<Variable, Integer> slotMap, ArrayList<Integer> codeList, ArrayList<Power> keptList) {
+		codeList.add(Integer.valueOf(t.getPowers().size()));
+		for (Power pow : t.getPowers()) {
+			Integer slot = slotMap.get(pow.getVariable());
+
+			if (slot == null && keptList != null) {
+				keptList.add(pow);
+				codeList.add(Integer.valueOf(-keptList.size())); // -1-k for k-th kept power
+				codeList.add(Integer.valueOf(pow.getExponent()));
+				continue;
+			}
+			if (slot == null) {
+				OpenGeoProver.settings.getLogger().error("Variable " + pow.getVariable().toString() + " has no slot - polynomial can't be compiled.");
+				return false;
+			}
+			codeList.add(slot);
+			codeList.add(Integer.valueOf(pow.getExponent()));
+		}
+		return true;
+	}
+
+	/**
+	 * Method that raises number to non-negative integer power by repeated squaring.
+	 *
+	 * @param base		Base
+	 * @param exp		Non-negative exponent
+	 * @return			Power of base
+	 */
+	private static double power(double base, int exp) {
+		double res = 1;
+
+		while (exp > 0) {
+			if ((exp & 1) != 0)
+				res *= base;
+			base *= base;
+			exp >>= 1;
+		}
+		return res;
+	}
+
+	/**
+	 * Method that evaluates compiled polynomial for passed in values of variables.
+	 * All variables of polynomial must have slots.
+	 *
+	 * @param values	Values of variables by their slots
+	 * @return			Value of polynomial
+	 */
+	public double evaluate(double[] values) {
+		int[] code = this.code;
+		double[] coeffs = this.coeffs;
+		int pc = 0, cc = 0;
+		double res = 0;
+
+		for (int ii = 0; ii < this.numOfXTerms; ii++) {
+			// coefficient of x-term - numerator and denominator
+			double num = 0;
+			for (int jj = 0, numOfUTerms = code[pc++]; jj < numOfUTerms; jj++) {
+				double ut = coeffs[cc++];
+				for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2)
+					ut *= power(values[code[pc]], code[pc + 1]);
+				num += ut;
+			}
+
+			double den = 0;
+			int numOfDenTerms = code[pc++];
+			if (numOfDenTerms == 0)
+				den = 1;
+			for (int jj = 0; jj < numOfDenTerms; jj++) {
+				double ut = coeffs[cc++];
+				for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2)
+					ut *= power(values[code[pc]], code[pc + 1]);
+				den += ut;
+			}
+
+			// x-powers
+			double xt = num / den;
+			for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2)
+				xt *= power(values[code[pc]], code[pc + 1]);
+			res += xt;
+		}
+
+		return res;
+	}
+
+	/**
+	 * Method that evaluates compiled polynomial for passed in values of variables,
+	 * together with bound of rounding error of calculated value (running error
+	 * analysis: each operation adds at most one unit roundoff of its result to
+	 * errors of its operands, which are propagated through it). Values of
+	 * variables and coefficients are taken as exact numbers; nothing is
+	 * created but the resulting interval. All variables of polynomial must have slots.
+	 *
+	 * @param values	Values of variables by their slots
+	 * @return			Interval which certainly contains the exact value of polynomial;
+	 * 					interval of all numbers when it can't be bounded (e.g. when
+	 * 					some denominator is too close to zero)
+	 */
+	public Interval evaluateWithErrorBound(double[] values) {
+		int[] code = this.code;
+		double[] coeffs = this.coeffs;
+		int pc = 0, cc = 0;
+		double res = 0, resErr = 0;
+
+		for (int ii = 0; ii < this.numOfXTerms; ii++) {
+			// coefficient of x-term - numerator and denominator
+			double num = 0, numErr = 0;
+			for (int jj = 0, numOfUTerms = code[pc++]; jj < numOfUTerms; jj++) {
+				double ut = coeffs[cc++], utErr = 0;
+				for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2) {
+					double val = values[code[pc]];
+					for (int exp = code[pc + 1]; exp > 0; exp--) {
+						ut *= val;
+						utErr = (utErr * Math.abs(val) + UNIT_ROUNDOFF * Math.abs(ut)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+					}
+				}
+				num += ut;
+				numErr = (numErr + utErr + UNIT_ROUNDOFF * Math.abs(num)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+			}
+
+			double den = 0, denErr = 0;
+			int numOfDenTerms = code[pc++];
+			if (numOfDenTerms == 0)
+				den = 1;
+			for (int jj = 0; jj < numOfDenTerms; jj++) {
+				double ut = coeffs[cc++], utErr = 0;
+				for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2) {
+					double val = values[code[pc]];
+					for (int exp = code[pc + 1]; exp > 0; exp--) {
+						ut *= val;
+						utErr = (utErr * Math.abs(val) + UNIT_ROUNDOFF * Math.abs(ut)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+					}
+				}
+				den += ut;
+				denErr = (denErr + utErr + UNIT_ROUNDOFF * Math.abs(den)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+			}
+
+			// denominator which can be zero makes value unbounded
+			if (!(Math.abs(den) > denErr))
+				return Interval.ENTIRE;
+			double xt = num / den;
+			double xtErr = ((numErr + Math.abs(xt) * denErr) / (Math.abs(den) - denErr) + UNIT_ROUNDOFF * Math.abs(xt)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+
+			// x-powers
+			for (int kk = 0, numOfPowers = code[pc++]; kk < numOfPowers; kk++, pc += 2) {
+				double val = values[code[pc]];
+				for (int exp = code[pc + 1]; exp > 0; exp--) {
+					xt *= val;
+					xtErr = (xtErr * Math.abs(val) + UNIT_ROUNDOFF * Math.abs(xt)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+				}
+			}
+			res += xt;
+			resErr = (resErr + xtErr + UNIT_ROUNDOFF * Math.abs(res)) * ERROR_BOUND_INFLATION + Double.MIN_VALUE;
+		}
+
+		if (Double.isInfinite(res) || Double.isNaN(res) || Double.isInfinite(resErr) || Double.isNaN(resErr))
+			return Interval.ENTIRE;
+		return new Interval(Math.nextDown(res - resErr), Math.nextUp(res + resErr));
+	}
+
+	/**
+	 * Method that calculates power of value of variable, using cache of
+	 * already calculated powers.
+	 *
+	 * @param values		Values of variables by their slots
+	 * @param powerCache	Calculated powers by slots and exponents
+	 * @param slot			Slot of variable
+	 * @param exp			Exponent
+	 * @return				Power of value of variable
+	 */
+	private static double powerOfValue(double[] values, double[][] powerCache, int slot, int exp) {
+		double[] slotPowers = powerCache[slot];
+
+		if (slotPowers == null || slotPowers.length <= exp) {
+			double[] newSlotPowers = new double[exp + 1];
+
+			Arrays.fill(newSlotPowers, Double.NaN);
+			if (slotPowers != null)
+				System.arraycopy(slotPowers, 0, newSlotPowers, 0, slotPowers.length);
+			slotPowers = newSlotPowers;
+			powerCache[slot] = slotPowers;
+		}
+		if (Double.isNaN(slotPowers[exp]))
+			slotPowers[exp] = Math.pow(values[slot], exp);
+		return slotPowers[exp];
+	}
+
+	/**
+	 * Method that examines whether u-polynomial from instructions contains only
+	 * variables with slots, so it becomes constant after instantiation.
+	 *
+	 * @param pc	Position of instructions of u-polynomial
+	 * @return		True if all variables of u-polynomial have slots, false otherwise
+	 */
+	private boolean isConstantAfterInstantiation(int pc) {
+		for (int jj = 0, numOfUTerms = this.code[pc++]; jj < numOfUTerms; jj++) {
+			for (int kk = 0, numOfPowers = this.code[pc++]; kk < numOfPowers; kk++, pc += 2) {
+				if (this.code[pc] < 0)
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method that instantiates u-polynomial from instructions.
+	 *
+	 * @param values		Values of variables by their slots
+	 * @param powerCache	Calculated powers by slots and exponents
+	 * @param pos			Positions of next instruction and next coefficient
+	 * @return				Instantiated u-polynomial
+	 */
+	private UPolynomial instantiateUPolynomial(double[] values, double[][] powerCache, int[] pos) {
+		UPolynomial upoly = new UPolynomial();
+
+		if (this.isConstantAfterInstantiation(pos[0])) {
+			// all variables are replaced by values - u-polynomial is evaluated
+			// in doubles and becomes single constant term
+			double val = 0;
+
+			for (int jj = 0, numOfUTerms = this.code[pos[0]++]; jj < numOfUTerms; jj++) {
+				double ut = this.coeffs[pos[1]++];
+
+				for (int kk = 0, numOfPowers = this.code[pos[0]++]; kk < numOfPowers; kk++, pos[0] += 2)
+					ut *= powerOfValue(values, powerCache, this.code[pos[0]], this.code[pos[0] + 1]);
+				val += ut;
+			}
+			upoly.addTerm(new UTerm(val));
+			return upoly;
+		}
+
+		for (int jj = 0, numOfUTerms = this.code[pos[0]++]; jj < numOfUTerms; jj++) {
+			UTerm ut = new UTerm(this.coeffs[pos[1]++]);
+			boolean bZero = false;
+
+			for (int kk = 0, numOfPowers = this.code[pos[0]++]; kk < numOfPowers; kk++, pos[0] += 2) {
+				int slot = this.code[pos[0]];
+
+				if (slot < 0)
+					ut.addPower(this.keptPowers[-1 - slot]);
+				else if (values[slot] == 0.0)
+					bZero = true;
+				else
+					ut.mul(powerOfValue(values, powerCache, slot, this.code[pos[0] + 1]));
+			}
+			upoly.addTerm(bZero ? new UTerm(0.0) : ut);
+		}
+		return upoly;
+	}
+
+	/**
+	 * Method that instantiates polynomial compiled by
+	 * {@link #compileForInstantiation(XPolynomial, Map, int)}, by replacing
+	 * variables with slots by their values.
+	 *
+	 * @param values		Values of variables by their slots
+	 * @param powerCache	Calculated powers by slots and exponents (array of length
+	 * 						equal to number of slots, which can be shared by
+	 * 						polynomials instantiated with same values)
+	 * @return				Instantiated x-polynomial, or null in case of error
+	 * 						(when denominator of some coefficient becomes zero)
+	 */
+	public XPolynomial instantiate(double[] values, double[][] powerCache) {
+		XPolynomial res = new XPolynomial();
+		int[] pos = {0, 0};
+
+		for (int ii = 0; ii < this.numOfXTerms; ii++) {
+			UPolynomial uNum = this.instantiateUPolynomial(values, powerCache, pos);
+			UPolynomial uDen = (this.code[pos[0]] == 0) ? new UPolynomial(1) : null;
+
+			if (uDen != null)
+				pos[0]++;
+			else
+				uDen = this.instantiateUPolynomial(values, powerCache, pos);
+			if (uDen.isZero()) {
+				OpenGeoProver.settings.getLogger().error("Failed instantiation of fraction - denominator is zero");
+				return null;
+			}
+
+			XTerm xt = new XTerm(uNum.isZero() ? new UFraction(uNum) : new UFraction(uNum, uDen));
+			boolean bZero = false;
+
+			for (int kk = 0, numOfPowers = this.code[pos[0]++]; kk < numOfPowers; kk++, pos[0] += 2) {
+				int slot = this.code[pos[0]];
+
+				if (slot < 0)
+					xt.addPower(this.keptPowers[-1 - slot]);
+				else if (values[slot] == 0.0)
+					bZero = true;
+				else
+					xt.mul(powerOfValue(values, powerCache, slot, this.code[pos[0] + 1]));
+			}
+			res.addTerm(bZero ? new XTerm(0.0) : xt);
+		}
+		return res;
+	}
+
+	/**
+	 * Method that makes array of values of variables by their slots.
+	 *
+	 * @param variables		List of variables used for compilation
+	 * @param varValuesMap	Map with variables' double values
+	 * @return				Array with values of variables, or null if some variable
+	 * 						has no value in passed in map
+	 */
+	public static double[] getSlotValues(Vector<UXVariable> variables, Map<UXVariable, Double> varValuesMap) {
+		double[] values = new double[variables.size()];
+
+		for (int ii = 0; ii < values.length; ii++) {
+			Double val = varValuesMap.get(variables.get(ii));
+
+			if (val == null) {
+				OpenGeoProver.settings.getLogger().error("Variable " + variables.get(ii).toString() + " has no value.");
+				return null;
+			}
+			values[ii] = val.doubleValue();
+		}
+		return values;
+	}
+}
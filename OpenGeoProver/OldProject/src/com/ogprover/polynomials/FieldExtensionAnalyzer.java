@@ -0,0 +1,489 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Vector;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for analysis of degrees of field extensions generated by
+ *     coordinates of points from triangular polynomial system of
+ *     RC-constructibility problem.
+ *     <br>
+ *     Each polynomial of triangular system introduces new x-variable
+ *     (its main variable) over field generated by previous ones, and
+ *     degree of that extension is at most degree of polynomial in its
+ *     main variable. Therefore, when all these degrees are 1 or 2, all
+ *     coordinates belong to tower of quadratic extensions and points are
+ *     RC-constructible.
+ *     <br>
+ *     Coordinate of point is RC-constructible only if degree of its minimal
+ *     polynomial is power of 2. When polynomial with coordinate of point to
+ *     construct as main variable contains no other x-variable, degrees of its
+ *     irreducible factors are bounded by factorization modulo several prime
+ *     numbers: u-variables are replaced by fixed numbers and instantiated
+ *     coefficients are reduced modulo prime number, and every irreducible
+ *     factor over rational numbers is product of some of irreducible factors
+ *     modulo prime number. If no factor can have degree which is power of 2,
+ *     point is not RC-constructible.
+ *     <br>
+ *     Analysis is done for symbolic triangular system, before coordinates of
+ *     free points are instantiated by their values, and its results are cached
+ *     per that system, so problems with same constructions are analyzed only
+ *     once. Polynomials are looked up in cache by their fingerprints (see
+ *     {@link XPolynomial#getFingerprint()}) and compared only when fingerprints
+ *     are same, so system is not printed.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class FieldExtensionAnalyzer {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Verdict of analysis: points are RC-constructible</b></i>
+	 */
+	public static final int RC_VERDICT_CONSTRUCTIBLE = 0;
+	/**
+	 * <i><b>Verdict of analysis: some point is not RC-constructible</b></i>
+	 */
+	public static final int RC_VERDICT_NOT_CONSTRUCTIBLE = 1;
+	/**
+	 * <i><b>Verdict of analysis: RC-constructibility cannot be decided from degrees</b></i>
+	 */
+	public static final int RC_VERDICT_UNKNOWN = 2;
+	/**
+	 * <i><b>Prime numbers used for factorization of polynomials</b></i>
+	 */
+	public static final long[] PRIMES = {2147483647L, 2147483629L, 2147483587L, 2147483579L, 2147483563L, 2147483549L, 2147483543L, 2147483497L};
+	/**
+	 * <i><b>Seed for values of u-variables modulo prime numbers</b></i>
+	 */
+	public static final long U_VALUES_SEED = 40503L;
+	/**
+	 * <i><b>Maximal number of analyzed systems in cache</b></i>
+	 */
+	public static final int CACHE_CAPACITY = 256;
+	/**
+	 * <i><b>Maximal total size of analyzed systems in cache (number of x-terms
+	 * and u-terms of their coefficients), since systems are kept by keys</b></i>
+	 */
+	public static final int CACHE_MAX_TERMS = 200000;
+
+	/**
+	 * Analyzed polynomial systems (least recently used is first)
+	 */
+	private static final LinkedHashMap<SystemKey, FieldExtensionAnalyzer> cache = new LinkedHashMap<SystemKey, FieldExtensionAnalyzer>(16, 0.75f, true); // access order
+	/**
+	 * Total size of systems in cache (it is guarded by lock of cache)
+	 */
+	private static int cachedTerms = 0;
+
+	/**
+	 * <dl>
+	 * <dt><b>Class description:</b></dt>
+	 * <dd>Key of analyzed polynomial system in cache - indices of x-variables
+	 *     of points to construct followed by fingerprints of polynomials, and
+	 *     polynomials themselves which are compared only when these codes
+	 *     are same.</dd>
+	 * </dl>
+	 */
+	private static class SystemKey {
+		/**
+		 * Indices of target x-variables and fingerprints of polynomials
+		 */
+		private long[] codes;
+		/**
+		 * Polynomial system
+		 */
+		private XPolySystem system;
+		/**
+		 * Size of polynomial system - number of its x-terms and u-terms
+		 */
+		private int numOfTerms;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param system			Polynomial system
+		 * @param targetIndices		Indices of x-variables of coordinates of points to construct
+		 */
+		public SystemKey(XPolySystem system, Vector<Long> targetIndices) {
+			int numOfTargets = targetIndices.size();
+
+			this.system = system;
+			this.codes = new long[numOfTargets + 1 + system.numOfPols()];
+			for (int ii = 0; ii < numOfTargets; ii++)
+				this.codes[ii] = targetIndices.get(ii).longValue();
+			this.codes[numOfTargets] = -1; // separator of targets and fingerprints
+			this.numOfTerms = 0;
+			for (int ii = 0, jj = system.numOfPols(); ii < jj; ii++) {
+				XPolynomial xpoly = system.getXPoly(ii);
+
+				this.codes[numOfTargets + 1 + ii] = xpoly.getFingerprint();
+				for (Term t : xpoly.getTerms().keySet()) {
+					UFraction uCoeff = ((XTerm)t).getUCoeff();
+
+					this.numOfTerms += 1 + uCoeff.getNumerator().getTerms().size();
+					if (uCoeff.getDenominator() != null)
+						this.numOfTerms += uCoeff.getDenominator().getTerms().size();
+				}
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.codes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SystemKey))
+				return false;
+
+			SystemKey key = (SystemKey)obj;
+
+			if (!Arrays.equals(this.codes, key.codes))
+				return false;
+			for (int ii = 0, jj = this.system.numOfPols(); ii < jj; ii++) {
+				if (!this.system.getXPoly(ii).equals(key.system.getXPoly(ii)))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Indices of main variables of polynomials
+	 */
+	private long[] mainVariables;
+	/**
+	 * Degrees of polynomials in their main variables
+	 */
+	private int[] degrees;
+	/**
+	 * For each polynomial, flags of possible degrees of its irreducible factors
+	 * (element with index k is true if factor of degree k is possible), or null
+	 * if degrees of factors haven't been calculated
+	 */
+	private boolean[][] possibleFactorDegrees;
+	/**
+	 * Verdict of analysis (one of RC_VERDICT_xxx values)
+	 */
+	private int verdict;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Verdict of analysis (one of RC_VERDICT_xxx values)
+	 */
+	public int getVerdict() {
+		return this.verdict;
+	}
+
+	/**
+	 * @return	Verdict of analysis as it is written in JSON result
+	 */
+	public String getVerdictText() {
+		switch (this.verdict) {
+		case FieldExtensionAnalyzer.RC_VERDICT_CONSTRUCTIBLE:
+			return "constructible";
+		case FieldExtensionAnalyzer.RC_VERDICT_NOT_CONSTRUCTIBLE:
+			return "not_constructible";
+		default:
+			return "unknown";
+		}
+	}
+
+	/**
+	 * @return	Number of analyzed polynomials
+	 */
+	public int getNumOfPols() {
+		return this.degrees.length;
+	}
+
+	/**
+	 * @param index		Index of polynomial in system
+	 * @return			Index of main variable of polynomial (0 if polynomial
+	 * 					has no x-variable)
+	 */
+	public long getMainVariable(int index) {
+		return this.mainVariables[index];
+	}
+
+	/**
+	 * @param index		Index of polynomial in system
+	 * @return			Degree of polynomial in its main variable
+	 */
+	public int getDegree(int index) {
+		return this.degrees[index];
+	}
+
+	/**
+	 * @param index		Index of polynomial in system
+	 * @return			Flags of possible degrees of irreducible factors of
+	 * 					polynomial, or null if they haven't been calculated
+	 */
+	public boolean[] getPossibleFactorDegrees(int index) {
+		return this.possibleFactorDegrees[index];
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - it analyzes the polynomial system
+	 *
+	 * @param system			Triangular polynomial system
+	 * @param targetVariables	Indices of x-variables of coordinates of points to construct
+	 */
+	private FieldExtensionAnalyzer(XPolySystem system, Vector<Long> targetVariables) {
+		int numOfPols = system.numOfPols();
+
+		this.mainVariables = new long[numOfPols];
+		this.degrees = new int[numOfPols];
+		this.possibleFactorDegrees = new boolean[numOfPols][];
+		this.verdict = FieldExtensionAnalyzer.RC_VERDICT_CONSTRUCTIBLE;
+
+		for (int ii = 0; ii < numOfPols; ii++) {
+			XPolynomial xpoly = system.getXPoly(ii);
+			long varIndex = FieldExtensionAnalyzer.findMainVariable(xpoly);
+
+			this.mainVariables[ii] = varIndex;
+			if (varIndex == 0)
+				continue;
+			this.degrees[ii] = xpoly.getLeadingExp((int)varIndex);
+			if (this.degrees[ii] <= 2)
+				continue;
+
+			if (this.verdict == FieldExtensionAnalyzer.RC_VERDICT_CONSTRUCTIBLE)
+				this.verdict = FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN;
+			if (!targetVariables.contains(Long.valueOf(varIndex)))
+				continue;
+
+			this.possibleFactorDegrees[ii] = FieldExtensionAnalyzer.findPossibleFactorDegrees(xpoly, varIndex, this.degrees[ii]);
+			if (this.possibleFactorDegrees[ii] != null && !FieldExtensionAnalyzer.hasPowerOfTwo(this.possibleFactorDegrees[ii]))
+				this.verdict = FieldExtensionAnalyzer.RC_VERDICT_NOT_CONSTRUCTIBLE;
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that analyzes degrees of field extensions of triangular polynomial
+	 * system, or retrieves results of analysis from cache if system with same
+	 * polynomials has already been analyzed.
+	 *
+	 * @param system			Symbolic triangular polynomial system (it must not be
+	 * 							changed after analysis since it is kept in cache)
+	 * @param targetVariables	X-variables of coordinates of points to construct
+	 * @return					Results of analysis
+	 */
+	public static FieldExtensionAnalyzer analyze(XPolySystem system, Vector<UXVariable> targetVariables) {
+		Vector<Long> targetIndices = new Vector<Long>();
+
+		for (UXVariable var : targetVariables) {
+			if (var.getVariableType() == Variable.VAR_TYPE_UX_X)
+				targetIndices.add(Long.valueOf(var.getIndex()));
+		}
+
+		SystemKey key = new SystemKey(system, targetIndices);
+		FieldExtensionAnalyzer analyzer;
+
+		synchronized (FieldExtensionAnalyzer.cache) {
+			analyzer = FieldExtensionAnalyzer.cache.get(key);
+		}
+		if (analyzer != null)
+			return analyzer;
+
+		// analyze without lock, so other threads are not blocked
+		analyzer = new FieldExtensionAnalyzer(system, targetIndices);
+
+		if (key.numOfTerms > FieldExtensionAnalyzer.CACHE_MAX_TERMS)
+			return analyzer; // too big to be kept
+
+		synchronized (FieldExtensionAnalyzer.cache) {
+			if (FieldExtensionAnalyzer.cache.put(key, analyzer) == null)
+				FieldExtensionAnalyzer.cachedTerms += key.numOfTerms;
+
+			// remove least recently used systems
+			Iterator<SystemKey> it = FieldExtensionAnalyzer.cache.keySet().iterator();
+
+			while (FieldExtensionAnalyzer.cache.size() > FieldExtensionAnalyzer.CACHE_CAPACITY ||
+				   FieldExtensionAnalyzer.cachedTerms > FieldExtensionAnalyzer.CACHE_MAX_TERMS) {
+				FieldExtensionAnalyzer.cachedTerms -= it.next().numOfTerms;
+				it.remove();
+			}
+		}
+		return analyzer;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that finds main variable of polynomial, i.e. x-variable with
+	 * greatest index.
+	 *
+	 * @param xpoly		Polynomial
+	 * @return			Index of main variable, or 0 if polynomial has no x-variable
+	 */
+	private static long findMainVariable(XPolynomial xpoly) {
+		long varIndex = 0;
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			for (Power pow : t.getPowers()) {
+				if (pow.getVarType() == Variable.VAR_TYPE_UX_X && pow.getIndex() > varIndex)
+					varIndex = pow.getIndex();
+			}
+		}
+		return varIndex;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that checks whether some of possible degrees is power of 2.
+	 *
+	 * @param possibleDegrees	Flags of possible degrees
+	 * @return					True if there is possible degree which is power of 2
+	 */
+	private static boolean hasPowerOfTwo(boolean[] possibleDegrees) {
+		for (int deg = 1; deg < possibleDegrees.length; deg *= 2) {
+			if (possibleDegrees[deg])
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that finds possible degrees of irreducible factors of polynomial
+	 * in single x-variable, by factorization modulo prime numbers.
+	 *
+	 * @param xpoly		Polynomial
+	 * @param varIndex	Index of x-variable of polynomial
+	 * @param degree	Degree of polynomial
+	 * @return			Flags of possible degrees of factors (intersection of
+	 * 					sums of degrees of factors modulo prime numbers), or null
+	 * 					if polynomial contains other x-variables or coefficients
+	 * 					which are not certainly exact, or if it couldn't be reduced
+	 * 					to square-free polynomial of same degree modulo any of
+	 * 					prime numbers
+	 */
+	private static boolean[] findPossibleFactorDegrees(XPolynomial xpoly, long varIndex, int degree) {
+		boolean[] possibleDegrees = null;
+
+		for (long prime : FieldExtensionAnalyzer.PRIMES) {
+			ModularPolynomial modPoly = FieldExtensionAnalyzer.reduceModPrime(xpoly, varIndex, degree, prime);
+
+			if (modPoly == null)
+				return null; // not polynomial in single variable or coefficients can't be reduced
+
+			if (modPoly.getDegree() != degree)
+				continue; // leading coefficient vanishes modulo this prime
+
+			Vector<Integer> factorDegrees = modPoly.getFactorDegrees();
+
+			if (factorDegrees == null)
+				continue;
+
+			// sums of degrees of subsets of factors
+			boolean[] sums = new boolean[degree + 1];
+
+			sums[0] = true;
+			for (Integer factorDeg : factorDegrees) {
+				for (int deg = degree; deg >= factorDeg.intValue(); deg--) {
+					if (sums[deg - factorDeg.intValue()])
+						sums[deg] = true;
+				}
+			}
+
+			if (possibleDegrees == null)
+				possibleDegrees = sums;
+			else {
+				for (int deg = 0; deg <= degree; deg++)
+					possibleDegrees[deg] = possibleDegrees[deg] && sums[deg];
+			}
+
+			if (factorDegrees.size() == 1)
+				break; // irreducible - degrees can't be reduced any more
+		}
+		return possibleDegrees;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces polynomial in single x-variable modulo prime number.
+	 * Each u-variable is replaced by fixed number determined by its index
+	 * (see {@link ModularPolynomial#getUValue(long, long, long)}).
+	 *
+	 * @param xpoly		Polynomial
+	 * @param varIndex	Index of x-variable of polynomial
+	 * @param degree	Degree of polynomial
+	 * @param prime		Prime number
+	 * @return			Reduced polynomial (its degree is less than degree of
+	 * 					polynomial if leading coefficient vanishes or if some
+	 * 					denominator vanishes), or null if polynomial contains
+	 * 					other x-variables or some coefficient is not certainly
+	 * 					exact (see {@link ModularPolynomial#valueOf(double, long)})
+	 */
+	private static ModularPolynomial reduceModPrime(XPolynomial xpoly, long varIndex, int degree, long prime) {
+		long[] coeffs = new long[degree + 1];
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			int exp = 0;
+
+			for (Power pow : t.getPowers()) {
+				if (pow.getVarType() != Variable.VAR_TYPE_UX_X)
+					continue;
+				if (pow.getIndex() != varIndex)
+					return null;
+				exp = pow.getExponent();
+			}
+
+			UFraction uCoeff = ((XTerm)t).getUCoeff();
+			long value = ModularPolynomial.valueOf(uCoeff, FieldExtensionAnalyzer.U_VALUES_SEED, prime);
+
+			if (value < 0) {
+				// coefficient which can't be reduced exactly modulo any prime gives no information
+				if (ModularPolynomial.valueOf(uCoeff.getDenominator(), FieldExtensionAnalyzer.U_VALUES_SEED, prime) != 0)
+					return null;
+				return new ModularPolynomial(new long[0], prime); // denominator vanishes modulo this prime
+			}
+
+			coeffs[exp] = (coeffs[exp] + value) % prime;
+		}
+		return new ModularPolynomial(coeffs, prime);
+	}
+}
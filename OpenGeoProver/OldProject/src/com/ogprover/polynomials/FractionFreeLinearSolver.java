@@ -0,0 +1,451 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Map;
+import java.util.Vector;
+
+import com.ogprover.main.OpenGeoProver;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for exact solving of system of hypotheses which is linear in
+ *     x-variables (each term contains at most one x-variable, with
+ *     exponent 1) and has as many polynomials as x-variables.
+ *     <br>
+ *     Denominators of u-fractions are cleared from each polynomial and
+ *     coefficients are scaled to integers, so system becomes matrix of
+ *     u-polynomials with integer coefficients. That matrix is reduced by
+ *     fraction-free Gauss-Jordan elimination (Bareiss algorithm), where
+ *     each division is exact, so at the end all elements of diagonal are
+ *     equal to determinant D of system and last column contains numerators
+ *     N<sub>i</sub> of solution x<sub>i</sub> = N<sub>i</sub> / D (Cramer's rule).
+ *     <br>
+ *     Statement is decided by substitution of solution into its polynomial,
+ *     multiplied by power of D and cleared of denominators. That is exact
+ *     replacement of Wu's final remainder: when D doesn't vanish (that is
+ *     NDG condition of proof), statement is consequence of hypotheses if and
+ *     only if obtained u-polynomial is zero.
+ *     <br>
+ *     Coefficients of u-polynomials are doubles, which are exact integers
+ *     only up to 2<sup>53</sup>, so solving is abandoned as soon as some
+ *     intermediate coefficient might exceed that bound.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class FractionFreeLinearSolver {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Bound of integers which are exactly represented by doubles (2^53)</b></i>
+	 */
+	private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+	/**
+	 * <i><b>Maximal number of binary digits after point in coefficients</b></i>
+	 */
+	private static final int MAX_FRACTION_BITS = 52;
+
+	/**
+	 * Map of indices of x-variables to their positions in solution
+	 */
+	private Map<Long, Integer> variablePositions;
+	/**
+	 * Determinant of system
+	 */
+	private UPolynomial determinant;
+	/**
+	 * Numerators of values of x-variables (in order of their positions)
+	 */
+	private UPolynomial[] numerators;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Determinant of system (denominator of all values of x-variables)
+	 */
+	public UPolynomial getDeterminant() {
+		return this.determinant;
+	}
+
+	/**
+	 * @param varIndex	Index of x-variable
+	 * @return			Numerator of value of x-variable, or null if
+	 * 					variable is not in system
+	 */
+	public UPolynomial getNumerator(long varIndex) {
+		Integer position = this.variablePositions.get(Long.valueOf(varIndex));
+
+		if (position == null)
+			return null;
+		return this.numerators[position.intValue()];
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param variablePositions		Map of indices of x-variables to their positions in solution
+	 * @param determinant			Determinant of system
+	 * @param numerators			Numerators of values of x-variables
+	 */
+	private FractionFreeLinearSolver(Map<Long, Integer> variablePositions, UPolynomial determinant, UPolynomial[] numerators) {
+		this.variablePositions = variablePositions;
+		this.determinant = determinant;
+		this.numerators = numerators;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that solves system of hypotheses.
+	 *
+	 * @param system	System of hypotheses
+	 * @return			Solver with solution of system, or null if system is
+	 * 					not linear in x-variables, if number of its polynomials
+	 * 					is different from number of x-variables, if some
+	 * 					coefficient is not exact, if system is singular, if
+	 * 					coefficients became too large for exact calculation
+	 * 					or if time for prover execution has been expired
+	 */
+	public static FractionFreeLinearSolver createSolver(XPolySystem system) {
+		Map<Long, Integer> variablePositions = ModularLinearSolver.findVariablePositions(system);
+
+		if (variablePositions == null)
+			return null;
+
+		int n = variablePositions.size();
+		UPolynomial[][] matrix = new UPolynomial[n][n + 1]; // last column is for constant terms
+
+		for (int ii = 0; ii < n; ii++) {
+			XPolynomial row = FractionFreeLinearSolver.clearDenominators(system.getXPoly(ii));
+
+			if (row == null)
+				return null;
+			for (int jj = 0; jj <= n; jj++)
+				matrix[ii][jj] = new UPolynomial();
+			for (Term t : row.getTerms().keySet()) {
+				UPolynomial value = (UPolynomial)((XTerm)t).getUCoeff().getNumerator().clone();
+				int col = n;
+
+				for (Power pow : t.getPowers())
+					col = variablePositions.get(Long.valueOf(pow.getIndex())).intValue();
+				if (col == n)
+					value.invert(); // constant term is moved to right side
+				matrix[ii][col].addPolynomial(value);
+			}
+		}
+
+		// Gauss-Jordan elimination without fractions - after step with pivot
+		// in column k, every element is minor of order k+1 of original matrix
+		UPolynomial prevPivot = new UPolynomial(1);
+
+		for (int col = 0; col < n; col++) {
+			int pivotRow = col;
+
+			while (pivotRow < n && matrix[pivotRow][col].isZero())
+				pivotRow++;
+			if (pivotRow == n)
+				return null; // singular system
+
+			UPolynomial[] tmp = matrix[pivotRow];
+			matrix[pivotRow] = matrix[col];
+			matrix[col] = tmp;
+
+			UPolynomial pivot = matrix[col][col];
+
+			for (int ii = 0; ii < n; ii++) {
+				if (ii == col)
+					continue;
+
+				UPolynomial factor = matrix[ii][col];
+
+				for (int jj = 0; jj <= n; jj++) {
+					if (jj == col || (matrix[ii][jj].isZero() && (factor.isZero() || matrix[col][jj].isZero())))
+						continue;
+
+					UPolynomial value = FractionFreeLinearSolver.subtract(FractionFreeLinearSolver.multiply(pivot, matrix[ii][jj]), FractionFreeLinearSolver.multiply(factor, matrix[col][jj]));
+
+					value = FractionFreeLinearSolver.divide(value, prevPivot);
+					if (value == null)
+						return null;
+					matrix[ii][jj] = value;
+				}
+				matrix[ii][col] = new UPolynomial();
+				if (OpenGeoProver.settings.getTimer().isTimeIsUp())
+					return null;
+			}
+			prevPivot = pivot;
+		}
+
+		UPolynomial[] numerators = new UPolynomial[n];
+
+		for (int ii = 0; ii < n; ii++)
+			numerators[ii] = matrix[ii][n];
+		return new FractionFreeLinearSolver(variablePositions, prevPivot, numerators);
+	}
+
+	/**
+	 * Method that substitutes solution of system into polynomial. Polynomial
+	 * is first multiplied by all distinct denominators of its coefficients
+	 * and by positive constant, and then by D<sup>d</sup>, where D is determinant
+	 * of system and d is maximal degree of terms of polynomial.
+	 *
+	 * @param xpoly		Polynomial
+	 * @return			U-polynomial which is zero if and only if polynomial vanishes
+	 * 					for solution of system, or null if it couldn't be calculated
+	 * 					(polynomial contains x-variable which is not in system,
+	 * 					some coefficient is not exact or coefficients became too
+	 * 					large for exact calculation)
+	 */
+	public UPolynomial substituteSolution(XPolynomial xpoly) {
+		XPolynomial clearedPoly = ModularLinearSolver.hasExactCoefficients(xpoly) ? FractionFreeLinearSolver.clearDenominators(xpoly) : null;
+
+		if (clearedPoly == null)
+			return null;
+
+		int maxDegree = 0;
+
+		for (Term t : clearedPoly.getTerms().keySet()) {
+			int degree = 0;
+
+			for (Power pow : t.getPowers()) {
+				if (!this.variablePositions.containsKey(Long.valueOf(pow.getIndex())))
+					return null;
+				degree += pow.getExponent();
+			}
+			if (degree > maxDegree)
+				maxDegree = degree;
+		}
+
+		// powers of determinant
+		UPolynomial[] detPowers = new UPolynomial[maxDegree + 1];
+
+		detPowers[0] = new UPolynomial(1);
+		for (int ii = 1; ii <= maxDegree; ii++) {
+			detPowers[ii] = FractionFreeLinearSolver.multiply(detPowers[ii - 1], this.determinant);
+			if (detPowers[ii] == null)
+				return null;
+		}
+
+		UPolynomial result = new UPolynomial();
+
+		for (Term t : clearedPoly.getTerms().keySet()) {
+			UPolynomial value = ((XTerm)t).getUCoeff().getNumerator();
+			int degree = 0;
+
+			for (Power pow : t.getPowers()) {
+				UPolynomial numerator = this.getNumerator(pow.getIndex());
+
+				for (int exp = 0; exp < pow.getExponent(); exp++)
+					value = FractionFreeLinearSolver.multiply(value, numerator);
+				degree += pow.getExponent();
+			}
+			// terms are subtracted, so result has opposite sign
+			value = FractionFreeLinearSolver.multiply(value, detPowers[maxDegree - degree]);
+			result = FractionFreeLinearSolver.subtract(result, value);
+			if (result == null || OpenGeoProver.settings.getTimer().isTimeIsUp())
+				return null;
+		}
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that clears denominators of x-polynomial - each term is
+	 * multiplied by all distinct denominators of other terms - and
+	 * multiplies it by power of 2, so all coefficients become integers.
+	 *
+	 * @param xpoly		Polynomial with exact coefficients
+	 * @return			Polynomial with same zeros whose u-fractions have
+	 * 					denominator 1 and integer coefficients, or null if
+	 * 					coefficients became too large for exact calculation
+	 */
+	private static XPolynomial clearDenominators(XPolynomial xpoly) {
+		Vector<UPolynomial> denominators = new Vector<UPolynomial>();
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			UPolynomial den = ((XTerm)t).getUCoeff().getDenominator();
+
+			if (!denominators.contains(den))
+				denominators.add(den);
+		}
+
+		XPolynomial clearedPoly = new XPolynomial();
+		int fractionBits = 0;
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			UFraction uf = ((XTerm)t).getUCoeff();
+			UPolynomial num = uf.getNumerator();
+
+			for (UPolynomial den : denominators) {
+				if (!den.equals(uf.getDenominator()))
+					num = FractionFreeLinearSolver.multiply(num, den);
+				if (num == null)
+					return null;
+			}
+			for (Term ut : num.getTerms().keySet()) {
+				double coeff = ((UTerm)ut).getCoeff();
+				int bits = 0;
+
+				while (bits <= FractionFreeLinearSolver.MAX_FRACTION_BITS && Math.scalb(coeff, bits) != Math.rint(Math.scalb(coeff, bits)))
+					bits++;
+				if (bits > fractionBits)
+					fractionBits = bits;
+			}
+
+			XTerm xt = new XTerm(new UFraction(num));
+
+			for (Power pow : t.getPowers())
+				xt.addPower(pow.clone());
+			clearedPoly.addTerm(xt);
+		}
+
+		if (fractionBits > FractionFreeLinearSolver.MAX_FRACTION_BITS)
+			return null;
+		for (Term t : clearedPoly.getTerms().keySet()) {
+			UPolynomial num = ((XTerm)t).getUCoeff().getNumerator();
+
+			num.multiplyByRealConstant(Math.scalb(1.0, fractionBits));
+			if (FractionFreeLinearSolver.maxAbsCoeff(num) >= FractionFreeLinearSolver.MAX_EXACT_INTEGER)
+				return null;
+		}
+		return clearedPoly;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates maximal absolute value of coefficients of u-polynomial.
+	 *
+	 * @param upoly		U-polynomial
+	 * @return			Maximal absolute value of coefficients (0 for zero polynomial)
+	 */
+	private static double maxAbsCoeff(UPolynomial upoly) {
+		double max = 0;
+
+		for (Term ut : upoly.getTerms().keySet())
+			max = Math.max(max, Math.abs(((UTerm)ut).getCoeff()));
+		return max;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that multiplies two u-polynomials with integer coefficients,
+	 * if all partial sums of product are exact.
+	 *
+	 * @param up1	First u-polynomial (it is not changed)
+	 * @param up2	Second u-polynomial (it is not changed)
+	 * @return		Product of u-polynomials, or null if some of them is null
+	 * 				or if product might not be exact
+	 */
+	private static UPolynomial multiply(UPolynomial up1, UPolynomial up2) {
+		if (up1 == null || up2 == null)
+			return null;
+
+		int numOfTerms = Math.min(up1.getTerms().size(), up2.getTerms().size());
+
+		if (FractionFreeLinearSolver.maxAbsCoeff(up1) * FractionFreeLinearSolver.maxAbsCoeff(up2) * numOfTerms >= FractionFreeLinearSolver.MAX_EXACT_INTEGER)
+			return null;
+		return (UPolynomial)((UPolynomial)up1.clone()).multiplyByPolynomial(up2);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that subtracts two u-polynomials with integer coefficients,
+	 * if difference is exact.
+	 *
+	 * @param up1	First u-polynomial (difference is stored in it)
+	 * @param up2	Second u-polynomial (it is not changed)
+	 * @return		Difference of u-polynomials, or null if some of them is null
+	 * 				or if difference might not be exact
+	 */
+	private static UPolynomial subtract(UPolynomial up1, UPolynomial up2) {
+		if (up1 == null || up2 == null)
+			return null;
+		if (FractionFreeLinearSolver.maxAbsCoeff(up1) + FractionFreeLinearSolver.maxAbsCoeff(up2) >= FractionFreeLinearSolver.MAX_EXACT_INTEGER)
+			return null;
+		return (UPolynomial)up1.subtractPolynomial(up2);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that divides u-polynomial with integer coefficients by its
+	 * divisor with integer coefficients, by repeated division of leading
+	 * terms. Dividend is reduced in place, so no intermediate remainders
+	 * are created; division by single term (e.g. by constant pivot) is done
+	 * term by term.
+	 *
+	 * @param dividend	Dividend (it is changed)
+	 * @param divisor	Non-zero divisor of dividend (it is not changed)
+	 * @return			Quotient, or null if dividend is null, if it is not
+	 * 					divisible by divisor or if calculation might not be exact
+	 */
+	private static UPolynomial divide(UPolynomial dividend, UPolynomial divisor) {
+		if (dividend == null)
+			return null;
+
+		UTerm leadingTerm = (UTerm)divisor.getLeadingTerm();
+
+		if (divisor.getTerms().size() == 1) {
+			for (Term t : dividend.getTerms().keySet()) {
+				if (!t.isDivisibleByTerm(leadingTerm) || ((UTerm)t).getCoeff() % leadingTerm.getCoeff() != 0)
+					return null;
+			}
+			return dividend.divideByTerm(leadingTerm);
+		}
+
+		UPolynomial quotient = new UPolynomial();
+		double divisorMaxCoeff = FractionFreeLinearSolver.maxAbsCoeff(divisor);
+
+		while (!dividend.isZero()) {
+			Term remLeadingTerm = dividend.getLeadingTerm();
+
+			if (!remLeadingTerm.isDivisibleByTerm(leadingTerm))
+				return null;
+
+			UTerm quotTerm = (UTerm)remLeadingTerm.clone().divide(leadingTerm);
+
+			if (quotTerm.getCoeff() != Math.rint(quotTerm.getCoeff()))
+				return null; // quotient of minors must have integer coefficients
+			if (divisorMaxCoeff * Math.abs(quotTerm.getCoeff()) + FractionFreeLinearSolver.maxAbsCoeff(dividend) >= FractionFreeLinearSolver.MAX_EXACT_INTEGER)
+				return null;
+
+			for (Term t : divisor.getTerms().keySet())
+				dividend.addTerm(t.clone().mul(quotTerm).invert());
+			quotient.addTerm(quotTerm);
+		}
+		return quotient;
+	}
+}
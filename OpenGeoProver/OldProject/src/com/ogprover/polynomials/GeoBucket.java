@@ -0,0 +1,355 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPTimer;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for accumulator of sum of many polynomials (geobucket).
+ *     <br>
+ *     Terms of sum are kept in buckets - sorted lists of terms where
+ *     bucket with index i can contain at most MIN_BUCKET_CAPACITY*4^i terms.
+ *     Polynomial is added to smallest bucket that can contain it, by linear
+ *     merging of two sorted lists; when bucket becomes too big it is merged
+ *     with next bucket, and so on. Therefore each term is merged only
+ *     logarithmic number of times and large sums are not added term by
+ *     term into tree of terms of polynomial. Buckets are merged into
+ *     resulting polynomial only when whole sum is collected.
+ *     <br>
+ *     Accumulator owns all terms in it - terms of added polynomials are
+ *     copied, while terms passed in one by one are not.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class GeoBucket {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Maximal number of terms in first bucket</b></i>
+	 */
+	public static final int MIN_BUCKET_CAPACITY = 4;
+
+	/**
+	 * Buckets with terms in ascending order (same as order in tree of terms
+	 * of polynomial); empty bucket is null
+	 */
+	private ArrayList<ArrayList<Term>> buckets = new ArrayList<ArrayList<Term>>();
+	/**
+	 * Timer which stops adding of products of polynomials when time is up;
+	 * null if adding of products is never stopped
+	 */
+	private OGPTimer timer = null;
+	/**
+	 * Timer of accumulator which is adding product in current thread. Accumulators
+	 * made meanwhile (for products of coefficients of terms, e.g. u-polynomials
+	 * multiplied in product of x-terms) get this timer too, since incomplete sum
+	 * of outer accumulator is discarded anyway.
+	 */
+	private static final ThreadLocal<OGPTimer> activeTimer = new ThreadLocal<OGPTimer>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that checks whether accumulator is empty. Note that accumulated
+	 * sum can be zero even if accumulator is not empty.
+	 *
+	 * @return	True if no term has been added since last retrieval of sum
+	 */
+	public boolean isEmpty() {
+		for (ArrayList<Term> bucket : this.buckets) {
+			if (bucket != null)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that sets timer which stops adding of products of polynomials
+	 * when time is up. Accumulated sum is then incomplete, so caller has to
+	 * check the timer and discard the sum.
+	 *
+	 * @param timer		Prover's timer, or null if adding can't be stopped
+	 */
+	public void setTimer(OGPTimer timer) {
+		this.timer = timer;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Default constructor method - accumulator made while other accumulator
+	 * adds product in same thread gets its timer.
+	 */
+	public GeoBucket() {
+		this.timer = GeoBucket.activeTimer.get();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that retrieves maximal number of terms of bucket.
+	 *
+	 * @param index		Index of bucket
+	 * @return			Capacity of bucket
+	 */
+	private static long getCapacity(int index) {
+		return ((long)GeoBucket.MIN_BUCKET_CAPACITY) << (2 * index);
+	}
+
+	/**
+	 * Method that merges two sorted lists of terms into new sorted list.
+	 * Equal terms are merged (first one is changed) and zero terms are
+	 * dropped.
+	 *
+	 * @param first		First list of terms in ascending order
+	 * @param second	Second list of terms in ascending order
+	 * @return			List with terms from both lists in ascending order
+	 */
+	private static ArrayList<Term> merge(ArrayList<Term> first, ArrayList<Term> second) {
+		int size1 = first.size(), size2 = second.size();
+		int ii = 0, jj = 0;
+		ArrayList<Term> result = new ArrayList<Term>(size1 + size2);
+
+		while (ii < size1 && jj < size2) {
+			Term t1 = first.get(ii);
+			Term t2 = second.get(jj);
+			int cmp = t1.compareTo(t2);
+
+			if (cmp < 0) {
+				result.add(t1);
+				ii++;
+			}
+			else if (cmp > 0) {
+				result.add(t2);
+				jj++;
+			}
+			else {
+				t1.merge(t2);
+				if (!t1.isZero())
+					result.add(t1);
+				ii++;
+				jj++;
+			}
+		}
+		while (ii < size1)
+			result.add(first.get(ii++));
+		while (jj < size2)
+			result.add(second.get(jj++));
+
+		return result;
+	}
+
+	/**
+	 * Method that adds sorted list of terms to buckets.
+	 *
+	 * @param sortedTerms	List of terms in ascending order, without equal terms
+	 */
+	private void addSortedTerms(ArrayList<Term> sortedTerms) {
+		int size = sortedTerms.size();
+
+		if (size == 0)
+			return;
+
+		// find first bucket which can contain all terms
+		int index = 0;
+		while (GeoBucket.getCapacity(index) < size)
+			index++;
+
+		ArrayList<Term> merged = sortedTerms;
+
+		while (true) {
+			while (this.buckets.size() <= index)
+				this.buckets.add(null);
+
+			ArrayList<Term> bucket = this.buckets.get(index);
+			if (bucket != null)
+				merged = GeoBucket.merge(bucket, merged);
+
+			if (merged.size() <= GeoBucket.getCapacity(index)) {
+				this.buckets.set(index, merged.isEmpty() ? null : merged);
+				return;
+			}
+
+			// bucket is too big - move its terms to next bucket
+			this.buckets.set(index, null);
+			index++;
+		}
+	}
+
+	/**
+	 * Method that adds term to accumulated sum. Term is not copied.
+	 *
+	 * @param t		Term to add
+	 */
+	public void addTerm(Term t) {
+		if (t == null) {
+			OpenGeoProver.settings.getLogger().error("Attempt to add null term.");
+			return;
+		}
+
+		if (t.isZero())
+			return;
+
+		ArrayList<Term> single = new ArrayList<Term>(1);
+		single.add(t);
+		this.addSortedTerms(single);
+	}
+
+	/**
+	 * Method that adds polynomial to accumulated sum.
+	 *
+	 * @param p		Polynomial to add
+	 */
+	public void addPolynomial(Polynomial p) {
+		ArrayList<Term> copy = new ArrayList<Term>(p.getTerms().size());
+
+		for (Term t : p.getTerms().values())
+			copy.add(t.clone());
+		this.addSortedTerms(copy);
+	}
+
+	/**
+	 * Method that adds product of polynomial and term to accumulated sum.
+	 * Multiplication by term keeps the order of terms of polynomial, hence
+	 * product is added as sorted list. Multiplication of single terms can
+	 * be expensive (product of x-terms multiplies their u-polynomial
+	 * coefficients), so it stops when timer of accumulator expires, and so do
+	 * accumulators of these products.
+	 *
+	 * @param p			Polynomial factor
+	 * @param t			Term factor
+	 * @param subtract	True if product is subtracted, false if it is added
+	 */
+	private void addProduct(Polynomial p, Term t, boolean subtract) {
+		ArrayList<Term> product = new ArrayList<Term>(p.getTerms().size());
+		OGPTimer outerTimer = GeoBucket.activeTimer.get();
+
+		if (this.timer != null)
+			GeoBucket.activeTimer.set(this.timer);
+		try {
+			for (Term pt : p.getTerms().values()) {
+				if (this.timer != null && this.timer.isTimeIsUp())
+					return;
+
+				Term prodTerm = pt.clone();
+
+				prodTerm.mul(t);
+				if (subtract)
+					prodTerm.invert();
+				if (!prodTerm.isZero())
+					product.add(prodTerm);
+			}
+		} finally {
+			if (this.timer != null)
+				GeoBucket.activeTimer.set(outerTimer);
+		}
+		this.addSortedTerms(product);
+	}
+
+	/**
+	 * Method that adds product of polynomial and term to accumulated sum.
+	 *
+	 * @param p		Polynomial factor
+	 * @param t		Term factor
+	 */
+	public void addProduct(Polynomial p, Term t) {
+		this.addProduct(p, t, false);
+	}
+
+	/**
+	 * Method that adds product of two polynomials to accumulated sum.
+	 * Product is added as sum of products of first polynomial
+	 * and terms of second polynomial; adding stops when timer
+	 * of accumulator expires.
+	 *
+	 * @param p		First factor
+	 * @param q		Second factor
+	 */
+	public void addProduct(Polynomial p, Polynomial q) {
+		for (Term t : q.getTerms().values()) {
+			if (this.timer != null && this.timer.isTimeIsUp())
+				return;
+			this.addProduct(p, t, false);
+		}
+	}
+
+	/**
+	 * Method that subtracts product of two polynomials from accumulated sum;
+	 * subtracting stops when timer of accumulator expires.
+	 *
+	 * @param p		First factor
+	 * @param q		Second factor
+	 */
+	public void subtractProduct(Polynomial p, Polynomial q) {
+		for (Term t : q.getTerms().values()) {
+			if (this.timer != null && this.timer.isTimeIsUp())
+				return;
+			this.addProduct(p, t, true);
+		}
+	}
+
+	/**
+	 * Method that merges all buckets and stores accumulated sum in
+	 * passed in polynomial, replacing its previous terms. After this
+	 * accumulator is empty and can be used for new sum.
+	 *
+	 * @param p		Polynomial that receives the sum
+	 * @return		Passed in polynomial
+	 */
+	public Polynomial writeTo(Polynomial p) {
+		ArrayList<Term> sum = null;
+
+		for (ArrayList<Term> bucket : this.buckets) {
+			if (bucket != null)
+				sum = (sum == null) ? bucket : GeoBucket.merge(sum, bucket);
+		}
+		this.buckets.clear();
+
+		p.terms = new TreeMap<Term, Term>();
+		p.termsCleared();
+		if (sum != null) {
+			for (Term t : sum) {
+				p.terms.put(t, t);
+				p.termAdded(t);
+			}
+		}
+
+		return p;
+	}
+}
@@ -277,6 +277,7 @@ public class GeoTheorem {
 			
 			for (Term xt2 : reducedLCPolyResidum.getTermsAsDescList())
 				((XTerm) xt2).getUCoeff().getNumerator().divideByTerm(commonUFactor);
+			reducedLCPolyResidum.coefficientsChanged(); // coefficients have been changed in place
 			
 			for (Power p : commonUFactor.getPowers()) {
 				// single u-variable: u_ik
@@ -289,16 +290,22 @@ public class GeoTheorem {
 				xp2.addTerm(xt2);
 				
 				// add this new polynomial to NDG conditions only if it is not there already
-				if (this.ndgConditions.getPolynomials() == null || !this.ndgConditions.getPolynomials().contains(xp2))
+				if (!this.ndgConditions.containsPolynomial(xp2))
 					this.ndgConditions.addXPoly(xp2);
 			}
 			
 			// add residual polynomial to NDG conditions only if it is not there already and if it is not equal to 1
 			if (!reducedLCPolyResidum.equals(one) && 
-				(this.ndgConditions.getPolynomials() == null || !this.ndgConditions.getPolynomials().contains(reducedLCPolyResidum)))
+				!this.ndgConditions.containsPolynomial(reducedLCPolyResidum))
 				this.ndgConditions.addXPoly(reducedLCPolyResidum);
 		}
 		
+		// factors removed from polynomials during triangulation are different from zero as well
+		for (XPolynomial removedFactor : this.hypotheses.getRemovedFactors()) {
+			if (!this.ndgConditions.containsPolynomial(removedFactor))
+				this.ndgConditions.addXPoly((XPolynomial)removedFactor.clone());
+		}
+		
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
@@ -0,0 +1,275 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for cache of instantiated conditions. Instantiated polynomial
+ *     depends only on template of condition and variables of coordinates of
+ *     points assigned to its slots, so it is stored under key made of these
+ *     (see {@link SymbolicPolynomialTemplate#makeInstantiationKey(UXVariable[])})
+ *     and reused whenever same condition is instantiated with same variables -
+ *     e.g. when various collections of points are tried for instantiation of
+ *     condition of a set of points, or when same position of points is
+ *     checked for several NDG conditions. Polynomial which is reduced by
+ *     division with u-terms is cached separately from the one which is not,
+ *     so reduction is also performed only once for same key.
+ *     <br>
+ *     Each construction protocol has its own cache, so cached polynomials
+ *     are released together with protocol.
+ *     <br>
+ *     Number of cached polynomials is limited; when limit is reached, least
+ *     recently used polynomial is removed from cache. Caller always gets its
+ *     own copy of polynomial, so it can change it. Cache can be shared by
+ *     threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class InstantiationCache {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Default maximal number of polynomials in cache</b></i>
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	/**
+	 * <i>
+	 * Class for key of instantiated polynomial in cache.
+	 * </i>
+	 */
+	private static class Key {
+		/**
+		 * Template of condition
+		 */
+		private SymbolicPolynomialTemplate template;
+		/**
+		 * Codes of coordinates of points assigned to slots of template
+		 */
+		private long[] coordinates;
+		/**
+		 * Flag which tells whether polynomial is reduced by u-term division
+		 */
+		private boolean reduced;
+		/**
+		 * Hash code of key
+		 */
+		private int hash;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param template		Template of condition
+		 * @param coordinates	Codes of coordinates of points assigned to slots
+		 * @param reduced		Flag which tells whether polynomial is reduced
+		 */
+		public Key(SymbolicPolynomialTemplate template, long[] coordinates, boolean reduced) {
+			this.template = template;
+			this.coordinates = coordinates;
+			this.reduced = reduced;
+			this.hash = 2 * (31 * System.identityHashCode(template) + Arrays.hashCode(coordinates)) + (reduced ? 1 : 0);
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+
+			Key key = (Key)obj;
+
+			return this.template == key.template && this.reduced == key.reduced && Arrays.equals(this.coordinates, key.coordinates);
+		}
+	}
+
+	/**
+	 * Cached polynomials in order of their use (least recently used is first)
+	 */
+	private LinkedHashMap<Key, XPolynomial> polynomials;
+	/**
+	 * Maximal number of polynomials in cache
+	 */
+	private int capacity;
+	/**
+	 * Number of instantiations found in cache
+	 */
+	private long numOfHits = 0;
+	/**
+	 * Number of instantiations not found in cache
+	 */
+	private long numOfMisses = 0;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of polynomials in cache
+	 */
+	public synchronized int size() {
+		return this.polynomials.size();
+	}
+
+	/**
+	 * @return	Number of instantiations found in cache
+	 */
+	public synchronized long getNumOfHits() {
+		return this.numOfHits;
+	}
+
+	/**
+	 * @return	Number of instantiations not found in cache
+	 */
+	public synchronized long getNumOfMisses() {
+		return this.numOfMisses;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param capacity	Maximal number of polynomials in cache
+	 */
+	public InstantiationCache(int capacity) {
+		this.capacity = capacity;
+		this.polynomials = new LinkedHashMap<Key, XPolynomial>(16, 0.75f, true); // access order
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that removes all polynomials from cache.
+	 */
+	public synchronized void clear() {
+		this.polynomials.clear();
+		this.numOfHits = 0;
+		this.numOfMisses = 0;
+	}
+
+	/**
+	 * Method that retrieves instantiated condition from cache, or instantiates
+	 * template and stores result in cache if it is not found there.
+	 *
+	 * @param template			Template of condition
+	 * @param pointCoordinates	Coordinates of points assigned to slots (as in
+	 * 							{@link SymbolicPolynomialTemplate#instantiate(UXVariable[])})
+	 * @return					Instantiated condition (copy owned by caller) or
+	 * 							null in case of error
+	 */
+	public XPolynomial instantiate(SymbolicPolynomialTemplate template, UXVariable[] pointCoordinates) {
+		return this.instantiate(template, pointCoordinates, false);
+	}
+
+	/**
+	 * Method that retrieves instantiated condition reduced by u-term division
+	 * from cache, or instantiates template, reduces polynomial and stores
+	 * result in cache if it is not found there.
+	 *
+	 * @param template			Template of condition
+	 * @param pointCoordinates	Coordinates of points assigned to slots (as in
+	 * 							{@link SymbolicPolynomialTemplate#instantiate(UXVariable[])})
+	 * @return					Instantiated and reduced condition (copy owned by
+	 * 							caller) or null in case of error
+	 * @see XPolynomial#reduceByUTermDivision()
+	 */
+	public XPolynomial instantiateReduced(SymbolicPolynomialTemplate template, UXVariable[] pointCoordinates) {
+		return this.instantiate(template, pointCoordinates, true);
+	}
+
+	/**
+	 * Method that retrieves instantiated condition from cache, or instantiates
+	 * template, reduces polynomial if required and stores result in cache if
+	 * it is not found there.
+	 *
+	 * @param template			Template of condition
+	 * @param pointCoordinates	Coordinates of points assigned to slots
+	 * @param reduce			Flag which tells whether polynomial is reduced
+	 * 							by u-term division
+	 * @return					Instantiated condition (copy owned by caller) or
+	 * 							null in case of error
+	 */
+	private XPolynomial instantiate(SymbolicPolynomialTemplate template, UXVariable[] pointCoordinates, boolean reduce) {
+		long[] coordinates = template.makeInstantiationKey(pointCoordinates);
+
+		if (coordinates == null)
+			return template.instantiate(pointCoordinates); // not cached - it will report the error
+
+		Key key = new Key(template, coordinates, reduce);
+		XPolynomial cachedPoly;
+
+		synchronized (this) {
+			cachedPoly = this.polynomials.get(key);
+			if (cachedPoly != null)
+				this.numOfHits++;
+			else
+				this.numOfMisses++;
+		}
+		if (cachedPoly != null)
+			return (XPolynomial)cachedPoly.clone();
+
+		// instantiate without lock, so other threads are not blocked
+		XPolynomial insPoly = template.instantiate(pointCoordinates);
+
+		if (insPoly != null && reduce)
+			insPoly = insPoly.reduceByUTermDivision();
+		if (insPoly == null)
+			return null;
+
+		XPolynomial polyToCache = (XPolynomial)insPoly.clone();
+
+		synchronized (this) {
+			this.polynomials.put(key, polyToCache);
+			if (this.polynomials.size() > this.capacity) {
+				Iterator<Key> it = this.polynomials.keySet().iterator();
+
+				it.next(); // least recently used
+				it.remove();
+			}
+		}
+		return insPoly;
+	}
+}
@@ -0,0 +1,299 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for solving of system of hypotheses which is linear in
+ *     x-variables (each term contains at most one x-variable, with
+ *     exponent 1) and has as many polynomials as x-variables.
+ *     <br>
+ *     System is solved by Gaussian elimination modulo prime number, with
+ *     u-variables replaced by their values modulo that prime number (see
+ *     {@link ModularPolynomial#getUValue(long, long, long)}), and solution
+ *     is substituted into polynomial of statement. Since solution of linear
+ *     system is unique whenever its determinant doesn't vanish, statement
+ *     which doesn't vanish for this solution is not consequence of hypotheses
+ *     (final remainder of Wu's method is not zero). When statement vanishes,
+ *     it only means that it is probably consequence of hypotheses, and that
+ *     is decided by exact solution of system (see {@link FractionFreeLinearSolver}).
+ *     <br>
+ *     Coefficients of polynomials must be exact binary fractions with small
+ *     denominators (like 0.5 for midpoints), since polynomials with
+ *     approximate real coefficients (e.g. sine of angle) vanish only up to
+ *     precision of calculation, which can't be checked modulo prime number.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ModularLinearSolver {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Prime numbers used for checks of statement</b></i>
+	 */
+	private static final long[] PRIMES = {2147483647L, 2147483629L, 2147483587L};
+	/**
+	 * <i><b>Seed for values of u-variables used in first check of statement</b></i>
+	 */
+	public static final long U_VALUES_SEED = 69621L;
+	/**
+	 * <i><b>Maximal denominator of exact coefficient</b></i>
+	 */
+	private static final double MAX_DENOMINATOR = 1024.0;
+
+	/**
+	 * System of hypotheses
+	 */
+	private XPolySystem system;
+	/**
+	 * Map of indices of x-variables to their positions in solution
+	 */
+	private Map<Long, Integer> variablePositions;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param system				System of hypotheses
+	 * @param variablePositions		Map of indices of x-variables to their positions in solution
+	 */
+	private ModularLinearSolver(XPolySystem system, Map<Long, Integer> variablePositions) {
+		this.system = system;
+		this.variablePositions = variablePositions;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates solver for system of hypotheses.
+	 *
+	 * @param system	System of hypotheses
+	 * @return			Solver for system, or null if system is not linear in
+	 * 					x-variables, if number of its polynomials is different
+	 * 					from number of x-variables or if some coefficient is
+	 * 					not exact
+	 */
+	public static ModularLinearSolver createSolver(XPolySystem system) {
+		Map<Long, Integer> variablePositions = ModularLinearSolver.findVariablePositions(system);
+
+		if (variablePositions == null)
+			return null;
+		return new ModularLinearSolver(system, variablePositions);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that assigns positions in solution to x-variables of linear
+	 * system of hypotheses.
+	 *
+	 * @param system	System of hypotheses
+	 * @return			Map of indices of x-variables to their positions in
+	 * 					solution (in order of their appearance), or null if
+	 * 					system is not linear in x-variables, if number of its
+	 * 					polynomials is different from number of x-variables
+	 * 					or if some coefficient is not exact
+	 */
+	static Map<Long, Integer> findVariablePositions(XPolySystem system) {
+		Map<Long, Integer> variablePositions = new HashMap<Long, Integer>();
+
+		for (int ii = 0, jj = system.numOfPols(); ii < jj; ii++) {
+			if (!ModularLinearSolver.hasExactCoefficients(system.getXPoly(ii)))
+				return null;
+			for (Term t : system.getXPoly(ii).getTerms().keySet()) {
+				Long varIndex = null;
+
+				for (Power pow : t.getPowers()) {
+					if (pow.getVarType() != Variable.VAR_TYPE_UX_X)
+						continue;
+					if (varIndex != null || pow.getExponent() > 1)
+						return null; // not linear term
+					varIndex = Long.valueOf(pow.getIndex());
+				}
+				if (varIndex != null && !variablePositions.containsKey(varIndex))
+					variablePositions.put(varIndex, Integer.valueOf(variablePositions.size()));
+			}
+		}
+
+		if (variablePositions.size() == 0 || variablePositions.size() != system.numOfPols())
+			return null;
+		return variablePositions;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that checks whether all coefficients of x-polynomial are exact
+	 * binary fractions with denominators not greater than {@link #MAX_DENOMINATOR}.
+	 *
+	 * @param xpoly		Polynomial
+	 * @return			True if all coefficients are exact, false otherwise
+	 */
+	static boolean hasExactCoefficients(XPolynomial xpoly) {
+		for (Term t : xpoly.getTerms().keySet()) {
+			UFraction uf = ((XTerm)t).getUCoeff();
+
+			for (UPolynomial upoly : new UPolynomial[] {uf.getNumerator(), uf.getDenominator()}) {
+				for (Term ut : upoly.getTerms().keySet()) {
+					double coeff = ((UTerm)ut).getCoeff() * ModularLinearSolver.MAX_DENOMINATOR;
+
+					if (Math.abs(coeff) >= 9007199254740992.0 || coeff != Math.rint(coeff))
+						return false; // approximate coefficient
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method that solves system of hypotheses modulo prime number.
+	 *
+	 * @param seed		Seed for values of u-variables
+	 * @param prime		Prime number less than 2^31
+	 * @return			Values of x-variables (in order of their positions), or
+	 * 					null if system couldn't be reduced or if it is singular
+	 * 					modulo prime number
+	 */
+	public long[] solve(long seed, long prime) {
+		int n = this.variablePositions.size();
+		long[][] matrix = new long[n][n + 1]; // last column is for constant terms
+
+		for (int ii = 0; ii < n; ii++) {
+			for (Term t : this.system.getXPoly(ii).getTerms().keySet()) {
+				long value = ModularPolynomial.valueOf(((XTerm)t).getUCoeff(), seed, prime);
+				int col = n;
+
+				if (value < 0)
+					return null;
+				for (Power pow : t.getPowers()) {
+					if (pow.getVarType() == Variable.VAR_TYPE_UX_X)
+						col = this.variablePositions.get(Long.valueOf(pow.getIndex())).intValue();
+				}
+				if (col == n)
+					value = ModularPolynomial.reduce(-value, prime); // constant term is moved to right side
+				matrix[ii][col] = (matrix[ii][col] + value) % prime;
+			}
+		}
+
+		// Gauss-Jordan elimination
+		for (int col = 0; col < n; col++) {
+			int pivotRow = col;
+
+			while (pivotRow < n && matrix[pivotRow][col] == 0)
+				pivotRow++;
+			if (pivotRow == n)
+				return null; // singular system
+
+			long[] tmp = matrix[pivotRow];
+			matrix[pivotRow] = matrix[col];
+			matrix[col] = tmp;
+
+			long invPivot = ModularPolynomial.inverse(matrix[col][col], prime);
+
+			for (int jj = col; jj <= n; jj++)
+				matrix[col][jj] = matrix[col][jj] * invPivot % prime;
+			for (int ii = 0; ii < n; ii++) {
+				long factor = matrix[ii][col];
+
+				if (ii == col || factor == 0)
+					continue;
+				for (int jj = col; jj <= n; jj++)
+					matrix[ii][jj] = ModularPolynomial.reduce(matrix[ii][jj] - factor * matrix[col][jj], prime);
+			}
+		}
+
+		long[] solution = new long[n];
+
+		for (int ii = 0; ii < n; ii++)
+			solution[ii] = matrix[ii][n];
+		return solution;
+	}
+
+	/**
+	 * Method that evaluates polynomial for solution of system of hypotheses.
+	 *
+	 * @param xpoly		Polynomial
+	 * @param solution	Solution of system, obtained by {@link #solve(long, long)}
+	 * 					with same seed and prime number
+	 * @param seed		Seed for values of u-variables
+	 * @param prime		Prime number
+	 * @return			Value of polynomial modulo prime number, or -1 if it
+	 * 					couldn't be evaluated (polynomial contains x-variable
+	 * 					which is not in system or coefficient couldn't be reduced)
+	 */
+	public long evaluate(XPolynomial xpoly, long[] solution, long seed, long prime) {
+		long result = 0;
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			long value = ModularPolynomial.valueOf(((XTerm)t).getUCoeff(), seed, prime);
+
+			if (value < 0)
+				return -1;
+			for (Power pow : t.getPowers()) {
+				if (pow.getVarType() != Variable.VAR_TYPE_UX_X)
+					continue;
+
+				Integer position = this.variablePositions.get(Long.valueOf(pow.getIndex()));
+
+				if (position == null)
+					return -1;
+				value = value * ModularPolynomial.power(solution[position.intValue()], pow.getExponent(), prime) % prime;
+			}
+			result = (result + value) % prime;
+		}
+		return result;
+	}
+
+	/**
+	 * Method that checks whether statement is refuted by solutions of
+	 * system of hypotheses. Statement is refuted if it doesn't vanish for
+	 * solutions obtained for all used prime numbers and values of
+	 * u-variables.
+	 *
+	 * @param statement		Polynomial of statement
+	 * @return				True if statement is refuted, false if it vanishes
+	 * 						for some solution or if some check couldn't be done
+	 */
+	public boolean isStatementRefuted(XPolynomial statement) {
+		if (!ModularLinearSolver.hasExactCoefficients(statement))
+			return false;
+		for (int ii = 0; ii < ModularLinearSolver.PRIMES.length; ii++) {
+			long prime = ModularLinearSolver.PRIMES[ii];
+			long seed = ModularLinearSolver.U_VALUES_SEED + ii;
+			long[] solution = this.solve(seed, prime);
+
+			if (solution == null || this.evaluate(statement, solution, seed, prime) <= 0)
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,529 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Vector;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for univariate polynomial with coefficients from finite field
+ *     of integers modulo prime number. Prime number must be less than
+ *     2^31, so product of two coefficients fits in long number.
+ *     <br>
+ *     Coefficients are stored in array, from constant coefficient to
+ *     leading coefficient, and objects of this class are immutable - all
+ *     operations create new polynomials.
+ *     <br>
+ *     Class also contains methods for reduction of coefficients of
+ *     x-polynomials modulo prime number.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ModularPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Bound of integers which are exactly represented by doubles (2^53)</b></i>
+	 */
+	private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+	/**
+	 * <i><b>Maximal number of significant binary digits of fractional number
+	 * which is taken as exact (results of rounding use all 53 digits)</b></i>
+	 */
+	private static final int MAX_FRACTION_SIGNIFICANT_BITS = 26;
+
+	/**
+	 * Coefficients of polynomial - element with index i is coefficient of x^i;
+	 * leading coefficient is non-zero (zero polynomial has no coefficients)
+	 */
+	private long[] coeffs;
+	/**
+	 * Prime number - modulus of coefficients
+	 */
+	private long prime;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Prime number - modulus of coefficients
+	 */
+	public long getPrime() {
+		return this.prime;
+	}
+
+	/**
+	 * @return	Degree of polynomial (-1 for zero polynomial)
+	 */
+	public int getDegree() {
+		return this.coeffs.length - 1;
+	}
+
+	/**
+	 * @param exp	Exponent of variable
+	 * @return		Coefficient of variable with given exponent
+	 */
+	public long getCoefficient(int exp) {
+		return (exp < this.coeffs.length) ? this.coeffs[exp] : 0;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param coeffs	Coefficients of polynomial, from constant coefficient
+	 * 					to leading one (they are reduced modulo prime number)
+	 * @param prime		Prime number less than 2^31
+	 */
+	public ModularPolynomial(long[] coeffs, long prime) {
+		this.prime = prime;
+
+		int deg = coeffs.length - 1;
+		long[] reducedCoeffs = new long[coeffs.length];
+
+		for (int ii = 0; ii <= deg; ii++)
+			reducedCoeffs[ii] = ModularPolynomial.reduce(coeffs[ii], prime);
+		while (deg >= 0 && reducedCoeffs[deg] == 0)
+			deg--;
+
+		this.coeffs = new long[deg + 1];
+		System.arraycopy(reducedCoeffs, 0, this.coeffs, 0, deg + 1);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces number modulo prime number.
+	 *
+	 * @param a		Number
+	 * @param prime	Prime number
+	 * @return		Number from interval [0, prime) congruent to a
+	 */
+	public static long reduce(long a, long prime) {
+		long r = a % prime;
+
+		return (r < 0) ? r + prime : r;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates power of number modulo prime number.
+	 *
+	 * @param a		Number from interval [0, prime)
+	 * @param exp	Non-negative exponent
+	 * @param prime	Prime number
+	 * @return		a^exp modulo prime number
+	 */
+	public static long power(long a, long exp, long prime) {
+		long result = 1, base = a;
+
+		while (exp > 0) {
+			if ((exp & 1) != 0)
+				result = result * base % prime;
+			base = base * base % prime;
+			exp >>= 1;
+		}
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates inverse of number modulo prime number.
+	 *
+	 * @param a		Non-zero number from interval [0, prime)
+	 * @param prime	Prime number
+	 * @return		Inverse of a modulo prime number
+	 */
+	public static long inverse(long a, long prime) {
+		return ModularPolynomial.power(a, prime - 2, prime); // Fermat's little theorem
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves value of u-variable modulo prime number. Value
+	 * is non-zero number determined by index of variable and by seed, so
+	 * different seeds give different points for evaluation of u-polynomials.
+	 *
+	 * @param index	Index of u-variable
+	 * @param seed	Seed for values of u-variables
+	 * @param prime	Prime number
+	 * @return		Value of u-variable modulo prime number
+	 */
+	public static long getUValue(long index, long seed, long prime) {
+		long value = ModularPolynomial.reduce(index * 2654435761L + seed, prime);
+
+		return (value == 0) ? 1 : value;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces real number modulo prime number. Only numbers which
+	 * are certainly exact are reduced: integers less than 2^53 by absolute
+	 * value and fractions of form m/2^k with short numerator m. Greater
+	 * integers may have been rounded, and fractions whose binary digits fill
+	 * whole mantissa are usually rounded results of division (e.g. coefficients
+	 * divided by leading coefficient), so reducing them as they are could
+	 * give residue of different rational number.
+	 *
+	 * @param d			Real number
+	 * @param prime		Prime number (different from 2)
+	 * @return			Reduced number, or -1 if number is not finite or
+	 * 					it is not certainly exact
+	 */
+	public static long valueOf(double d, long prime) {
+		if (Double.isNaN(d) || Double.isInfinite(d) || Math.abs(d) >= ModularPolynomial.MAX_EXACT_INTEGER)
+			return -1;
+
+		int k = 0;
+
+		while (d != Math.rint(d)) {
+			d *= 2;
+			k++;
+		}
+
+		if (k > 0 && Math.abs(d) >= (double)(1L << ModularPolynomial.MAX_FRACTION_SIGNIFICANT_BITS))
+			return -1; // fraction is probably result of rounding
+
+		long numerator = ModularPolynomial.reduce((long)d, prime);
+
+		return numerator * ModularPolynomial.power(ModularPolynomial.inverse(2, prime), k, prime) % prime;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces u-polynomial modulo prime number, with u-variables
+	 * replaced by their values modulo prime number.
+	 *
+	 * @param upoly		U-polynomial
+	 * @param seed		Seed for values of u-variables (see {@link #getUValue(long, long, long)})
+	 * @param prime		Prime number
+	 * @return			Value of polynomial modulo prime number, or -1 if some
+	 * 					coefficient is not finite or it is not certainly exact
+	 */
+	public static long valueOf(UPolynomial upoly, long seed, long prime) {
+		long result = 0;
+
+		for (Term t : upoly.getTerms().keySet()) {
+			long value = ModularPolynomial.valueOf(((UTerm)t).getCoeff(), prime);
+
+			if (value < 0)
+				return -1;
+
+			for (Power pow : t.getPowers())
+				value = value * ModularPolynomial.power(ModularPolynomial.getUValue(pow.getIndex(), seed, prime), pow.getExponent(), prime) % prime;
+			result = (result + value) % prime;
+		}
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces u-fraction modulo prime number, with u-variables
+	 * replaced by their values modulo prime number.
+	 *
+	 * @param uf		U-fraction
+	 * @param seed		Seed for values of u-variables (see {@link #getUValue(long, long, long)})
+	 * @param prime		Prime number
+	 * @return			Value of fraction modulo prime number, or -1 if some
+	 * 					coefficient is not finite or it is not certainly exact,
+	 * 					or if denominator vanishes
+	 */
+	public static long valueOf(UFraction uf, long seed, long prime) {
+		long num = ModularPolynomial.valueOf(uf.getNumerator(), seed, prime);
+		long den = ModularPolynomial.valueOf(uf.getDenominator(), seed, prime);
+
+		if (num < 0 || den <= 0)
+			return -1;
+		return num * ModularPolynomial.inverse(den, prime) % prime;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces x-polynomial modulo prime number as polynomial in
+	 * single x-variable. U-variables and all other x-variables are replaced by
+	 * their values modulo prime number; x-variable gets value of u-variable with
+	 * same index for seed increased by one (see {@link #getUValue(long, long, long)}).
+	 *
+	 * @param xpoly		X-polynomial
+	 * @param varIndex	Index of x-variable of reduced polynomial
+	 * @param degree	Degree of x-polynomial in that variable
+	 * @param seed		Seed for values of variables
+	 * @param prime		Prime number
+	 * @return			Reduced polynomial (its degree is less than degree of x-polynomial
+	 * 					if leading coefficient vanishes; it is zero polynomial if some
+	 * 					denominator vanishes), or null if some coefficient is not
+	 * 					certainly exact (see {@link #valueOf(double, long)})
+	 */
+	public static ModularPolynomial reduceXPolynomial(XPolynomial xpoly, int varIndex, int degree, long seed, long prime) {
+		long[] coeffs = new long[degree + 1];
+
+		for (Term t : xpoly.getTerms().keySet()) {
+			UFraction uCoeff = ((XTerm)t).getUCoeff();
+			long value = ModularPolynomial.valueOf(uCoeff, seed, prime);
+
+			if (value < 0) {
+				if (ModularPolynomial.valueOf(uCoeff.getDenominator(), seed, prime) != 0)
+					return null;
+				return new ModularPolynomial(new long[0], prime); // denominator vanishes modulo this prime
+			}
+
+			int exp = 0;
+
+			for (Power pow : t.getPowers()) {
+				if (pow.getIndex() == varIndex)
+					exp = pow.getExponent();
+				else
+					value = value * ModularPolynomial.power(ModularPolynomial.getUValue(pow.getIndex(), seed + 1, prime), pow.getExponent(), prime) % prime;
+			}
+			coeffs[exp] = (coeffs[exp] + value) % prime;
+		}
+		return new ModularPolynomial(coeffs, prime);
+	}
+
+	/**
+	 * @return	True if this is zero polynomial, false otherwise
+	 */
+	public boolean isZero() {
+		return this.coeffs.length == 0;
+	}
+
+	/**
+	 * Method that subtracts polynomial from this polynomial.
+	 *
+	 * @param p		Polynomial to subtract
+	 * @return		Difference of polynomials
+	 */
+	public ModularPolynomial subtract(ModularPolynomial p) {
+		long[] result = new long[Math.max(this.coeffs.length, p.coeffs.length)];
+
+		for (int ii = 0; ii < result.length; ii++)
+			result[ii] = this.getCoefficient(ii) - p.getCoefficient(ii) + this.prime;
+		return new ModularPolynomial(result, this.prime);
+	}
+
+	/**
+	 * Method that multiplies this polynomial by another polynomial.
+	 *
+	 * @param p		Polynomial to multiply with
+	 * @return		Product of polynomials
+	 */
+	public ModularPolynomial multiply(ModularPolynomial p) {
+		if (this.isZero() || p.isZero())
+			return new ModularPolynomial(new long[0], this.prime);
+
+		long[] result = new long[this.coeffs.length + p.coeffs.length - 1];
+
+		for (int ii = 0; ii < this.coeffs.length; ii++) {
+			if (this.coeffs[ii] == 0)
+				continue;
+			for (int jj = 0; jj < p.coeffs.length; jj++)
+				result[ii + jj] = (result[ii + jj] + this.coeffs[ii] * p.coeffs[jj]) % this.prime;
+		}
+		return new ModularPolynomial(result, this.prime);
+	}
+
+	/**
+	 * Method that divides this polynomial by non-zero polynomial.
+	 *
+	 * @param p			Divisor
+	 * @param quotient	Return argument - quotient of division is stored
+	 * 					in its first element (it can be null if quotient
+	 * 					is not needed)
+	 * @return			Remainder of division
+	 */
+	private ModularPolynomial divide(ModularPolynomial p, ModularPolynomial[] quotient) {
+		int degP = p.getDegree();
+		long[] rem = this.coeffs.clone();
+		long[] quot = new long[Math.max(rem.length - degP, 0)];
+		long invLead = ModularPolynomial.inverse(p.coeffs[degP], this.prime);
+
+		for (int ii = rem.length - 1; ii >= degP; ii--) {
+			if (rem[ii] == 0)
+				continue;
+
+			long factor = rem[ii] * invLead % this.prime;
+
+			quot[ii - degP] = factor;
+			for (int jj = 0; jj <= degP; jj++)
+				rem[ii - degP + jj] = ModularPolynomial.reduce(rem[ii - degP + jj] - factor * p.coeffs[jj], this.prime);
+		}
+
+		if (quotient != null)
+			quotient[0] = new ModularPolynomial(quot, this.prime);
+
+		long[] result = new long[Math.min(rem.length, degP)];
+
+		System.arraycopy(rem, 0, result, 0, result.length);
+		return new ModularPolynomial(result, this.prime);
+	}
+
+	/**
+	 * Method that calculates remainder of division of this polynomial
+	 * by non-zero polynomial.
+	 *
+	 * @param p		Divisor
+	 * @return		Remainder of division
+	 */
+	public ModularPolynomial remainder(ModularPolynomial p) {
+		return this.divide(p, null);
+	}
+
+	/**
+	 * Method that calculates quotient of division of this polynomial
+	 * by non-zero polynomial.
+	 *
+	 * @param p		Divisor
+	 * @return		Quotient of division
+	 */
+	public ModularPolynomial quotient(ModularPolynomial p) {
+		ModularPolynomial[] quotient = new ModularPolynomial[1];
+
+		this.divide(p, quotient);
+		return quotient[0];
+	}
+
+	/**
+	 * Method that calculates derivative of this polynomial.
+	 *
+	 * @return	Derivative of polynomial
+	 */
+	public ModularPolynomial derivative() {
+		long[] result = new long[Math.max(this.coeffs.length - 1, 0)];
+
+		for (int ii = 0; ii < result.length; ii++)
+			result[ii] = this.coeffs[ii + 1] * ((ii + 1) % this.prime) % this.prime;
+		return new ModularPolynomial(result, this.prime);
+	}
+
+	/**
+	 * Method that calculates monic polynomial with same roots as this one.
+	 *
+	 * @return	Monic polynomial (or zero polynomial if this polynomial is zero)
+	 */
+	public ModularPolynomial monic() {
+		if (this.isZero())
+			return this;
+
+		long invLead = ModularPolynomial.inverse(this.coeffs[this.coeffs.length - 1], this.prime);
+		long[] result = new long[this.coeffs.length];
+
+		for (int ii = 0; ii < result.length; ii++)
+			result[ii] = this.coeffs[ii] * invLead % this.prime;
+		return new ModularPolynomial(result, this.prime);
+	}
+
+	/**
+	 * Method that calculates greatest common divisor of this and another polynomial.
+	 *
+	 * @param p		Another polynomial
+	 * @return		Monic greatest common divisor of polynomials
+	 */
+	public ModularPolynomial gcd(ModularPolynomial p) {
+		ModularPolynomial a = this, b = p;
+
+		while (!b.isZero()) {
+			ModularPolynomial r = a.remainder(b);
+
+			a = b;
+			b = r;
+		}
+		return a.monic();
+	}
+
+	/**
+	 * Method that calculates power of this polynomial modulo another polynomial.
+	 *
+	 * @param exp	Non-negative exponent
+	 * @param mod	Non-zero modulus polynomial
+	 * @return		This polynomial raised to exponent, modulo given polynomial
+	 */
+	public ModularPolynomial powerMod(long exp, ModularPolynomial mod) {
+		ModularPolynomial result = new ModularPolynomial(new long[] {1}, this.prime).remainder(mod);
+		ModularPolynomial base = this.remainder(mod);
+
+		while (exp > 0) {
+			if ((exp & 1) != 0)
+				result = result.multiply(base).remainder(mod);
+			base = base.multiply(base).remainder(mod);
+			exp >>= 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Method that checks whether this polynomial is square-free,
+	 * i.e. whether it has no multiple irreducible factors.
+	 *
+	 * @return	True if polynomial is square-free, false otherwise
+	 */
+	public boolean isSquareFree() {
+		return this.getDegree() > 0 && this.gcd(this.derivative()).getDegree() == 0;
+	}
+
+	/**
+	 * Method that calculates degrees of irreducible factors of this
+	 * polynomial by distinct-degree factorization.
+	 *
+	 * @return	Degrees of irreducible factors (one element per factor, in
+	 * 			ascending order), or null if polynomial is not square-free
+	 */
+	public Vector<Integer> getFactorDegrees() {
+		if (!this.isSquareFree())
+			return null;
+
+		Vector<Integer> degrees = new Vector<Integer>();
+		ModularPolynomial x = new ModularPolynomial(new long[] {0, 1}, this.prime);
+		ModularPolynomial rest = this.monic();
+		ModularPolynomial h = x;
+
+		for (int k = 1; 2 * k <= rest.getDegree(); k++) {
+			h = h.powerMod(this.prime, rest); // h = x^(p^k) mod rest
+
+			// product of all irreducible factors of degree k
+			ModularPolynomial g = rest.gcd(h.subtract(x));
+
+			if (g.getDegree() > 0) {
+				for (int ii = g.getDegree() / k; ii > 0; ii--)
+					degrees.add(Integer.valueOf(k));
+				rest = rest.quotient(g);
+				h = h.remainder(rest);
+			}
+		}
+		if (rest.getDegree() > 0)
+			degrees.add(Integer.valueOf(rest.getDegree()));
+
+		return degrees;
+	}
+}
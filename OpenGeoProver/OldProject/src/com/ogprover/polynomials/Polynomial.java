@@ -6,6 +6,7 @@ package com.ogprover.polynomials;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.TreeMap;
 import java.util.concurrent.ExecutorService;
@@ -118,13 +119,9 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * 				List contains references to objects from original tree of terms.
 	 */
 	public ArrayList<Term> getTermsAsDescList(){
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
-		Iterator<Term> termIT = col.iterator();
-		ArrayList<Term> list = new ArrayList<Term>();
+		ArrayList<Term> list = new ArrayList<Term>(this.terms.values()); // all values from tree in ascending order
 		
-		while (termIT.hasNext())
-			list.add(0, termIT.next()); // add at the beginning of list
-
+		Collections.reverse(list);
 		return list;
 	}
 	
@@ -186,23 +183,21 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		This polynomial, which is result of operation
 	 */
 	public final Polynomial addTerm(Term t) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		
 		if (t == null) {
-			logger.error("Attempt to add null term.");
+			OpenGeoProver.settings.getLogger().error("Attempt to add null term.");
 			return null;
 		}
 		
 		if ((this.getType() == Polynomial.POLY_TYPE_UPOLY && t.getType() != Term.TERM_TYPE_UTERM) ||
 			(this.getType() == Polynomial.POLY_TYPE_XPOLY && t.getType() != Term.TERM_TYPE_XTERM) ||
 			(this.getType() == Polynomial.POLY_TYPE_SYMBOLIC && t.getType() != Term.TERM_TYPE_SYMBOLIC)) {
-			logger.error("Attempt to add term of another type.");
+			OpenGeoProver.settings.getLogger().error("Attempt to add term of another type.");
 			return null;
 		}
 		
 		// don't add zero term to collection
 		if (t.isZero() == true) {
-			logger.warn("Zero term is not added to collection.");
+			OpenGeoProver.settings.getLogger().warnRateLimited("Zero term is not added to collection.");
 			return this;
 		}
 		
@@ -210,12 +205,17 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		
 		if (tFromTree == null) { // this is a brand new term
 			this.terms.put(t, t);
+			this.termAdded(t);
 		}
 		else {
 			tFromTree.merge(t); // merging existing term with new term
 			// if became zero, remove from collection
-			if (tFromTree.isZero() == true)
+			if (tFromTree.isZero() == true) {
 				this.terms.remove(tFromTree);
+				this.termRemoved(tFromTree);
+			}
+			else
+				this.coefficientsChanged();
 		}
 		
 		return this;
@@ -298,6 +298,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (d > -OGPConstants.EPSILON && d < OGPConstants.EPSILON) {
 			// multiplication by zero - therefore new polynomial is zero
 			this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+			this.termsChanged();
 		}
 		else {
 			// multiply each term by real constant
@@ -308,6 +309,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 				// update this term in tree
 				termIT.next().mul(d);
 			}
+			this.coefficientsChanged();
 		}
 		
 		return this;
@@ -351,6 +353,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 				termIT.next().mul(t);
 			}
 		}
+		this.termsChanged();
 		
 		return this;
 	}
@@ -388,39 +391,15 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (this.isZero())
 			return this;
 		
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
-		Iterator<Term> termIT = col.iterator();
-		Collection<Term> colP = p.getTerms().values(); // all values from tree in ascending order
-		Iterator<Term> termITP = colP.iterator();
-		
-		//long numIterations = 0; // used for better memory management
+		// Product is sum of products of passed in polynomial and terms of this
+		// polynomial; these partial products are collected in geobucket, since
+		// some other two factors can produce same product so terms must be merged.
+		// If passed in polynomial is zero constant - result is zero polynomial.
+		GeoBucket product = new GeoBucket();
 		
-		// if passed in polynomial is zero constant - result is zero polynomial
-		this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
-		if (p.isZero() == false) {
-			while (termIT.hasNext()) {
-				Term curr = termIT.next();
-
-				while (termITP.hasNext()){
-					//numIterations++; // used for better memory management
-					
-					Term currP = termITP.next().clone();
-					currP.mul(curr);
-					this.addTerm(currP); // must use addTerm() method instead of put
-					 					 // because some other two factors can produce
-					 					 // same product so these terms must be merged
-					/*
-					currP = null;
-					
-					if (numIterations > 1000) {
-						Runtime.getRuntime().gc();
-						numIterations = 0;
-					}
-					*/ // used for better memory management
-				}
-				termITP = colP.iterator();
-			}
-		}
+		if (p.isZero() == false)
+			product.addProduct(p, this); // p could be this polynomial - it is changed only at the end
+		product.writeTo(this);
 		
 		return this;
 	}
@@ -477,6 +456,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		
 		// if passed in polynomial is zero constant - result is zero polynomial
 		this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+		this.termsChanged();
 		Polynomial localStorage = this.clone();
 		
 		if (p.isZero() == false) {
@@ -515,10 +495,60 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		while (termIT.hasNext()) { 
 			termIT.next().invert(); // updates original term with its inverted version
 		}
+		this.coefficientsChanged();
 		
 		return this;
 	}
 	
+	/**
+	 * Method which is called whenever terms of this polynomial are changed
+	 * by some method of polynomial, so that data derived from terms can be
+	 * discarded. Default implementation does nothing.
+	 */
+	protected void termsChanged() {
+	}
+	
+	/**
+	 * Method which is called when new term is put to tree of terms of this
+	 * polynomial, so that data derived from terms can be updated.
+	 * Default implementation calls {@link #termsChanged()}.
+	 * 
+	 * @param t		Added term
+	 */
+	protected void termAdded(Term t) {
+		this.termsChanged();
+	}
+	
+	/**
+	 * Method which is called when term is removed from tree of terms of this
+	 * polynomial, so that data derived from terms can be updated.
+	 * Default implementation calls {@link #termsChanged()}.
+	 * 
+	 * @param t		Removed term
+	 */
+	protected void termRemoved(Term t) {
+		this.termsChanged();
+	}
+	
+	/**
+	 * Method which is called when only coefficients of terms of this polynomial
+	 * are changed (their powers are same). Default implementation calls
+	 * {@link #termsChanged()}.
+	 */
+	protected void coefficientsChanged() {
+		this.termsChanged();
+	}
+	
+	/**
+	 * Method which is called when tree of terms of this polynomial is replaced
+	 * by empty tree which is then filled term by term (each added term is
+	 * reported by {@link #termAdded(Term)}). Default implementation calls
+	 * {@link #termsChanged()}.
+	 */
+	protected void termsCleared() {
+		this.termsChanged();
+	}
+	
 	/**
 	 * <b>[final method]</b><br>
 	 * Method that gives leading term of this polynomial.
@@ -0,0 +1,200 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Vector;
+
+import com.ogprover.utilities.Interval;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for x-polynomial which is algebraic form of specific position
+ * 		of some points, prepared for matching with polynomial forms of NDG
+ * 		conditions. Reduction of position polynomial and extraction of its
+ * 		u-factor are done only once, when object is created, and matching
+ * 		uses fingerprints of polynomials (see {@link XPolynomial#getFingerprint()})
+ * 		and their values at fixed pseudo-random point, evaluated in interval
+ * 		arithmetic (see {@link CompiledXPolynomial#evaluateAtRandomPoint(XPolynomial)}),
+ * 		so full comparison of polynomials is done only for polynomials with
+ * 		same fingerprints whose values may be equal. Therefore same position
+ * 		polynomial can be cheaply matched against many NDG conditions.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class PositionPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Polynomials made of single u-variables from common u-factor of position polynomial
+	 */
+	private Vector<XPolynomial> uFactorPolys = null;
+	/**
+	 * Fingerprints of polynomials made of single u-variables
+	 */
+	private long[] uFactorFingerprints = null;
+	/**
+	 * Residual polynomial - position polynomial divided by its common u-factor
+	 */
+	private XPolynomial residum = null;
+	/**
+	 * Fingerprint of residual polynomial
+	 */
+	private long residumFingerprint = 0;
+	/**
+	 * Flag which determines whether residual polynomial has constant denominators
+	 */
+	private boolean residumHasConstDen = false;
+	/**
+	 * Value of residual polynomial at fixed pseudo-random point
+	 */
+	private Interval residumValue = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param positionPoly	X-polynomial which represents algebraic form of specific
+	 * 						position of some points (it is not changed)
+	 */
+	public PositionPolynomial(XPolynomial positionPoly) {
+		// If position polynomial is zero, it cannot match polynomial form of NDG condition
+		// since that polynomial is non-zero
+		if (positionPoly == null || positionPoly.isZero())
+			return;
+
+		XPolynomial reducedPoly = ((XPolynomial) positionPoly.clone()).reduceUTerms(false);
+		if (reducedPoly == null)
+			return;
+
+		// Calculate u factor of position polynomial
+		UTerm posPolyUFactor = null;
+
+		for (Term t : reducedPoly.getTermsAsDescList()) {
+			XTerm xt = (XTerm)t;
+
+			for (Term ut : xt.getUCoeff().getNumerator().getTermsAsDescList()) {
+				if (posPolyUFactor == null) {
+					posPolyUFactor = (UTerm)ut.clone();
+					posPolyUFactor.setCoeff(1);
+				}
+				else
+					posPolyUFactor.gcd(ut);
+			}
+		}
+
+		// Calculate residual polynomial for position polynomial
+		this.residum = (XPolynomial) reducedPoly.clone();
+
+		for (Term xt : this.residum.getTermsAsDescList())
+			((XTerm) xt).getUCoeff().getNumerator().divideByTerm(posPolyUFactor);
+		this.residum.coefficientsChanged(); // coefficients have been changed in place
+		this.residumFingerprint = this.residum.getFingerprint();
+		this.residumHasConstDen = this.residum.hasConstantDenominators();
+		this.residumValue = CompiledXPolynomial.evaluateAtRandomPoint(this.residum);
+
+		// Polynomials of single u-variables
+		this.uFactorPolys = new Vector<XPolynomial>();
+		this.uFactorFingerprints = new long[posPolyUFactor.getPowers().size()];
+
+		for (Power p : posPolyUFactor.getPowers()) {
+			UPolynomial up = new UPolynomial();
+			UTerm ut = new UTerm(1);
+			ut.addPower(p.clone());
+			up.addTerm(ut);
+			XTerm xt = new XTerm(new UFraction(up));
+			XPolynomial xp = new XPolynomial();
+			xp.addTerm(xt);
+			this.uFactorFingerprints[this.uFactorPolys.size()] = xp.getFingerprint();
+			this.uFactorPolys.add(xp);
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that checks if this position polynomial matches passed in polynomial
+	 * which is algebraic form of some NDG condition.
+	 *
+	 * @param ndgcPoly	Polynomial form of NDG condition - non-zero polynomial which is
+	 * 					reduced by u-term division (removed sufficient u-terms)
+	 * @param ndgcValue	Value of polynomial form of NDG condition at fixed pseudo-random
+	 * 					point (see {@link CompiledXPolynomial#evaluateAtRandomPoint(XPolynomial)}),
+	 * 					or null if values of polynomials are not to be compared
+	 * @return			True if this polynomial corresponds to passed in polynomial
+	 * 					form of NDG condition.
+	 */
+	public boolean matches(XPolynomial ndgcPoly, Interval ndgcValue) {
+		if (this.residum == null)
+			return false;
+
+		boolean ndgcHasConstDen = ndgcPoly.hasConstantDenominators();
+		long ndgcFingerprint = ndgcPoly.getFingerprint();
+
+		/*
+		 * Each single u-variable and residual polynomial should be compared
+		 * with polynomial for NDGC. If any of these polynomials is equal to
+		 * polynomial form of NDGC, that means that in certain occasions this
+		 * position can generate specified degenerative condition.
+		 * Polynomials of single u-variables have constant denominators, so
+		 * they can't be equal to NDGC polynomial with constant denominators
+		 * and different fingerprint.
+		 */
+		for (int ii = 0, jj = this.uFactorPolys.size(); ii < jj; ii++) {
+			if (ndgcHasConstDen && ndgcFingerprint != this.uFactorFingerprints[ii])
+				continue;
+			if (this.uFactorPolys.get(ii).equals(ndgcPoly))
+				return true; // found a match
+		}
+
+		// special case - if NDGC polynomial is single term polynomial, check whether position polynomial is divisible by it
+		if (ndgcPoly.getTerms().size() == 1) {
+			boolean bDivisible = true;
+			Term singleTerm = ndgcPoly.getTerms().firstKey();
+
+			for (Term xt : this.residum.getTerms().values()) {
+				if (!xt.isDivisibleByTerm(singleTerm)) {
+					bDivisible = false;
+					break;
+				}
+			}
+
+			if (bDivisible)
+				return true;
+		}
+
+		if (ndgcHasConstDen && this.residumHasConstDen && ndgcFingerprint != this.residumFingerprint)
+			return false;
+		// polynomials are compared only when difference of their values may be zero
+		if (ndgcValue != null && this.residumValue.subtract(ndgcValue).signum() != 0)
+			return false;
+		return this.residum.equals(ndgcPoly);
+	}
+}
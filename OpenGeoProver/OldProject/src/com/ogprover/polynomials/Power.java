@@ -9,7 +9,11 @@ import com.ogprover.main.OpenGeoProver;
 /**
  * <dl>
  * <dt><b>Class description:</b></dt>
- * <dd>Class for powers of variables</dd>
+ * <dd>Class for powers of variables. Power is immutable object - operations
+ *     that change exponent create new power. Therefore one power can be shared
+ *     by many terms and it is never copied. Variable of power is always 
+ *     interned (when it is possible) and powers of interned variables with 
+ *     small exponents are cached and retrieved by getInstance() method.</dd>
  * </dl>
  * 
  * @version 1.00
@@ -30,16 +34,20 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 * </b></i>
 	 */
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Maximal exponent of cached power</b></i>
+	 */
+	public static final int MAX_CACHED_EXPONENT = 8;
 	/**
 	 * Variable of this power
 	 */
-	protected Variable variable;
+	protected final Variable variable;
 	/**
 	 * Exponent of power (e.g. (x_2)^7 has exponent 7; (u_5)^3 has exponent 3 etc.);
 	 * this value theoretically can be any integer, but only objects with positive 
 	 * exponents will be kept in memory
 	 */
-	protected int exponent;
+	protected final int exponent;
 	
 	
 	/*
@@ -47,14 +55,6 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 * ========================== GETTERS/SETTERS ===========================
 	 * ======================================================================
 	 */
-	/**
-	 * Method that sets the variable to power
-	 * 
-	 * @param variable The variable to set
-	 */
-	public void setVariable(Variable variable) {
-		this.variable = variable;
-	}
 	/**
 	 * Method that retrieves power's variable
 	 * 
@@ -63,14 +63,6 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	public Variable getVariable() {
 		return variable;
 	}
-	/**
-	 * Method that sets exponent
-	 * 
-	 * @param exponent	Exponent to set
-	 */
-	public void setExponent(int exponent) {
-		this.exponent = exponent;
-	}
 	/**
 	 * Method that gets exponent
 	 * 
@@ -109,7 +101,7 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 * @param exponent	Exponent of power
 	 */
 	public Power(Variable var, int exponent) {
-		this.variable = var;
+		this.variable = var.intern();
 		this.exponent = exponent;
 	}
 	
@@ -122,12 +114,31 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 */
 	public Power(short varType, long index, int exponent) {
 		if (varType == Variable.VAR_TYPE_UX_U || varType == Variable.VAR_TYPE_UX_X)
-			this.variable = new UXVariable(varType, index);
+			this.variable = UXVariable.getInstance(varType, index);
 		else if (varType == Variable.VAR_TYPE_SYMB_X || varType == Variable.VAR_TYPE_SYMB_Y)
 			this.variable = new SymbolicVariable(varType, index);
+		else
+			this.variable = null;
 		this.exponent = exponent;
 	}
 	
+	/**
+	 * Method that retrieves power of variable with specified exponent.
+	 * Powers of interned variables with exponents up to MAX_CACHED_EXPONENT
+	 * are shared, other powers are created.
+	 * 
+	 * @param var		Variable of power
+	 * @param exponent	Exponent of power
+	 * @return			Power of variable
+	 */
+	public static Power getInstance(Variable var, int exponent) {
+		Variable internedVar = var.intern();
+		
+		if (exponent < 1 || exponent > Power.MAX_CACHED_EXPONENT || !internedVar.isInterned())
+			return new Power(internedVar, exponent);
+		return internedVar.getCachedPower(exponent);
+	}
+	
 	
 	/*
 	 * ======================================================================
@@ -135,14 +146,12 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 * ======================================================================
 	 */
 	/**
-	 * Clone method
+	 * Clone method - since power is immutable, it is not copied
 	 * 
 	 * @see java.lang.Object#clone()
 	 */
 	public Power clone(){
-		Power p = new Power(this.variable.clone(), this.exponent);
-		
-		return p;
+		return this;
 	}
 	
 	/**
@@ -230,7 +239,8 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 * of exponents of two multipliers
 	 * 
 	 * @param p		The Power multiplier
-	 * @return		Current power object after multiplication	
+	 * @return		Power which is result of multiplication (current
+	 * 				power if variables are not same)
 	 */
 	public Power mul(Power p){
 		if (p == null) {
@@ -238,23 +248,33 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 			return null;
 		}
 		
-		if (this.getVarType() == p.getVarType() && this.getIndex() == p.getIndex()) {
-			this.exponent += p.getExponent();
-		}
+		if (this.getVarType() == p.getVarType() && this.getIndex() == p.getIndex())
+			return Power.getInstance(this.variable, this.exponent + p.getExponent());
 		
 		return this;
 	}
 	
 	/**
-	 * Increments exponent of power;
-	 * value of argument can be any integer, but
-	 * special care is taken in caller functions
-	 * when resulting exponent is not positive
+	 * Method that retrieves power of same variable with incremented
+	 * exponent; value of argument can be any integer, but special care 
+	 * is taken in caller functions when resulting exponent is not positive
 	 * 
 	 * @param exp	Exponent increment
+	 * @return		Power with incremented exponent
+	 */
+	public Power addToExponent(int exp) {
+		return Power.getInstance(this.variable, this.exponent + exp);
+	}
+	
+	/**
+	 * Method that retrieves power of symbolic variable of same type
+	 * and with same exponent, for coordinate of another point
+	 * 
+	 * @param pointLabel	Label of point
+	 * @return				Power of coordinate of point with specified label
 	 */
-	public void addToExponent(int exp) {
-		this.exponent += exp;
+	public Power substitutePointLabel(String pointLabel) {
+		return Power.getInstance(SymbolicVariable.getInstance(this.getVarType(), pointLabel), this.exponent);
 	}
 	
 	/**
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
@@ -54,6 +55,12 @@ public class SymbolicPolynomial extends Polynomial {
 	 */
 	public static final int FIRST_DERIVATIVE_DENOMINATOR = 1;
 	
+	/**
+	 * Template for instantiation of this polynomial - it is compiled on first
+	 * use and discarded when terms of this polynomial are changed
+	 */
+	private volatile SymbolicPolynomialTemplate template = null;
+	
 	
 	/*
 	 * ======================================================================
@@ -70,6 +77,24 @@ public class SymbolicPolynomial extends Polynomial {
 		return Polynomial.POLY_TYPE_SYMBOLIC;
 	}
 	
+	/**
+	 * Method that retrieves template for instantiation of this polynomial.
+	 * Template is compiled once and reused until terms of this polynomial
+	 * are changed by some method of polynomial (terms must not be changed
+	 * directly after polynomial has been instantiated).
+	 * 
+	 * @return	Template of this polynomial
+	 */
+	public SymbolicPolynomialTemplate getTemplate() {
+		SymbolicPolynomialTemplate currTemplate = this.template;
+		
+		if (currTemplate == null) {
+			currTemplate = new SymbolicPolynomialTemplate(this);
+			this.template = currTemplate;
+		}
+		return currTemplate;
+	}
+	
 	/*
 	 * ======================================================================
 	 * ========================== CONSTRUCTORS ==============================
@@ -154,6 +179,16 @@ public class SymbolicPolynomial extends Polynomial {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method that discards compiled template when terms are changed
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#termsChanged()
+	 */
+	@Override
+	protected void termsChanged() {
+		this.template = null;
+	}
+	
 	/**
 	 * @see com.ogprover.polynomials.RationalAlgebraicExpression#printToLaTeX()
 	 */
@@ -332,12 +367,16 @@ public class SymbolicPolynomial extends Polynomial {
 			tempListOfTerms.add(t.clone());
 		
 		for (Term t : tempListOfTerms) {
-			for (Power p : t.getPowers()) {
+			Vector<Power> powers = t.getPowers();
+			
+			// powers are immutable and therefore replaced by powers with new labels
+			for (int ii = 0, size = powers.size(); ii < size; ii++) {
+				Power p = powers.get(ii);
 				SymbolicVariable sv = (SymbolicVariable) p.getVariable();
 				String replacementLabel = labelsMap.get(sv.getPointLabel());
 				
 				if (replacementLabel != null)
-					sv.setPointLabel(replacementLabel);
+					powers.set(ii, p.substitutePointLabel(replacementLabel));
 				else {
 					OpenGeoProver.settings.getLogger().error("Failed to substitute label " + sv.getPointLabel());
 					return null;
@@ -382,11 +421,15 @@ public class SymbolicPolynomial extends Polynomial {
 			tempListOfTerms.add(t.clone());
 		
 		for (Term t : tempListOfTerms) {
-			for (Power p : t.getPowers()) {
+			Vector<Power> powers = t.getPowers();
+			
+			// powers are immutable and therefore replaced by powers with new labels
+			for (int ii = 0, size = powers.size(); ii < size; ii++) {
+				Power p = powers.get(ii);
 				SymbolicVariable sv = (SymbolicVariable) p.getVariable();
 				
 				if (sv.getPointLabel().equals(srcLabel))
-					sv.setPointLabel(destLabel);
+					powers.set(ii, p.substitutePointLabel(destLabel));
 			}
 		}
 		
@@ -455,10 +498,8 @@ public class SymbolicPolynomial extends Polynomial {
 					// (yP^n)' = n*(yP^(n-1))*yP'
 					int yExp = yPower.getExponent();
 					commonPart.mul(yExp);
-					if (yExp > 1) {
-						yPower.addToExponent(-1);
-						commonPart.addPower(yPower);
-					}
+					if (yExp > 1)
+						commonPart.addPower(yPower.addToExponent(-1));
 					denominator.addTerm(commonPart);
 				}
 			}
@@ -467,10 +508,8 @@ public class SymbolicPolynomial extends Polynomial {
 					// (xP^n)' = n*(xP^(n-1))
 					int xExp = xPower.getExponent();
 					commonPart.mul(xExp);
-					if (xExp > 1) {
-						xPower.addToExponent(-1);
-						commonPart.addPower(xPower);
-					}
+					if (xExp > 1)
+						commonPart.addPower(xPower.addToExponent(-1));
 					numerator.addTerm(commonPart);
 				}
 				else {
@@ -482,10 +521,8 @@ public class SymbolicPolynomial extends Polynomial {
 					numeratorPart.addPower(yPower.clone());
 					int xExp = tempPower.getExponent();
 					numeratorPart.mul(xExp);
-					if (xExp > 1) {
-						tempPower.addToExponent(-1);
-						numeratorPart.addPower(tempPower);
-					}
+					if (xExp > 1)
+						numeratorPart.addPower(tempPower.addToExponent(-1));
 					numerator.addTerm(numeratorPart);
 					
 					// m*xP^n*yP^(m-1)
@@ -494,10 +531,8 @@ public class SymbolicPolynomial extends Polynomial {
 					denominatorPart.addPower(xPower.clone());
 					int yExp = tempPower.getExponent();
 					denominatorPart.mul(yExp);
-					if (yExp > 1) {
-						tempPower.addToExponent(-1);
-						denominatorPart.addPower(tempPower);
-					}
+					if (yExp > 1)
+						denominatorPart.addPower(tempPower.addToExponent(-1));
 					denominator.addTerm(denominatorPart);
 				}
 			}
@@ -522,7 +557,7 @@ public class SymbolicPolynomial extends Polynomial {
 		
 		for (Term t : this.getTermsAsDescList()) {
 			for (Power p : t.getPowers()) {
-				SymbolicVariable sv = (SymbolicVariable)p.getVariable().clone();
+				SymbolicVariable sv = (SymbolicVariable)p.getVariable();
 				allLabelsMap.put(sv.getPointLabel(), sv.getPointLabel());
 			}
 		}
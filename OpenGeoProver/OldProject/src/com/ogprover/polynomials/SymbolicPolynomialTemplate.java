@@ -0,0 +1,474 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import com.ogprover.main.OpenGeoProver;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for compiled form of symbolic polynomial used for its
+ *     instantiation. Labels of points from symbolic polynomial are
+ *     replaced by indices of slots (in order of first appearance in
+ *     terms of polynomial in descending order), and each power of
+ *     symbolic term is replaced by index of coordinate of point from
+ *     slot: 2*slot for x coordinate and 2*slot + 1 for y coordinate.
+ *     <br>
+ *     Instantiation of template is therefore done without look-ups of
+ *     point labels and symbolic variables - it only fills coordinates
+ *     of points assigned to slots into powers of terms. Order of
+ *     instantiated terms depends on variables assigned to points, so
+ *     instantiated terms are collected in geobucket.
+ *     <br>
+ *     Template is immutable and can be shared by threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class SymbolicPolynomialTemplate {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Index of coordinate of power with non-symbolic variable</b></i>
+	 */
+	private static final int NON_SYMBOLIC_COORDINATE = -1;
+	/**
+	 * <i><b>Lexicographic order of codes of terms</b></i>
+	 */
+	private static final Comparator<long[]> TERM_CODES_COMPARATOR = new Comparator<long[]>() {
+		public int compare(long[] codes1, long[] codes2) {
+			for (int ii = 0, jj = Math.min(codes1.length, codes2.length); ii < jj; ii++) {
+				if (codes1[ii] != codes2[ii])
+					return (codes1[ii] < codes2[ii]) ? -1 : 1;
+			}
+			return codes1.length - codes2.length;
+		}
+	};
+
+	/**
+	 * Labels of points assigned to slots
+	 */
+	private final String[] pointLabels;
+	/**
+	 * Coefficients of terms (in descending order of symbolic terms)
+	 */
+	private final double[] coefficients;
+	/**
+	 * For each term, indices of coordinates of its powers (in order of powers)
+	 */
+	private final int[][] coordinates;
+	/**
+	 * For each term, exponents of its powers (in order of powers)
+	 */
+	private final int[][] exponents;
+	/**
+	 * Classes of interchangeable slots with at least two slots each (in
+	 * ascending order) - polynomial is not changed when points from slots
+	 * of same class are permuted (e.g. square of distance of points A and B
+	 * is same as square of distance of points B and A); they are found on
+	 * demand, when instantiations of template are cached
+	 */
+	private volatile int[][] symmetricClasses = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of slots for points
+	 */
+	public int getNumOfSlots() {
+		return this.pointLabels.length;
+	}
+
+	/**
+	 * @param slot	Index of slot
+	 * @return		Label of point assigned to slot
+	 */
+	public String getPointLabel(int slot) {
+		return this.pointLabels[slot];
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - compiles symbolic polynomial
+	 *
+	 * @param condition	Symbolic polynomial to compile
+	 */
+	public SymbolicPolynomialTemplate(SymbolicPolynomial condition) {
+		ArrayList<Term> terms = condition.getTermsAsDescList();
+		int numOfTerms = terms.size();
+		Map<String, Integer> slots = new HashMap<String, Integer>();
+		ArrayList<String> labels = new ArrayList<String>();
+
+		this.coefficients = new double[numOfTerms];
+		this.coordinates = new int[numOfTerms][];
+		this.exponents = new int[numOfTerms][];
+
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			SymbolicTerm st = (SymbolicTerm)terms.get(ii);
+			Vector<Power> powers = st.getPowers();
+			int numOfPowers = powers.size();
+			int[] termCoordinates = new int[numOfPowers];
+			int[] termExponents = new int[numOfPowers];
+
+			for (int jj = 0; jj < numOfPowers; jj++) {
+				Power pow = powers.get(jj);
+				short varType = pow.getVarType();
+
+				termExponents[jj] = pow.getExponent();
+				if (varType != Variable.VAR_TYPE_SYMB_X && varType != Variable.VAR_TYPE_SYMB_Y) {
+					termCoordinates[jj] = SymbolicPolynomialTemplate.NON_SYMBOLIC_COORDINATE;
+					continue;
+				}
+
+				String pointLabel = ((SymbolicVariable)pow.getVariable()).getPointLabel();
+				Integer slot = slots.get(pointLabel);
+
+				if (slot == null) {
+					slot = Integer.valueOf(labels.size());
+					slots.put(pointLabel, slot);
+					labels.add(pointLabel);
+				}
+				termCoordinates[jj] = 2 * slot.intValue() + ((varType == Variable.VAR_TYPE_SYMB_X) ? 0 : 1);
+			}
+
+			this.coefficients[ii] = st.getCoeff();
+			this.coordinates[ii] = termCoordinates;
+			this.exponents[ii] = termExponents;
+		}
+
+		this.pointLabels = labels.toArray(new String[labels.size()]);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that retrieves classes of interchangeable slots; they are found
+	 * on first call. If polynomial is not changed when points from two slots
+	 * are swapped, these slots are in same class; since composition of such
+	 * swaps doesn't change polynomial either, classes are made by joining of
+	 * classes of swapped slots. Codes of terms after swap are compared only
+	 * when hash code of template is not changed by swap (see
+	 * {@link #makeHashCode(int, int)}), so they are rarely made for slots which
+	 * are not interchangeable.
+	 * 
+	 * @return	Classes of interchangeable slots with at least two slots each
+	 */
+	private int[][] getSymmetricClasses() {
+		int[][] currClasses = this.symmetricClasses;
+		
+		if (currClasses != null)
+			return currClasses; // classes are same in all threads, so it doesn't matter which thread found them
+		
+		int numOfSlots = this.pointLabels.length;
+		long hashCode = this.makeHashCode(-1, -1);
+		long[][] termCodes = null; // made when first swap with same hash code is found
+		int[] slotClasses = new int[numOfSlots]; // smallest slot of class of each slot
+		int[] classSizes = new int[numOfSlots];
+		int numOfClasses = 0;
+		
+		for (int ii = 0; ii < numOfSlots; ii++)
+			slotClasses[ii] = ii;
+		for (int ii = 0; ii < numOfSlots; ii++) {
+			for (int jj = ii + 1; jj < numOfSlots; jj++) {
+				if (slotClasses[jj] != jj || this.makeHashCode(ii, jj) != hashCode)
+					continue;
+				if (termCodes == null)
+					termCodes = this.makeTermCodes(-1, -1);
+				if (Arrays.deepEquals(termCodes, this.makeTermCodes(ii, jj)))
+					slotClasses[jj] = slotClasses[ii];
+			}
+			if (++classSizes[slotClasses[ii]] == 2)
+				numOfClasses++;
+		}
+		
+		currClasses = new int[numOfClasses][];
+		for (int ii = 0, kk = 0; ii < numOfSlots; ii++) {
+			if (classSizes[ii] < 2)
+				continue;
+			
+			int[] classSlots = new int[classSizes[ii]];
+			
+			for (int jj = ii, ll = 0; jj < numOfSlots; jj++) {
+				if (slotClasses[jj] == ii)
+					classSlots[ll++] = jj;
+			}
+			currClasses[kk++] = classSlots;
+		}
+		this.symmetricClasses = currClasses;
+		return currClasses;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves index of coordinate after swapping of points
+	 * from two slots.
+	 * 
+	 * @param coordIndex	Index of coordinate
+	 * @param slot1			First slot to swap (-1 if nothing is swapped)
+	 * @param slot2			Second slot to swap (-1 if nothing is swapped)
+	 * @return				Index of coordinate after swap
+	 */
+	private static int swapCoordinate(int coordIndex, int slot1, int slot2) {
+		if (coordIndex == SymbolicPolynomialTemplate.NON_SYMBOLIC_COORDINATE)
+			return coordIndex;
+		
+		int slot = coordIndex >> 1;
+		
+		if (slot == slot1)
+			return coordIndex + 2 * (slot2 - slot1);
+		if (slot == slot2)
+			return coordIndex + 2 * (slot1 - slot2);
+		return coordIndex;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that spreads bits of code, so that sums of spread codes rarely
+	 * collide.
+	 * 
+	 * @param code	Code
+	 * @return		Spread code
+	 */
+	private static long spreadCode(long code) {
+		code *= 0x9E3779B97F4A7C15L;
+		return code ^ (code >>> 29);
+	}
+	
+	/**
+	 * Method that makes hash code of this template after swapping of points
+	 * from two slots. Hash code is made from same codes of powers and terms as
+	 * in {@link #makeTermCodes(int, int)}, but they are summed, so it doesn't
+	 * depend on order of terms and powers and nothing is allocated.
+	 * 
+	 * @param slot1		First slot to swap (-1 if nothing is swapped)
+	 * @param slot2		Second slot to swap (-1 if nothing is swapped)
+	 * @return			Hash code of template
+	 */
+	private long makeHashCode(int slot1, int slot2) {
+		long hashCode = 0;
+		
+		for (int ii = 0, jj = this.coefficients.length; ii < jj; ii++) {
+			int[] termCoordinates = this.coordinates[ii];
+			long termCode = Double.doubleToLongBits(this.coefficients[ii]);
+			
+			for (int kk = 0, ll = termCoordinates.length; kk < ll; kk++) {
+				int coordIndex = SymbolicPolynomialTemplate.swapCoordinate(termCoordinates[kk], slot1, slot2);
+				
+				termCode += SymbolicPolynomialTemplate.spreadCode((((long)coordIndex) << 32) | this.exponents[ii][kk]);
+			}
+			hashCode += SymbolicPolynomialTemplate.spreadCode(termCode);
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Method that makes codes of terms of this template after swapping of points
+	 * from two slots. Code of each term starts with bits of its coefficient, which
+	 * are followed by codes of its powers (coordinate and exponent) in ascending
+	 * order; codes of terms are sorted, so equal templates have equal codes.
+	 * 
+	 * @param slot1		First slot to swap (-1 if nothing is swapped)
+	 * @param slot2		Second slot to swap (-1 if nothing is swapped)
+	 * @return			Sorted codes of terms
+	 */
+	private long[][] makeTermCodes(int slot1, int slot2) {
+		int numOfTerms = this.coefficients.length;
+		long[][] termCodes = new long[numOfTerms][];
+		
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			int[] termCoordinates = this.coordinates[ii];
+			long[] codes = new long[termCoordinates.length + 1];
+			
+			for (int kk = 0, ll = termCoordinates.length; kk < ll; kk++) {
+				int coordIndex = SymbolicPolynomialTemplate.swapCoordinate(termCoordinates[kk], slot1, slot2);
+				
+				codes[kk + 1] = (((long)coordIndex) << 32) | this.exponents[ii][kk];
+			}
+			Arrays.sort(codes, 1, codes.length);
+			codes[0] = Double.doubleToLongBits(this.coefficients[ii]);
+			termCodes[ii] = codes;
+		}
+		Arrays.sort(termCodes, SymbolicPolynomialTemplate.TERM_CODES_COMPARATOR);
+		return termCodes;
+	}
+	
+	/**
+	 * Method that makes key of instantiation of this template. Key contains
+	 * codes of coordinates of points assigned to slots (index of variable and
+	 * its type). Points from interchangeable slots are sorted by codes of their
+	 * coordinates, so all instantiations that give same polynomial due to 
+	 * symmetry of template have same key.
+	 * 
+	 * @param pointCoordinates	Coordinates of points assigned to slots (as in
+	 * 							{@link #instantiate(UXVariable[])})
+	 * @return					Key of instantiation or null if some coordinate is
+	 * 							missing or it is not UX variable
+	 */
+	long[] makeInstantiationKey(UXVariable[] pointCoordinates) {
+		long[] key = new long[pointCoordinates.length];
+		
+		for (int ii = 0, jj = pointCoordinates.length; ii < jj; ii++) {
+			UXVariable coord = pointCoordinates[ii];
+			
+			if (coord == null)
+				return null;
+			
+			short varType = coord.getVariableType();
+			
+			if (varType != Variable.VAR_TYPE_UX_U && varType != Variable.VAR_TYPE_UX_X)
+				return null;
+			key[ii] = 2 * coord.getIndex() + varType;
+		}
+		
+		// sort points (pairs of coordinates) within each class of interchangeable
+		// slots by selection sort, since classes are small
+		for (int[] classSlots : this.getSymmetricClasses()) {
+			for (int ii = 0, jj = classSlots.length; ii < jj - 1; ii++) {
+				int minSlot = classSlots[ii];
+				
+				for (int kk = ii + 1; kk < jj; kk++) {
+					int slot = classSlots[kk];
+					
+					if (key[2 * slot] < key[2 * minSlot] || (key[2 * slot] == key[2 * minSlot] && key[2 * slot + 1] < key[2 * minSlot + 1]))
+						minSlot = slot;
+				}
+				
+				int currSlot = classSlots[ii];
+				
+				if (minSlot != currSlot) {
+					long tempX = key[2 * currSlot], tempY = key[2 * currSlot + 1];
+					
+					key[2 * currSlot] = key[2 * minSlot];
+					key[2 * currSlot + 1] = key[2 * minSlot + 1];
+					key[2 * minSlot] = tempX;
+					key[2 * minSlot + 1] = tempY;
+				}
+			}
+		}
+		
+		return key;
+	}
+	
+	/**
+	 * Method that instantiates this template. Terms with zero coordinate
+	 * (u-variable with index 0) are skipped.
+	 *
+	 * @param pointCoordinates	Coordinates of points assigned to slots: x coordinate
+	 * 							of point from slot s is at position 2*s and y coordinate
+	 * 							at position 2*s + 1; coordinates of point that is not
+	 * 							found are null
+	 * @return					XPolynomial obtained by instantiation or null in case of error
+	 */
+	public XPolynomial instantiate(UXVariable[] pointCoordinates) {
+		GeoBucket result = new GeoBucket();
+
+		for (int ii = 0, jj = this.coefficients.length; ii < jj; ii++) {
+			int[] termCoordinates = this.coordinates[ii];
+			int[] termExponents = this.exponents[ii];
+			boolean isZeroTerm = false;
+
+			// check powers first - term is skipped if any of its coordinates is zero
+			for (int kk = 0, ll = termCoordinates.length; kk < ll; kk++) {
+				int coordIndex = termCoordinates[kk];
+
+				if (coordIndex == SymbolicPolynomialTemplate.NON_SYMBOLIC_COORDINATE) {
+					OpenGeoProver.settings.getLogger().error("Non-symbolic variable obtained when symbolic was excpected");
+					return null;
+				}
+
+				UXVariable coord = pointCoordinates[coordIndex];
+
+				if (coord == null) {
+					OpenGeoProver.settings.getLogger().error("Failed to find point with specified label " + this.pointLabels[coordIndex >> 1] + " during instantiation of condition");
+					return null;
+				}
+
+				short varType = coord.getVariableType();
+
+				if (varType == Variable.VAR_TYPE_UX_U) {
+					if (coord.getIndex() == 0) {
+						isZeroTerm = true;
+						break;
+					}
+				}
+				else if (varType != Variable.VAR_TYPE_UX_X) {
+					OpenGeoProver.settings.getLogger().error("Power is not instantiated by UX variable");
+					return null;
+				}
+			}
+
+			// If zero term obtained as instance, skip it
+			if (isZeroTerm)
+				continue;
+
+			// instantiate XTerm of this symbolic term; powers of same
+			// variable are merged when they are added to term
+			UTerm ut = new UTerm(this.coefficients[ii]);
+			int numOfXPowers = 0;
+
+			for (int kk = 0, ll = termCoordinates.length; kk < ll; kk++) {
+				UXVariable coord = pointCoordinates[termCoordinates[kk]];
+
+				if (coord.getVariableType() == Variable.VAR_TYPE_UX_U)
+					ut.addPower(Power.getInstance(coord, termExponents[kk]));
+				else
+					numOfXPowers++;
+			}
+
+			UPolynomial up = new UPolynomial();
+			up.addTerm(ut);
+			XTerm xt = new XTerm(new UFraction(up));
+
+			for (int kk = 0, ll = termCoordinates.length; kk < ll && numOfXPowers > 0; kk++) {
+				UXVariable coord = pointCoordinates[termCoordinates[kk]];
+
+				if (coord.getVariableType() == Variable.VAR_TYPE_UX_X) {
+					xt.addPower(Power.getInstance(coord, termExponents[kk]));
+					numOfXPowers--;
+				}
+			}
+
+			// add current instantiated XTerm to resulting polynomial
+			result.addTerm(xt);
+		}
+
+		return (XPolynomial)result.writeTo(new XPolynomial());
+	}
+}
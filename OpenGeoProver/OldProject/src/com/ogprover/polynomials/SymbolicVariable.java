@@ -4,6 +4,8 @@
 
 package com.ogprover.polynomials;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.ogprover.utilities.OGPUtilities;
 
 /**
@@ -37,6 +39,14 @@ public class SymbolicVariable extends Variable {
 	 * Label of point whose this coordinate/variable is; acts as index
 	 */
 	private String pointLabel = "";
+	/**
+	 * Table of interned symbolic x-variables with point labels as keys
+	 */
+	private static final ConcurrentHashMap<String, SymbolicVariable> internedXVariables = new ConcurrentHashMap<String, SymbolicVariable>();
+	/**
+	 * Table of interned symbolic y-variables with point labels as keys
+	 */
+	private static final ConcurrentHashMap<String, SymbolicVariable> internedYVariables = new ConcurrentHashMap<String, SymbolicVariable>();
 	
 	
 	/*
@@ -50,6 +60,8 @@ public class SymbolicVariable extends Variable {
 	 * @param varType The variable type to set
 	 */
 	public void setVariableType(short varType) {
+		if (!this.prepareForChange())
+			return;
 		this.varType = varType;
 	}
 	
@@ -69,6 +81,8 @@ public class SymbolicVariable extends Variable {
 	 * @param pointLabel The point label to set
 	 */
 	public void setPointLabel(String pointLabel) {
+		if (!this.prepareForChange())
+			return;
 		this.pointLabel = pointLabel;
 		this.index = OGPUtilities.getSymbolicVariableIndex(this);
 	}
@@ -112,6 +126,40 @@ public class SymbolicVariable extends Variable {
 		this.index = index;
 	}
 	
+	/**
+	 * Method that retrieves shared instance of symbolic variable for
+	 * coordinate of point. It is intended for powers of polynomials, 
+	 * where same variable appears many times, and such instance must
+	 * not be changed.
+	 * 
+	 * @param varType	Type of symbolic variable
+	 * @param label		Point label
+	 * @return			Interned variable with specified type and label
+	 * 					(new variable if it can't be interned)
+	 */
+	public static SymbolicVariable getInstance(short varType, String label) {
+		ConcurrentHashMap<String, SymbolicVariable> table;
+		
+		if (varType == Variable.VAR_TYPE_SYMB_X)
+			table = SymbolicVariable.internedXVariables;
+		else if (varType == Variable.VAR_TYPE_SYMB_Y)
+			table = SymbolicVariable.internedYVariables;
+		else
+			return new SymbolicVariable(varType, label);
+		
+		SymbolicVariable var = table.get(label);
+		
+		if (var == null) {
+			var = new SymbolicVariable(varType, label);
+			var.interned = true;
+			
+			SymbolicVariable oldVar = table.putIfAbsent(label, var);
+			if (oldVar != null)
+				var = oldVar;
+		}
+		return var;
+	}
+	
 	
 	/*
 	 * ======================================================================
@@ -130,6 +178,17 @@ public class SymbolicVariable extends Variable {
 		
 		return copyVar;
 	}
+	
+	/**
+	 * @see com.ogprover.polynomials.Variable#intern()
+	 */
+	@Override
+	public Variable intern() {
+		// variable created by index only has no label and can't be interned
+		if (this.interned || this.pointLabel.length() == 0)
+			return this;
+		return SymbolicVariable.getInstance(this.varType, this.pointLabel);
+	}
 
 	
 }
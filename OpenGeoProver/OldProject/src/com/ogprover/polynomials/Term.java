@@ -7,7 +7,6 @@ package com.ogprover.polynomials;
 import java.util.Vector;
 
 import com.ogprover.main.OpenGeoProver;
-import com.ogprover.utilities.logger.ILogger;
 
 
 /**
@@ -148,10 +147,9 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size(), 
 		tsize = ((t != null) ? t.getPowers().size() : 0);
 		int ii = 0;
-		ILogger logger = OpenGeoProver.settings.getLogger();
 
 		if (t == null) {
-			logger.error("Null term passed in.");
+			OpenGeoProver.settings.getLogger().error("Null term passed in.");
 			return -2; // error
 		}
 	
@@ -164,7 +162,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			Power q = t.getPowers().get(ii);
 		
 			if (p == null || q == null) {
-				logger.error("Found null object(s) when expected non-null value");
+				OpenGeoProver.settings.getLogger().error("Found null object(s) when expected non-null value");
 				return -2;
 			}
 		
@@ -188,8 +186,6 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	 * @param p		Power to be added into collection
 	 */
 	public void addPower(Power p) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		
 		// If power is of another variable type, don't add it into collection
 		if ((this.getType() == Term.TERM_TYPE_UTERM && p.getVarType() == Variable.VAR_TYPE_UX_U) ||
 			(this.getType() == Term.TERM_TYPE_XTERM && p.getVarType() == Variable.VAR_TYPE_UX_X) ||
@@ -207,14 +203,14 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 				middleP = this.powers.get(middle);
 				
 				if (middleP == null) { // error
-					logger.error("Found null object in collection, while in binary search algorithm in addPower() method.");
+					OpenGeoProver.settings.getLogger().error("Found null object in collection, while in binary search algorithm in addPower() method.");
 					break;
 				}
 				middleIndex = middleP.getIndex();
 				
 				if (middleIndex == pIndex) {
 					// power already exists in vector - then merge degrees
-					middleP.addToExponent(pExp);
+					this.powers.set(middle, middleP.addToExponent(pExp));
 					break;
 				}
 				else if (middleIndex < pIndex) { // remember: vector is sorted in descending order
@@ -231,7 +227,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			}
 		}
 		else
-			logger.warn("Attempting to add power of another variable type.");
+			OpenGeoProver.settings.getLogger().warnRateLimited("Attempting to add power of another variable type.");
 	}
 	
 	/**
@@ -247,13 +243,12 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size();
 		int tsize = ((t != null) ? t.getPowers().size() : 0);
 		int ii = 0, jj = 0, op = ((add == true) ? 1 : -1);
-		ILogger logger = OpenGeoProver.settings.getLogger();
 		
 		// Terms must be of same type
 		if (t == null)
 			return; // nothing to merge
 		if (this.getType() != t.getType()) {
-			logger.warn("Attempt to merge two terms of different types.");
+			OpenGeoProver.settings.getLogger().warnRateLimited("Attempt to merge two terms of different types.");
 			return;
 		}
 		
@@ -264,7 +259,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			Power pj = t.getPowers().get(jj);
 			
 			if (pi == null || pj == null) {
-				logger.error("Null object(s) read from collection");
+				OpenGeoProver.settings.getLogger().error("Null object(s) read from collection");
 				return;
 			}
 			
@@ -285,7 +280,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 					jj++; // go on through passed in term
 				}
 				else { // processing of this variable is completed; then move forward in both collections
-					pi.setExponent(resultExp); // updates element at current position
+					this.powers.set(ii, Power.getInstance(pi.getVariable(), resultExp)); // updates element at current position
 					ii++;
 					jj++;
 				}	
@@ -293,7 +288,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			else if (piInd < pjInd) {
 				// in 'add' mode new power should be added in current collection
 				if (add){
-					this.powers.add(ii, pj.clone());
+					this.powers.add(ii, pj); // powers are immutable and can be shared
 					size++;
 					ii++;
 					jj++;
@@ -310,7 +305,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		while (jj < tsize){
 			Power pj = t.getPowers().get(jj);
 			// add new powers at the end
-			this.powers.addElement(pj.clone());
+			this.powers.addElement(pj);
 			jj++;
 		}
 	}
@@ -332,16 +327,15 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size(), 
 			tsize = ((t != null) ? t.getPowers().size() : 0);
 		Power pi = null, pj = null;
-		ILogger logger = OpenGeoProver.settings.getLogger();
 		
 		if (t == null) {
-			logger.error("Null term passed in.");
+			OpenGeoProver.settings.getLogger().error("Null term passed in.");
 			return false;
 		}
 		
 		// terms must be of same type
 		if (this.getType() != t.getType()) {
-			logger.error("Terms must be of same type.");
+			OpenGeoProver.settings.getLogger().error("Terms must be of same type.");
 			return false;
 		}
 		
@@ -362,7 +356,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			if (readI) {
 				pi = this.powers.get(ii);
 				if (pi == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.settings.getLogger().error("Found null object when expected non-null value");
 					return false;
 				}
 				piIndex = pi.getIndex();
@@ -372,7 +366,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			if (readJ) {
 				pj = this.powers.get(jj);
 				if (pj == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.settings.getLogger().error("Found null object when expected non-null value");
 					return false;
 				}
 				pjIndex = pj.getIndex();
@@ -511,11 +505,13 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 					OpenGeoProver.settings.getLogger().error("Null object found when expected non-null value");
 					return null;
 				}
-				pi.addToExponent(expInc); // update current element
+				pi = pi.addToExponent(expInc);
 				
 				// if new exponent is zero, remove power from vector
 				if (pi.getExponent() == 0)
 					this.powers.remove(ii);
+				else
+					this.powers.set(ii, pi); // update current element
 			}
 		}
 		
@@ -550,18 +546,17 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	// t2 = [x_9, x_8, (x_6)^2, x_5, x_3, (x_2)^2]
 	// then gcd(t1, t2) = [(x_6)^2, x_5, x_3] etc.
 	public final Term gcd(Term t){
-		ILogger logger = OpenGeoProver.settings.getLogger();
 		Term thisBeforeChange = this.clone();
 		this.powers = new Vector<Power>(); // prepare vector of powers to receive powers of gcd
 		
 		if (t == null) {
-			logger.error("Null term passed in");
+			OpenGeoProver.settings.getLogger().error("Null term passed in");
 			return null;
 		}
 		
 		// terms must be of same type
 		if (this.getType() != t.getType()) {
-			logger.error("Terms must be of same type in gcd() method");
+			OpenGeoProver.settings.getLogger().error("Terms must be of same type in gcd() method");
 			return null;
 		}
 		
@@ -579,7 +574,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			if (readI) {
 				pi = thisBeforeChange.getPowers().get(ii);
 				if (pi == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.settings.getLogger().error("Found null object when expected non-null value");
 					return null;
 				}
 				piIndex = pi.getIndex();
@@ -590,7 +585,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			if (readJ) {
 				pj = t.getPowers().get(jj);
 				if (pj == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.settings.getLogger().error("Found null object when expected non-null value");
 					return null;
 				}
 				pjIndex = pj.getIndex();
@@ -603,7 +598,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 				int resExp = ((piExp <= pjExp) ? piExp : pjExp);
 				
 				if (resExp > 0) {
-					Power p = new Power(pi.getVarType(), piIndex, resExp);
+					Power p = Power.getInstance(pi.getVariable(), resExp);
 				
 					// add this common divisor at the end of new vector;
 					// since original terms are ordered in descending order
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 /**
  * <dl>
@@ -192,6 +193,8 @@ public class UFraction implements Cloneable, RationalAlgebraicExpression {
 	 * @return		This object, which is result of operation
 	 */
 	public UFraction reduce(){
+		OpenGeoProver.settings.getMetrics().incrementCounter(OGPMetrics.UFRACTION_REDUCTIONS);
+		
 		if (this.numerator.getTerms().size() == 0 || this.denominator.getTerms().size() == 0)
 			return this;
 		
@@ -27,10 +27,26 @@ public class UXVariable extends Variable {
 	 * </b></i>
 	 */
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Maximal index of interned variable</b></i>
+	 */
+	public static final int MAX_INTERNED_INDEX = 65535;
 	/**
 	 * Type of variable (one of VAR_TYPE_UX_xxx values)
 	 */
 	private short varType;
+	/**
+	 * Table of interned u-variables - variable with index i is at position i;
+	 * array is never changed after it is published, new array is created 
+	 * when new variable is interned
+	 */
+	private static volatile UXVariable[] internedUVariables = new UXVariable[0];
+	/**
+	 * Table of interned x-variables - variable with index i is at position i;
+	 * array is never changed after it is published, new array is created 
+	 * when new variable is interned
+	 */
+	private static volatile UXVariable[] internedXVariables = new UXVariable[0];
 	
 	
 	
@@ -45,6 +61,8 @@ public class UXVariable extends Variable {
 	 * @param varType The variable type to set
 	 */
 	public void setVariableType(short varType) {
+		if (!this.prepareForChange())
+			return;
 		this.varType = varType;
 	}
 	
@@ -76,6 +94,69 @@ public class UXVariable extends Variable {
 		this.index = index;
 	}
 	
+	/**
+	 * Method that retrieves shared instance of u or x variable. It is
+	 * intended for powers of polynomials, where same variable appears 
+	 * many times, and such instance must not be changed.
+	 * Variables with too big (or negative) index are not interned and 
+	 * new variable is returned for them.
+	 * 
+	 * @param varType	Type of variable
+	 * @param index		Index of variable
+	 * @return			Interned variable with specified type and index
+	 */
+	public static UXVariable getInstance(short varType, long index) {
+		UXVariable[] table;
+		
+		if (varType == Variable.VAR_TYPE_UX_U)
+			table = UXVariable.internedUVariables;
+		else if (varType == Variable.VAR_TYPE_UX_X)
+			table = UXVariable.internedXVariables;
+		else
+			return new UXVariable(varType, index);
+		
+		if (index < 0 || index > UXVariable.MAX_INTERNED_INDEX)
+			return new UXVariable(varType, index);
+		
+		if (index < table.length) {
+			UXVariable var = table[(int)index];
+			
+			if (var != null)
+				return var;
+		}
+		
+		return UXVariable.internVariable(varType, (int)index);
+	}
+	
+	/**
+	 * Method that creates new interned variable and publishes
+	 * new table of interned variables with it.
+	 * 
+	 * @param varType	Type of variable
+	 * @param index		Index of variable
+	 * @return			Interned variable with specified type and index
+	 */
+	private static synchronized UXVariable internVariable(short varType, int index) {
+		UXVariable[] table = (varType == Variable.VAR_TYPE_UX_U) ? UXVariable.internedUVariables : UXVariable.internedXVariables;
+		
+		// some other thread could intern this variable in the meantime
+		if (index < table.length && table[index] != null)
+			return table[index];
+		
+		UXVariable[] newTable = new UXVariable[Math.max(index + 1, table.length)];
+		System.arraycopy(table, 0, newTable, 0, table.length);
+		
+		UXVariable var = new UXVariable(varType, index);
+		var.interned = true;
+		newTable[index] = var;
+		
+		if (varType == Variable.VAR_TYPE_UX_U)
+			UXVariable.internedUVariables = newTable;
+		else
+			UXVariable.internedXVariables = newTable;
+		return var;
+	}
+	
 	
 	
 	/*
@@ -94,6 +175,16 @@ public class UXVariable extends Variable {
 		
 		return copyVar;
 	}
+	
+	/**
+	 * @see com.ogprover.polynomials.Variable#intern()
+	 */
+	@Override
+	public Variable intern() {
+		if (this.interned)
+			return this;
+		return UXVariable.getInstance(this.varType, this.index);
+	}
 
 	
 }
@@ -60,6 +60,20 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 * has meaning of zero value of u-variable
 	 */
 	protected long index;
+	/**
+	 * Flag which is true if this variable is shared object from table
+	 * of interned variables; such variable must never be changed
+	 */
+	protected boolean interned = false;
+	/**
+	 * Hash code of this variable (zero if it is not calculated yet)
+	 */
+	private int hashCode = 0;
+	/**
+	 * Powers of interned variable with small exponents - power with
+	 * exponent e is at position e of this array
+	 */
+	private Power[] cachedPowers = null;
 	
 	
 
@@ -80,6 +94,14 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 * @see java.lang.Object#clone()
 	 */
 	public abstract Variable clone();
+	/**
+	 * Method that retrieves interned variable equal to this variable.
+	 * Variables that can't be interned (e.g. symbolic variable without
+	 * point label) are returned as they are.
+	 * 
+	 * @return	Shared instance of this variable
+	 */
+	public abstract Variable intern();
 	
 	
 	
@@ -103,9 +125,21 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 * @param index The index to set
 	 */
 	public void setIndex(long index) {
+		if (!this.prepareForChange())
+			return;
 		this.index = index;
 	}
 	
+	/**
+	 * Method that checks whether this variable is interned
+	 * 
+	 * @return	True if this variable is shared object from table of
+	 * 			interned variables, false otherwise
+	 */
+	public boolean isInterned() {
+		return this.interned;
+	}
+	
 	
 	
 	/*
@@ -178,7 +212,13 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 */
 	// Necessary for using these objects as keys of HashMaps
 	public int hashCode() {
-		return this.toString().hashCode();
+		int h = this.hashCode;
+		
+		if (h == 0) {
+			h = this.toString().hashCode();
+			this.hashCode = h;
+		}
+		return h;
 	}
 	
 	
@@ -188,6 +228,48 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method that has to be called before this variable is changed. 
+	 * Interned variable is shared by many powers and therefore it
+	 * can't be changed.
+	 * 
+	 * @return	True if change is allowed, false otherwise
+	 */
+	protected boolean prepareForChange() {
+		if (this.interned) {
+			OpenGeoProver.settings.getLogger().error("Attempt to change interned variable " + this.print());
+			return false;
+		}
+		this.hashCode = 0; // it will be calculated again
+		return true;
+	}
+	
+	/**
+	 * Method that retrieves shared power of this interned variable
+	 * with small exponent. Since powers are immutable, cache is not
+	 * synchronized - concurrent callers can just create two equal 
+	 * powers and one of them will be kept in cache.
+	 * 
+	 * @param exponent	Exponent of power - between 1 and Power.MAX_CACHED_EXPONENT
+	 * @return			Power of this variable with specified exponent
+	 */
+	Power getCachedPower(int exponent) {
+		Power[] powers = this.cachedPowers;
+		
+		if (powers == null) {
+			powers = new Power[Power.MAX_CACHED_EXPONENT + 1];
+			this.cachedPowers = powers;
+		}
+		
+		Power p = powers[exponent];
+		
+		if (p == null) {
+			p = new Power(this, exponent);
+			powers[exponent] = p;
+		}
+		return p;
+	}
+	
 	/**
 	 * @see com.ogprover.polynomials.RationalAlgebraicExpression#printToLaTeX()
 	 */
@@ -7,6 +7,7 @@ package com.ogprover.polynomials;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Vector;
 
@@ -15,6 +16,8 @@ import com.ogprover.main.OpenGeoProver;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 
 /**
@@ -48,6 +51,25 @@ public class XPolySystem {
 	 * List of variable indices as they were introduced in triangular system 
 	 */
 	private Vector<Integer> variableList;
+	/**
+	 * Factors removed from polynomials during triangulation; polynomials of 
+	 * triangular system have same zeros as original system only if these factors
+	 * are different from zero, so they are additional NDG conditions
+	 */
+	private Vector<XPolynomial> removedFactors;
+	/**
+	 * Index of polynomials with constant denominators by their fingerprints
+	 * (see {@link XPolynomial#getFingerprint()}); it is built on first
+	 * membership check, updated when polynomials are added, replaced or
+	 * removed, and dropped when collection of polynomials is handed out
+	 * or replaced, or when system is triangulated
+	 */
+	private Map<Long, ArrayList<XPolynomial>> fingerprintIndex = null;
+	/**
+	 * Polynomials with non-constant denominators; they can't be indexed by
+	 * fingerprints and are always examined in membership check
+	 */
+	private ArrayList<XPolynomial> unindexedPolynomials = null;
 	
 	
 	/*
@@ -61,6 +83,7 @@ public class XPolySystem {
 	 * @return The polynomials
 	 */
 	public Vector<XPolynomial> getPolynomials() {
+		this.dropIndex(); // caller can change collection or its polynomials
 		return polynomials;
 	}
 
@@ -70,6 +93,7 @@ public class XPolySystem {
 	 * @param polynomials The polynomials to set
 	 */
 	public void setPolynomials(Vector<XPolynomial> polynomials) {
+		this.dropIndex();
 		this.polynomials = polynomials;
 	}
 
@@ -90,6 +114,15 @@ public class XPolySystem {
 	public void setVariableList(Vector<Integer> variableList) {
 		this.variableList = variableList;
 	}
+	
+	/**
+	 * Method that retrieves factors removed from polynomials during triangulation
+	 * 
+	 * @return The removed factors
+	 */
+	public Vector<XPolynomial> getRemovedFactors() {
+		return removedFactors;
+	}
 
 	/*
 	 * ======================================================================
@@ -102,6 +135,7 @@ public class XPolySystem {
 	public XPolySystem() {
 		this.polynomials = new Vector<XPolynomial>(); // empty collection of polynomials
 		this.variableList = null; // this is going to be populated in triangulation method
+		this.removedFactors = new Vector<XPolynomial>(); // this is going to be populated in triangulation method
 	}
 
 	/*
@@ -134,7 +168,12 @@ public class XPolySystem {
 	 * @param xPoly		New value of polynomial to be set in collection
 	 */
 	public void setXPoly(int index, XPolynomial xPoly) {
-		this.polynomials.set(index, xPoly);
+		XPolynomial oldPoly = this.polynomials.set(index, xPoly);
+		
+		if (this.fingerprintIndex != null) {
+			this.unindexPolynomial(oldPoly);
+			this.indexPolynomial(xPoly);
+		}
 	}
 	
 	/**
@@ -147,6 +186,8 @@ public class XPolySystem {
 	 */
 	public void addXPoly(int index, XPolynomial xPoly) {
 		this.polynomials.add(index, xPoly);
+		if (this.fingerprintIndex != null)
+			this.indexPolynomial(xPoly);
 	}
 	
 	/**
@@ -156,6 +197,8 @@ public class XPolySystem {
 	 */
 	public void addXPoly(XPolynomial xPoly) {
 		this.polynomials.add(xPoly);
+		if (this.fingerprintIndex != null)
+			this.indexPolynomial(xPoly);
 	}
 	
 	/**
@@ -166,7 +209,10 @@ public class XPolySystem {
 	 * @param index		Index of polynomial in collection
 	 */
 	public void removePoly(int index) {
-		this.polynomials.remove(index);
+		XPolynomial oldPoly = this.polynomials.remove(index);
+		
+		if (this.fingerprintIndex != null)
+			this.unindexPolynomial(oldPoly);
 	}
 	
 	/**
@@ -178,6 +224,115 @@ public class XPolySystem {
 		return this.polynomials.size();
 	}
 	
+	/**
+	 * Method that checks whether system contains polynomial equal
+	 * (in sense of {@link Polynomial#equals(Object)}) to passed in polynomial.
+	 * <br>
+	 * Only polynomials with same fingerprint as passed in polynomial and polynomials
+	 * with non-constant denominators are compared with it, so repeated checks
+	 * don't have to compare passed in polynomial with all polynomials of system.
+	 * Index is kept up to date when polynomials are added, replaced or removed
+	 * by methods of this class, so polynomials of system should not be changed
+	 * in place, except through collection retrieved by {@link #getPolynomials()}
+	 * since index is then built again.
+	 * 
+	 * @param xPoly		Polynomial to look for
+	 * @return			True if system contains polynomial equal to passed in
+	 * 					polynomial, false otherwise
+	 */
+	public boolean containsPolynomial(XPolynomial xPoly) {
+		// polynomials with non-constant denominators can be equal to polynomials with
+		// different fingerprints, so they are compared with all polynomials of system
+		if (!xPoly.hasConstantDenominators()) {
+			for (XPolynomial xp : this.polynomials) {
+				if (xPoly.equals(xp))
+					return true;
+			}
+			return false;
+		}
+		
+		if (this.fingerprintIndex == null) {
+			this.fingerprintIndex = new HashMap<Long, ArrayList<XPolynomial>>();
+			this.unindexedPolynomials = new ArrayList<XPolynomial>();
+			for (XPolynomial xp : this.polynomials)
+				this.indexPolynomial(xp);
+		}
+		
+		ArrayList<XPolynomial> candidates = this.fingerprintIndex.get(Long.valueOf(xPoly.getFingerprint()));
+		
+		if (candidates != null) {
+			for (XPolynomial xp : candidates) {
+				if (xPoly.equals(xp))
+					return true;
+			}
+		}
+		for (XPolynomial xp : this.unindexedPolynomials) {
+			if (xPoly.equals(xp))
+				return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Method that adds passed in polynomial to index of polynomials of system.
+	 * 
+	 * @param xPoly		Polynomial of system
+	 */
+	private void indexPolynomial(XPolynomial xPoly) {
+		if (!xPoly.hasConstantDenominators()) {
+			this.unindexedPolynomials.add(xPoly);
+			return;
+		}
+		
+		Long fingerprint = Long.valueOf(xPoly.getFingerprint());
+		ArrayList<XPolynomial> polys = this.fingerprintIndex.get(fingerprint);
+		
+		if (polys == null) {
+			polys = new ArrayList<XPolynomial>(1);
+			this.fingerprintIndex.put(fingerprint, polys);
+		}
+		polys.add(xPoly);
+	}
+	
+	/**
+	 * Method that removes passed in polynomial from index of polynomials of system.
+	 * 
+	 * @param xPoly		Polynomial removed from system
+	 */
+	private void unindexPolynomial(XPolynomial xPoly) {
+		ArrayList<XPolynomial> polys = this.unindexedPolynomials;
+		
+		if (xPoly.hasConstantDenominators()) {
+			Long fingerprint = Long.valueOf(xPoly.getFingerprint());
+			
+			polys = this.fingerprintIndex.get(fingerprint);
+			if (polys == null) {
+				this.dropIndex(); // polynomial has been changed after it was indexed
+				return;
+			}
+		}
+		
+		// remove this very object, not another polynomial equal to it
+		for (int ii = 0, jj = polys.size(); ii < jj; ii++) {
+			if (polys.get(ii) == xPoly) {
+				polys.remove(ii);
+				if (polys.isEmpty() && polys != this.unindexedPolynomials)
+					this.fingerprintIndex.remove(Long.valueOf(xPoly.getFingerprint()));
+				return;
+			}
+		}
+		this.dropIndex(); // polynomial has been changed after it was indexed
+	}
+	
+	/**
+	 * Method that drops index of polynomials of system; it will be built
+	 * again on next membership check.
+	 */
+	private void dropIndex() {
+		this.fingerprintIndex = null;
+		this.unindexedPolynomials = null;
+	}
+	
 	/**
 	 * Check whether system is valid.
 	 * It is valid if polynomials have no other
@@ -324,6 +479,9 @@ public class XPolySystem {
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		
+		this.removedFactors = new Vector<XPolynomial>();
+		this.dropIndex(); // polynomials are changed in place during triangulation
+		
 		// if system is already triangular, only reorder it and exit
 		if (this.checkAndReOrderTriangularSystem() == true) {
 			try {
@@ -454,84 +612,92 @@ public class XPolySystem {
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			
-			try {
-				sb = new StringBuilder();
-				sb.append("Variable <ind_text><label>x</label><ind>");
-				sb.append(ii);
-				sb.append("</ind></ind_text> selected:");
-				output.openItemWithDesc(sb.toString());
-				sb = new StringBuilder();
-				sb.append("The number of polynomials with this variable, with indexes from 1 to ");
-				sb.append(isize - istep + 1);
-				sb.append(", is ");
-				sb.append(nonFreeSystem.size());
-				sb.append(".\n\n");
-				output.closeItemWithDesc(sb.toString());
-			} catch (IOException e) {
-				logger.error("Failed to write to output file(s).");
-				output.close();
-				return OGPConstants.ERR_CODE_GENERAL;
+			// factorization - replace polynomials with variable x[ii] by their
+			// factors which have same zeros under NDG conditions
+			for (int jj = 0, kk = nonFreeSystem.size(); jj < kk; jj++) {
+				XPolynomial factor = this.factorizePolynomial(nonFreeSystem.get(jj), ii, originalIndexes.get(jj).intValue() + 1);
+				
+				if (factor == null)
+					return OGPConstants.ERR_CODE_GENERAL;
+				nonFreeSystem.set(jj, factor);
+			}
+			
+			// factorization can take long time
+			if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
+				String errMsg = "Prover execution time has been expired.";
+				logger.error(errMsg);
+				try {
+					output.openItemWithDesc("Error:");
+					output.closeItemWithDesc(errMsg);
+				} catch (IOException e) {
+					logger.error("Failed to write to output file(s).");
+					output.close();
+					return OGPConstants.ERR_CODE_GENERAL;
+				}
+				return OGPConstants.ERR_CODE_TIME;
+			}
+			
+			OGPMetrics metrics = OpenGeoProver.settings.getMetrics();
+			MetricsSpan stepSpan = metrics.startSpan(OGPMetrics.SPAN_TRIANGULATION_STEP);
+			if (metrics.isEnabled()) {
+				metrics.incrementCounter(OGPMetrics.TRIANGULATION_STEPS);
+				metrics.incrementCounter(OGPMetrics.TRIANGULATION_CHOSEN_VARIABLES, OGPMetrics.LABEL_VARIABLE, "x" + ii);
+				metrics.recordValue(OGPMetrics.TRIANGULATION_STEP_POLYNOMIALS, nonFreeSystem.size());
+				stepSpan.setAttribute(OGPMetrics.ATTR_VARIABLE_INDEX, ii);
+				stepSpan.setAttribute(OGPMetrics.ATTR_POLYNOMIALS, nonFreeSystem.size());
 			}
 			
-			// if there is only one polynomial with variable x[ii], choose it for triangular system
-			if (nonFreeSystem.size() == 1) {
-				triangularSystem.add(0, nonFreeSystem.get(0)); // always add to beginning
-				this.variableList.add(0, new Integer(ii));
-				auxSystem = freeSystem;
-				tempSystemChanged = false;
+			try {
 				try {
-					output.openItemWithDesc("Single polynomial with chosen variable:");
 					sb = new StringBuilder();
-					sb.append("Chosen polynomial is <ind_text><label>p</label><ind>");
-					sb.append(originalIndexes.get(0).intValue() + 1);
-					sb.append("</ind></ind_text>. No reduction needed.\n\n");
+					sb.append("Variable <ind_text><label>x</label><ind>");
+					sb.append(ii);
+					sb.append("</ind></ind_text> selected:");
+					output.openItemWithDesc(sb.toString());
+					sb = new StringBuilder();
+					sb.append("The number of polynomials with this variable, with indexes from 1 to ");
+					sb.append(isize - istep + 1);
+					sb.append(", is ");
+					sb.append(nonFreeSystem.size());
+					sb.append(".\n\n");
 					output.closeItemWithDesc(sb.toString());
-					output.writeEnumItem("The triangular system has not been changed.\n\n");
 				} catch (IOException e) {
 					logger.error("Failed to write to output file(s).");
 					output.close();
 					return OGPConstants.ERR_CODE_GENERAL;
 				}
-			}
-			else { // more than 1 polynomial with variable x[ii]
-				boolean end = false;
-				
-				do { // remove x[ii] variable from notFreeSystem of polynomials
-					 // find two polynomials with smallest exponent of variable x[ii]
-					int first = 0, second = 1;
-					int exp1 = nonFreeSystem.get(first).getLeadingExp(ii), 
-						exp2 = nonFreeSystem.get(second).getLeadingExp(ii);
-					int min1, min2, count1 = 1, count2 = 1;
-					
-					if (exp1 == 0 || exp2 == 0) {
-						String errMsg = "Variable not found when expected to be found.";
-						logger.error(errMsg);
-						try {
-							output.openItemWithDesc("Error:");
-							output.closeItemWithDesc(errMsg);
-						} catch (IOException e) {
-							logger.error("Failed to write to output file(s).");
-							output.close();
-							return OGPConstants.ERR_CODE_GENERAL;
-						}
+			
+				// if there is only one polynomial with variable x[ii], choose it for triangular system
+				if (nonFreeSystem.size() == 1) {
+					triangularSystem.add(0, nonFreeSystem.get(0)); // always add to beginning
+					this.variableList.add(0, new Integer(ii));
+					auxSystem = freeSystem;
+					tempSystemChanged = false;
+					try {
+						output.openItemWithDesc("Single polynomial with chosen variable:");
+						sb = new StringBuilder();
+						sb.append("Chosen polynomial is <ind_text><label>p</label><ind>");
+						sb.append(originalIndexes.get(0).intValue() + 1);
+						sb.append("</ind></ind_text>. No reduction needed.\n\n");
+						output.closeItemWithDesc(sb.toString());
+						output.writeEnumItem("The triangular system has not been changed.\n\n");
+					} catch (IOException e) {
+						logger.error("Failed to write to output file(s).");
+						output.close();
 						return OGPConstants.ERR_CODE_GENERAL;
 					}
-					// first is for smallest exponent
-					if (exp1 <= exp2) {
-						min1 = exp1;
-						min2 = exp2;
-					}
-					else {
-						first = 1;
-						second = 0;
-						min1 = exp2;
-						min2 = exp1;
-					}
+				}
+				else { // more than 1 polynomial with variable x[ii]
+					boolean end = false;
+				
+					do { // remove x[ii] variable from notFreeSystem of polynomials
+						 // find two polynomials with smallest exponent of variable x[ii]
+						int first = 0, second = 1;
+						int exp1 = nonFreeSystem.get(first).getLeadingExp(ii), 
+							exp2 = nonFreeSystem.get(second).getLeadingExp(ii);
+						int min1, min2, count1 = 1, count2 = 1;
 					
-					for (int ll = 2, mm = nonFreeSystem.size(); ll < mm; ll++) {
-						int currExp = nonFreeSystem.get(ll).getLeadingExp(ii);
-						
-						if (currExp == 0) {
+						if (exp1 == 0 || exp2 == 0) {
 							String errMsg = "Variable not found when expected to be found.";
 							logger.error(errMsg);
 							try {
@@ -543,83 +709,24 @@ public class XPolySystem {
 								return OGPConstants.ERR_CODE_GENERAL;
 							}
 							return OGPConstants.ERR_CODE_GENERAL;
-						} 
-						if (currExp < min1) {
-							first = ll;
-							min1 = currExp;
-							count1 = 1;
-						}
-						else if (currExp == min1) {
-							count1++;
 						}
-						else if (currExp < min2) {
-							second = ll;
-							min2 = currExp;
-							count2 = 1;
+						// first is for smallest exponent
+						if (exp1 <= exp2) {
+							min1 = exp1;
+							min2 = exp2;
 						}
-						else if (currExp == min2) {
-							count2++;
+						else {
+							first = 1;
+							second = 0;
+							min1 = exp2;
+							min2 = exp1;
 						}
-					}
-					
-					try {
-						output.openItemWithDesc("Minimal degrees:");
-						sb = new StringBuilder();
-						if (min1 < min2) {
-							sb.append(count1);
-							sb.append(" polynomial(s) with degree ");
-							sb.append(min1);
-							sb.append(" and ");
-							sb.append(count2);
-							sb.append(" polynomial(s) with degree ");
-							sb.append(min2);
-						}
-						else if (min1 == min2) {
-							sb.append(count1 + count2);
-							sb.append(" polynomial(s) with degree ");
-							sb.append(min1);
-						}
-						sb.append(".\n\n");
-						output.closeItemWithDesc(sb.toString());
-					} catch (IOException e) {
-						logger.error("Failed to write to output file(s).");
-						output.close();
-						return OGPConstants.ERR_CODE_GENERAL;
-					}
 					
-					// if minimal exponent is 1, choose that polynomial for triangular
-					// system and all the rest will be cleaned of variable x[ii] by
-					// pseudo reminder operation
-					if (min1 == 1) {
-						try {
-							output.openItemWithDesc("Polynomial with linear degree:");
-							sb = new StringBuilder();
-							sb.append("Removing variable <ind_text><label>x</label><ind>");
-							sb.append(ii);
-							sb.append("</ind></ind_text> from all other polynomials by reducing them with polynomial <ind_text><label>p</label><ind>");
-							sb.append(originalIndexes.get(first).intValue() + 1);
-							sb.append("</ind></ind_text> from previous step.\n\n");
-							output.closeItemWithDesc(sb.toString());
-						} catch (IOException e) {
-							logger.error("Failed to write to output file(s).");
-							output.close();
-							return OGPConstants.ERR_CODE_GENERAL;
-						}
+						for (int ll = 2, mm = nonFreeSystem.size(); ll < mm; ll++) {
+							int currExp = nonFreeSystem.get(ll).getLeadingExp(ii);
 						
-						XPolynomial currPoly = nonFreeSystem.get(first);
-						triangularSystem.add(0, currPoly); // always add to beginning
-						this.variableList.add(0, new Integer(ii));
-						nonFreeSystem.remove(first);
-						for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
-							XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(currPoly, ii);
-							
-							if (tempXP == null)
-								return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
-							
-							int numOfTerms = tempXP.getTerms().size();
-							
-							if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-								String errMsg = "Polynomial exceeds maximal allowed number of terms.";
+							if (currExp == 0) {
+								String errMsg = "Variable not found when expected to be found.";
 								logger.error(errMsg);
 								try {
 									output.openItemWithDesc("Error:");
@@ -629,145 +736,82 @@ public class XPolySystem {
 									output.close();
 									return OGPConstants.ERR_CODE_GENERAL;
 								}
-								return OGPConstants.ERR_CODE_SPACE;
+								return OGPConstants.ERR_CODE_GENERAL;
+							} 
+							if (currExp < min1) {
+								first = ll;
+								min1 = currExp;
+								count1 = 1;
 							}
-							if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-								OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
+							else if (currExp == min1) {
+								count1++;
 							}
-							if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-								String errMsg = "Prover execution time has been expired.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
-								return OGPConstants.ERR_CODE_TIME;
+							else if (currExp < min2) {
+								second = ll;
+								min2 = currExp;
+								count2 = 1;
+							}
+							else if (currExp == min2) {
+								count2++;
 							}
-							freeSystem.add(tempXP);
 						}
-						auxSystem = freeSystem; // prepare for the next step
-						end = true;
-					}
-					else {
-						// reduce two chosen polynomials
-						XPolynomial r2 = nonFreeSystem.get(second);
-						XPolynomial r1 = nonFreeSystem.get(first);
-						int leadExp = 0;
-						
+					
 						try {
-							output.openItemWithDesc("No linear degree polynomials:");
+							output.openItemWithDesc("Minimal degrees:");
 							sb = new StringBuilder();
-							sb.append("Reducing polynomial <ind_text><label>p</label><ind>");
-							sb.append(second + 1);
-							sb.append("</ind></ind_text> (of degree ");
-							sb.append(min2);
-							sb.append(") with <ind_text><label>p</label><ind>");
-							sb.append(first + 1);
-							sb.append("</ind></ind_text> (of degree ");
-							sb.append(min1);
-							sb.append(").\n\n");
+							if (min1 < min2) {
+								sb.append(count1);
+								sb.append(" polynomial(s) with degree ");
+								sb.append(min1);
+								sb.append(" and ");
+								sb.append(count2);
+								sb.append(" polynomial(s) with degree ");
+								sb.append(min2);
+							}
+							else if (min1 == min2) {
+								sb.append(count1 + count2);
+								sb.append(" polynomial(s) with degree ");
+								sb.append(min1);
+							}
+							sb.append(".\n\n");
 							output.closeItemWithDesc(sb.toString());
 						} catch (IOException e) {
 							logger.error("Failed to write to output file(s).");
 							output.close();
 							return OGPConstants.ERR_CODE_GENERAL;
 						}
-						
-						do {
-							XPolynomial temp = r2.pseudoReminder(r1, ii);
-							
-							if (temp == null)
-								return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
-							
-							int numOfTerms = temp.getTerms().size();
-							
-							if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-								String errMsg = "Polynomial exceeds maximal allowed number of terms.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
-								return OGPConstants.ERR_CODE_SPACE;
-							}
-							if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-								OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
-							}
-							if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-								String errMsg = "Prover execution time has been expired.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
-								return OGPConstants.ERR_CODE_TIME;
-							}
-							
-							r2 = r1;
-							r1 = temp;
-							
-							if (r1.isZero()) { // two chosen polynomials have common factor - this is treated as error
-								String errMsg = "Two polynomials have common factor.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
+					
+						// if minimal exponent is 1, choose that polynomial for triangular
+						// system and all the rest will be cleaned of variable x[ii] by
+						// pseudo reminder operation
+						if (min1 == 1) {
+							try {
+								output.openItemWithDesc("Polynomial with linear degree:");
+								sb = new StringBuilder();
+								sb.append("Removing variable <ind_text><label>x</label><ind>");
+								sb.append(ii);
+								sb.append("</ind></ind_text> from all other polynomials by reducing them with polynomial <ind_text><label>p</label><ind>");
+								sb.append(originalIndexes.get(first).intValue() + 1);
+								sb.append("</ind></ind_text> from previous step.\n\n");
+								output.closeItemWithDesc(sb.toString());
+							} catch (IOException e) {
+								logger.error("Failed to write to output file(s).");
+								output.close();
 								return OGPConstants.ERR_CODE_GENERAL;
 							}
-							
-							leadExp = r1.getLeadingExp(ii);
-						} while (leadExp > 1);
-						
-						// at the end notFreeSystem(second) contains r2 and
-						// notFreeSystem(first) contains r1
-						
-						//update references in notFreeSystem
-						nonFreeSystem.set(first, r1);
-						nonFreeSystem.set(second, r2);
 						
-						// if r1 doesn't contain variable x[ii], add it to free polynomials
-						if (leadExp == 0) {
-							freeSystem.add(r1);
-							nonFreeSystem.remove(first);
-							if (nonFreeSystem.size() == 1) { // only one polynomial has left
-								// add it into triangular system
-								triangularSystem.add(0, r2); // always add to beginning
-								this.variableList.add(0, new Integer(ii));
-								auxSystem = freeSystem; // prepare for the next step
-								end = true;
-							}
-							// else, back to beginning to find other two polynomials that contain x[ii]
-						}
-						else  { // leadExp == 1
-							// add it into triangular system, and divide all other polynomials
-							triangularSystem.add(0, r1); // always add to beginning
+							XPolynomial currPoly = nonFreeSystem.get(first);
+							triangularSystem.add(0, currPoly); // always add to beginning
 							this.variableList.add(0, new Integer(ii));
 							nonFreeSystem.remove(first);
 							for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
-								XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(r1, ii);
-								
+								XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(currPoly, ii);
+							
 								if (tempXP == null)
 									return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
-								
+							
 								int numOfTerms = tempXP.getTerms().size();
-								
+							
 								if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
 									String errMsg = "Polynomial exceeds maximal allowed number of terms.";
 									logger.error(errMsg);
@@ -802,11 +846,164 @@ public class XPolySystem {
 							auxSystem = freeSystem; // prepare for the next step
 							end = true;
 						}
-					}
-				} while (!end);
+						else {
+							// reduce two chosen polynomials
+							XPolynomial r2 = nonFreeSystem.get(second);
+							XPolynomial r1 = nonFreeSystem.get(first);
+							int leadExp = 0;
+						
+							try {
+								output.openItemWithDesc("No linear degree polynomials:");
+								sb = new StringBuilder();
+								sb.append("Reducing polynomial <ind_text><label>p</label><ind>");
+								sb.append(second + 1);
+								sb.append("</ind></ind_text> (of degree ");
+								sb.append(min2);
+								sb.append(") with <ind_text><label>p</label><ind>");
+								sb.append(first + 1);
+								sb.append("</ind></ind_text> (of degree ");
+								sb.append(min1);
+								sb.append(").\n\n");
+								output.closeItemWithDesc(sb.toString());
+							} catch (IOException e) {
+								logger.error("Failed to write to output file(s).");
+								output.close();
+								return OGPConstants.ERR_CODE_GENERAL;
+							}
+						
+							do {
+								XPolynomial temp = r2.pseudoReminder(r1, ii);
+							
+								if (temp == null)
+									return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
+							
+								int numOfTerms = temp.getTerms().size();
+							
+								if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
+									String errMsg = "Polynomial exceeds maximal allowed number of terms.";
+									logger.error(errMsg);
+									try {
+										output.openItemWithDesc("Error:");
+										output.closeItemWithDesc(errMsg);
+									} catch (IOException e) {
+										logger.error("Failed to write to output file(s).");
+										output.close();
+										return OGPConstants.ERR_CODE_GENERAL;
+									}
+									return OGPConstants.ERR_CODE_SPACE;
+								}
+								if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
+									OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
+								}
+								if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
+									String errMsg = "Prover execution time has been expired.";
+									logger.error(errMsg);
+									try {
+										output.openItemWithDesc("Error:");
+										output.closeItemWithDesc(errMsg);
+									} catch (IOException e) {
+										logger.error("Failed to write to output file(s).");
+										output.close();
+										return OGPConstants.ERR_CODE_GENERAL;
+									}
+									return OGPConstants.ERR_CODE_TIME;
+								}
+							
+								r2 = r1;
+								r1 = temp;
+							
+								if (r1.isZero()) { // two chosen polynomials have common factor - this is treated as error
+									String errMsg = "Two polynomials have common factor.";
+									logger.error(errMsg);
+									try {
+										output.openItemWithDesc("Error:");
+										output.closeItemWithDesc(errMsg);
+									} catch (IOException e) {
+										logger.error("Failed to write to output file(s).");
+										output.close();
+										return OGPConstants.ERR_CODE_GENERAL;
+									}
+									return OGPConstants.ERR_CODE_GENERAL;
+								}
+							
+								leadExp = r1.getLeadingExp(ii);
+							} while (leadExp > 1);
+						
+							// at the end notFreeSystem(second) contains r2 and
+							// notFreeSystem(first) contains r1
+						
+							//update references in notFreeSystem
+							nonFreeSystem.set(first, r1);
+							nonFreeSystem.set(second, r2);
+						
+							// if r1 doesn't contain variable x[ii], add it to free polynomials
+							if (leadExp == 0) {
+								freeSystem.add(r1);
+								nonFreeSystem.remove(first);
+								if (nonFreeSystem.size() == 1) { // only one polynomial has left
+									// add it into triangular system
+									triangularSystem.add(0, r2); // always add to beginning
+									this.variableList.add(0, new Integer(ii));
+									auxSystem = freeSystem; // prepare for the next step
+									end = true;
+								}
+								// else, back to beginning to find other two polynomials that contain x[ii]
+							}
+							else  { // leadExp == 1
+								// add it into triangular system, and divide all other polynomials
+								triangularSystem.add(0, r1); // always add to beginning
+								this.variableList.add(0, new Integer(ii));
+								nonFreeSystem.remove(first);
+								for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
+									XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(r1, ii);
+								
+									if (tempXP == null)
+										return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
+								
+									int numOfTerms = tempXP.getTerms().size();
+								
+									if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
+										String errMsg = "Polynomial exceeds maximal allowed number of terms.";
+										logger.error(errMsg);
+										try {
+											output.openItemWithDesc("Error:");
+											output.closeItemWithDesc(errMsg);
+										} catch (IOException e) {
+											logger.error("Failed to write to output file(s).");
+											output.close();
+											return OGPConstants.ERR_CODE_GENERAL;
+										}
+										return OGPConstants.ERR_CODE_SPACE;
+									}
+									if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
+										OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
+									}
+									if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
+										String errMsg = "Prover execution time has been expired.";
+										logger.error(errMsg);
+										try {
+											output.openItemWithDesc("Error:");
+											output.closeItemWithDesc(errMsg);
+										} catch (IOException e) {
+											logger.error("Failed to write to output file(s).");
+											output.close();
+											return OGPConstants.ERR_CODE_GENERAL;
+										}
+										return OGPConstants.ERR_CODE_TIME;
+									}
+									freeSystem.add(tempXP);
+								}
+								auxSystem = freeSystem; // prepare for the next step
+								end = true;
+							}
+						}
+					} while (!end);
 				
-				// when exit the loop, no more polynomials with x[ii] and everything
-				// has been prepared for the next step (variable x[ii+1])
+					// when exit the loop, no more polynomials with x[ii] and everything
+					// has been prepared for the next step (variable x[ii+1])
+				}
+			} finally {
+				stepSpan.end(); // also when step fails
 			}
 			
 			tempSystemForOutput = new Vector<XPolynomial>();
@@ -846,6 +1043,99 @@ public class XPolySystem {
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
+	/**
+	 * Method that simplifies polynomial which is to be reduced over chosen variable
+	 * by removing its factors that don't change zeros of system under NDG conditions:
+	 * <ul>
+	 * <li>common x-factor of all terms is removed and its variables are stored as
+	 * 	   additional NDG conditions; if all terms are divisible by greatest power of
+	 *     chosen variable x, one power x is kept instead (e.g. x^2*x1 becomes x*x1),
+	 *     since then zero of polynomial is x = 0 when its leading coefficient is
+	 *     not zero, and that doesn't need new NDG condition;</li>
+	 * <li>if polynomial is not square-free in chosen variable (it has repeated roots),
+	 *     it is replaced by its square-free part (see {@link XPolynomial#getSquareFreePart(int)});
+	 *     leading coefficient of square-free part is product of leading coefficient of
+	 *     polynomial and power of leading coefficient of removed factor, so it becomes
+	 *     NDG condition as initial of triangular system.</li>
+	 * </ul>
+	 * 
+	 * @param xp			Polynomial - it can be changed by this method
+	 * @param varIndex		Index of chosen variable
+	 * @param polyIndex		Index of polynomial in report
+	 * @return				Polynomial that replaces passed in polynomial (it could be
+	 * 						same object), or null in case of error
+	 */
+	private XPolynomial factorizePolynomial(XPolynomial xp, int varIndex, int polyIndex) {
+		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.settings.getLogger();
+		StringBuilder sb;
+		XTerm commonXFactor = xp.getCommonXFactor();
+		boolean keepVariable = (commonXFactor.getVariableExponent(varIndex) == xp.getLeadingExp(varIndex));
+		
+		if (keepVariable)
+			commonXFactor.changePowerExponent(varIndex, -1);
+		
+		if (commonXFactor.getPowers().size() > 0) {
+			if (xp.divideByTerm(commonXFactor) == null) {
+				logger.error("Failed to remove common factor from polynomial.");
+				return null;
+			}
+			
+			// each removed variable is NDG condition, except chosen variable if its power is kept
+			for (Power p : commonXFactor.getPowers()) {
+				if (keepVariable && p.getIndex() == varIndex)
+					continue;
+				
+				XTerm xt = new XTerm(1);
+				xt.addPower(new Power(Variable.VAR_TYPE_UX_X, p.getIndex(), 1));
+				XPolynomial ndgFactor = new XPolynomial();
+				ndgFactor.addTerm(xt);
+				if (!this.removedFactors.contains(ndgFactor))
+					this.removedFactors.add(ndgFactor);
+			}
+			
+			try {
+				XPolynomial factorXPoly = new XPolynomial();
+				factorXPoly.addTerm(commonXFactor);
+				output.openItemWithDesc("Factorization:");
+				output.writePlainText("Common factor ");
+				output.writePolynomial(factorXPoly);
+				sb = new StringBuilder();
+				sb.append(" removed from polynomial <ind_text><label>p</label><ind>");
+				sb.append(polyIndex);
+				sb.append("</ind></ind_text>.\n\n");
+				output.closeItemWithDesc(sb.toString());
+			} catch (IOException e) {
+				logger.error("Failed to write to output file(s).");
+				output.close();
+				return null;
+			}
+		}
+		
+		XPolynomial squareFreePart = xp.getSquareFreePart(varIndex);
+		
+		if (squareFreePart == null)
+			return xp;
+		
+		try {
+			output.openItemWithDesc("Factorization:");
+			sb = new StringBuilder();
+			sb.append("Polynomial <ind_text><label>p</label><ind>");
+			sb.append(polyIndex);
+			sb.append("</ind></ind_text> is not square-free in variable <ind_text><label>x</label><ind>");
+			sb.append(varIndex);
+			sb.append("</ind></ind_text>; it is replaced by its square-free part ");
+			output.writePlainText(sb.toString());
+			output.writePolynomial(squareFreePart);
+			output.closeItemWithDesc(".\n\n");
+		} catch (IOException e) {
+			logger.error("Failed to write to output file(s).");
+			output.close();
+			return null;
+		}
+		return squareFreePart;
+	}
+	
 	/**
 	 * Method which examines whether this polynomial system is linear;
 	 * i.e. if power of each dependent variable in each term of each
@@ -872,15 +1162,12 @@ public class XPolySystem {
 	 * @param varValuesMap	Map with variables' double values
 	 * @return				XPolySystem object where all variables that appear in passed in map have been replaced
 	 * 						by their double values.
+	 * @see CompiledXPolySystem#instantiate(double[])
 	 */
 	public XPolySystem instantiateVariablesWithValues(Map<UXVariable, Double> varValuesMap) {
-		XPolySystem resXPSys = new XPolySystem();
-		for (int ii = 0, jj = this.polynomials.size(); ii < jj; ii++) {
-			XPolynomial xp = this.polynomials.get(ii).instantiateVariablesWithValues(varValuesMap);
-			if (xp == null)
-				return null;
-			resXPSys.addXPoly(xp);
-		}
-		return resXPSys;
+		Vector<UXVariable> variables = new Vector<UXVariable>(varValuesMap.keySet());
+		double[] values = CompiledXPolynomial.getSlotValues(variables, varValuesMap);
+		
+		return CompiledXPolySystem.compileForInstantiation(this, variables).instantiate(values);
 	}
 }
@@ -14,7 +14,10 @@ import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.Interval;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 /**
  * <dl>
@@ -39,6 +42,39 @@ public class XPolynomial extends Polynomial {
 	 * </b></i>
 	 */
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Index of degrees of x-variables in this polynomial. It is built on first
+	 * request and then updated when terms are added or removed; it is discarded
+	 * when powers of terms are changed otherwise.
+	 */
+	private volatile DegreeIndex degreeIndex = null;
+	/**
+	 * Compiled form of this polynomial with values of its variables at fixed
+	 * pseudo-random point (see {@link CompiledXPolynomial#evaluateAtRandomPoint(XPolynomial)}).
+	 * It is made on first evaluation and discarded whenever terms are changed.
+	 */
+	private volatile CompiledXPolynomial compiledAtRandomPoint = null;
+	/**
+	 * Fingerprint of this polynomial (see {@link #getFingerprint()}). It is
+	 * calculated on first request and discarded whenever terms are changed.
+	 */
+	private volatile Long fingerprint = null;
+	/**
+	 * Offset of borders of unit cells to which coefficients are rounded when
+	 * fingerprint is calculated; it is irrational so borders don't coincide with
+	 * integers and fractions with small denominators that appear as coefficients
+	 */
+	private static final double COEFF_CELL_OFFSET = 1 / Math.PI;
+	/**
+	 * <i><b>Maximal ratio of number of terms of polynomials calculated for
+	 * square-free part of polynomial and number of terms of that polynomial</b></i>
+	 */
+	public static final int SQUARE_FREE_PART_MAX_GROWTH = 4;
+	/**
+	 * <i><b>Maximal number of products of u-terms in first step of pseudo division
+	 * of polynomial by its derivative, for which square-free part is calculated</b></i>
+	 */
+	public static final int SQUARE_FREE_PART_MAX_PRODUCTS = 10000;
 	
 	/*
 	 * ======================================================================
@@ -54,6 +90,22 @@ public class XPolynomial extends Polynomial {
 	public int getType() {
 		return Polynomial.POLY_TYPE_XPOLY;
 	}
+	
+	/**
+	 * @return the compiled form of this polynomial for evaluation at fixed
+	 * 		   pseudo-random point, or null if it hasn't been made yet
+	 */
+	CompiledXPolynomial getCompiledAtRandomPoint() {
+		return compiledAtRandomPoint;
+	}
+	
+	/**
+	 * @param compiledAtRandomPoint the compiled form of this polynomial for
+	 * 		  evaluation at fixed pseudo-random point to set
+	 */
+	void setCompiledAtRandomPoint(CompiledXPolynomial compiledAtRandomPoint) {
+		this.compiledAtRandomPoint = compiledAtRandomPoint;
+	}
 
 	/*
 	 * ======================================================================
@@ -101,6 +153,150 @@ public class XPolynomial extends Polynomial {
 		return c;
 	}
 	
+	/**
+	 * <dl>
+	 * <dt><b>Class description:</b></dt>
+	 * <dd>Index of degrees of x-variables of polynomial - numbers of terms
+	 *     by variables and their exponents, so greatest exponent of variable
+	 *     is known after each addition or removal of term.</dd>
+	 * </dl>
+	 */
+	private static class DegreeIndex {
+		/**
+		 * Element [i][e] is number of terms in which variable x_i has exponent e
+		 */
+		private int[][] counts = new int[1][];
+		/**
+		 * Element i is greatest exponent of variable x_i (0 if polynomial doesn't contain it)
+		 */
+		private int[] degrees = new int[1];
+
+		/**
+		 * Method that updates index with powers of term which is added to
+		 * polynomial or removed from it.
+		 *
+		 * @param t			Term
+		 * @param delta		1 if term is added, -1 if it is removed
+		 */
+		public void update(Term t, int delta) {
+			for (Power p : t.getPowers()) {
+				int index = (int)p.getIndex();
+				int exp = p.getExponent();
+
+				if (index >= this.degrees.length) {
+					int newLength = Math.max(index + 1, 2 * this.degrees.length);
+					int[][] newCounts = new int[newLength][];
+					int[] newDegrees = new int[newLength];
+
+					System.arraycopy(this.counts, 0, newCounts, 0, this.counts.length);
+					System.arraycopy(this.degrees, 0, newDegrees, 0, this.degrees.length);
+					this.counts = newCounts;
+					this.degrees = newDegrees;
+				}
+
+				int[] varCounts = this.counts[index];
+
+				if (varCounts == null || varCounts.length <= exp) {
+					int[] newVarCounts = new int[Math.max(exp + 1, 4)];
+
+					if (varCounts != null)
+						System.arraycopy(varCounts, 0, newVarCounts, 0, varCounts.length);
+					varCounts = newVarCounts;
+					this.counts[index] = varCounts;
+				}
+
+				varCounts[exp] += delta;
+				if (delta > 0 && exp > this.degrees[index])
+					this.degrees[index] = exp;
+				else if (delta < 0 && varCounts[exp] == 0 && exp == this.degrees[index]) {
+					// greatest exponent has gone - find next one
+					int newDegree = exp - 1;
+
+					while (newDegree > 0 && varCounts[newDegree] == 0)
+						newDegree--;
+					this.degrees[index] = newDegree;
+				}
+			}
+		}
+
+		/**
+		 * @param index		Index of x-variable
+		 * @return			Greatest exponent of variable
+		 */
+		public int getDegree(int index) {
+			return (index >= 0 && index < this.degrees.length) ? this.degrees[index] : 0;
+		}
+	}
+	
+	/**
+	 * Method that discards index of degrees of variables, compiled form
+	 * and fingerprint of polynomial when terms are changed
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#termsChanged()
+	 */
+	@Override
+	protected void termsChanged() {
+		this.degreeIndex = null;
+		this.compiledAtRandomPoint = null;
+		this.fingerprint = null;
+	}
+	
+	/**
+	 * Method that updates index of degrees of variables when term is added
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#termAdded(com.ogprover.polynomials.Term)
+	 */
+	@Override
+	protected void termAdded(Term t) {
+		DegreeIndex index = this.degreeIndex;
+		
+		if (index != null)
+			index.update(t, 1);
+		this.coefficientsChanged();
+	}
+	
+	/**
+	 * Method that updates index of degrees of variables when term is removed
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#termRemoved(com.ogprover.polynomials.Term)
+	 */
+	@Override
+	protected void termRemoved(Term t) {
+		DegreeIndex index = this.degreeIndex;
+		
+		if (index != null)
+			index.update(t, -1);
+		this.coefficientsChanged();
+	}
+	
+	/**
+	 * Method that discards compiled form and fingerprint of polynomial when
+	 * coefficients are changed
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#coefficientsChanged()
+	 */
+	@Override
+	protected void coefficientsChanged() {
+		if (this.compiledAtRandomPoint != null)
+			this.compiledAtRandomPoint = null;
+		if (this.fingerprint != null)
+			this.fingerprint = null;
+	}
+	
+	/**
+	 * Method that empties index of degrees of variables, when it is used,
+	 * so it is filled again as terms are added
+	 * 
+	 * @see com.ogprover.polynomials.Polynomial#termsCleared()
+	 */
+	@Override
+	protected void termsCleared() {
+		if (this.degreeIndex != null)
+			this.degreeIndex = new DegreeIndex();
+		this.compiledAtRandomPoint = null;
+		this.fingerprint = null;
+	}
+	
 	/**
 	 * Method toString
 	 * 
@@ -137,51 +333,87 @@ public class XPolynomial extends Polynomial {
 	 */
 	public String printToLaTeX() {
 		StringBuilder sb = new StringBuilder();
+		
+		if (this.printToLaTeX(sb, Integer.MAX_VALUE) < 0)
+			return "??";
+		return sb.toString();
+	}
+	
+	/**
+	 * Method that appends LaTeX text of this polynomial to passed text, term
+	 * by term, without making separate string for whole polynomial. Chunks of
+	 * text are separated by "$$". Text is appended only if its length doesn't
+	 * exceed given maximal number of characters; otherwise remaining terms
+	 * are only measured, so exact length of text is known to caller.
+	 * 
+	 * @param sb			Text to append to
+	 * @param maxChars		Maximal number of characters to append
+	 * @return				Length of LaTeX text of this polynomial or -1 if
+	 * 						some term is too long to be printed; text is
+	 * 						appended only if returned value is between 0 and
+	 * 						maxChars
+	 */
+	public int printToLaTeX(StringBuilder sb, int maxChars) {
 		boolean firstTerm = true;
 		ArrayList<Term> list = this.getTermsAsDescList();
 		int ii = 0, size = list.size(), chunkSize = 0;
+		int startLen = sb.length(), textLen = 0;
 		
-		if (size == 0)
-			return "0";
+		if (size == 0) {
+			sb.append("0");
+			return 1;
+		}
 		
 		while (ii < size) {
 			Term t = list.get(ii);
 			((XTerm)t).reduce();
 			String latexTerm = t.printToLaTeX();
 			
-			if (latexTerm.startsWith("??")) // it was impossible to print current term in several chunks - it is too long
-				return "??";
+			if (latexTerm.startsWith("??")) { // it was impossible to print current term in several chunks - it is too long
+				sb.setLength(startLen);
+				return -1;
+			}
 			
 			int len = latexTerm.length();
 			int newChunkSize = chunkSize + len;
+			String prefix = null, suffix = null;
 			
 			if (!firstTerm && !((XTerm)t).getUCoeff().isSingleNegativeTerm())
-				sb.append(" + ");
+				prefix = " + ";
 			
-			if (newChunkSize <= OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE) {
-				sb.append(latexTerm);
+			if (newChunkSize <= OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE)
 				chunkSize = newChunkSize;
-			}
 			else {
 				if (!firstTerm)
-					sb.append("$$");  // chunk separator
-				sb.append(latexTerm); // if this term is alone longer then a single chunk
-									  // it is already divided in lines
+					prefix = (prefix != null) ? prefix + "$$" : "$$"; // chunk separator
+				// if this term is alone longer then a single chunk
+				// it is already divided in lines
 				if (len > OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE) {
-					sb.append("$$");  // chunk separator
+					suffix = "$$";  // chunk separator
 					chunkSize = 0;
 				}
 				else
 					chunkSize = len;
 			}
 			
+			textLen += len + ((prefix != null) ? prefix.length() : 0) + ((suffix != null) ? suffix.length() : 0);
+			if (textLen <= maxChars) {
+				if (prefix != null)
+					sb.append(prefix);
+				sb.append(latexTerm);
+				if (suffix != null)
+					sb.append(suffix);
+			}
+			
 			if (firstTerm)
 				firstTerm = false;
 			
 			ii++;
 		}
 		
-		return sb.toString();
+		if (textLen > maxChars)
+			sb.setLength(startLen); // discard partial text
+		return textLen;
 	}
 	
 	/**
@@ -189,14 +421,33 @@ public class XPolynomial extends Polynomial {
 	 */
 	public String printToXML() {
 		StringBuilder sb = new StringBuilder();
+		
+		if (!this.printToXML(sb, OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM))
+			return "??"; // polynomial is too long for output
+		return sb.toString();
+	}
+	
+	/**
+	 * Method that appends XML text of this polynomial to passed text, term
+	 * by term, without making separate string for whole polynomial. Printing
+	 * stops as soon as text exceeds given maximal number of characters.
+	 * 
+	 * @param sb			Text to append to
+	 * @param maxChars		Maximal number of characters to append
+	 * @return				True if text has been appended, false if polynomial
+	 * 						is too long for output (text is then left unchanged)
+	 */
+	public boolean printToXML(StringBuilder sb, int maxChars) {
 		ArrayList<Term> list = this.getTermsAsDescList();
 		int size = list.size();
+		int startLen = sb.length();
 		
 		if (size > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM)
-			return "??"; // polynomial is too long for output
+			return false; // polynomial is too long for output
 		
 		if (size == 0) { // zero polynomial
-			return "<proof_xpoly><proof_xterm><proof_ufrac><proof_ufrac_num><proof_upoly><proof_uterm><proof_coeff>0</proof_coeff></proof_uterm></proof_upoly></proof_ufrac_num></proof_ufrac></proof_xterm></proof_xpoly>";
+			sb.append("<proof_xpoly><proof_xterm><proof_ufrac><proof_ufrac_num><proof_upoly><proof_uterm><proof_coeff>0</proof_coeff></proof_uterm></proof_upoly></proof_ufrac_num></proof_ufrac></proof_xterm></proof_xpoly>");
+			return true;
 		}
 		
 		sb.append("<proof_xpoly>");
@@ -207,16 +458,18 @@ public class XPolynomial extends Polynomial {
 			XTerm xt = (XTerm)list.get(ii);
 			String xmlTerm = xt.printToXML();
 			
-			if (xmlTerm.startsWith("??")) // polynomial is too long for output
-				return "??";
+			if (xmlTerm.startsWith("??")) { // polynomial is too long for output
+				sb.setLength(startLen);
+				return false;
+			}
 			
 			if (firstTerm) {
 				// If coefficient of first term is non-negative, remove the + sign
 				int signInd = xmlTerm.indexOf("<proof_xsign> +");
 				if (signInd >= 0) {
 					// skip the sign
-					sb.append(xmlTerm.substring(0, xmlTerm.indexOf("<proof_xsign>")));
-					sb.append(xmlTerm.substring(xmlTerm.indexOf("</proof_xsign>") + 14));
+					sb.append(xmlTerm, 0, xmlTerm.indexOf("<proof_xsign>"));
+					sb.append(xmlTerm, xmlTerm.indexOf("</proof_xsign>") + 14, xmlTerm.length());
 				}
 				else
 					sb.append(xmlTerm);
@@ -224,15 +477,20 @@ public class XPolynomial extends Polynomial {
 			}
 			else
 				sb.append(xmlTerm);
+			
+			if (sb.length() - startLen > maxChars) { // polynomial is too long for output
+				sb.setLength(startLen);
+				return false;
+			}
 		}
 		sb.append("</proof_xpoly>");
 		
-		String xmlText = sb.toString();
-		
-		if (xmlText.length() > OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM)
-			return "??"; // polynomial is too long for output
+		if (sb.length() - startLen > maxChars) { // polynomial is too long for output
+			sb.setLength(startLen);
+			return false;
+		}
 		
-		return xmlText;
+		return true;
 	}
 	
 	/**
@@ -359,9 +617,7 @@ public class XPolynomial extends Polynomial {
 			
 			for (Power uPow : numGcd.getPowers()) {
 				if (uPow.getExponent() > 1) {
-					Power tempUP = uPow.clone();
-					tempUP.addToExponent(-1);
-					tempUT.addPower(tempUP);
+					tempUT.addPower(uPow.addToExponent(-1));
 				}
 			}
 			
@@ -375,6 +631,7 @@ public class XPolynomial extends Polynomial {
 			coeff.getNumerator().divideByTerm(numGcd);
 			coeff.getDenominator().divideByTerm(denGcd);
 		}
+		this.coefficientsChanged();
 		
 		// create monic polynomial by dividing it with double coefficient from 
 		// leading u-term of numerator of u-fraction which is coefficient of leading 
@@ -455,76 +712,66 @@ public class XPolynomial extends Polynomial {
 			return OGPConstants.ERR_CODE_NULL; 
 		}
 		
-		ArrayList<Term> termList = this.getTermsAsDescList(); // all terms in descending order
-		int maxExp = 0; // value of maximal exponent of given variable
-		Vector<Term> coeff = null; // terms from this polynomial that will make resulting leading coefficient
-		int currDecr = 0; // current value of decrement - it depends on maximal exponent
-		boolean allProcessed = false; // to check whether all terms with given variable have been processed
+		// maximal exponent of given variable is read from index of degrees;
+		// found exponent must be greater than exponent decrement
+		int maxExp = this.getLeadingExp(varIndex);
 		
-		// pass all terms from this polynomial until all terms with given variable are processed
-		for (int ii = 0, jj = termList.size(); ii < jj && !allProcessed; ii++) {
-			Term currT = termList.get(ii);
-			
+		if (maxExp <= 0 || maxExp < expDecr)
+			return 0;
+		
+		// if expDecr < 0 (i.e. -1), totally remove power of given variable
+		int currDecr = ((expDecr >= 0) ? expDecr : maxExp);
+		
+		// Fill in leading coefficient polynomial with copies of terms with
+		// maximal exponent of given variable, with changed exponent of that variable.
+		// Terms are sorted in descending order, hence all terms with given variable
+		// are not less than term made of that variable only - so only that slice
+		// of tree of terms is visited.
+		for (Term currT : this.getTermsFromVariable(varIndex)) {
 			if (currT == null) {
 				logger.error("Null object found when expected non-null value");
 				return OGPConstants.ERR_CODE_NULL;
 			}
-			int currExp = currT.getVariableExponent(varIndex); // exponent of given variable in current term
-			
-			// found variable in current term
-			if (currExp > 0) {
-				// found exponent must be greater than exponent decrement
-				if (currExp >= expDecr) {
-					// if current exponent is equals to maximal, add term to 
-					// vector of terms that will make leading coefficient
-					if (currExp == maxExp) {
-						if (coeff == null)
-							coeff = new Vector<Term>();
-						// add copy of term, with changed exponent of given variable,
-						// at the end of vector of terms;
-						// this way the descending order will be preserved
-						if (currDecr == 0) // no decrement
-							coeff.add(currT.clone());
-						else
-							coeff.add(currT.clone().changePowerExponent(varIndex, -currDecr));
-					}
-					else if (currExp > maxExp) { // found new maximal value
-						maxExp = currExp;
-						// if expDecr < 0 (i.e. -1), totally remove power of given variable
-						currDecr = ((expDecr >= 0) ? expDecr : maxExp);
-						// disregard all previous terms from this collection
-						coeff = new Vector<Term>(); 
-					
-						// add copy of term, with changed exponent of given variable,
-						// at the end of vector of terms;
-						// this way the descending order will be preserved
-						if (currDecr == 0)
-							coeff.add(currT.clone());
-						else
-							coeff.add(currT.clone().changePowerExponent(varIndex, -currDecr));
-					}
-				}
+			
+			if (currT.getVariableExponent(varIndex) == maxExp) {
+				if (currDecr == 0) // no decrement
+					leadingCoeff.addTerm(currT.clone());
+				else
+					leadingCoeff.addTerm(currT.clone().changePowerExponent(varIndex, -currDecr));
 			}
-			// if current term doesn't contain variable and its greatest (first)
-			// power is for variable with smaller index than the index of given 
-			// variable, that means all terms with given variable have been 
-			// processed since terms are sorted in descending order
-			else if (currT.getPowers().size() == 0 || currT.getPowers().get(0).getIndex() < varIndex) 
-				allProcessed = true;
-		}
-		
-		// Fill in leading coefficient polynomial
-		// but only if terms with given variable were found
-		// and if passed in exponent decrement is not greater
-		// than maximal exponent.
-		if (maxExp > 0) {
-			for (int ii = 0, jj = coeff.size(); ii < jj; ii++)
-				leadingCoeff.addTerm(coeff.get(ii)); // no need to clone objects
 		}
 		
 		return maxExp;
 	}
 	
+	/**
+	 * Method that gives view of slice of terms of this polynomial which can
+	 * contain variable with given index - these are all terms whose greatest
+	 * (first) power is for variable with index not less than given index.
+	 * 
+	 * @param varIndex	Index of x-variable
+	 * @return			Terms whose greatest variable is not less than given variable
+	 */
+	private Collection<Term> getTermsFromVariable(int varIndex) {
+		Term firstTerm = new XTerm(1);
+		
+		firstTerm.addPower(new Power(Variable.VAR_TYPE_UX_X, varIndex, 1));
+		return this.terms.tailMap(firstTerm).values();
+	}
+	
+	/**
+	 * Method that builds index of degrees of x-variables in this polynomial.
+	 * 
+	 * @return	Index of degrees
+	 */
+	private DegreeIndex buildDegreeIndex() {
+		DegreeIndex index = new DegreeIndex();
+		
+		for (Term t : this.terms.values())
+			index.update(t, 1);
+		return index;
+	}
+	
 	/**
 	 * Method for calculation of pseudo reminder of this polynomial with 
 	 * another passed in polynomial over variable with passed in index.
@@ -536,6 +783,24 @@ public class XPolynomial extends Polynomial {
 	 * 					in case of error
 	 */
 	public XPolynomial pseudoReminder(XPolynomial p, int varIndex) {
+		return this.pseudoReminder(p, varIndex, OpenGeoProver.settings.getParameters().getSpaceLimit(), true);
+	}
+	
+	/**
+	 * Method for calculation of pseudo reminder of this polynomial with 
+	 * another passed in polynomial over variable with passed in index,
+	 * which is given up when reminder becomes too big.
+	 * 
+	 * @param p				Polynomial which this polynomial is pseudo divided by
+	 * @param varIndex		Index of variable over which pseudo division is performed
+	 * @param maxNumOfTerms	Maximal number of terms of reminder
+	 * @param logErrors		True if exceeded limits of space and time are errors of
+	 * 						prover, false if caller only gives up calculation
+	 * @return				This polynomial which is result of operation -
+	 * 						pseudo reminder (this = prem(this, p, varIndex)), or null
+	 * 						in case of error or if limit is exceeded
+	 */
+	private XPolynomial pseudoReminder(XPolynomial p, int varIndex, int maxNumOfTerms, boolean logErrors) {
 		if (p == null) {
 			OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Null polynomial passed in.");
 			return null;
@@ -546,6 +811,11 @@ public class XPolynomial extends Polynomial {
 			return null;
 		}
 		
+		OGPMetrics metrics = OpenGeoProver.settings.getMetrics();
+		metrics.incrementCounter(OGPMetrics.PSEUDO_DIVISION_CALLS);
+		MetricsSpan span = metrics.startSpan(OGPMetrics.SPAN_PSEUDO_DIVISION);
+		int numOfSteps = 0;
+		
 		/*
 		 * Update space measure
 		 */
@@ -565,6 +835,7 @@ public class XPolynomial extends Polynomial {
 		
 		if (pe < 0) { // error has occurred
 			OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
+			this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
 			return null;
 		}
 		
@@ -572,12 +843,16 @@ public class XPolynomial extends Polynomial {
 			// in this case polynomial p is constant as polynomial by
 			// given variable and thus reminder is zero polynomial
 			this.terms = new TreeMap<Term, Term>();
+			this.termsCleared();
+			this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
 			return this;
 		}
 		
 		boolean canProceed;
 		XPolynomial reminder = this; // initial reminder is this polynomial
+		GeoBucket newReminder = new GeoBucket();
 		
+		newReminder.setTimer(OpenGeoProver.settings.getTimer()); // incomplete reminder is discarded below
 		do {
 			canProceed = false;
 			// now do same for this polynomial as for p, passing in value of 
@@ -587,6 +862,7 @@ public class XPolynomial extends Polynomial {
 			
 			if (re < 0) { // error has occurred
 				OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
+				this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
 				return null;
 			}
 			
@@ -594,8 +870,14 @@ public class XPolynomial extends Polynomial {
 			// rc contains calculated leading coefficient
 			if (re >= pe) { // one step of pseudo division can be done
 				canProceed = true; // after division, one more loop step will be done
-				// calculate new reminder
-				reminder = (XPolynomial)reminder.multiplyByPolynomial(pc).subtractPolynomial(p.clone().multiplyByPolynomial(rc));
+				// calculate new reminder as pc*reminder - rc*p; both products
+				// are collected in one geobucket and written back to reminder
+				newReminder.addProduct(pc, reminder);
+				newReminder.subtractProduct(rc, p);
+				newReminder.writeTo(reminder);
+				// when leading parts cancel out completely, no further step is needed
+				if (reminder.isZero())
+					canProceed = false;
 				/*
 				XPolynomial tempP = (XPolynomial) p.clone();
 				tempP.multiplyByPolynomial(rc);
@@ -609,24 +891,56 @@ public class XPolynomial extends Polynomial {
 			 * Check space and time limits and update space measure
 			 */
 			int sizeOfRem = reminder.getTerms().size();
-			if (sizeOfRem > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-				OpenGeoProver.settings.logSpaceErrorInPseudoDivision(sizeOfRem);
+			if (sizeOfRem > maxNumOfTerms) {
+				if (logErrors)
+					OpenGeoProver.settings.logSpaceErrorInPseudoDivision(sizeOfRem);
+				this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
 				return null;
 			}
 			if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-				OpenGeoProver.settings.logTimeErrorInPseudoDivision();
+				if (logErrors)
+					OpenGeoProver.settings.logTimeErrorInPseudoDivision();
+				this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
 				return null;
 			}
 			if (sizeOfRem > OpenGeoProver.settings.getMaxNumOfTerms()) {
 				OpenGeoProver.settings.setMaxNumOfTerms(sizeOfRem);
 			}
+			if (re >= pe) {
+				numOfSteps++;
+				metrics.incrementCounter(OGPMetrics.PSEUDO_DIVISION_STEPS);
+				metrics.recordValue(OGPMetrics.PSEUDO_DIVISION_STEP_TERMS, sizeOfRem);
+			}
 		} while (canProceed);
 		
+		this.endPseudoDivisionSpan(span, varIndex, sizeOfThis, sizeOfP, numOfSteps);
+		
 		// if exponent from this polynomial is smaller than the exponent
 		// from p, then result of pseudo reminder is this polynomial
 		return this; // this is same as reminder reference
 	}
 	
+	/**
+	 * Method that sets attributes of span of pseudo division and finishes it.
+	 * 
+	 * @param span			Span of pseudo division
+	 * @param varIndex		Index of variable over which pseudo division is performed
+	 * @param dividendTerms	Number of terms of dividend
+	 * @param divisorTerms	Number of terms of divisor
+	 * @param numOfSteps	Number of performed steps of pseudo division
+	 */
+	private void endPseudoDivisionSpan(MetricsSpan span, int varIndex, int dividendTerms, int divisorTerms, int numOfSteps) {
+		if (span == MetricsSpan.DISABLED_SPAN)
+			return;
+		
+		span.setAttribute(OGPMetrics.ATTR_VARIABLE_INDEX, varIndex);
+		span.setAttribute(OGPMetrics.ATTR_DIVIDEND_TERMS, dividendTerms);
+		span.setAttribute(OGPMetrics.ATTR_DIVISOR_TERMS, divisorTerms);
+		span.setAttribute(OGPMetrics.ATTR_REMAINDER_TERMS, this.getTerms().size());
+		span.setAttribute(OGPMetrics.ATTR_STEPS, numOfSteps);
+		span.end();
+	}
+	
 	/**
 	 * Method that gives greatest exponent of given variable in this polynomial.
 	 *  
@@ -635,38 +949,15 @@ public class XPolynomial extends Polynomial {
 	 * 					contain this variable) or error code (< 0)
 	 */
 	public int getLeadingExp(int varIndex) {
-		ArrayList<Term> termList = this.getTermsAsDescList(); // all terms in descending order
-		int maxExp = 0; // value of maximal exponent of given variable
-		boolean allProcessed = false; // to check whether all terms with given variable have been processed
+		// index of degrees is built once and then updated with terms
+		DegreeIndex index = this.degreeIndex;
 		
-		// pass all terms from this polynomial until all terms with given variable are processed
-		for (int ii = 0, jj = termList.size(); ii < jj && !allProcessed; ii++) {
-			Term currT = termList.get(ii);
-			
-			if (currT == null) {
-				OpenGeoProver.settings.getLogger().error("Null object found when expected non-null value");
-				return OGPConstants.ERR_CODE_NULL;
-			}
-			int currExp = currT.getVariableExponent(varIndex); // exponent of given variable in current term
-			
-			// found variable in current term
-			if (currExp > 0) {
-				if (currExp > maxExp) // found new maximal value
-					maxExp = currExp;
-			}
-			// if current term doesn't contain variable and its greatest (first)
-			// power is for variable with smaller index than the index of given 
-			// variable, that means all terms with given variable have been 
-			// processed since terms are sorted in descending order
-			else {
-				Vector<Power> powers = currT.getPowers();
-				Power currP = (powers.size() > 0) ? powers.get(0) : null;
-				if (currP == null || currP.getIndex() < varIndex) 
-					allProcessed = true;
-			}
+		if (index == null) {
+			index = this.buildDegreeIndex();
+			this.degreeIndex = index;
 		}
 		
-		return maxExp;
+		return index.getDegree(varIndex);
 	}
 	
 	/**
@@ -693,6 +984,302 @@ public class XPolynomial extends Polynomial {
 		return leadingCoeffXPoly;
 	}
 	
+	/**
+	 * Method that returns polynomial which is coefficient of given power of
+	 * x-variable in this polynomial, considered as polynomial in that variable.
+	 * 
+	 * @param xVarIndex		Index of x-variable
+	 * @param exp			Exponent of x-variable (zero for terms free of that variable)
+	 * @return				X-polynomial which is coefficient of given power of variable
+	 */
+	private XPolynomial getCoefficientOfVariable(int xVarIndex, int exp) {
+		XPolynomial coeffXPoly = new XPolynomial();
+		
+		for (Term t : this.terms.values()) {
+			if (t.getVariableExponent(xVarIndex) == exp)
+				coeffXPoly.addTerm(t.clone().changePowerExponent(xVarIndex, -exp));
+		}
+		return coeffXPoly;
+	}
+	
+	/**
+	 * Method that calculates greatest x-term which divides all terms of this
+	 * polynomial, i.e. product of powers of x-variables common to all terms.
+	 * 
+	 * @return	Common x-factor with coefficient 1; it has no powers if terms
+	 * 			have no common x-variable (or if this polynomial is zero)
+	 */
+	public XTerm getCommonXFactor() {
+		XTerm commonXFactor = null;
+		
+		for (Term t : this.terms.values()) {
+			if (commonXFactor == null) {
+				commonXFactor = new XTerm(1);
+				for (Power p : t.getPowers())
+					commonXFactor.getPowers().add(p); // powers are immutable and can be shared
+			}
+			else
+				commonXFactor.gcd(t);
+			
+			if (commonXFactor.getPowers().size() == 0)
+				break;
+		}
+		
+		return (commonXFactor != null) ? commonXFactor : new XTerm(1);
+	}
+	
+	/**
+	 * Method for division of this polynomial by x-term. It is assumed that
+	 * each term of this polynomial is divisible by passed in term.
+	 * 
+	 * @param xt	Term to divide this polynomial by
+	 * @return		This polynomial which is result of operation or null in case of error
+	 */
+	public XPolynomial divideByTerm(XTerm xt) {
+		// division by same term keeps the order of terms
+		for (Term t : this.terms.values()) {
+			if (t.divide(xt) == null)
+				return null;
+		}
+		this.termsChanged();
+		
+		return this;
+	}
+	
+	/**
+	 * Method that examines whether this polynomial, considered as polynomial in
+	 * given x-variable, is power of polynomial which is linear in that variable
+	 * (multiplied by some polynomial free of that variable), and returns that
+	 * linear polynomial. If this polynomial is c_n*x^n + c_(n-1)*x^(n-1) + ... then
+	 * the linear polynomial is n*c_n*x + c_(n-1), since this polynomial is its power
+	 * iff n^n * c_n^(n-1) * this = (n*c_n*x + c_(n-1))^n. Since these powers can be
+	 * huge, cheap necessary conditions are checked first: all coefficients c_0, ..., c_n
+	 * of power of linear polynomial are different from zero (unless c_(n-1) is zero too),
+	 * and the identity must hold at fixed pseudo-random point, which is checked in interval
+	 * arithmetic (see {@link CompiledXPolynomial#evaluateAtRandomPoint(XPolynomial)}).
+	 * The check is given up when prover's time limit expires.
+	 * <br>
+	 * Under condition c_n != 0 zeros of this polynomial and of linear polynomial
+	 * are same.
+	 * 
+	 * @param xVarIndex		Index of x-variable
+	 * @return				Linear polynomial whose power is this polynomial, or null
+	 * 						if this polynomial is not of degree 2 or more in given variable
+	 * 						or if it is not power of linear polynomial (or if time is up)
+	 */
+	public XPolynomial getLinearFactorOfPower(int xVarIndex) {
+		int n = this.getLeadingExp(xVarIndex);
+		
+		if (n < 2)
+			return null;
+		
+		// coefficient of x^k in (n*c_n*x + c_(n-1))^n is product of powers of c_n and c_(n-1)
+		boolean[] expFound = new boolean[n + 1];
+		int numOfExps = 0;
+		
+		for (Term t : this.terms.values()) {
+			int exp = t.getVariableExponent(xVarIndex);
+			
+			if (!expFound[exp]) {
+				expFound[exp] = true;
+				numOfExps++;
+			}
+		}
+		if (numOfExps != n + 1 && numOfExps != 1)
+			return null;
+		
+		XPolynomial leadingCoeff = this.getCoefficientOfVariable(xVarIndex, n);
+		XPolynomial linearFactor = this.getCoefficientOfVariable(xVarIndex, n - 1);
+		
+		// identity at fixed pseudo-random point; when difference of its sides
+		// certainly isn't zero, polynomial isn't power of linear polynomial
+		Interval x = new Interval(CompiledXPolynomial.getRandomValue(UXVariable.getInstance(Variable.VAR_TYPE_UX_X, xVarIndex)));
+		Interval cn = CompiledXPolynomial.evaluateAtRandomPoint(leadingCoeff);
+		Interval lhs = new Interval(n).power(n).multiply(cn.power(n - 1)).multiply(CompiledXPolynomial.evaluateAtRandomPoint(this));
+		Interval rhs = new Interval(n).multiply(cn).multiply(x).add(CompiledXPolynomial.evaluateAtRandomPoint(linearFactor)).power(n);
+		
+		if (lhs.subtract(rhs).signum() != 0)
+			return null;
+		
+		XTerm nx = new XTerm(n);
+		
+		nx.addPower(new Power(Variable.VAR_TYPE_UX_X, xVarIndex, 1));
+		linearFactor.addPolynomial(((XPolynomial)leadingCoeff.clone()).multiplyByTerm(nx));
+		
+		XPolynomial scaledThis = (XPolynomial)this.clone();
+		XPolynomial powerOfFactor = (XPolynomial)linearFactor.clone();
+		
+		scaledThis.multiplyByRealConstant(Math.pow(n, n));
+		for (int ii = 1; ii < n; ii++) {
+			if (OpenGeoProver.settings.getTimer().isTimeIsUp())
+				return null;
+			scaledThis.multiplyByPolynomial(leadingCoeff);
+			powerOfFactor.multiplyByPolynomial(linearFactor);
+		}
+		
+		return scaledThis.equals(powerOfFactor) ? linearFactor : null;
+	}
+	
+	/**
+	 * Method that examines whether this polynomial, considered as polynomial in
+	 * given x-variable, is square-free, and if it is not, calculates its square-free
+	 * part - polynomial whose zeros are zeros of this polynomial, each of them simple.
+	 * If g = gcd(p, dp/dx) is of degree m and c_g is its leading coefficient, square-free
+	 * part is pseudo quotient q of polynomial p and g, i.e. c_g^(n-m+1) * p = q * g, and
+	 * its leading coefficient is c_g^(n-m) * c_n. When m = n - 1, polynomial is power of
+	 * polynomial linear in x and its square-free part is n*c_n*x + c_(n-1).
+	 * <br>
+	 * Since gcd is costly, polynomial is first reduced modulo prime numbers, with all other
+	 * variables replaced by fixed values (see {@link ModularPolynomial#reduceXPolynomial(XPolynomial, int, int, long, long)}).
+	 * If reduced polynomial has same degree and it is square-free, this polynomial is certainly
+	 * square-free. Otherwise gcd is calculated by sequence of pseudo remainders; since their
+	 * coefficients grow fast, it is calculated only for polynomials with small leading
+	 * coefficients (see {@link #SQUARE_FREE_PART_MAX_PRODUCTS}) and calculation is given up
+	 * when some polynomial gets more than {@link #SQUARE_FREE_PART_MAX_GROWTH} times as many
+	 * terms as this polynomial. If
+	 * coefficients can't be reduced exactly, only powers of linear polynomials are looked
+	 * for (see {@link #getLinearFactorOfPower(int)}).
+	 * <br>
+	 * Under condition that leading coefficient of square-free part is not zero, zeros of this
+	 * polynomial and of its square-free part are same.
+	 * 
+	 * @param xVarIndex		Index of x-variable
+	 * @return				Square-free part of this polynomial, or null if this polynomial
+	 * 						is of degree less than 2 in given variable, if it is square-free
+	 * 						or if its square-free part can't be calculated (or if time is up)
+	 */
+	public XPolynomial getSquareFreePart(int xVarIndex) {
+		int n = this.getLeadingExp(xVarIndex);
+		
+		if (n < 2)
+			return null;
+		
+		int gcdDegree = -1;
+		
+		for (long prime : FieldExtensionAnalyzer.PRIMES) {
+			ModularPolynomial modPoly = ModularPolynomial.reduceXPolynomial(this, xVarIndex, n, FieldExtensionAnalyzer.U_VALUES_SEED, prime);
+			
+			if (modPoly == null)
+				return this.getLinearFactorOfPower(xVarIndex);
+			if (modPoly.getDegree() < n)
+				continue; // leading coefficient vanishes modulo this prime
+			gcdDegree = modPoly.gcd(modPoly.derivative()).getDegree();
+			break;
+		}
+		
+		if (gcdDegree <= 0)
+			return null; // certainly square-free, or leading coefficient vanishes modulo all primes
+		
+		// first step of pseudo division multiplies this polynomial by leading coefficient
+		int numOfUTerms = 0, numOfLeadingUTerms = 0;
+		
+		for (Term t : this.terms.values()) {
+			int size = ((XTerm)t).getUCoeff().getNumerator().getTerms().size();
+			
+			numOfUTerms += size;
+			if (t.getVariableExponent(xVarIndex) == n)
+				numOfLeadingUTerms += size;
+		}
+		if ((long)numOfUTerms * numOfLeadingUTerms > XPolynomial.SQUARE_FREE_PART_MAX_PRODUCTS)
+			return null;
+		
+		// gcd of polynomial and its derivative by sequence of pseudo remainders
+		int maxNumOfTerms = XPolynomial.SQUARE_FREE_PART_MAX_GROWTH * this.terms.size();
+		XPolynomial gcd = (XPolynomial)this.clone();
+		XPolynomial reminder = this.getDerivative(xVarIndex);
+		
+		while (reminder.getLeadingExp(xVarIndex) > 0) {
+			XPolynomial nextReminder = gcd.pseudoReminder(reminder, xVarIndex, maxNumOfTerms, false);
+			
+			if (nextReminder == null)
+				return null;
+			gcd = reminder;
+			reminder = nextReminder;
+		}
+		
+		// gcd free of variable means that reduction modulo prime was unlucky
+		int m = gcd.getLeadingExp(xVarIndex);
+		
+		if (!reminder.isZero() || m > gcdDegree)
+			return null;
+		
+		if (m == n - 1) {
+			XPolynomial leadingCoeff = this.getCoefficientOfVariable(xVarIndex, n);
+			XPolynomial linearFactor = this.getCoefficientOfVariable(xVarIndex, n - 1);
+			XTerm nx = new XTerm(n);
+			
+			nx.addPower(new Power(Variable.VAR_TYPE_UX_X, xVarIndex, 1));
+			return (XPolynomial)linearFactor.addPolynomial(leadingCoeff.multiplyByTerm(nx));
+		}
+		return this.pseudoQuotient(gcd, xVarIndex, maxNumOfTerms);
+	}
+	
+	/**
+	 * Method that calculates derivative of this polynomial by given x-variable.
+	 * 
+	 * @param xVarIndex		Index of x-variable
+	 * @return				Derivative of this polynomial
+	 */
+	private XPolynomial getDerivative(int xVarIndex) {
+		XPolynomial derivative = new XPolynomial();
+		
+		for (Term t : this.terms.values()) {
+			int exp = t.getVariableExponent(xVarIndex);
+			
+			if (exp == 0)
+				continue;
+			
+			XPolynomial derivativeOfTerm = new XPolynomial();
+			
+			derivativeOfTerm.addTerm(t.clone().changePowerExponent(xVarIndex, -1));
+			derivative.addPolynomial(derivativeOfTerm.multiplyByRealConstant(exp));
+		}
+		return derivative;
+	}
+	
+	/**
+	 * Method that calculates pseudo quotient of this polynomial and passed in
+	 * polynomial over given x-variable, when pseudo remainder is zero.
+	 * 
+	 * @param p				Polynomial which this polynomial is pseudo divided by
+	 * @param xVarIndex		Index of x-variable
+	 * @param maxNumOfTerms	Maximal number of terms of quotient and reminder
+	 * @return				Pseudo quotient, or null if pseudo remainder is not zero
+	 * 						or if limit is exceeded (or if time is up)
+	 */
+	private XPolynomial pseudoQuotient(XPolynomial p, int xVarIndex, int maxNumOfTerms) {
+		int pe = p.getLeadingExp(xVarIndex);
+		XPolynomial pc = p.getCoefficientOfVariable(xVarIndex, pe);
+		XPolynomial reminder = (XPolynomial)this.clone();
+		XPolynomial quotient = new XPolynomial();
+		
+		for (int re = reminder.getLeadingExp(xVarIndex); re >= pe && !reminder.isZero(); ) {
+			if (OpenGeoProver.settings.getTimer().isTimeIsUp())
+				return null;
+			
+			// quotient = pc*quotient + rc*x^(re-pe), reminder = pc*reminder - rc*x^(re-pe)*p
+			XPolynomial rc = reminder.getCoefficientOfVariable(xVarIndex, re);
+			
+			if (re > pe) {
+				XTerm xt = new XTerm(1);
+				
+				xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xVarIndex, re - pe));
+				rc.multiplyByTerm(xt);
+			}
+			quotient.multiplyByPolynomial(pc).addPolynomial(rc);
+			reminder.multiplyByPolynomial(pc).subtractPolynomial(rc.multiplyByPolynomial(p));
+			
+			int nextRe = reminder.getLeadingExp(xVarIndex);
+			
+			if (nextRe >= re && !reminder.isZero())
+				return null; // leading terms haven't cancelled out
+			if (quotient.terms.size() > maxNumOfTerms || reminder.terms.size() > maxNumOfTerms)
+				return null;
+			re = nextRe;
+		}
+		return reminder.isZero() ? quotient : null;
+	}
+	
 	/**
 	 * Method that extracts all u and x variables from this polynomial.
 	 * 
@@ -749,83 +1336,104 @@ public class XPolynomial extends Polynomial {
 	}
 	
 	/**
-	 * Method that checks if this polynomial matches passed in polynomial
-	 * which is algebraic form of some NDG condition.
+	 * Method that checks whether all u-fractions which are coefficients of this
+	 * polynomial have constant denominators.
 	 * 
-	 * @param ndgcPoly	Polynomial form of NDG condition - non-zero polynomial which is
-	 * 					reduced by u-term division (removed sufficient u-terms)
-	 * @return			True if this polynomial corresponds to passed in polynomial
-	 * 					form of NDG condition.
+	 * @return	True if all denominators are constant, false otherwise
 	 */
-	public boolean matchesNDGCPolynomial(XPolynomial ndgcPoly) {
-		// If this polynomial is zero, it cannot match polynomial form of NDG condition
-		// since that polynomial is non-zero
-		if (this.isZero() == true)
-			return false;
-		
-		// This polynomial represents algebraic form of specific position of some points
-		XPolynomial positionPoly = ((XPolynomial) this.clone()).reduceUTerms(false);
-		XPolynomial conditionPoly = (XPolynomial) ndgcPoly.clone();
-		
-		// Calculate u factor of position polynomial
-		UTerm posPolyUFactor = null;
-		
-		for (Term t : positionPoly.getTermsAsDescList()) {
-			XTerm xt = (XTerm)t;
+	public boolean hasConstantDenominators() {
+		for (Term t : this.terms.values()) {
+			UPolynomial uDen = ((XTerm)t).getUCoeff().getDenominator();
 			
-			for (Term ut : xt.getUCoeff().getNumerator().getTermsAsDescList()) {
-				if (posPolyUFactor == null) {
-					posPolyUFactor = (UTerm)ut.clone();
-					posPolyUFactor.setCoeff(1);
-				}
-				else
-					posPolyUFactor.gcd(ut);
-			}
+			if (uDen.getTerms().size() > 1 || (uDen.getTerms().size() == 1 && uDen.getTerms().firstKey().getPowers().size() > 0))
+				return false;
 		}
+		return true;
+	}
+	
+	/**
+	 * Method that retrieves fingerprint of this polynomial. Fingerprint depends
+	 * on powers of x-terms, powers of u-terms from numerators of their coefficients
+	 * and real coefficients of these u-terms divided by constant denominators.
+	 * Since polynomials are compared with tolerance, real coefficients are rounded
+	 * to unit cells whose borders are shifted by irrational offset, so two polynomials
+	 * which are equal (in sense of {@link #equals(Object)}) and have constant denominators
+	 * (see {@link #hasConstantDenominators()}) have same fingerprints unless they differ
+	 * by rounding errors in coefficient that lies at border of cell. Therefore, polynomials
+	 * with constant denominators and different fingerprints are considered different.
+	 * <br>
+	 * Fingerprint is calculated on first call and kept until terms of polynomial are changed.
+	 * 
+	 * @return	Fingerprint of this polynomial
+	 */
+	public long getFingerprint() {
+		Long fp = this.fingerprint;
 		
-		// Calculate residual polynomial for position polynomial
-		XPolynomial posPolyResidum = (XPolynomial) positionPoly.clone();
-		
-		for (Term xt : posPolyResidum.getTermsAsDescList())
-			((XTerm) xt).getUCoeff().getNumerator().divideByTerm(posPolyUFactor);
+		if (fp == null) {
+			fp = Long.valueOf(this.calculateFingerprint());
+			this.fingerprint = fp;
+		}
+		return fp.longValue();
+	}
+	
+	/**
+	 * Method that calculates fingerprint of this polynomial.
+	 * 
+	 * @return	Fingerprint of this polynomial
+	 * @see #getFingerprint()
+	 */
+	private long calculateFingerprint() {
+		long fp = this.terms.size();
 		
-		/*
-		 * Each single u-variable and residual polynomial should be compared 
-		 * with polynomial for NDGC. If any of these polynomials is equal to 
-		 * polynomial form of NDGC, that means that in certain occasions this 
-		 * position can generate specified degenerative condition.
-		 */
-		for (Power p : posPolyUFactor.getPowers()) {
-			// single u-variable
-			UPolynomial up = new UPolynomial();
-			UTerm ut = new UTerm(1);
-			ut.addPower(p.clone());
-			up.addTerm(ut);
-			XTerm xt = new XTerm(new UFraction(up));
-			XPolynomial xp = new XPolynomial();
-			xp.addTerm(xt);
-			
-			if (xp.equals(conditionPoly))
-				return true; // found a match
-		}
-		
-		// special case - if NDGC polynomial is single term polynomial, check whether position polynomial is divisible by it
-		if (conditionPoly.getTerms().size() == 1) {
-			boolean bDivisible = true;
-			Term singleTerm = conditionPoly.getTermsAsDescList().get(0);
-			
-			for (Term xt : posPolyResidum.getTermsAsDescList()) {
-				if (!xt.isDivisibleByTerm(singleTerm)) {
-					bDivisible = false;
-					break;
-				}
+		// terms are kept in tree map and are therefore always visited in same order
+		for (Term t : this.terms.values()) {
+			UFraction uCoeff = ((XTerm)t).getUCoeff();
+			UPolynomial uDen = uCoeff.getDenominator();
+			double den = 1;
+			
+			if (uDen.getTerms().size() == 1) {
+				UTerm denTerm = (UTerm)uDen.getTerms().firstKey();
+				
+				if (denTerm.getPowers().size() == 0)
+					den = denTerm.getCoeff();
+			}
+			
+			fp = 31*fp + getPowersFingerprint(t);
+			
+			for (Term ut : uCoeff.getNumerator().getTerms().values()) {
+				fp = 37*fp + getPowersFingerprint(ut);
+				fp = 41*fp + (long)Math.floor(((UTerm)ut).getCoeff()/den + COEFF_CELL_OFFSET);
 			}
-		
-			if (bDivisible)
-				return true;
 		}
+		return fp;
+	}
+	
+	/**
+	 * Method that calculates fingerprint of powers of passed in term.
+	 * 
+	 * @param t		Term
+	 * @return		Fingerprint of powers of term
+	 */
+	private static long getPowersFingerprint(Term t) {
+		long fp = 1;
 		
-		return posPolyResidum.equals(conditionPoly);
+		for (Power p : t.getPowers())
+			fp = 17*(17*(17*fp + p.getVarType()) + p.getIndex()) + p.getExponent();
+		return fp;
+	}
+	
+	/**
+	 * Method that checks if this polynomial matches passed in polynomial
+	 * which is algebraic form of some NDG condition.
+	 * 
+	 * @param ndgcPoly	Polynomial form of NDG condition - non-zero polynomial which is
+	 * 					reduced by u-term division (removed sufficient u-terms)
+	 * @return			True if this polynomial corresponds to passed in polynomial
+	 * 					form of NDG condition.
+	 * @see PositionPolynomial
+	 */
+	public boolean matchesNDGCPolynomial(XPolynomial ndgcPoly) {
+		return new PositionPolynomial(this).matches(ndgcPoly, null);
 	}
 	
 	/**
@@ -6,11 +6,17 @@ package com.ogprover.pp.tp;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.multithread.NDGCondTranslationThread;
 import com.ogprover.polynomials.*;
 import com.ogprover.pp.tp.auxiliary.*;
 import com.ogprover.pp.tp.geoconstruction.*;
@@ -22,6 +28,8 @@ import com.ogprover.pp.tp.thmstatement.*;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 /**
  * <dl>
@@ -68,6 +76,11 @@ public class OGPTP {
 	 * constructed geometric object
 	 */
 	private Map<String, GeoConstruction> constructionMap = null;
+	/**
+	 * Dependency graph of construction steps - it is updated whenever
+	 * construction is added to or removed from this CP
+	 */
+	private ConstructionDependencyGraph dependencyGraph = null;
 	/**
 	 * Theorem statement about objects constructed by 
 	 * construction steps of this Construction Protocol 
@@ -89,6 +102,12 @@ public class OGPTP {
 	 * problems.
 	 */
 	private int rcConsMomentOfInstantiationOfPointCoordinates = OGPTP.INSTANTIATION_MOMENT_AFTER;
+	/**
+	 * Triangular polynomial system obtained by transformation of RC-constructibility
+	 * problem (instantiated with values of coordinates of free points, if they are
+	 * specified). Used for analysis of degrees of field extensions.
+	 */
+	private XPolySystem rcConsPolySystem = null;
 	/**
 	 * List of NDG conditions associated with algebraic prover for this theorem.
 	 */
@@ -105,6 +124,16 @@ public class OGPTP {
 	 * List with all combinations of points with zero for some coordinate
 	 */
 	private Vector<Vector<Point>> zeroPoints = null;
+	/**
+	 * Index of algebraic forms of specific positions of points, used in translation
+	 * of NDG conditions of this CP to readable form; it is created on demand
+	 */
+	private PointsPositionIndex pointsPositionIndex = null;
+	/**
+	 * Cache of instantiated conditions of this CP and of auxiliary CPs used
+	 * in checks for it; it is created on demand
+	 */
+	private InstantiationCache instantiationCache = null;
 	/* 
 	 * Members necessary for instantiation of points in algebraic form - BEGIN
 	 */
@@ -161,6 +190,7 @@ public class OGPTP {
 	 */
 	public void setConstructionSteps(Vector<GeoConstruction> constructionSteps) {
 		this.constructionSteps = constructionSteps;
+		this.createDependencyGraph();
 	}
 
 	/**
@@ -179,6 +209,7 @@ public class OGPTP {
 	 */
 	public void setConstructionMap(Map<String, GeoConstruction> constructionMap) {
 		this.constructionMap = constructionMap;
+		this.createDependencyGraph();
 	}
 	
 	/**
@@ -189,6 +220,15 @@ public class OGPTP {
 	public Map<String, GeoConstruction> getConstructionMap() {
 		return constructionMap;
 	}
+	
+	/**
+	 * Method that retrieves the dependency graph of construction steps
+	 * 
+	 * @return The dependency graph
+	 */
+	public ConstructionDependencyGraph getDependencyGraph() {
+		return dependencyGraph;
+	}
 
 	/**
 	 * Method that sets theorem statement
@@ -250,6 +290,13 @@ public class OGPTP {
 		return rcConsMomentOfInstantiationOfPointCoordinates;
 	}
 
+	/**
+	 * @return the rcConsPolySystem
+	 */
+	public XPolySystem getRcConsPolySystem() {
+		return rcConsPolySystem;
+	}
+
 	/**
 	 * @param ndgConditions the ndgConditions to set
 	 */
@@ -360,6 +407,24 @@ public class OGPTP {
 	public boolean isHasFreeParametricSet() {
 		return hasFreeParametricSet;
 	}
+
+	/**
+	 * @return the index of positions of points (it is created if it doesn't exist)
+	 */
+	public synchronized PointsPositionIndex getPointsPositionIndex() {
+		if (this.pointsPositionIndex == null)
+			this.pointsPositionIndex = new PointsPositionIndex();
+		return pointsPositionIndex;
+	}
+
+	/**
+	 * @return the cache of instantiated conditions (it is created if it doesn't exist)
+	 */
+	public synchronized InstantiationCache getInstantiationCache() {
+		if (this.instantiationCache == null)
+			this.instantiationCache = new InstantiationCache(InstantiationCache.DEFAULT_CAPACITY);
+		return instantiationCache;
+	}
 	
 	
 
@@ -374,6 +439,7 @@ public class OGPTP {
 	public OGPTP() {
 		this.constructionSteps = new Vector<GeoConstruction>();
 		this.constructionMap = new HashMap<String, GeoConstruction>();
+		this.dependencyGraph = new ConstructionDependencyGraph(this.constructionMap);
 		this.theoremStatement = null;
 		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			this.rcConsFreePoints = new RCConsPointList();
@@ -394,6 +460,7 @@ public class OGPTP {
 	public void clear() {
 		this.constructionSteps = new Vector<GeoConstruction>();
 		this.constructionMap = new HashMap<String, GeoConstruction>();
+		this.dependencyGraph = new ConstructionDependencyGraph(this.constructionMap);
 		this.theoremStatement = null;
 		if (this.rcConsFreePoints != null)
 			this.rcConsFreePoints.clear();
@@ -407,6 +474,8 @@ public class OGPTP {
 		this.xIndex = 1;
 		this.numZeroIndices = 0;
 		this.hasFreeParametricSet = false;
+		this.pointsPositionIndex = null;
+		this.instantiationCache = null;
 	}
 	
 	/**
@@ -423,6 +492,7 @@ public class OGPTP {
 		if (this.constructionSteps == null) {
 			this.constructionSteps = new Vector<GeoConstruction>();
 			this.constructionMap = new HashMap<String, GeoConstruction>();
+			this.dependencyGraph = new ConstructionDependencyGraph(this.constructionMap);
 		}
 		
 		// We make difference between plain and shortcut constructions
@@ -433,6 +503,7 @@ public class OGPTP {
 				this.constructionMap.put(singleCons.getGeoObjectLabel(), singleCons);
 				singleCons.setConsProtocol(this);
 				singleCons.setIndex(this.constructionSteps.size() - 1);
+				this.dependencyGraph.addConstruction(singleCons);
 			}
 		}
 		else { // add this construction as single object
@@ -440,6 +511,7 @@ public class OGPTP {
 			this.constructionMap.put(gc.getGeoObjectLabel(), gc);
 			gc.setConsProtocol(this);
 			gc.setIndex(this.constructionSteps.size() - 1);
+			this.dependencyGraph.addConstruction(gc);
 			
 			if (gc instanceof FreeParametricSet) {
 				if (!this.hasFreeParametricSet) { // this is first free parametric set and therefore will contain the origin
@@ -475,38 +547,32 @@ public class OGPTP {
 		if (this.constructionSteps == null) {
 			this.constructionSteps = new Vector<GeoConstruction>();
 			this.constructionMap = new HashMap<String, GeoConstruction>();
+			this.dependencyGraph = new ConstructionDependencyGraph(this.constructionMap);
 		}
 		
 		// We make difference between plain and shortcut constructions
 		if (gc instanceof ShortcutConstruction) {
-			ShortcutConstruction scCons = (ShortcutConstruction)gc;
-			
-			// Shift indices of all constructed objects from specified index till the end
-			for (int ii = index, jj = this.constructionSteps.size(), kk = ii + scCons.getShortcutListOfConstructions().size(); ii < jj; ii = kk, kk++)
-				this.constructionSteps.get(ii).setIndex(kk);
+			Vector<GeoConstruction> shortcutList = ((ShortcutConstruction)gc).getShortcutListOfConstructions();
 			
-			// Now add each single construction to CP
-			int currIndex = index;
-			for (GeoConstruction currGC : scCons.getShortcutListOfConstructions()) {
-				this.constructionSteps.add(currIndex, currGC); // add construction to the specified place - old elements
-			                                                   // starting from position "index" till the end will be 
-		                                                       // shifted to the right for one place
+			// Add all single constructions to CP at once - old elements starting from
+			// position "index" till the end are shifted to the right
+			this.constructionSteps.addAll(index, shortcutList);
+			for (GeoConstruction currGC : shortcutList) {
 				this.constructionMap.put(currGC.getGeoObjectLabel(), currGC);
 				currGC.setConsProtocol(this);
-				currGC.setIndex(currIndex);
-				currIndex++;
 			}
+			this.updateIndices(index);
+			for (GeoConstruction currGC : shortcutList)
+				this.dependencyGraph.addConstruction(currGC);
 		}
 		else { // add this construction as single object
-			// Shift indices of all constructed objects from specified index till the end
-			for (int ii = index, jj = this.constructionSteps.size(), kk = ii + 1; ii < jj; ii = kk, kk++)
-				this.constructionSteps.get(ii).setIndex(kk);
 			this.constructionSteps.add(index, gc); // add construction to the specified place - old elements
 			                                       // starting from position "index" till the end will be 
 		                                           // shifted to the right for one place
 			this.constructionMap.put(gc.getGeoObjectLabel(), gc);
 			gc.setConsProtocol(this);
-			gc.setIndex(index);
+			this.updateIndices(index);
+			this.dependencyGraph.addConstruction(gc);
 			
 			if (gc instanceof FreeParametricSet) {
 				if (!this.hasFreeParametricSet) { // this is first free parametric set and therefore will contain the origin
@@ -530,9 +596,33 @@ public class OGPTP {
 		if (gc == null || (gc instanceof ShortcutConstruction))
 			return;
 		
-		int consInd = this.constructionSteps.indexOf(gc); // uses equals()
+		int consInd = gc.getIndex();
+		if (consInd < 0 || consInd >= this.constructionSteps.size() || this.constructionSteps.get(consInd) != gc)
+			consInd = this.constructionSteps.indexOf(gc); // uses equals()
+		if (consInd == -1)
+			return;
+		
+		Vector<GeoConstruction> dependents = this.dependencyGraph.getDependents(gc);
+		if (!dependents.isEmpty())
+			OpenGeoProver.settings.getLogger().warn("Construction of object " + gc.getGeoObjectLabel() + " is removed from theorem protocol while it is used by construction of object " + dependents.get(0).getGeoObjectLabel());
 		this.constructionSteps.remove(consInd); // this also shifts all following objects to the left for one place
-		this.constructionMap.remove(gc.getGeoObjectLabel());
+		this.detachGeoConstruction(gc);
+		
+		// Shift indices of all constructed objects from object's index till the end
+		this.updateIndices(consInd);
+	}
+	
+	/**
+	 * Method which unhooks removed construction from this CP and from sets of points
+	 * that contain constructed point. Construction has to be already removed from
+	 * list of construction steps.
+	 * 
+	 * @param gc	The removed construction
+	 */
+	private void detachGeoConstruction(GeoConstruction gc) {
+		this.dependencyGraph.removeConstruction(gc);
+		if (this.constructionMap.get(gc.getGeoObjectLabel()) == gc)
+			this.constructionMap.remove(gc.getGeoObjectLabel());
 		gc.setConsProtocol(null);
 		gc.setIndex(-1);
 		
@@ -556,12 +646,31 @@ public class OGPTP {
 			if (idx != -1)
 				set.getPoints().remove(idx);
 		}
-		
-		// Shift indices of all constructed objects from object's index till the end
-		for (int ii = consInd, jj = this.constructionSteps.size(); ii < jj; ii++)
+	}
+	
+	/**
+	 * Method which sets indices of constructions to their positions in CP,
+	 * starting from specified position till the end of CP.
+	 * 
+	 * @param fromIndex		Position of first construction with changed index
+	 */
+	private void updateIndices(int fromIndex) {
+		for (int ii = fromIndex, jj = this.constructionSteps.size(); ii < jj; ii++)
 			this.constructionSteps.get(ii).setIndex(ii);
 	}
 	
+	/**
+	 * Method which creates dependency graph from current construction
+	 * steps and map of this CP, when they are replaced.
+	 */
+	private void createDependencyGraph() {
+		this.dependencyGraph = new ConstructionDependencyGraph(this.constructionMap);
+		if (this.constructionSteps != null) {
+			for (GeoConstruction gc : this.constructionSteps)
+				this.dependencyGraph.addConstruction(gc);
+		}
+	}
+	
 	/**
 	 * Method to add theorem statement to theorem protocol.
 	 * 
@@ -628,6 +737,23 @@ public class OGPTP {
 	 * @return	True if this protocol is valid, false otherwise
 	 */
 	public boolean isValid() {
+		MetricsSpan validationSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_VALIDATION);
+		boolean valid = this.validate();
+		
+		if (this.constructionSteps != null)
+			validationSpan.setAttribute(OGPMetrics.ATTR_CONSTRUCTIONS, this.constructionSteps.size());
+		validationSpan.end();
+		return valid;
+	}
+	
+	/**
+	 * Method that checks the validity of this theorem protocol
+	 * and writes results of checks to report.
+	 * 
+	 * @return	True if this protocol is valid, false otherwise
+	 * @see		#isValid()
+	 */
+	private boolean validate() {
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		boolean valid = true;
@@ -698,6 +824,21 @@ public class OGPTP {
 					}
 				}
 		
+				if (valid) {
+					// Check by dependency graph that each construction step
+					// uses only objects constructed in previous steps
+					for (GeoConstruction geoCons : this.constructionSteps) {
+						String inputLabel = this.dependencyGraph.findInputNotConstructedBefore(geoCons);
+						
+						if (inputLabel != null) {
+							output.openItemWithDesc("Error: ");
+							output.closeItemWithDesc("Object " + geoCons.getGeoObjectLabel() + " can't be constructed since object " + inputLabel + " is not constructed before it");
+							valid = false;
+							break;
+						}
+					}
+				}
+		
 				if (valid) {
 					// Check the validity of each construction step
 					GeoConstruction currGeoCons = this.constructionSteps.get(0); // first construction from list
@@ -866,6 +1007,25 @@ public class OGPTP {
 	 * @return	SUCCESS on successful execution or general error otherwise
 	 */
 	public int convertToAlgebraicForm() {
+		MetricsSpan algebraicFormSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_ALGEBRAIC_FORM);
+		int retCode = this.transformToAlgebraicForm();
+		
+		if (this.constructionSteps != null)
+			algebraicFormSpan.setAttribute(OGPMetrics.ATTR_CONSTRUCTIONS, this.constructionSteps.size());
+		if (this.algebraicGeoTheorem != null && this.algebraicGeoTheorem.getHypotheses() != null)
+			algebraicFormSpan.setAttribute(OGPMetrics.ATTR_POLYNOMIALS, this.algebraicGeoTheorem.getHypotheses().numOfPols());
+		algebraicFormSpan.end();
+		return retCode;
+	}
+	
+	/**
+	 * Method that transforms construction steps and theorem statement
+	 * to algebraic form.
+	 * 
+	 * @return	SUCCESS on successful execution or general error otherwise
+	 * @see		#convertToAlgebraicForm()
+	 */
+	private int transformToAlgebraicForm() {
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		
@@ -944,6 +1104,21 @@ public class OGPTP {
 	 * Method which simplifies CP by removing all constructions that are not necessary for theorem statement.
 	 */
 	public void simplify() {
+		MetricsSpan simplificationSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_SIMPLIFICATION);
+		
+		this.removeUnnecessaryConstructions();
+		if (this.constructionSteps != null)
+			simplificationSpan.setAttribute(OGPMetrics.ATTR_CONSTRUCTIONS, this.constructionSteps.size());
+		simplificationSpan.end();
+	}
+	
+	/**
+	 * Method which removes from CP all constructions that are not used
+	 * (directly or indirectly) by theorem statement.
+	 * 
+	 * @see		#simplify()
+	 */
+	private void removeUnnecessaryConstructions() {
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		
 		if ((OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING && this.theoremStatement == null) || this.constructionMap == null)
@@ -983,33 +1158,37 @@ public class OGPTP {
 			}
 		}
 		
-		// labels from constructions
-		for (int ii = 0; ii < usedLabelsList.size(); ii++) {
-			String[] consLabels = this.constructionMap.get(usedLabelsList.get(ii)).getInputLabels();
-			
-			if (consLabels != null) {
-				for (String label : consLabels) {
-					if (usedLabelsMap.get(label) == null) {
-						usedLabelsMap.put(label, label);
-						usedLabelsList.add(label);
-					}
-				}
-			}
- 		}
+		// constructions necessary for used labels - single pass over dependency graph
+		Map<GeoConstruction, GeoConstruction> necessary = this.dependencyGraph.findNecessaryConstructions(usedLabelsList);
 		
 		// remove unnecessary constructions
-		for (int ii = 0; ii < this.constructionSteps.size(); ii++) {
-			GeoConstruction gc = this.constructionSteps.get(ii);
-			if (usedLabelsMap.get(gc.getGeoObjectLabel()) == null) {
-				this.removeGeoConstruction(gc);
-				
-				if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
-					if (this.rcConsFreePoints.getPoints().contains(gc))
-						this.rcConsFreePoints.getPoints().remove(gc);
-				}
-				
-				ii--;
+		Vector<GeoConstruction> keptSteps = new Vector<GeoConstruction>(necessary.size());
+		Map<GeoConstruction, GeoConstruction> removedSteps = new IdentityHashMap<GeoConstruction, GeoConstruction>();
+		
+		for (GeoConstruction gc : this.constructionSteps) {
+			if (necessary.get(gc) != null)
+				keptSteps.add(gc);
+			else
+				removedSteps.put(gc, gc);
+		}
+		if (removedSteps.isEmpty())
+			return;
+		
+		this.constructionSteps = keptSteps;
+		for (GeoConstruction gc : removedSteps.keySet())
+			this.detachGeoConstruction(gc);
+		this.updateIndices(0);
+		
+		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			Vector<Point> freePoints = this.rcConsFreePoints.getPoints();
+			Vector<Point> keptFreePoints = new Vector<Point>(freePoints.size());
+			
+			for (Point pt : freePoints) {
+				if (removedSteps.get(pt) == null)
+					keptFreePoints.add(pt);
 			}
+			freePoints.clear();
+			freePoints.addAll(keptFreePoints);
 		}
 	}
 	
@@ -1164,113 +1343,65 @@ public class OGPTP {
 	 * 						or null in case of error
 	 */
 	public static XPolynomial instantiateCondition(SymbolicPolynomial condition, Map<String, Point> pointsMap) {
-		XPolynomial result = new XPolynomial(); // empty polynomial
-		
-		// Instantiate one by one term of symbolic polynomial representing the condition
-		// and then add to the resulting XPolynomial
-		for (Term st : condition.getTermsAsDescList()) {
-			// instances of powers will be temporarily split into two maps
-			// to provide merging of powers of same U or X variables;
-			// e.g. term x0*xA could be instantiated with u1 * u1 = u1 ^2
-			// Although method addPower() from Term class does the merging of degrees
-			// of powers of same variable, we do extra merging here to make adding
-			// powers to term faster and to save some memory here - but this solution
-			// could be skipped
-			Map<UXVariable, Power> uPowers = new HashMap<UXVariable, Power>();
-			Map<UXVariable, Power> xPowers = new HashMap<UXVariable, Power>();
-			
-			boolean isZeroTerm = false;
-			// Process powers of current symbolic term one by one
-			for (Power pow : st.getPowers()) {
-				Power powerInstance;
-				SymbolicVariable sv = (SymbolicVariable)pow.getVariable();
-				String pointLabel = sv.getPointLabel();
-				short varType = sv.getVariableType();
-				Point P = pointsMap.get(pointLabel);
-				
-				if (P == null) {
-					OpenGeoProver.settings.getLogger().error("Failed to find point with specified label " + pointLabel + " during instantiation of condition");
-					return null;
-				}
-				
-				if (varType == Variable.VAR_TYPE_SYMB_X) {
-					powerInstance = new Power(P.getX().clone(), pow.getExponent());
-				}
-				else if (varType == Variable.VAR_TYPE_SYMB_Y) {
-					powerInstance = new Power(P.getY().clone(), pow.getExponent());
-				}
-				else {
-					OpenGeoProver.settings.getLogger().error("Non-symbolic variable obtained when symbolic was excpected");
-					return null;
-				}
-				
-				// check the type of the power instance and add into proper place
-				short newVarType = powerInstance.getVarType();
-				
-				if (newVarType == Variable.VAR_TYPE_UX_U) {
-					// check whether power is zero - in that case whole term is zero
-					// and will not be added to resulting XPolynomial
-					if (powerInstance.getIndex() == 0) {
-						isZeroTerm = true;
-						break;
-					}
-					
-					// check whether power for this u-variable has been already added
-					Power currPower = uPowers.get(powerInstance.getVariable());
-					
-					if (currPower == null) {
-						// if new variable, just add its power into map
-						uPowers.put((UXVariable)powerInstance.getVariable(), powerInstance);
-					}
-					else {
-						// if existing variable, then merge exponents of existing and current powers
-						currPower.addToExponent(powerInstance.getExponent());
-					}
-				}
-				else if (newVarType == Variable.VAR_TYPE_UX_X) {
-					// check whether power for this x-variable has been already added
-					Power currPower = xPowers.get(powerInstance.getVariable());
-					
-					if (currPower == null) {
-						// if new variable, just add its power into map
-						xPowers.put((UXVariable)powerInstance.getVariable(), powerInstance);
-					}
-					else {
-						// if existing variable, then merge exponents of existing and current powers
-						currPower.addToExponent(powerInstance.getExponent());
-					}
-				}
-				else {
-					OpenGeoProver.settings.getLogger().error("Power is not instantiated by UX variable");
-					return null;
-				}
-			}
-			
-			// If zero term obtained as instance, skip it
-			if (isZeroTerm)
-				continue;
-			
-			// instantiate XTerm of this symbolic term
-			UTerm ut = new UTerm(((SymbolicTerm)st).getCoeff());
-			
-			for (Power upow : uPowers.values()) {
-				ut.addPower(upow);
-			}
-			
-			UPolynomial up = new UPolynomial();
-			up.addTerm(ut);
-			UFraction uf = new UFraction(up);
-			XTerm xt = new XTerm(uf);
+		return OGPTP.instantiateCondition(condition, pointsMap, false);
+	}
+	
+	/**
+	 * Method for instantiation of symbolic polynomial in x-polynomial
+	 * which is then reduced by u-term division.
+	 * 
+	 * @param condition		Symbolic polynomial representing the condition 
+	 * 						for some point
+	 * @param pointsMap		Map of points assigned to labels of common points from
+	 * 						symbolic polynomial representing the condition,
+	 * 						used for instantiation of that condition
+	 * @return				Reduced XPolynomial representing the algebraic form of
+	 * 						condition or null in case of error
+	 */
+	public static XPolynomial instantiateReducedCondition(SymbolicPolynomial condition, Map<String, Point> pointsMap) {
+		return OGPTP.instantiateCondition(condition, pointsMap, true);
+	}
+	
+	/**
+	 * Method for instantiation of symbolic polynomial in x-polynomial
+	 * which is optionally reduced by u-term division.
+	 * 
+	 * @param condition		Symbolic polynomial representing the condition
+	 * @param pointsMap		Map of points assigned to labels of common points
+	 * @param reduce		Flag which tells whether instantiated polynomial
+	 * 						is reduced by u-term division
+	 * @return				XPolynomial representing the algebraic form of condition
+	 * 						or null in case of error
+	 */
+	private static XPolynomial instantiateCondition(SymbolicPolynomial condition, Map<String, Point> pointsMap, boolean reduce) {
+		// condition is compiled into template once, so here only points
+		// assigned to its labels are looked up and their coordinates are
+		// filled into template; same instantiations are reused from cache
+		// of CP which is being processed
+		SymbolicPolynomialTemplate template = condition.getTemplate();
+		OGPTP parsedTP = OpenGeoProver.settings.getParsedTP();
+		UXVariable[] pointCoordinates = new UXVariable[2 * template.getNumOfSlots()];
+		
+		for (int ii = 0, jj = template.getNumOfSlots(); ii < jj; ii++) {
+			Point P = pointsMap.get(template.getPointLabel(ii));
 			
-			for (Power xpow : xPowers.values()) {
-				xt.addPower(xpow);
+			if (P != null) {
+				pointCoordinates[2 * ii] = P.getX();
+				pointCoordinates[2 * ii + 1] = P.getY();
 			}
+		}
+		
+		if (parsedTP != null) {
+			InstantiationCache cache = parsedTP.getInstantiationCache();
 			
-			// add current instantiated XTerm to resulting polynomial
-			result.addTerm(xt);
+			return reduce ? cache.instantiateReduced(template, pointCoordinates) : cache.instantiate(template, pointCoordinates);
 		}
 		
-		return result;
+		XPolynomial insPoly = template.instantiate(pointCoordinates);
+		
+		if (insPoly == null || !reduce)
+			return insPoly;
+		return insPoly.reduceByUTermDivision();
 	}
 	
 	public boolean isPolynomialConsequenceOfConstructions(XPolynomial xpoly) {
@@ -1289,12 +1420,7 @@ public class OGPTP {
 		// to increase the complexity of transformation to algebraic form so this
 		// complex check will be skipped unless something urgent happens that will change
 		// this decision.
-		for (XPolynomial xp : this.getAlgebraicGeoTheorem().getHypotheses().getPolynomials()) {
-			if (xpoly.clone().subtractPolynomial(xp).isZero())
-				return true;
-		}
-		
-		return false;
+		return this.getAlgebraicGeoTheorem().getHypotheses().containsPolynomial(xpoly);
 	}
 	
 	/**
@@ -1320,6 +1446,27 @@ public class OGPTP {
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
+		int numOfThreads = Math.min(OpenGeoProver.settings.getParameters().getConLevel(), this.algebraicNDGConditions.size());
+		int retCode;
+		MetricsSpan translationSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_NDG_TRANSLATION);
+		
+		if (numOfThreads > 1)
+			retCode = this.translateNDGConditionsConcurrently(numOfThreads);
+		else
+			retCode = this.translateNDGConditionsSequentially();
+		
+		translationSpan.setAttribute(OGPMetrics.ATTR_NDG_CONDITIONS, this.algebraicNDGConditions.size());
+		translationSpan.end();
+		return retCode;
+	}
+	
+	/**
+	 * Method that transforms all polynomial NDG conditions to user readable
+	 * form one by one in current thread.
+	 * 
+	 * @return	SUCCESS if successful, or general error otherwise
+	 */
+	private int translateNDGConditionsSequentially() {
 		for (AlgebraicNDGCondition ndgCond : this.algebraicNDGConditions) {
 			if (ndgCond.transformToUserReadableForm() != OGPConstants.RET_CODE_SUCCESS) {
 				OpenGeoProver.settings.getLogger().error("Failed to translate NDG condition " + ndgCond.getPolynomial().print());
@@ -1330,6 +1477,56 @@ public class OGPTP {
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
+	/**
+	 * Method that transforms all polynomial NDG conditions to user readable
+	 * form concurrently. Each NDG condition is translated in separate task
+	 * with its own points position checkers and auxiliary CPs, while this CP
+	 * is only read. Results are stored in NDG condition objects so their order
+	 * doesn't depend on order of completion of tasks.
+	 * 
+	 * @param numOfThreads	Number of threads used for translation
+	 * @return				SUCCESS if successful, or general error otherwise
+	 */
+	private int translateNDGConditionsConcurrently(int numOfThreads) {
+		ILogger logger = OpenGeoProver.settings.getLogger();
+		
+		// populate lazily created members before they are shared by threads
+		this.getZeroPoints();
+		this.getPointsPositionIndex();
+		
+		ExecutorService service = Executors.newFixedThreadPool(numOfThreads);
+		Vector<Future<Integer>> results = new Vector<Future<Integer>>();
+		
+		for (AlgebraicNDGCondition ndgCond : this.algebraicNDGConditions)
+			results.add(service.submit(new NDGCondTranslationThread(ndgCond)));
+		service.shutdown(); // prevent submitting new tasks and keep already submitted until they complete
+		
+		// results are checked in order of NDG conditions
+		int retCode = OGPConstants.RET_CODE_SUCCESS;
+		
+		for (int ii = 0, jj = results.size(); ii < jj; ii++) {
+			AlgebraicNDGCondition ndgCond = this.algebraicNDGConditions.get(ii);
+			
+			try {
+				if (results.get(ii).get().intValue() == OGPConstants.RET_CODE_SUCCESS)
+					continue;
+			} catch (InterruptedException e) {
+				logger.error("Translation of NDG conditions has been interrupted");
+				service.shutdownNow();
+				return OGPConstants.ERR_CODE_GENERAL;
+			} catch (ExecutionException e) {
+				logger.error("Exception thrown during translation of NDG condition: " + e.getCause());
+			}
+			
+			if (retCode == OGPConstants.RET_CODE_SUCCESS) {
+				logger.error("Failed to translate NDG condition " + ndgCond.getPolynomial().print());
+				retCode = OGPConstants.ERR_CODE_GENERAL;
+			}
+		}
+		
+		return retCode;
+	}
+	
 	/**
 	 * Method which creates and populates a vector with translated NDG conditions.
 	 * First of all it calls translation of NDG conditions to user readable format.
@@ -1652,6 +1849,7 @@ public class OGPTP {
 			
 			return retCode;
 		}
+		this.rcConsPolySystem = this.algebraicGeoTheorem.getHypotheses();
 		
 		if (writeToReport) {
 			try {
@@ -1680,6 +1878,7 @@ public class OGPTP {
 		 */
 		if (varValuesMap != null && varValuesMap.size() > 0 && this.rcConsMomentOfInstantiationOfPointCoordinates == OGPTP.INSTANTIATION_MOMENT_AFTER) {
 			XPolySystem xpSys = this.algebraicGeoTheorem.getHypotheses().instantiateVariablesWithValues(varValuesMap);
+			this.rcConsPolySystem = xpSys;
 			if (writeToReport) {
 				try {
 					output.openSection("Instantiation of triangular polynomial system");
@@ -1728,6 +1927,93 @@ public class OGPTP {
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
+	/**
+	 * Method for analysis of degrees of field extensions generated by coordinates
+	 * of points from triangular polynomial system of RC-constructibility problem
+	 * (see {@link FieldExtensionAnalyzer}). It must be called after successful
+	 * transformation of problem to polynomial form. Triangular system is analyzed
+	 * before coordinates of free points are instantiated (when they are instantiated
+	 * after triangulation), so results are shared by problems with same constructions.
+	 * Verdict of analysis is stored in result of prover execution.
+	 * 
+	 * @return	SUCCESS if successful, general error otherwise
+	 */
+	public int analyzeRcConsProblemDegrees() {
+		ILogger logger = OpenGeoProver.settings.getLogger();
+		boolean writeToReport = OpenGeoProver.settings.getParameters().createReport();
+		OGPOutput output = OpenGeoProver.settings.getOutput();
+		
+		if (this.rcConsPolySystem == null) {
+			logger.error("Missing triangular polynomial system of RC-constructibility problem");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+		
+		Vector<UXVariable> targetVariables = new Vector<UXVariable>();
+		for (Point pt : this.rcConsPointsToConstruct.getPoints()) {
+			if (pt.getX() != null)
+				targetVariables.add(pt.getX());
+			if (pt.getY() != null)
+				targetVariables.add(pt.getY());
+		}
+		
+		// hypotheses of algebraic theorem are triangular system before instantiation
+		FieldExtensionAnalyzer analyzer = FieldExtensionAnalyzer.analyze(this.algebraicGeoTheorem.getHypotheses(), targetVariables);
+		String message;
+		switch (analyzer.getVerdict()) {
+		case FieldExtensionAnalyzer.RC_VERDICT_CONSTRUCTIBLE:
+			message = "All polynomials have degree at most 2 in their main variables - points are RC-constructible.";
+			break;
+		case FieldExtensionAnalyzer.RC_VERDICT_NOT_CONSTRUCTIBLE:
+			message = "Coordinate of point to construct has no minimal polynomial of degree which is power of 2 - points are not RC-constructible.";
+			break;
+		default:
+			message = "RC-constructibility cannot be decided from degrees of field extensions.";
+		}
+		logger.info(message);
+		OpenGeoProver.settings.getResult().setRcConstructibility(analyzer.getVerdictText());
+		
+		if (writeToReport) {
+			try {
+				output.openSection("Analysis of degrees of field extensions");
+				output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+				for (int ii = 0, jj = analyzer.getNumOfPols(); ii < jj; ii++) {
+					if (analyzer.getMainVariable(ii) == 0)
+						continue;
+					
+					StringBuilder sb = new StringBuilder();
+					sb.append("Polynomial ");
+					sb.append(ii + 1);
+					sb.append(" has degree ");
+					sb.append(analyzer.getDegree(ii));
+					sb.append(" in variable x");
+					sb.append(analyzer.getMainVariable(ii));
+					
+					boolean[] possibleDegrees = analyzer.getPossibleFactorDegrees(ii);
+					if (possibleDegrees != null) {
+						sb.append("; possible degrees of its irreducible factors are");
+						for (int deg = 1; deg < possibleDegrees.length; deg++) {
+							if (possibleDegrees[deg]) {
+								sb.append(" ");
+								sb.append(deg);
+							}
+						}
+					}
+					sb.append(".");
+					output.writeEnumItem(sb.toString());
+				}
+				output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+				output.writePlainText(message);
+				output.closeSection();
+			} catch (IOException e) {
+				logger.error("Failed to write to output file(s).");
+				output.close();
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+		}
+		
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+	
 	/**
 	 * Method for instantiation of points for RC-constructibility problem with symbolic coordinates.
 	 * 
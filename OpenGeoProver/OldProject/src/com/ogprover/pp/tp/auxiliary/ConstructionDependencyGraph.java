@@ -0,0 +1,365 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.pp.tp.auxiliary;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for dependency graph of constructions from construction protocol.
+*     Nodes of graph are construction steps and there is an edge from each
+*     construction to constructions whose labels are among its input labels.
+*     Reverse edges (from construction to constructions that use it) are
+*     kept as well. For valid protocol this graph is acyclic since each
+*     construction depends only on previously constructed objects.
+*     <br>
+*     Graph is maintained by construction protocol - constructions are added
+*     to graph and removed from it together with adding to protocol and removing
+*     from it. Edges are resolved through map of constructions of protocol by
+*     labels, so input object can be added to graph after construction that
+*     uses it (such protocol is not valid, which is detected by
+*     {@link #findInputNotConstructedBefore(GeoConstruction)}).
+*     <br>
+*     Input labels of some constructions depend on other constructions of
+*     protocol (e.g. perpendicular line uses points of its base line), so when
+*     construction is added or removed, input labels of constructions which
+*     share some input object with it are read again.</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class ConstructionDependencyGraph {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Map of constructions by labels of constructed objects - it is the map
+	 * of construction protocol, so it is not changed by graph
+	 */
+	private Map<String, GeoConstruction> constructionMap;
+	/**
+	 * Input labels of constructions in graph, as they were read last time;
+	 * null value means that input labels couldn't be read since some input
+	 * object of construction is undefined
+	 */
+	private Map<GeoConstruction, String[]> inputLabels;
+	/**
+	 * For each label, constructions from graph which use object with that label
+	 * (in order of their adding to graph)
+	 */
+	private Map<String, Vector<GeoConstruction>> users;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of constructions in graph
+	 */
+	public int size() {
+		return this.inputLabels.size();
+	}
+
+	/**
+	 * @param gc	Construction
+	 * @return		True if construction is in graph, false otherwise
+	 */
+	public boolean contains(GeoConstruction gc) {
+		return this.inputLabels.containsKey(gc);
+	}
+
+	/**
+	 * Method that retrieves constructions that given construction depends on
+	 * directly. Input labels which don't belong to constructions from graph are
+	 * ignored.
+	 *
+	 * @param gc	Construction from graph
+	 * @return		Constructions of input objects in order of input labels
+	 */
+	public Vector<GeoConstruction> getDependencies(GeoConstruction gc) {
+		Vector<GeoConstruction> dependencies = new Vector<GeoConstruction>();
+		String[] labels = this.getInputLabels(gc);
+
+		if (labels == null)
+			return dependencies;
+		for (String label : labels) {
+			GeoConstruction input = this.getConstruction(label);
+
+			if (input != null)
+				dependencies.add(input);
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Method that retrieves constructions that use given construction directly.
+	 *
+	 * @param gc	Construction from graph
+	 * @return		Constructions that use object constructed by given construction,
+	 * 				in order of their adding to graph
+	 */
+	public Vector<GeoConstruction> getDependents(GeoConstruction gc) {
+		Vector<GeoConstruction> labelUsers = this.users.get(gc.getGeoObjectLabel());
+
+		if (labelUsers == null || this.getConstruction(gc.getGeoObjectLabel()) != gc)
+			return new Vector<GeoConstruction>();
+		return new Vector<GeoConstruction>(labelUsers);
+	}
+
+	/**
+	 * Method that retrieves input labels of construction from graph. If they
+	 * couldn't be read before, another attempt is made.
+	 *
+	 * @param gc	Construction from graph
+	 * @return		Input labels or null if construction is not in graph or
+	 * 				its input labels can't be read
+	 */
+	private String[] getInputLabels(GeoConstruction gc) {
+		String[] labels = this.inputLabels.get(gc);
+
+		if (labels == null && this.inputLabels.containsKey(gc))
+			labels = this.readInputLabels(gc);
+		return labels;
+	}
+
+	/**
+	 * Method that retrieves construction of object with given label.
+	 *
+	 * @param label		Label of constructed object
+	 * @return			Construction from graph or null if there is no such object
+	 */
+	private GeoConstruction getConstruction(String label) {
+		GeoConstruction gc = this.constructionMap.get(label);
+
+		return (gc != null && this.inputLabels.containsKey(gc)) ? gc : null;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method which creates empty graph
+	 *
+	 * @param constructionMap		Map of constructions of protocol by labels of
+	 * 								constructed objects
+	 */
+	public ConstructionDependencyGraph(Map<String, GeoConstruction> constructionMap) {
+		this.constructionMap = constructionMap;
+		this.inputLabels = new IdentityHashMap<GeoConstruction, String[]>();
+		this.users = new HashMap<String, Vector<GeoConstruction>>();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that adds construction to graph, with edges to constructions
+	 * of its input objects. Construction has to be already added to protocol,
+	 * with its index set.
+	 *
+	 * @param gc	Construction to add
+	 */
+	public void addConstruction(GeoConstruction gc) {
+		if (this.inputLabels.containsKey(gc))
+			return;
+
+		this.inputLabels.put(gc, null);
+		this.readInputLabels(gc);
+		for (GeoConstruction input : this.getDependencies(gc))
+			this.readInputLabelsOfDependents(input);
+	}
+
+	/**
+	 * Method that removes construction and its edges from graph.
+	 *
+	 * @param gc	Construction to remove
+	 */
+	public void removeConstruction(GeoConstruction gc) {
+		if (!this.inputLabels.containsKey(gc))
+			return;
+
+		Vector<GeoConstruction> inputs = this.getDependencies(gc);
+		this.setInputLabels(gc, null);
+		this.inputLabels.remove(gc);
+		for (GeoConstruction input : inputs)
+			this.readInputLabelsOfDependents(input);
+	}
+
+	/**
+	 * Method that reads input labels of construction from graph again and
+	 * updates its edges.
+	 *
+	 * @param gc	Construction from graph
+	 * @return		Input labels or null if they can't be read
+	 */
+	private String[] readInputLabels(GeoConstruction gc) {
+		String[] labels;
+
+		try {
+			labels = gc.getInputLabels();
+		} catch (NullPointerException e) {
+			labels = null; // some input object is undefined - it is reported by validation of construction step
+		}
+		this.setInputLabels(gc, labels);
+		return labels;
+	}
+
+	/**
+	 * Method that reads again input labels of all constructions which use
+	 * given construction.
+	 *
+	 * @param gc	Construction from graph
+	 */
+	private void readInputLabelsOfDependents(GeoConstruction gc) {
+		for (GeoConstruction dependent : this.getDependents(gc))
+			this.readInputLabels(dependent);
+	}
+
+	/**
+	 * Method that replaces input labels of construction from graph and
+	 * updates reverse edges.
+	 *
+	 * @param gc		Construction from graph
+	 * @param labels	New input labels (can be null)
+	 */
+	private void setInputLabels(GeoConstruction gc, String[] labels) {
+		String[] oldLabels = this.inputLabels.put(gc, labels);
+
+		if (oldLabels != null) {
+			for (String label : oldLabels) {
+				Vector<GeoConstruction> labelUsers = (label != null) ? this.users.get(label) : null;
+
+				if (labelUsers == null)
+					continue;
+				int index = ConstructionDependencyGraph.indexOf(labelUsers, gc);
+				if (index >= 0)
+					labelUsers.remove(index);
+				if (labelUsers.isEmpty())
+					this.users.remove(label);
+			}
+		}
+
+		if (labels != null) {
+			for (String label : labels) {
+				if (label == null)
+					continue;
+
+				Vector<GeoConstruction> labelUsers = this.users.get(label);
+				if (labelUsers == null) {
+					labelUsers = new Vector<GeoConstruction>();
+					this.users.put(label, labelUsers);
+				}
+				if (ConstructionDependencyGraph.indexOf(labelUsers, gc) < 0)
+					labelUsers.add(gc);
+			}
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that searches for construction in list by identity (points
+	 * with same label are equal, but they are different constructions).
+	 *
+	 * @param list	List of constructions
+	 * @param gc	Construction to search for
+	 * @return		Position of construction in list or -1 if it is not in list
+	 */
+	private static int indexOf(Vector<GeoConstruction> list, GeoConstruction gc) {
+		for (int ii = 0, jj = list.size(); ii < jj; ii++) {
+			if (list.get(ii) == gc)
+				return ii;
+		}
+		return -1;
+	}
+
+	/**
+	 * Method that checks whether construction uses only objects constructed
+	 * before it, i.e. whether each of its input labels belongs to construction
+	 * from graph with smaller index in protocol.
+	 *
+	 * @param gc	Construction from graph
+	 * @return		First input label which doesn't satisfy this condition or
+	 * 				null if all input objects are constructed before given construction
+	 */
+	public String findInputNotConstructedBefore(GeoConstruction gc) {
+		String[] labels = this.getInputLabels(gc);
+
+		if (labels == null)
+			return null;
+		for (String label : labels) {
+			if (label == null)
+				continue;
+
+			GeoConstruction input = this.getConstruction(label);
+			if (input == null || input.getIndex() < 0 || input.getIndex() >= gc.getIndex())
+				return label;
+		}
+		return null;
+	}
+
+	/**
+	 * Method that finds all constructions necessary for construction of
+	 * objects with given labels, i.e. constructions of these objects and
+	 * all constructions they depend on (directly or indirectly).
+	 * Each construction is visited at most once.
+	 *
+	 * @param labels	Labels of objects; labels of unknown objects are ignored
+	 * @return			Map of necessary constructions (each construction is
+	 * 					mapped to itself)
+	 */
+	public Map<GeoConstruction, GeoConstruction> findNecessaryConstructions(Collection<String> labels) {
+		Map<GeoConstruction, GeoConstruction> necessary = new IdentityHashMap<GeoConstruction, GeoConstruction>();
+		Vector<GeoConstruction> stack = new Vector<GeoConstruction>();
+
+		for (String label : labels) {
+			GeoConstruction gc = this.getConstruction(label);
+
+			if (gc != null && necessary.put(gc, gc) == null)
+				stack.add(gc);
+		}
+
+		while (!stack.isEmpty()) {
+			GeoConstruction gc = stack.remove(stack.size() - 1);
+
+			for (GeoConstruction input : this.getDependencies(gc)) {
+				if (necessary.put(input, input) == null)
+					stack.add(input);
+			}
+		}
+
+		return necessary;
+	}
+}
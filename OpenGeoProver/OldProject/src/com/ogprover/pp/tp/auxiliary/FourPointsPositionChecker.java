@@ -11,6 +11,7 @@ import java.util.Vector;
 
 import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.AngleBisector;
 import com.ogprover.pp.tp.geoconstruction.Circle;
 import com.ogprover.pp.tp.geoconstruction.CircleWithCenterAndPoint;
@@ -102,31 +103,21 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkFourCollinearPoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		pointList.add(D);
-		this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_COLLINEAR, pointsV);
-			return true;
-		}
+	private boolean checkFourCollinearPoints(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				ArrayList<Point> pointList = new ArrayList<Point>();
+				pointList.add(A);
+				pointList.add(B);
+				pointList.add(C);
+				pointList.add(D);
+				auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("FourCollinearPoints", AlgebraicNDGCondition.NDG_TYPE_4PT_COLLINEAR, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -138,7 +129,7 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkFourConcyclicPoints(Point A, Point B, Point C, Point D) {
+	private boolean checkFourConcyclicPoints(final Point A, final Point B, final Point C, final Point D) {
 		/*
 		 *  There should not be any three collinear points. In general case such points does not
 		 *  satisfy condition for four concyclic points, but in case when three points are on
@@ -159,30 +150,20 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 		if (xVarMap.size() <= 2 || yVarMap.size() <= 2) // at least three points have one same coordinate 
 			return false; // found at least three collinear points
 		
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		pointList.add(D);
-		this.auxiliaryCP.addThmStatement(new ConcyclicPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_CONCYCLIC, pointsV);
-			return true;
-		}
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				ArrayList<Point> pointList = new ArrayList<Point>();
+				pointList.add(A);
+				pointList.add(B);
+				pointList.add(C);
+				pointList.add(D);
+				auxiliaryCP.addThmStatement(new ConcyclicPoints(pointList));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("FourConcyclicPoints", AlgebraicNDGCondition.NDG_TYPE_4PT_CONCYCLIC, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -194,26 +175,16 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkEqualSegments(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		this.auxiliaryCP.addThmStatement(new SegmentsOfEqualLengths(A, B, C, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_EQ_SEG, pointsV);
-			return true;
-		}
+	private boolean checkEqualSegments(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				auxiliaryCP.addThmStatement(new SegmentsOfEqualLengths(A, B, C, D));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("EqualSegments", AlgebraicNDGCondition.NDG_TYPE_4PT_EQ_SEG, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -225,30 +196,20 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkParallelLines(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Line AB = new LineThroughTwoPoints("AB", A, B);
-		this.auxiliaryCP.addGeoConstruction(AB);
-		Line CD = new LineThroughTwoPoints("CD", C, D);
-		this.auxiliaryCP.addGeoConstruction(CD);
-		this.auxiliaryCP.addThmStatement(new TwoParallelLines(AB, CD));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_PARALLEL, pointsV);
-			return true;
-		}
+	private boolean checkParallelLines(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Line AB = new LineThroughTwoPoints("AB", A, B);
+				auxiliaryCP.addGeoConstruction(AB);
+				Line CD = new LineThroughTwoPoints("CD", C, D);
+				auxiliaryCP.addGeoConstruction(CD);
+				auxiliaryCP.addThmStatement(new TwoParallelLines(AB, CD));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("ParallelLines", AlgebraicNDGCondition.NDG_TYPE_4PT_PARALLEL, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -260,30 +221,20 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkPerpendicularLines(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Line AB = new LineThroughTwoPoints("AB", A, B);
-		this.auxiliaryCP.addGeoConstruction(AB);
-		Line CD = new LineThroughTwoPoints("CD", C, D);
-		this.auxiliaryCP.addGeoConstruction(CD);
-		this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AB, CD));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_PERPENDICULAR, pointsV);
-			return true;
-		}
+	private boolean checkPerpendicularLines(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Line AB = new LineThroughTwoPoints("AB", A, B);
+				auxiliaryCP.addGeoConstruction(AB);
+				Line CD = new LineThroughTwoPoints("CD", C, D);
+				auxiliaryCP.addGeoConstruction(CD);
+				auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AB, CD));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("PerpendicularLines", AlgebraicNDGCondition.NDG_TYPE_4PT_PERPENDICULAR, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -295,34 +246,23 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkHarmonicConjugatePoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		this.auxiliaryCP.addThmStatement(new FourHarmonicConjugatePoints(A, B, C, D));
-		XPolynomial statementXPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
-		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_HARMONIC, pointsV);
-			return true;
-		}
+	private boolean checkHarmonicConjugatePoints(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				auxiliaryCP.addThmStatement(new FourHarmonicConjugatePoints(A, B, C, D));
+				XPolynomial statementXPoly = ((FourHarmonicConjugatePoints) auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+				XPolynomial statementYPoly = ((FourHarmonicConjugatePoints) auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+				XPolynomial statementPoly = null;
+				
+				if (statementXPoly != null && statementYPoly != null)
+					statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+				                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+				return new XPolynomial[] {statementXPoly, statementYPoly, statementPoly};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("HarmonicConjugatePoints", AlgebraicNDGCondition.NDG_TYPE_4PT_HARMONIC, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -335,34 +275,24 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkCongruentCollinearSegments(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Segment segAB = new Segment(A, B);
-		Segment segCD = new Segment(C, D);
-		Vector<Segment> segments = new Vector<Segment>();
-		segments.add(segAB);
-		segments.add(segCD);
-		Vector<Double> coefficients = new Vector<Double>();
-		coefficients.add(new Double(1));
-		coefficients.add(new Double(-1));
-		this.auxiliaryCP.addThmStatement(new LinearCombinationOfOrientedSegments(segments, coefficients));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_CONG_COLL_SEG, pointsV);
-			return true;
-		}
+	private boolean checkCongruentCollinearSegments(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Segment segAB = new Segment(A, B);
+				Segment segCD = new Segment(C, D);
+				Vector<Segment> segments = new Vector<Segment>();
+				segments.add(segAB);
+				segments.add(segCD);
+				Vector<Double> coefficients = new Vector<Double>();
+				coefficients.add(new Double(1));
+				coefficients.add(new Double(-1));
+				auxiliaryCP.addThmStatement(new LinearCombinationOfOrientedSegments(segments, coefficients));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("CongruentCollinearSegments", AlgebraicNDGCondition.NDG_TYPE_4PT_CONG_COLL_SEG, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -374,32 +304,22 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkAngleBisectorPoint(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		StringBuilder nameSB = new StringBuilder("tempAngBis_");
-		nameSB.append(A.getGeoObjectLabel());
-		nameSB.append(B.getGeoObjectLabel());
-		nameSB.append(C.getGeoObjectLabel());
-		Line angBis = new AngleBisector(nameSB.toString(), A, B, C);
-		this.auxiliaryCP.addGeoConstruction(angBis);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(angBis, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_ON_ANG_BIS, pointsV);
-			return true;
-		}
+	private boolean checkAngleBisectorPoint(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				StringBuilder nameSB = new StringBuilder("tempAngBis_");
+				nameSB.append(A.getGeoObjectLabel());
+				nameSB.append(B.getGeoObjectLabel());
+				nameSB.append(C.getGeoObjectLabel());
+				Line angBis = new AngleBisector(nameSB.toString(), A, B, C);
+				auxiliaryCP.addGeoConstruction(angBis);
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(angBis, D));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("AngleBisectorPoint", AlgebraicNDGCondition.NDG_TYPE_4PT_ON_ANG_BIS, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -411,35 +331,26 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkTwoPointsOnCircle(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
-		XPolynomial statementPolyC = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
-		XPolynomial statementPolyD = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementPolyC != null && statementPolyD != null)
-			statementPoly = (XPolynomial) statementPolyC.clone().multiplyByPolynomial(statementPolyC)
-			                                                    .addPolynomial(statementPolyD.clone().multiplyByPolynomial(statementPolyD));
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_2_ON_CIRCLE, pointsV);
-			return true;
-		}
+	private boolean checkTwoPointsOnCircle(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
+				auxiliaryCP.addGeoConstruction(k);
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
+				XPolynomial statementPolyC = auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
+				XPolynomial statementPolyD = auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+				XPolynomial statementPoly = null;
+				
+				if (statementPolyC != null && statementPolyD != null)
+					statementPoly = (XPolynomial) statementPolyC.clone().multiplyByPolynomial(statementPolyC)
+					                                                    .addPolynomial(statementPolyD.clone().multiplyByPolynomial(statementPolyD));
+				return new XPolynomial[] {statementPoly};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("TwoPointsOnCircle", AlgebraicNDGCondition.NDG_TYPE_4PT_2_ON_CIRCLE, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -451,28 +362,18 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkPointOnCircle(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndRadius("tempCircle", A, B, C);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_ON_CIRCLE, pointsV);
-			return true;
-		}
+	private boolean checkPointOnCircle(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Circle k = new CircleWithCenterAndRadius("tempCircle", A, B, C);
+				auxiliaryCP.addGeoConstruction(k);
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("PointOnCircle", AlgebraicNDGCondition.NDG_TYPE_4PT_ON_CIRCLE, transformer, A, B, C, D);
 	}
 	
 	/**
@@ -485,36 +386,25 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @param D		Fourth point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkInversePoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new TwoInversePoints(C, D, k));
-		XPolynomial statementXPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
-		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			pointsV.add(D);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_4PT_INVERSE, pointsV);
-			return true;
-		}
+	private boolean checkInversePoints(final Point A, final Point B, final Point C, final Point D) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
+				auxiliaryCP.addGeoConstruction(k);
+				auxiliaryCP.addThmStatement(new TwoInversePoints(C, D, k));
+				XPolynomial statementXPoly = ((TwoInversePoints) auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+				XPolynomial statementYPoly = ((TwoInversePoints) auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+				XPolynomial statementPoly = null;
+				
+				if (statementXPoly != null && statementYPoly != null)
+					statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+				                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+				return new XPolynomial[] {statementXPoly, statementYPoly, statementPoly};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("InversePoints", AlgebraicNDGCondition.NDG_TYPE_4PT_INVERSE, transformer, A, B, C, D);
 	}
 	
 	/**
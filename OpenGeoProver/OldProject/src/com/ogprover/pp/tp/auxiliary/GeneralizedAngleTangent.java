@@ -7,6 +7,7 @@ package com.ogprover.pp.tp.auxiliary;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Vector;
 
 import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.Power;
@@ -463,6 +464,39 @@ public class GeneralizedAngleTangent {
 		return tan;
 	}
 	
+	/**
+	 * <i>
+	 * Method that replaces labels of points of general angle <AOB from
+	 * condition for tangent with labels of points of specific angle.
+	 * </i>
+	 * 
+	 * @param tan			Array of two symbolic polynomials representing the condition
+	 * 						for tangent of an angle (numerator and denominator of tangent)
+	 * @param newOLabel		Label of vertex of specific angle
+	 * @param newALabel		Label of point from first ray of specific angle
+	 * @param newBLabel		Label of point from second ray of specific angle
+	 */
+	private static void substituteAngleLabels(ArrayList<SymbolicPolynomial> tan, String newOLabel, String newALabel, String newBLabel) {
+		for (SymbolicPolynomial poly : tan) {
+			for (Term t: poly.getTermsAsDescList()) {
+				Vector<Power> powers = t.getPowers();
+				
+				// powers are immutable and therefore replaced by powers with new labels
+				for (int ii = 0, size = powers.size(); ii < size; ii++) {
+					Power p = powers.get(ii);
+					String label = ((SymbolicVariable)(p.getVariable())).getPointLabel();
+					
+					if (label.equals(OLabel))
+						powers.set(ii, p.substitutePointLabel(newOLabel));
+					else if (label.equals(ALabel))
+						powers.set(ii, p.substitutePointLabel(newALabel));
+					else if (label.equals(BLabel))
+						powers.set(ii, p.substitutePointLabel(newBLabel));
+				}
+			}
+		}
+	}
+	
 	/**
 	 * <i>
 	 * Method that returns the condition for generalized tangent of first angle <A1O1B1
@@ -474,34 +508,7 @@ public class GeneralizedAngleTangent {
 	private static ArrayList<SymbolicPolynomial> getConditionForTangentOfFirstAngle() {
 		ArrayList<SymbolicPolynomial> tan = GeneralizedAngleTangent.getConditionForTangent();
 		
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_NUMERATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O1Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A1Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B1Label);
-				}
-			}
-		}
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_DENOMINATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O1Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A1Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B1Label);
-				}
-			}
-		}
+		GeneralizedAngleTangent.substituteAngleLabels(tan, O1Label, A1Label, B1Label);
 		
 		OpenGeoProver.settings.getLogger().debug("Condition for tangent of first angle:");
 		OpenGeoProver.settings.getLogger().debug("Numerator:");
@@ -522,34 +529,7 @@ public class GeneralizedAngleTangent {
 	private static ArrayList<SymbolicPolynomial> getConditionForTangentOfSecondAngle() {
 		ArrayList<SymbolicPolynomial> tan = GeneralizedAngleTangent.getConditionForTangent();
 		
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_NUMERATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O2Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A2Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B2Label);
-				}
-			}
-		}
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_DENOMINATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O2Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A2Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B2Label);
-				}
-			}
-		}
+		GeneralizedAngleTangent.substituteAngleLabels(tan, O2Label, A2Label, B2Label);
 		
 		OpenGeoProver.settings.getLogger().debug("Condition for tangent of second angle:");
 		OpenGeoProver.settings.getLogger().debug("Numerator:");
@@ -571,34 +551,7 @@ public class GeneralizedAngleTangent {
 	private static ArrayList<SymbolicPolynomial> getConditionForTangentOfThirdAngle() {
 		ArrayList<SymbolicPolynomial> tan = GeneralizedAngleTangent.getConditionForTangent();
 		
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_NUMERATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O3Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A3Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B3Label);
-				}
-			}
-		}
-		for (Term t: tan.get(GeneralizedAngleTangent.TANGENT_DENOMINATOR).getTermsAsDescList()) {
-			for (Power p : t.getPowers()) {
-				SymbolicVariable var = (SymbolicVariable)(p.getVariable());
-				if (var.getPointLabel().equals(OLabel)) {
-					var.setPointLabel(O3Label);
-				}
-				else if (var.getPointLabel().equals(ALabel)) {
-					var.setPointLabel(A3Label);
-				}
-				else if (var.getPointLabel().equals(BLabel)) {
-					var.setPointLabel(B3Label);
-				}
-			}
-		}
+		GeneralizedAngleTangent.substituteAngleLabels(tan, O3Label, A3Label, B3Label);
 		
 		OpenGeoProver.settings.getLogger().debug("Condition for tangent of third angle:");
 		OpenGeoProver.settings.getLogger().debug("Numerator:");
@@ -6,9 +6,18 @@ package com.ogprover.pp.tp.auxiliary;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.multithread.ConditionInstantiationThread;
+import com.ogprover.multithread.ConstructionConditionThread;
 import com.ogprover.polynomials.SymbolicPolynomial;
 import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.Variable;
@@ -102,6 +111,22 @@ public class PointSetRelationshipManager {
 	 * </b></i>
 	 */
 	public static final int MANAGER_TYPE_STATEMENT = 1;
+	/**
+	 * <i><b>
+	 * Minimal number of candidate collections of points that are
+	 * instantiated concurrently
+	 * </b></i>
+	 */
+	public static final int MIN_CANDIDATES_FOR_CONCURRENCY = 16;
+	/**
+	 * Conditions of candidate collections of points, collected during search
+	 * to be instantiated after it (null when candidates are processed immediately)
+	 */
+	private Vector<SymbolicPolynomial> candidateConditions = null;
+	/**
+	 * Candidate collections of points (in same order as their conditions)
+	 */
+	private Vector<Map<String, Point>> candidatePoints = null;
 	
 	
 	
@@ -336,6 +361,13 @@ public class PointSetRelationshipManager {
 			                                  // just the value of that index in object
 		}
 		
+		// All candidates are collected first and instantiated afterwards,
+		// since instantiation of condition doesn't change any object
+		// (for constructions, instantiated condition is only checked
+		// until first candidate which changes the point is found).
+		this.candidateConditions = new Vector<SymbolicPolynomial>();
+		this.candidatePoints = new Vector<Map<String, Point>>();
+		
 		
 		// This will find best points for instantiation 
         // and set the best polynomial which is instantiated condition;
@@ -344,10 +376,16 @@ public class PointSetRelationshipManager {
 		// for instantiation of condition
 		this.set.findBestPointsForInstantation(this);
 		
+		if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_CONSTRUCTION)
+			this.processCandidatesForConstruction();
+		else if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_STATEMENT)
+			this.processCandidatesForStatement();
+		this.candidateConditions = null;
+		this.candidatePoints = null;
+		
 		// after instantiation, restore point's index
-		if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_STATEMENT) {
+		if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_STATEMENT)
 			this.point.setIndex(oldIndex);
-		}
 		
 		return this.bestInstantiatedPolynomial;
 	}
@@ -406,12 +444,19 @@ public class PointSetRelationshipManager {
 	 * @param pointsMap		Passed in map of points for instantiation
 	 */
 	public void processPointsAndConditionForConstruction(Map<String, Point> pointsMap) {
+		// when candidates are collected, just save current points and condition
+		if (this.candidateConditions != null) {
+			this.candidateConditions.add(this.condition);
+			this.candidatePoints.add(new HashMap<String, Point>(pointsMap));
+			return;
+		}
+		
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		Map<String, Point> bestElements = this.getBestPointsForInstantiation();
 		XPolynomial bestPolynomial = this.getBestInstantiatedPolynomial();
 		
 		// instantiate the condition and simplify it
-		XPolynomial insCondition1 = OGPTP.instantiateCondition(this.condition, pointsMap).reduceByUTermDivision();
+		XPolynomial insCondition1 = OGPTP.instantiateReducedCondition(this.condition, pointsMap);
 		// process the condition (check for special forms of instantiated polynomial);
 		// since this is test processing, do not print result of processing to output file 
 		int retCode = this.point.processConstructionPolynomial(insCondition1, false); // this can change the state of point from manager
@@ -442,7 +487,7 @@ public class PointSetRelationshipManager {
 			this.yCoord = this.point.getY().clone();
 			
 			// again instantiate the condition and process it
-			XPolynomial insCondition2 = OGPTP.instantiateCondition(this.condition, pointsMap).reduceByUTermDivision();
+			XPolynomial insCondition2 = OGPTP.instantiateReducedCondition(this.condition, pointsMap);
 			int newRetCode = this.point.processConstructionPolynomial(insCondition2, false); // this can change the state of point P
 			
 			switch (newRetCode) {
@@ -593,8 +638,12 @@ public class PointSetRelationshipManager {
 	 * @param pointsMap		Passed in map of points for instantiation
 	 */
 	public void processPointsAndConditionForStatement(Map<String, Point> pointsMap) {
-		Map<String, Point> bestElements = this.getBestPointsForInstantiation();
-		XPolynomial bestPolynomial = this.getBestInstantiatedPolynomial();
+		// when candidates are collected, just save current points and condition
+		if (this.candidateConditions != null) {
+			this.candidateConditions.add(this.condition);
+			this.candidatePoints.add(new HashMap<String, Point>(pointsMap));
+			return;
+		}
 		
 		/*
 		// instantiate the condition and simplify it
@@ -604,6 +653,20 @@ public class PointSetRelationshipManager {
 		// instantiate the condition without simplification
 		XPolynomial insCondition = OGPTP.instantiateCondition(this.condition, pointsMap);
 		
+		this.updateBestInstantiatedPolynomial(insCondition, pointsMap);
+	}
+	
+	/**
+	 * Method that checks whether instantiated condition (for theorem statement,
+	 * or for construction when it would be added to system of hypotheses)
+	 * is better than best one found so far and saves it with its points if so.
+	 * 
+	 * @param insCondition	Instantiated condition
+	 * @param pointsMap		Points used for instantiation
+	 */
+	private void updateBestInstantiatedPolynomial(XPolynomial insCondition, Map<String, Point> pointsMap) {
+		Map<String, Point> bestElements = this.getBestPointsForInstantiation();
+		XPolynomial bestPolynomial = this.getBestInstantiatedPolynomial();
 		
 		if (bestElements == null) {
 			bestElements = new HashMap<String, Point>();
@@ -636,4 +699,146 @@ public class PointSetRelationshipManager {
 			}
 		}
 	}
+	
+	/**
+	 * Method that instantiates conditions of all collected candidates for
+	 * theorem statement and chooses the best one. Candidates are compared
+	 * in order in which they were found, so chosen candidate is same as
+	 * when each of them is processed immediately. When there are many
+	 * candidates and concurrency level is greater than one, conditions are
+	 * instantiated concurrently.
+	 */
+	private void processCandidatesForStatement() {
+		ILogger logger = OpenGeoProver.settings.getLogger();
+		int numOfCandidates = this.candidateConditions.size();
+		int numOfThreads = Math.min(OpenGeoProver.settings.getParameters().getConLevel(), numOfCandidates);
+		
+		if (numOfThreads <= 1 || numOfCandidates < PointSetRelationshipManager.MIN_CANDIDATES_FOR_CONCURRENCY) {
+			for (int ii = 0; ii < numOfCandidates; ii++) {
+				XPolynomial insCondition = OGPTP.instantiateCondition(this.candidateConditions.get(ii), this.candidatePoints.get(ii));
+				
+				if (insCondition == null) {
+					logger.error("Failed to instantiate condition for point " + this.point.getGeoObjectLabel());
+					this.setErrorFlag(true);
+					return;
+				}
+				this.updateBestInstantiatedPolynomial(insCondition, this.candidatePoints.get(ii));
+				if (insCondition.isZero())
+					return; // no other candidate can be better than zero polynomial
+			}
+			return;
+		}
+		
+		ExecutorService service = Executors.newFixedThreadPool(numOfThreads);
+		Vector<Future<XPolynomial>> results = new Vector<Future<XPolynomial>>(numOfCandidates);
+		AtomicInteger cutOffIndex = new AtomicInteger(Integer.MAX_VALUE);
+		
+		for (int ii = 0; ii < numOfCandidates; ii++)
+			results.add(service.submit(new ConditionInstantiationThread(this.candidateConditions.get(ii), this.candidatePoints.get(ii), ii, cutOffIndex)));
+		service.shutdown(); // prevent submitting new tasks and keep already submitted until they complete
+		
+		// results are compared in order of candidates
+		for (int ii = 0; ii < numOfCandidates && ii <= cutOffIndex.get(); ii++) {
+			XPolynomial insCondition = null;
+			
+			try {
+				insCondition = results.get(ii).get();
+			} catch (InterruptedException e) {
+				logger.error("Instantiation of conditions has been interrupted");
+				service.shutdownNow();
+				this.setErrorFlag(true);
+				return;
+			} catch (ExecutionException e) {
+				logger.error("Exception thrown during instantiation of condition: " + e.getCause());
+			}
+			
+			if (insCondition == null) {
+				logger.error("Failed to instantiate condition for point " + this.point.getGeoObjectLabel());
+				service.shutdownNow();
+				this.setErrorFlag(true);
+				return;
+			}
+			
+			this.updateBestInstantiatedPolynomial(insCondition, this.candidatePoints.get(ii));
+		}
+		service.shutdownNow(); // skipped candidates need not be instantiated
+	}
+	
+	/**
+	 * Method that instantiates and checks conditions of all collected candidates
+	 * for construction and chooses the best one. Candidates are checked without
+	 * changing the point or the system of hypotheses (see 
+	 * {@link ConstructionConditionThread}), so when there are many candidates
+	 * and concurrency level is greater than one, they are processed concurrently.
+	 * Results are compared in order in which candidates were found. First candidate
+	 * whose polynomial would not be added to system (i.e. which would rename or 
+	 * re-instantiate coordinates of point, or which is bad) and all candidates after
+	 * it are processed as when they are processed immediately, so chosen candidate
+	 * is same as before.
+	 */
+	private void processCandidatesForConstruction() {
+		ILogger logger = OpenGeoProver.settings.getLogger();
+		Vector<SymbolicPolynomial> conditions = this.candidateConditions;
+		Vector<Map<String, Point>> pointsMaps = this.candidatePoints;
+		int numOfCandidates = conditions.size();
+		int numOfThreads = Math.min(OpenGeoProver.settings.getParameters().getConLevel(), numOfCandidates);
+		Vector<ConstructionConditionThread> tasks = new Vector<ConstructionConditionThread>(numOfCandidates);
+		AtomicInteger cutOffIndex = new AtomicInteger(Integer.MAX_VALUE);
+		AtomicLongArray ranks = new AtomicLongArray(numOfCandidates);
+		ExecutorService service = null;
+		Vector<Future<XPolynomial>> results = null;
+		
+		for (int ii = 0; ii < numOfCandidates; ii++) {
+			ranks.set(ii, ConstructionConditionThread.UNKNOWN_RANK);
+			tasks.add(new ConstructionConditionThread(conditions.get(ii), pointsMaps.get(ii), this.point, ii, cutOffIndex, ranks));
+		}
+		
+		if (numOfThreads > 1 && numOfCandidates >= PointSetRelationshipManager.MIN_CANDIDATES_FOR_CONCURRENCY) {
+			service = Executors.newFixedThreadPool(numOfThreads);
+			results = new Vector<Future<XPolynomial>>(numOfCandidates);
+			for (ConstructionConditionThread task : tasks)
+				results.add(service.submit(task));
+			service.shutdown(); // prevent submitting new tasks and keep already submitted until they complete
+		}
+		
+		// from now on candidates are processed immediately
+		this.candidateConditions = null;
+		this.candidatePoints = null;
+		
+		int ii = 0;
+		for (; ii < numOfCandidates; ii++) {
+			ConstructionConditionThread task = tasks.get(ii);
+			XPolynomial insCondition = null;
+			
+			if (results == null)
+				insCondition = task.call();
+			else {
+				try {
+					insCondition = results.get(ii).get();
+				} catch (InterruptedException e) {
+					logger.error("Instantiation of conditions has been interrupted");
+					service.shutdownNow();
+					this.setErrorFlag(true);
+					return;
+				} catch (ExecutionException e) {
+					logger.error("Exception thrown during instantiation of condition: " + e.getCause());
+				}
+			}
+			
+			if (task.getRetCode() != Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM)
+				break; // this candidate ends the search
+			if (insCondition != null) // otherwise some earlier candidate is at least as good as this one
+				this.updateBestInstantiatedPolynomial(insCondition, pointsMaps.get(ii));
+		}
+		if (service != null)
+			service.shutdownNow(); // skipped candidates need not be instantiated
+		
+		for (; ii < numOfCandidates; ii++) {
+			this.condition = conditions.get(ii);
+			this.processPointsAndConditionForConstruction(pointsMaps.get(ii));
+			
+			if (this.errorFlag || this.point.getPointState() == Point.POINT_STATE_RENAMED)
+				return;
+		}
+	}
 }
\ No newline at end of file
@@ -6,9 +6,13 @@ package com.ogprover.pp.tp.auxiliary;
 
 import java.util.Vector;
 
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.PositionPolynomial;
+import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 
 /**
@@ -54,6 +58,23 @@ public abstract class PointsPositionChecker {
 	 */
 	protected int acpXIndex = 1;
 	
+	/**
+	 * <i>
+	 * Class for transformation of specific position of points to algebraic form.
+	 * </i>
+	 */
+	protected static abstract class PositionTransformer {
+		/**
+		 * Method that adds statement for position of points (and auxiliary
+		 * constructions it needs) to auxiliary CP and transforms it to
+		 * algebraic form.
+		 * 
+		 * @param auxiliaryCP	Auxiliary CP which already contains the points
+		 * @return				Polynomials of position (some of them can be null)
+		 */
+		public abstract XPolynomial[] transform(OGPTP auxiliaryCP);
+	}
+	
 	
 	
 	
@@ -150,4 +171,87 @@ public abstract class PointsPositionChecker {
 		this.ndgCond = ndgCond;
 		this.initializeAuxiliaryCP();
 	}
+	
+	/**
+	 * Method that retrieves algebraic form of specific position of points from
+	 * index of positions of CP of associated NDG condition.
+	 * 
+	 * @param key	Key of position (see {@link PointsPositionIndex#makeKey(String, Point...)})
+	 * @return		Polynomials of position or null if position hasn't been transformed
+	 * 				to algebraic form yet
+	 */
+	protected PositionPolynomial[] getIndexedPosition(String key) {
+		return this.ndgCond.getConsProtocol().getPointsPositionIndex().get(key);
+	}
+	
+	/**
+	 * Method that stores algebraic form of specific position of points into
+	 * index of positions of CP of associated NDG condition, so other NDG conditions
+	 * of that CP don't have to transform same position again.
+	 * 
+	 * @param key				Key of position (see {@link PointsPositionIndex#makeKey(String, Point...)})
+	 * @param statementPolys	Polynomials of position (some of them can be null)
+	 * @return					Stored polynomials of position
+	 */
+	protected PositionPolynomial[] indexPosition(String key, XPolynomial... statementPolys) {
+		PositionPolynomial[] positionPolys = new PositionPolynomial[statementPolys.length];
+		
+		for (int ii = 0; ii < statementPolys.length; ii++)
+			positionPolys[ii] = new PositionPolynomial(statementPolys[ii]);
+		this.ndgCond.getConsProtocol().getPointsPositionIndex().put(key, positionPolys);
+		return positionPolys;
+	}
+	
+	/**
+	 * Method that checks whether specific position of points generates
+	 * polynomial of associated NDG condition and if it does, adds the
+	 * translation of NDG condition for that position. Algebraic form of
+	 * position is taken from index of positions of CP of associated NDG
+	 * condition, and it is transformed in auxiliary CP and stored in index
+	 * only when it is not there.
+	 * 
+	 * @param positionName	Name of position
+	 * @param ndgType		Type of NDG condition for this position
+	 * @param transformer	Transformer of position to algebraic form
+	 * @param points		Points in position
+	 * @return				True if position generates associated NDG condition,
+	 * 						false otherwise
+	 */
+	protected boolean checkPosition(String positionName, String ndgType, PositionTransformer transformer, Point... points) {
+		String key = PointsPositionIndex.makeKey(positionName, points);
+		PositionPolynomial[] positionPolys = this.getIndexedPosition(key);
+		
+		if (positionPolys == null) {
+			this.clearAuxCP();
+			for (Point pt : points)
+				this.auxiliaryCP.addGeoConstruction(pt);
+			positionPolys = this.indexPosition(key, transformer.transform(this.auxiliaryCP));
+		}
+		
+		if (this.matchesNDGCondition(positionPolys)) {
+			Vector<Point> pointsV = new Vector<Point>();
+			for (Point pt : points)
+				pointsV.add(pt);
+			this.ndgCond.addNewTranslation(ndgType, pointsV);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Method that checks whether some of polynomials of specific position
+	 * of points matches polynomial form of associated NDG condition.
+	 * 
+	 * @param positionPolys		Polynomials of position
+	 * @return					True if some polynomial matches NDG condition, false otherwise
+	 */
+	protected boolean matchesNDGCondition(PositionPolynomial[] positionPolys) {
+		OpenGeoProver.settings.getMetrics().incrementCounter(OGPMetrics.NDG_POSITION_CHECKS);
+		for (PositionPolynomial positionPoly : positionPolys) {
+			if (positionPoly.matches(this.ndgCond.getPolynomial(), this.ndgCond.getPolynomialValue()))
+				return true;
+		}
+		return false;
+	}
 }
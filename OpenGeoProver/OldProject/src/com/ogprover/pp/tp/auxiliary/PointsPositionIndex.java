@@ -0,0 +1,99 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.pp.tp.auxiliary;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ogprover.polynomials.PositionPolynomial;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for index of algebraic forms of specific positions of points,
+*     used in translation of NDG conditions to readable form. Each
+*     specific position of some points is transformed to algebraic form
+*     (by usage of auxiliary CP) only once per construction protocol, and
+*     all NDG conditions of that protocol are matched against polynomials
+*     stored in this index.</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class PointsPositionIndex {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Map with polynomials of positions, where key is made of name of position
+	 * and labels of points in that position (in order of their appearance in position).
+	 */
+	private Map<String, PositionPolynomial[]> positionMap = new HashMap<String, PositionPolynomial[]>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that makes key for specific position of points.
+	 *
+	 * @param positionName	Name of position
+	 * @param points		Points in that position
+	 * @return				Key of position
+	 */
+	public static String makeKey(String positionName, Point... points) {
+		StringBuilder sb = new StringBuilder(positionName);
+
+		for (Point pt : points) {
+			sb.append(':');
+			sb.append(pt.getGeoObjectLabel());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Method that retrieves polynomials of specific position of points.
+	 *
+	 * @param key	Key of position (see {@link #makeKey(String, Point...)})
+	 * @return		Array of polynomials of position or null if position is not in this index
+	 */
+	public synchronized PositionPolynomial[] get(String key) {
+		return this.positionMap.get(key);
+	}
+
+	/**
+	 * Method that stores polynomials of specific position of points.
+	 *
+	 * @param key				Key of position (see {@link #makeKey(String, Point...)})
+	 * @param positionPolys		Array of polynomials of position
+	 */
+	public synchronized void put(String key, PositionPolynomial[] positionPolys) {
+		this.positionMap.put(key, positionPolys);
+	}
+
+	/**
+	 * @return	Number of positions in this index
+	 */
+	public synchronized int size() {
+		return this.positionMap.size();
+	}
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Vector;
 
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.Circle;
 import com.ogprover.pp.tp.geoconstruction.CircleWithCenterAndPoint;
 import com.ogprover.pp.tp.geoconstruction.Line;
@@ -93,28 +94,20 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkThreeCollinearPoints(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_COLLINEAR, pointsV);
-			return true;
-		}
+	private boolean checkThreeCollinearPoints(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				ArrayList<Point> pointList = new ArrayList<Point>();
+				pointList.add(A);
+				pointList.add(B);
+				pointList.add(C);
+				auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("ThreeCollinearPoints", AlgebraicNDGCondition.NDG_TYPE_3PT_COLLINEAR, transformer, A, B, C);
 	}
 	
 	/**
@@ -125,34 +118,25 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkMidPoint(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Segment AC = new Segment(A, C);
-		Segment CB = new Segment(C, B);
-		this.auxiliaryCP.addThmStatement(new RatioOfOrientedSegments(AC, CB, 1));
-		XPolynomial statementXPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
-		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_MIDPOINT, pointsV);
-			return true;
-		}
+	private boolean checkMidPoint(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Segment AC = new Segment(A, C);
+				Segment CB = new Segment(C, B);
+				auxiliaryCP.addThmStatement(new RatioOfOrientedSegments(AC, CB, 1));
+				XPolynomial statementXPoly = ((RatioOfOrientedSegments) auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+				XPolynomial statementYPoly = ((RatioOfOrientedSegments) auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+				XPolynomial statementPoly = null;
+				
+				if (statementXPoly != null && statementYPoly != null)
+					statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+				                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+				return new XPolynomial[] {statementXPoly, statementYPoly, statementPoly};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("MidPoint", AlgebraicNDGCondition.NDG_TYPE_3PT_MIDPOINT, transformer, A, B, C);
 	}
 	
 	/**
@@ -163,26 +147,18 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkPerpBisectorPoint(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Line perpB = new PerpendicularBisector("perpB", A, B);
-		this.auxiliaryCP.addGeoConstruction(perpB);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(perpB, C));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_ON_PERP_BIS, pointsV);
-			return true;
-		}
+	private boolean checkPerpBisectorPoint(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Line perpB = new PerpendicularBisector("perpB", A, B);
+				auxiliaryCP.addGeoConstruction(perpB);
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(perpB, C));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("PerpBisectorPoint", AlgebraicNDGCondition.NDG_TYPE_3PT_ON_PERP_BIS, transformer, A, B, C);
 	}
 	
 	/**
@@ -193,28 +169,20 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkRightAngle(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Line AC = new LineThroughTwoPoints("AC", A, C);
-		this.auxiliaryCP.addGeoConstruction(AC);
-		Line BC = new LineThroughTwoPoints("BC", B, C);
-		this.auxiliaryCP.addGeoConstruction(BC);
-		this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AC, BC));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_RIGHT_ANG, pointsV);
-			return true;
-		}
+	private boolean checkRightAngle(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Line AC = new LineThroughTwoPoints("AC", A, C);
+				auxiliaryCP.addGeoConstruction(AC);
+				Line BC = new LineThroughTwoPoints("BC", B, C);
+				auxiliaryCP.addGeoConstruction(BC);
+				auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AC, BC));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("RightAngle", AlgebraicNDGCondition.NDG_TYPE_3PT_RIGHT_ANG, transformer, A, B, C);
 	}
 	
 	/**
@@ -225,26 +193,18 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkPointOnCircle(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Circle k = new CircleWithCenterAndPoint("k", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_ON_CIRCLE, pointsV);
-			return true;
-		}
+	private boolean checkPointOnCircle(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				Circle k = new CircleWithCenterAndPoint("k", A, B);
+				auxiliaryCP.addGeoConstruction(k);
+				auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("PointOnCircle", AlgebraicNDGCondition.NDG_TYPE_3PT_ON_CIRCLE, transformer, A, B, C);
 	}
 	
 	/**
@@ -255,24 +215,16 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @param C		Third point
 	 * @return		True if condition is met, false otherwise
 	 */
-	private boolean checkAlgebraicSumOfThreeSegments(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addThmStatement(new AlgebraicSumOfThreeSegments(A, B, A, C, C, B));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			Vector<Point> pointsV = new Vector<Point>();
-			pointsV.add(A);
-			pointsV.add(B);
-			pointsV.add(C);
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_3PT_SEG_SUM, pointsV);
-			return true;
-		}
+	private boolean checkAlgebraicSumOfThreeSegments(final Point A, final Point B, final Point C) {
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				auxiliaryCP.addThmStatement(new AlgebraicSumOfThreeSegments(A, B, A, C, C, B));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		return false;
+		return this.checkPosition("AlgebraicSumOfThreeSegments", AlgebraicNDGCondition.NDG_TYPE_3PT_SEG_SUM, transformer, A, B, C);
 	}
 	
 	/**
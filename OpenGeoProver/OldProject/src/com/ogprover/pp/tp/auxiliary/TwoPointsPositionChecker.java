@@ -7,6 +7,7 @@ package com.ogprover.pp.tp.auxiliary;
 import java.util.Vector;
 
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
 import com.ogprover.pp.tp.thmstatement.IdenticalPoints;
@@ -94,21 +95,18 @@ public class TwoPointsPositionChecker extends PointsPositionChecker {
 			return false;
 		
 		// we clone points since they will be added to new CP
-		Point A = pointList.get(0).clone();
-		Point B = pointList.get(1).clone();
+		final Point A = pointList.get(0).clone();
+		final Point B = pointList.get(1).clone();
 		
 		// Check if points are equal
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addThmStatement(new IdenticalPoints(A, B));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		PositionTransformer transformer = new PositionTransformer() {
+			@Override
+			public XPolynomial[] transform(OGPTP auxiliaryCP) {
+				auxiliaryCP.addThmStatement(new IdenticalPoints(A, B));
+				return new XPolynomial[] {auxiliaryCP.getTheoremStatement().getAlgebraicForm()};
+			}
+		};
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
-			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_2PT_IDENTICAL, pointList);
-			return true;
-		}
-		
-		return false;
+		return this.checkPosition("IdenticalPoints", AlgebraicNDGCondition.NDG_TYPE_2PT_IDENTICAL, transformer, A, B);
 	}
 }
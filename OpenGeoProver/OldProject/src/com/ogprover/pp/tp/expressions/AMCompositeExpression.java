@@ -0,0 +1,154 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+package com.ogprover.pp.tp.expressions;
+
+import java.util.HashSet;
+import java.util.Stack;
+import java.util.Vector;
+
+import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.thmprover.AreaMethodProver;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Abstract class for representing expressions built from other expressions
+ * 		(sums, differences, products, fractions and additive inverses).
+ * 		Uniformization, one-step simplification, elimination and comparison of
+ * 		such expressions are done without recursion (see {@link AMExpressionTransformer}),
+ * 		so they don't overflow the stack on very deep expressions.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Damien Desfontaines
+ */
+public abstract class AMCompositeExpression extends AMExpression {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+
+	/*
+	 * ======================================================================
+	 * ========================= ABSTRACT METHODS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the operands of this expression, from left to right
+	 */
+	public abstract AMExpression[] getOperands();
+
+	/**
+	 * @param operands	New operands, in same order as returned by {@link #getOperands()}
+	 * @return a new expression of same kind as this one, with given operands
+	 */
+	public abstract AMExpression rebuild(AMExpression[] operands);
+
+	/**
+	 * Applies the simplification rules of this kind of expression.
+	 *
+	 * @param operands	Operands of this expression, already one-step-simplified
+	 * @return the expression one-step-simplified
+	 */
+	protected abstract AMExpression simplifyOperands(AMExpression[] operands);
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	@Override
+	public boolean equals(Object expr) {
+		if (!(expr instanceof AMExpression))
+			return false;
+
+		Stack<AMExpression> stack = new Stack<AMExpression>();
+		stack.push(this);
+		stack.push((AMExpression)expr);
+		while (!stack.empty()) {
+			AMExpression e2 = stack.pop();
+			AMExpression e1 = stack.pop();
+
+			if (e1 instanceof AMCompositeExpression) {
+				if (e2 == null || e1.getClass() != e2.getClass())
+					return false;
+				AMExpression[] operands1 = ((AMCompositeExpression)e1).getOperands();
+				AMExpression[] operands2 = ((AMCompositeExpression)e2).getOperands();
+				for (int ii = operands1.length - 1; ii >= 0; ii--) {
+					stack.push(operands1[ii]);
+					stack.push(operands2[ii]);
+				}
+			}
+			else if (!e1.equals(e2))
+				return false;
+		}
+		return true;
+	}
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	@Override
+	public AMExpression uniformize(final HashSet<HashSet<Point>> knownCollinearPoints) {
+		AMExpressionTransformer<RuntimeException> uniformizer = new AMExpressionTransformer<RuntimeException>() {
+			@Override
+			protected AMExpression transformLeaf(AMExpression leaf) {
+				return leaf.uniformize(knownCollinearPoints);
+			}
+
+			@Override
+			protected AMExpression combine(AMCompositeExpression node, AMExpression[] transformedOperands) {
+				return node.rebuild(transformedOperands);
+			}
+		};
+		return uniformizer.transform(this);
+	}
+
+	@Override
+	public AMExpression simplifyInOneStep() {
+		AMExpressionTransformer<RuntimeException> simplifier = new AMExpressionTransformer<RuntimeException>() {
+			@Override
+			protected AMExpression transformLeaf(AMExpression leaf) {
+				return leaf.simplifyInOneStep();
+			}
+
+			@Override
+			protected AMExpression combine(AMCompositeExpression node, AMExpression[] transformedOperands) {
+				return node.simplifyOperands(transformedOperands);
+			}
+		};
+		return simplifier.transform(this);
+	}
+
+	@Override
+	public AMExpression eliminate(final Point pt, final Vector<Boolean> isLemmaUsed, final AreaMethodProver prover) throws UnknownStatementException {
+		AMExpressionTransformer<UnknownStatementException> eliminator = new AMExpressionTransformer<UnknownStatementException>() {
+			@Override
+			protected AMExpression transformLeaf(AMExpression leaf) throws UnknownStatementException {
+				return leaf.eliminate(pt, isLemmaUsed, prover);
+			}
+
+			@Override
+			protected AMExpression combine(AMCompositeExpression node, AMExpression[] transformedOperands) {
+				return node.rebuild(transformedOperands);
+			}
+		};
+		return eliminator.transform(this);
+	}
+}
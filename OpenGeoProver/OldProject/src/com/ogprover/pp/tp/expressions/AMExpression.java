@@ -15,6 +15,7 @@ import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.FreePoint;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -136,6 +137,13 @@ public abstract class AMExpression {
 	 */
 	public abstract double testValue(HashMap<String, FloatCoordinates> coords);
 	
+	/**
+	 * Given a hashmap which associate to each point arbitrary coordinates, computes the interval
+	 * which certainly contains the value of the expression for these coordinates (taken as exact
+	 * numbers). If this interval doesn't contain zero, the expression is certainly non-zero.
+	 */
+	public abstract Interval testInterval(HashMap<String, FloatCoordinates> coords);
+	
 	/*
 	 * ======================================================================
 	 * ======================= COMMON OBJECT METHODS ========================
@@ -180,27 +188,29 @@ public abstract class AMExpression {
 	 * /!\ The expression has to be a product, in right associative form, with (or without) a single constant on the left.
 	 */
 	public List<AMExpression> productToList() {
-		if (this instanceof PythagorasDifference || this instanceof AreaOfTriangle) {
-			List<AMExpression> list = new Vector<AMExpression>(); 
-			list.add(this);
-			return list;
+		// Walks along the right spine of product without recursion, so very long products can be processed
+		Vector<AMExpression> leftFactors = new Vector<AMExpression>();
+		AMExpression current = this;
+		
+		while (current instanceof Product) {
+			leftFactors.add(((Product)current).getFactor1());
+			current = ((Product)current).getFactor2();
 		}
 		
-		if (this instanceof BasicNumber) {
-			return new Vector<AMExpression>();
+		List<AMExpression> list = new Vector<AMExpression>();
+		if (current instanceof PythagorasDifference || current instanceof AreaOfTriangle)
+			list.add(current);
+		else if (!(current instanceof BasicNumber)) {
+			System.out.println("The expression is not in the good form : " + this.print());
+			return null;
 		}
 		
-		if (this instanceof Product) {
-			AMExpression leftFactor = ((Product)this).getFactor1();
-			AMExpression rightFactor = ((Product)this).getFactor2();
-			List<AMExpression> list = rightFactor.productToList();
+		for (int ii = leftFactors.size() - 1; ii >= 0; ii--) {
+			AMExpression leftFactor = leftFactors.get(ii);
 			if (leftFactor instanceof PythagorasDifference || leftFactor instanceof AreaOfTriangle)
 				list.add(leftFactor);
-			return list;
 		}
-		
-		System.out.println("The expression is not in the good form : " + this.print());
-		return null;
+		return list;
 	}
 	
 	/**
@@ -231,28 +241,47 @@ public abstract class AMExpression {
 	 * if expr = -7*y*z.
 	 */
 	public AMExpression addProductToSum(AMExpression expr) {
-		//System.out.println("  " + this.print() + ".addProductToSum(" + expr.print() + ")");
-		if(this instanceof Sum) {
-			//System.out.println("    case 1 : this[" + this.print() + "] instanceof AMSum");
-			AMExpression leftTerm = ((Sum)this).getTerm1();
-			AMExpression restOfSum = ((Sum)this).getTerm2();
+		// Walks along the right spine of sum without recursion, so very long sums can be processed
+		Vector<AMExpression> leftTerms = new Vector<AMExpression>();
+		AMExpression current = this;
+		AMExpression result = null;
+		
+		while (current instanceof Sum) {
+			AMExpression leftTerm = ((Sum)current).getTerm1();
+			AMExpression restOfSum = ((Sum)current).getTerm2();
 			if (leftTerm.isSameProduct(expr)) {
-				BasicNumber constantOfLeftTerm = (BasicNumber) ((Product)leftTerm).getFactor1();
-				BasicNumber constantOfExpr =  (BasicNumber) ((Product)expr).getFactor1();
-				BasicNumber sum = constantOfLeftTerm.add(constantOfExpr);
-				AMExpression restOfProduct = ((Product)leftTerm).getFactor2();
-				return new Sum(new Product(sum, restOfProduct), restOfSum);
+				result = new Sum(addConstantsOfSameProducts(leftTerm, expr), restOfSum);
+				break;
 			}
-			return new Sum(leftTerm, restOfSum.addProductToSum(expr));
+			leftTerms.add(leftTerm);
+			current = restOfSum;
 		}
-		if (this.isSameProduct(expr)) {
-			BasicNumber constantOfThis = (BasicNumber) ((Product)this).getFactor1();
-			BasicNumber constantOfExpr =  (BasicNumber) ((Product)expr).getFactor1();
-			BasicNumber sum = constantOfThis.add(constantOfExpr);
-			AMExpression restOfProduct = ((Product)this).getFactor2();
-			return new Product(sum, restOfProduct);
+		
+		if (result == null) {
+			if (current.isSameProduct(expr))
+				result = addConstantsOfSameProducts(current, expr);
+			else
+				result = new Sum(current, expr);
 		}
-		return new Sum(this, expr);
+		
+		for (int ii = leftTerms.size() - 1; ii >= 0; ii--)
+			result = new Sum(leftTerms.get(ii), result);
+		return result;
+	}
+	
+	/**
+	 * Adds two products which differ only by constant on the left.
+	 * 
+	 * @param product	Product in right associative form, with single constant on the left
+	 * @param expr		Product with same factors as first one
+	 * @return the product with same factors and with sum of constants on the left
+	 */
+	private static AMExpression addConstantsOfSameProducts(AMExpression product, AMExpression expr) {
+		BasicNumber constantOfProduct = (BasicNumber) ((Product)product).getFactor1();
+		BasicNumber constantOfExpr =  (BasicNumber) ((Product)expr).getFactor1();
+		BasicNumber sum = constantOfProduct.add(constantOfExpr);
+		AMExpression restOfProduct = ((Product)product).getFactor2();
+		return new Product(sum, restOfProduct);
 	}
 	
 	/**
@@ -0,0 +1,149 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+package com.ogprover.pp.tp.expressions;
+
+import java.util.Stack;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Abstract class for bottom-up transformations of area method expressions.
+ * 		The syntax tree is walked with an explicit stack instead of recursive
+ * 		calls, so very deep chains of sums and products (as produced by long
+ * 		constructions) can be transformed on threads with default stack size.
+ * 		Operands of composite expressions are transformed from left to right,
+ * 		in the same order as in recursive implementation.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Damien Desfontaines
+ *
+ * @param <E>	Type of checked exception that can be thrown by transformation
+ * 				(use RuntimeException for transformations which do not throw)
+ */
+public abstract class AMExpressionTransformer<E extends Exception> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * <i>
+	 * Class for one pending composite expression on the stack of transformer.
+	 * </i>
+	 *
+	 * @author Damien Desfontaines
+	 */
+	private static class Frame {
+		/**
+		 * Composite expression whose operands are being transformed
+		 */
+		private AMCompositeExpression node;
+		/**
+		 * Operands of composite expression
+		 */
+		private AMExpression[] operands;
+		/**
+		 * Already transformed operands
+		 */
+		private AMExpression[] results;
+		/**
+		 * Index of next operand to transform
+		 */
+		private int next;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param node	Composite expression
+		 */
+		public Frame(AMCompositeExpression node) {
+			this.node = node;
+			this.operands = node.getOperands();
+			this.results = new AMExpression[this.operands.length];
+			this.next = 0;
+		}
+	}
+
+
+	/*
+	 * ======================================================================
+	 * ========================= ABSTRACT METHODS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * Transforms expression which is not composite (number, geometric quantity,
+	 * sum of products etc.).
+	 *
+	 * @param leaf		Expression which is not composite
+	 * @return			Transformed expression
+	 * @throws E
+	 */
+	protected abstract AMExpression transformLeaf(AMExpression leaf) throws E;
+
+	/**
+	 * Makes the result for composite expression from its already transformed operands.
+	 *
+	 * @param node					Composite expression
+	 * @param transformedOperands	Transformed operands of composite expression, in same order
+	 * 								as returned by {@link AMCompositeExpression#getOperands()}
+	 * @return						Transformed expression
+	 * @throws E
+	 */
+	protected abstract AMExpression combine(AMCompositeExpression node, AMExpression[] transformedOperands) throws E;
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method which transforms passed in expression in post-order, without recursion.
+	 *
+	 * @param expr	Expression to transform
+	 * @return		Transformed expression
+	 * @throws E
+	 */
+	public AMExpression transform(AMExpression expr) throws E {
+		if (!(expr instanceof AMCompositeExpression))
+			return this.transformLeaf(expr);
+
+		Stack<Frame> stack = new Stack<Frame>();
+		AMExpression result = null;
+
+		stack.push(new Frame((AMCompositeExpression)expr));
+		while (!stack.empty()) {
+			Frame top = stack.peek();
+
+			if (top.next < top.operands.length) {
+				AMExpression operand = top.operands[top.next];
+
+				if (operand instanceof AMCompositeExpression)
+					stack.push(new Frame((AMCompositeExpression)operand));
+				else
+					top.results[top.next++] = this.transformLeaf(operand);
+				continue;
+			}
+
+			stack.pop();
+			result = this.combine(top.node, top.results);
+			if (!stack.empty()) {
+				Frame parent = stack.peek();
+				parent.results[parent.next++] = result;
+			}
+		}
+
+		return result;
+	}
+}
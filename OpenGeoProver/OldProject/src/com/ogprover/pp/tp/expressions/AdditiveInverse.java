@@ -5,12 +5,12 @@ package com.ogprover.pp.tp.expressions;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Vector;
 
 import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -21,7 +21,7 @@ import com.ogprover.thmprover.AreaMethodProver;
  * @version 1.00
  * @author Damien Desfontaines
  */
-public class AdditiveInverse extends AMExpression {
+public class AdditiveInverse extends AMCompositeExpression {
 	/*
 	 * ======================================================================
 	 * ========================== VARIABLES =================================
@@ -84,15 +84,6 @@ public class AdditiveInverse extends AMExpression {
 		return ("-" + expr.print());
 	}
 
-	@Override
-	public boolean equals(Object expr) {
-		if (!(expr instanceof AdditiveInverse))
-			return false;
-		AdditiveInverse inv = (AdditiveInverse)expr;
-		return this.getExpr().equals(inv.getExpr());
-	}
-	
-	
 	/*
 	 * ======================================================================
 	 * ========================== SPECIFIC METHODS ==========================
@@ -104,24 +95,24 @@ public class AdditiveInverse extends AMExpression {
 	}
 	
 	@Override
-	public AMExpression uniformize(HashSet<HashSet<Point>> knownCollinearPoints) {
-		return new AdditiveInverse(expr.uniformize(knownCollinearPoints));
+	public AMExpression[] getOperands() {
+		return new AMExpression[] {expr};
+	}
+	
+	@Override
+	public AMExpression rebuild(AMExpression[] operands) {
+		return new AdditiveInverse(operands[0]);
 	}
 	
 	@Override
-	public AMExpression simplifyInOneStep() {
-		AMExpression e = expr.simplifyInOneStep();
+	protected AMExpression simplifyOperands(AMExpression[] operands) {
+		AMExpression e = operands[0];
 		if (e instanceof AdditiveInverse)
 			return ((AdditiveInverse)e).getExpr(); // --a -> a
 		if (e.isZero())
 			return new BasicNumber(0); // -0 -> 0
 		return new AdditiveInverse(e);
 	}
-	
-	@Override
-	public AMExpression eliminate(Point pt, Vector<Boolean> isLemmaUsed, AreaMethodProver prover) throws UnknownStatementException {
-		return new AdditiveInverse(expr.eliminate(pt, isLemmaUsed, prover));
-	}
 
 	@Override
 	public AMExpression reduceToSingleFraction() {
@@ -158,4 +149,9 @@ public class AdditiveInverse extends AMExpression {
 	public double testValue(HashMap<String, FloatCoordinates> coords) {
 		return (0 - expr.testValue(coords));
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		return expr.testInterval(coords).negate();
+	}
 }
\ No newline at end of file
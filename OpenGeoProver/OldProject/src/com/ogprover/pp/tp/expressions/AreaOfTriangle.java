@@ -17,6 +17,7 @@ import com.ogprover.pp.tp.geoconstruction.PRatioPoint;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.geoconstruction.TRatioPoint;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -145,7 +146,8 @@ public class AreaOfTriangle extends GeometricQuantity {
 			set.add(b);
 			set.add(c);
 			if (knownCollinearPoints.contains(set)) {
-				OpenGeoProver.settings.getLogger().debug("Koukou : " + this.print());
+				if (OpenGeoProver.settings.getLogger().isDebugEnabled())
+					OpenGeoProver.settings.getLogger().debug("Koukou : " + this.print());
 				return new BasicNumber(0);
 			}
 		}
@@ -321,4 +323,20 @@ public class AreaOfTriangle extends GeometricQuantity {
 		double yc = coordsC.y;
 		return ((xb-xa)*(yc-ya) - (yb-ya)*(xc-xa))/2;
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		FloatCoordinates coordsA = coords.get(a.getGeoObjectLabel());
+		FloatCoordinates coordsB = coords.get(b.getGeoObjectLabel());
+		FloatCoordinates coordsC = coords.get(c.getGeoObjectLabel());
+		if (coordsA == null || coordsB == null || coordsC == null)
+			return Interval.ENTIRE;
+		Interval xa = new Interval(coordsA.x);
+		Interval xb = new Interval(coordsB.x);
+		Interval xc = new Interval(coordsC.x);
+		Interval ya = new Interval(coordsA.y);
+		Interval yb = new Interval(coordsB.y);
+		Interval yc = new Interval(coordsC.y);
+		return xb.subtract(xa).multiply(yc.subtract(ya)).subtract(yb.subtract(ya).multiply(xc.subtract(xa))).divide(new Interval(2));
+	}
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -185,4 +186,9 @@ public class BasicNumber extends AMExpression {
 	public double testValue(HashMap<String, FloatCoordinates> coords) {
 		return n.floatValue();
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		return Interval.valueOf(n);
+	}
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -339,4 +340,12 @@ public class BigProduct extends AMExpression {
 		}
 		return product;
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		Interval product = coeff.testInterval(coords);
+		for (Entry<GeometricQuantity, Integer> e : factors.entrySet())
+			product = product.multiply(e.getKey().testInterval(coords).power(e.getValue().intValue()));
+		return product;
+	}
 }
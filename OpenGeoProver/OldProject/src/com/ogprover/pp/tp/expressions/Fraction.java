@@ -5,13 +5,13 @@ package com.ogprover.pp.tp.expressions;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Vector;
 
 import com.ogprover.main.OpenGeoProver;
 import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -22,7 +22,7 @@ import com.ogprover.thmprover.AreaMethodProver;
  * @version 1.00
  * @author Damien Desfontaines
  */
-public class Fraction extends AMExpression {
+public class Fraction extends AMCompositeExpression {
 	/*
 	 * ======================================================================
 	 * ========================== VARIABLES =================================
@@ -119,14 +119,6 @@ public class Fraction extends AMExpression {
 		return s.toString();
 	}
 	
-	@Override
-	public boolean equals(Object expr) {
-		if (!(expr instanceof Fraction))
-			return false;
-		Fraction frac = (Fraction)expr;
-		return (numerator.equals(frac.getNumerator()) && denominator.equals(frac.getDenominator()));
-	}
-	
 	/*
 	 * ======================================================================
 	 * ========================== SPECIFIC METHODS ==========================
@@ -138,14 +130,19 @@ public class Fraction extends AMExpression {
 	}
 	
 	@Override
-	public AMExpression uniformize(HashSet<HashSet<Point>> knownCollinearPoints) {
-		return new Fraction(numerator.uniformize(knownCollinearPoints), denominator.uniformize(knownCollinearPoints));
+	public AMExpression[] getOperands() {
+		return new AMExpression[] {numerator, denominator};
+	}
+	
+	@Override
+	public AMExpression rebuild(AMExpression[] operands) {
+		return new Fraction(operands[0], operands[1]);
 	}
 	
 	@Override
-	public AMExpression simplifyInOneStep() {
-		AMExpression n = numerator.simplifyInOneStep();
-		AMExpression d = denominator.simplifyInOneStep();
+	protected AMExpression simplifyOperands(AMExpression[] operands) {
+		AMExpression n = operands[0];
+		AMExpression d = operands[1];
 		if (n.isZero())
 			return new BasicNumber(0); // 0/a -> 0
 		if (d.isZero()) {
@@ -175,11 +172,6 @@ public class Fraction extends AMExpression {
 		return new Fraction(n, d);
 	}
 	
-	@Override
-	public AMExpression eliminate(Point pt, Vector<Boolean> isLemmaUsed, AreaMethodProver prover) throws UnknownStatementException {
-		return new Fraction(numerator.eliminate(pt, isLemmaUsed, prover), denominator.eliminate(pt, isLemmaUsed, prover));
-	}
-	
 	@Override
 	public AMExpression reduceToSingleFraction() {
 		AMExpression expr1 = numerator.reduceToSingleFraction();
@@ -236,4 +228,9 @@ public class Fraction extends AMExpression {
 	public double testValue(HashMap<String, FloatCoordinates> coords) {
 		return (numerator.testValue(coords) / denominator.testValue(coords));
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		return numerator.testInterval(coords).divide(denominator.testInterval(coords));
+	}
 }
\ No newline at end of file
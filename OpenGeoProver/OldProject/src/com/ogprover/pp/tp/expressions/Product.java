@@ -5,12 +5,12 @@ package com.ogprover.pp.tp.expressions;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Vector;
 
 import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -21,7 +21,7 @@ import com.ogprover.thmprover.AreaMethodProver;
  * @version 1.00
  * @author Damien Desfontaines
  */
-public class Product extends AMExpression {
+public class Product extends AMCompositeExpression {
 	/*
 	 * ======================================================================
 	 * ========================== VARIABLES =================================
@@ -101,14 +101,6 @@ public class Product extends AMExpression {
 		return s.toString();
 	}
 	
-	@Override
-	public boolean equals(Object expr) {
-		if (!(expr instanceof Product))
-			return false;
-		Product prod = (Product)expr;
-		return (factor1.equals(prod.getFactor1()) && factor2.equals(prod.getFactor2()));
-	}
-	
 	
 	/*
 	 * ======================================================================
@@ -120,16 +112,20 @@ public class Product extends AMExpression {
 		return (factor1.containsOnlyFreePoints() && factor2.containsOnlyFreePoints());
 	}
 	
+	@Override
+	public AMExpression[] getOperands() {
+		return new AMExpression[] {factor1, factor2};
+	}
 	
 	@Override
-	public AMExpression uniformize(HashSet<HashSet<Point>> knownCollinearPoints) {
-		return new Product(factor1.uniformize(knownCollinearPoints), factor2.uniformize(knownCollinearPoints));
+	public AMExpression rebuild(AMExpression[] operands) {
+		return new Product(operands[0], operands[1]);
 	}
 	
 	@Override
-	public AMExpression simplifyInOneStep() {
-		AMExpression f1 = factor1.simplifyInOneStep();
-		AMExpression f2 = factor2.simplifyInOneStep();
+	protected AMExpression simplifyOperands(AMExpression[] operands) {
+		AMExpression f1 = operands[0];
+		AMExpression f2 = operands[1];
 		if (f1 instanceof BasicNumber) {
 			if (f2 instanceof BasicNumber)
 				return ((BasicNumber) f1).multiply((BasicNumber) f2); // n.n' -> n*n'
@@ -171,10 +167,6 @@ public class Product extends AMExpression {
 		return new Product(f1, f2);
 	}
 	
-	@Override
-	public AMExpression eliminate(Point pt, Vector<Boolean> isLemmaUsed, AreaMethodProver prover) throws UnknownStatementException {
-		return new Product(factor1.eliminate(pt, isLemmaUsed, prover), factor2.eliminate(pt, isLemmaUsed, prover));
-	}
 	
 	@Override
 	public AMExpression reduceToSingleFraction() {
@@ -235,4 +227,9 @@ public class Product extends AMExpression {
 	public double testValue(HashMap<String, FloatCoordinates> coords) {
 		return factor1.testValue(coords) * factor2.testValue(coords);
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		return factor1.testInterval(coords).multiply(factor2.testInterval(coords));
+	}
 }
\ No newline at end of file
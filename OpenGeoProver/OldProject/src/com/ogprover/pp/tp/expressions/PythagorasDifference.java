@@ -16,6 +16,7 @@ import com.ogprover.pp.tp.geoconstruction.PRatioPoint;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.geoconstruction.TRatioPoint;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -401,4 +402,23 @@ public class PythagorasDifference extends GeometricQuantity {
 		double yc = coordsC.y;
 		return (xb-xa)*(xb-xa) + (yb-ya)*(yb-ya) + (xb-xc)*(xb-xc) + (yb-yc)*(yb-yc) - ((xa-xc)*(xa-xc) + (ya-yc)*(ya-yc));
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		FloatCoordinates coordsA = coords.get(a.getGeoObjectLabel());
+		FloatCoordinates coordsB = coords.get(b.getGeoObjectLabel());
+		FloatCoordinates coordsC = coords.get(c.getGeoObjectLabel());
+		if (coordsA == null || coordsB == null || coordsC == null)
+			return Interval.ENTIRE;
+		Interval xa = new Interval(coordsA.x);
+		Interval xb = new Interval(coordsB.x);
+		Interval xc = new Interval(coordsC.x);
+		Interval ya = new Interval(coordsA.y);
+		Interval yb = new Interval(coordsB.y);
+		Interval yc = new Interval(coordsC.y);
+		Interval ab = xb.subtract(xa).power(2).add(yb.subtract(ya).power(2));
+		Interval bc = xb.subtract(xc).power(2).add(yb.subtract(yc).power(2));
+		Interval ac = xa.subtract(xc).power(2).add(ya.subtract(yc).power(2));
+		return ab.add(bc).subtract(ac);
+	}
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.ogprover.pp.tp.thmstatement.AreaMethodTheoremStatement;
 import com.ogprover.pp.tp.thmstatement.CollinearPoints;
 import com.ogprover.pp.tp.thmstatement.ThmStatement;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 import com.ogprover.thmprover.TheoremProver;
 
 /**
@@ -544,4 +545,28 @@ public class RatioOfCollinearSegments extends GeometricQuantity {
 		double xd = coordsD.x;
 		return (xb-xa)/(xd-xc);
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		FloatCoordinates coordsA = coords.get(a.getGeoObjectLabel());
+		FloatCoordinates coordsB = coords.get(b.getGeoObjectLabel());
+		FloatCoordinates coordsC = coords.get(c.getGeoObjectLabel());
+		FloatCoordinates coordsD = coords.get(d.getGeoObjectLabel());
+		if (coordsA == null || coordsB == null || coordsC == null || coordsD == null)
+			return Interval.ENTIRE;
+		Interval xa = new Interval(coordsA.x);
+		Interval xb = new Interval(coordsB.x);
+		Interval xc = new Interval(coordsC.x);
+		Interval xd = new Interval(coordsD.x);
+		Interval ya = new Interval(coordsA.y);
+		Interval yb = new Interval(coordsB.y);
+		Interval yc = new Interval(coordsC.y);
+		Interval yd = new Interval(coordsD.y);
+		// The ratio is defined only for parallel segments - if they certainly aren't parallel
+		// for given coordinates, nothing can be said about the value.
+		Interval cross = xb.subtract(xa).multiply(yd.subtract(yc)).subtract(yb.subtract(ya).multiply(xd.subtract(xc)));
+		if (cross.signum() != 0)
+			return Interval.ENTIRE;
+		return xb.subtract(xa).divide(xd.subtract(xc));
+	}
 }
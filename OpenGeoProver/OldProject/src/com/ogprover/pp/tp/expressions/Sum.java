@@ -5,12 +5,12 @@ package com.ogprover.pp.tp.expressions;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Vector;
 
 import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -21,7 +21,7 @@ import com.ogprover.thmprover.AreaMethodProver;
  * @version 1.00
  * @author Damien Desfontaines
  */
-public class Sum extends AMExpression {
+public class Sum extends AMCompositeExpression {
 	/*
 	 * ======================================================================
 	 * ========================== VARIABLES =================================
@@ -100,14 +100,6 @@ public class Sum extends AMExpression {
 		return s.toString();
 	}
 	
-	@Override
-	public boolean equals(Object expr) {
-		if (!(expr instanceof Sum))
-			return false;
-		Sum sum = (Sum)expr;
-		return (term1.equals(sum.getTerm1()) && term2.equals(sum.getTerm2()));
-	}
-	
 	
 	/*
 	 * ======================================================================
@@ -120,14 +112,19 @@ public class Sum extends AMExpression {
 	}
 	
 	@Override
-	public AMExpression uniformize(HashSet<HashSet<Point>> knownCollinearPoints) {
-		return new Sum(term1.uniformize(knownCollinearPoints), term2.uniformize(knownCollinearPoints));
+	public AMExpression[] getOperands() {
+		return new AMExpression[] {term1, term2};
+	}
+	
+	@Override
+	public AMExpression rebuild(AMExpression[] operands) {
+		return new Sum(operands[0], operands[1]);
 	}
 	
 	@Override
-	public AMExpression simplifyInOneStep() {
-		AMExpression t1 = term1.simplifyInOneStep();
-		AMExpression t2 = term2.simplifyInOneStep();
+	protected AMExpression simplifyOperands(AMExpression[] operands) {
+		AMExpression t1 = operands[0];
+		AMExpression t2 = operands[1];
 		if (t1.isZero())
 			return t2; // 0+a -> a
 		if (t2.isZero())
@@ -141,11 +138,6 @@ public class Sum extends AMExpression {
 		return new Sum(t1, t2);
 	}
 	
-	@Override
-	public AMExpression eliminate(Point pt, Vector<Boolean> isLemmaUsed, AreaMethodProver prover) throws UnknownStatementException {
-		return new Sum(term1.eliminate(pt, isLemmaUsed, prover), term2.eliminate(pt, isLemmaUsed, prover));
-	}
-	
 	@Override
 	public AMExpression reduceToSingleFraction() {
 		AMExpression expr1 = term1.reduceToSingleFraction();
@@ -201,4 +193,9 @@ public class Sum extends AMExpression {
 	public double testValue(HashMap<String, FloatCoordinates> coords) {
 		return (term1.testValue(coords) + term2.testValue(coords));
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		return term1.testInterval(coords).add(term2.testInterval(coords));
+	}
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import com.ogprover.pp.tp.auxiliary.FloatCoordinates;
 import com.ogprover.pp.tp.auxiliary.UnknownStatementException;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.utilities.Interval;
 
 /**
  * <dl>
@@ -258,4 +259,13 @@ public class SumOfProducts extends AMExpression {
 		}
 		return sum;
 	}
+
+	@Override
+	public Interval testInterval(HashMap<String, FloatCoordinates> coords) {
+		Interval sum = new Interval(0);
+		for (BigProduct p : terms) {
+			sum = sum.add(p.testInterval(coords));
+		}
+		return sum;
+	}
 }
@@ -229,7 +229,7 @@ public class AngleBisector extends Line {
 		pointsMap.put(OLabel, this.angle.getVertex());
 		pointsMap.put(ALabel, this.angle.getFirstRayPoint());
 		pointsMap.put(BLabel, this.angle.getSecondRayPoint());
-		XPolynomial checkPerpBisector = OGPTP.instantiateCondition(checkPerpCondition, pointsMap).reduceByUTermDivision();
+		XPolynomial checkPerpBisector = OGPTP.instantiateReducedCondition(checkPerpCondition, pointsMap);
 		
 		boolean isPerpendicular = this.consProtocol.isPolynomialConsequenceOfConstructions(checkPerpBisector);
 		
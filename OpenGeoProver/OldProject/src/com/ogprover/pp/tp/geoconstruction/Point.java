@@ -331,10 +331,12 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 	 * 							False otherwise - it will be false when this method is called
 	 * 							just for testing of some polynomial to see if it will be chosen
 	 * 							as condition instance for this point.
+	 * @param checkOnly			True if it is only checked whether coordinate can be renamed,
+	 * 							without changing this point
 	 * @return					PROCESSPOLY_RETCODE_COORDINATES_RENAMED if renaming was successful
-	 * 							or ERR_CODE_GENERAL in case of error
+	 * 							(or would be successful) or ERR_CODE_GENERAL in case of error
 	 */
-	private int renameCoordinate(short coordinateType, short newVarType, long newIndex, boolean writeToOutput) {
+	private int renameCoordinate(short coordinateType, short newVarType, long newIndex, boolean writeToOutput, boolean checkOnly) {
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		String messageForOutput = "";
@@ -396,6 +398,9 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			
+			if (checkOnly)
+				return Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED;
+			
 			// then check Y - if it is of same variable type
 			// rename it too if its index is not smaller than of X 
 			boolean renameY = false;
@@ -492,6 +497,9 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			
+			if (checkOnly)
+				return Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED;
+			
 			// then check X - if it is of same variable type
 			// rename it too if its index is not smaller than of Y 
 			boolean renameX = false;
@@ -579,13 +587,18 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 	 * 						False otherwise - it will be false when this method is called
 	 * 						just for testing of some polynomial to see if it will be chosen
 	 * 						as condition instance for this point.
+	 * @param checkOnly		True if polynomial is not added but it is only checked
+	 * 						whether it would be added
 	 * @return				PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM if polynomial is added
 	 * 						successfully, or ERR_CODE_GENERAL in case of error
 	 */
-	private int addPolynomialToSystem(XPolynomial xPoly, boolean writeToOutput) {
+	private int addPolynomialToSystem(XPolynomial xPoly, boolean writeToOutput, boolean checkOnly) {
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		
+		if (checkOnly)
+			return Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM;
+		
 		// When polynomial is added to the system, it is polynomial
 		// with new variables. There could exist at the most only one
 		// polynomial (and that could be only the last one) which contains
@@ -666,7 +679,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 			}
 		}
 		
-		int retCode = this.processConstructionPolynomialLogic(xPoly, writeToOutput);
+		int retCode = this.processConstructionPolynomialLogic(xPoly, writeToOutput, false);
 		
 		logger.debug("Finished processing of polynomial");
 		if (writeToOutput) {
@@ -682,12 +695,28 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 		return retCode;
 	}
 	
+	/**
+	 * <b>[final method]</b><br>
+	 * Method that checks what would be done with the polynomial obtained as 
+	 * instance of condition of this point, without changing this point or the
+	 * system of polynomials that represents the constructions. Therefore it can
+	 * be called concurrently for different polynomials of this point.
+	 * 
+	 * @param xPoly		XPolynomail representing the instance of condition of this point
+	 * @return			Same code as {@link #processConstructionPolynomial(XPolynomial, boolean)}
+	 * 					would return for this polynomial
+	 */
+	public final int checkConstructionPolynomial(XPolynomial xPoly) {
+		return this.processConstructionPolynomialLogic(xPoly, false, true);
+	}
+	
 	/**
 	 * Method that contains the logic of processing polynomial
 	 * 
+	 * @param checkOnly		True if action of processing is only determined but not applied
 	 * @see com.ogprover.pp.tp.geoconstruction.Point#processConstructionPolynomial(XPolynomial xPoly, boolean writeToOutput)
 	 */
-	private int processConstructionPolynomialLogic(XPolynomial xPoly, boolean writeToOutput) {
+	private int processConstructionPolynomialLogic(XPolynomial xPoly, boolean writeToOutput, boolean checkOnly) {
 		ILogger logger = OpenGeoProver.settings.getLogger();
 		OGPOutput output = OpenGeoProver.settings.getOutput();
 		
@@ -780,10 +809,10 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				long varIndex = singleTerm.getPowers().get(0).getIndex();
 				
 				if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X && this.X.getIndex() == varIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, 0, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, 0, writeToOutput, checkOnly);
 				
 				if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X && this.Y.getIndex() == varIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, 0, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, 0, writeToOutput, checkOnly);
 				
 				// this is some old x-variable and this is an error, since
 				// passed in polynomial must contain at least one dependent
@@ -821,7 +850,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 				// more than one x-power in this term
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, checkOnly);
 			}
 		}
 		
@@ -834,7 +863,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 			
 			if (firstTerm.getPowers().size() > 1 || secondTerm.getPowers().size() > 1) {
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, checkOnly);
 			}
 			
 			if (firstTerm.getPowers().size() == 0) {
@@ -879,11 +908,11 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 					
 					if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X &&
 						this.X.getIndex() == firstVarIndex)
-						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput);
+						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput, checkOnly);
 					
 					if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X &&
 						this.Y.getIndex() == firstVarIndex)
-						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput);
+						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput, checkOnly);
 					
 					// error - attempt to rename some old x-variable, not the one from this point coordinates
 					// (at least one x-variable of point must exist in polynomial but it is not the case here - therefore error)
@@ -902,7 +931,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 				// not in special form - then add into polynomial system
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, checkOnly);
 			}
 			
 			// second term has no x-powers
@@ -933,9 +962,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 			long uIndex = -1;
 			for (Power p: gcdTerm.getPowers()) {
 				UTerm divisorTerm = new UTerm(1);
-				Power newPower = p.clone();
-				newPower.setExponent(1);
-				divisorTerm.addPower(newPower);
+				divisorTerm.addPower(Power.getInstance(p.getVariable(), 1));
 						
 				UPolynomial reducedNumerator = (UPolynomial)reducedUF.getNumerator().clone();
 						
@@ -965,11 +992,11 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				// rename x-variable of first term by this found u-variable of second term
 				if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X &&
 					this.X.getIndex() == firstVarIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput, checkOnly);
 					
 				if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X &&
 					this.Y.getIndex() == firstVarIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput, checkOnly);
 					
 				// error - attempt to rename some old x-variable, not the one from this point coordinates 
 				// (at least one x-variable of point must exist in polynomial but it is not the case here - therefore error)
@@ -988,7 +1015,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 			// not in special form - then add into polynomial system
 			// Add polynomial to system
-			return this.addPolynomialToSystem(xPoly, writeToOutput);
+			return this.addPolynomialToSystem(xPoly, writeToOutput, checkOnly);
 		}
 		
 		/*
@@ -997,7 +1024,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 		 */
 		else if (terms.size() > 2) {
 			// Add polynomial to system
-			return this.addPolynomialToSystem(xPoly, writeToOutput);
+			return this.addPolynomialToSystem(xPoly, writeToOutput, checkOnly);
 		}
 		
 		// If nothing from above conditions was satisfied that is execution error 
@@ -10,6 +10,7 @@ import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.CompiledXPolynomial;
 import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.OGPTP;
@@ -23,7 +24,9 @@ import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
 import com.ogprover.pp.tp.geoconstruction.ParametricSet;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.geoconstruction.RandomPointFromSetOfPoints;
+import com.ogprover.utilities.Interval;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 
 /**
@@ -58,6 +61,12 @@ public class AlgebraicNDGCondition {
 	 * Polynomial form of this NDG condition
 	 */
 	private XPolynomial polynomial = null;
+	/**
+	 * Value of polynomial form of this NDG condition at fixed pseudo-random
+	 * point, used for quick rejection of positions of points which don't
+	 * generate this NDG condition; it is calculated on demand
+	 */
+	private Interval polynomialValue = null;
 	/**
 	 * Lists of point combinations that are candidates
 	 * for making this NDG condition when they are in 
@@ -159,6 +168,7 @@ public class AlgebraicNDGCondition {
 	 */
 	public void setPolynomial(XPolynomial polynomial) {
 		this.polynomial = polynomial;
+		this.polynomialValue = null;
 	}
 	
 	/**
@@ -167,6 +177,16 @@ public class AlgebraicNDGCondition {
 	public XPolynomial getPolynomial() {
 		return polynomial;
 	}
+	
+	/**
+	 * @return the value of polynomial at fixed pseudo-random point (it is calculated if it isn't known)
+	 * @see CompiledXPolynomial#evaluateAtRandomPoint(XPolynomial)
+	 */
+	public synchronized Interval getPolynomialValue() {
+		if (this.polynomialValue == null)
+			this.polynomialValue = CompiledXPolynomial.evaluateAtRandomPoint(this.polynomial);
+		return polynomialValue;
+	}
 
 	/**
 	 * @param pointLists the pointLists to set
@@ -482,6 +502,9 @@ public class AlgebraicNDGCondition {
 	 */
 	public int transformToUserReadableForm() {
 		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPMetrics metrics = OpenGeoProver.settings.getMetrics();
+		
+		metrics.incrementCounter(OGPMetrics.NDG_TRANSLATION_ATTEMPTS);
 		
 		if (this.populatePointLists() != OGPConstants.RET_CODE_SUCCESS) {
 			// Check if there are other objects with parameters
@@ -518,6 +541,9 @@ public class AlgebraicNDGCondition {
 			}
 		}
 		
+		if (this.textList != null && this.textList.size() > 0)
+			metrics.incrementCounter(OGPMetrics.NDG_TRANSLATIONS);
+		
 		// Couldn't find readable form - text of this NDG condition remains empty
 		// but this NDG condition will be printed as polynomial
 		return OGPConstants.RET_CODE_SUCCESS;
@@ -242,7 +242,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 				
 				// now remove point P from CP and prepare CP for instantiation of new
 				// intersection point
-				this.consProtocol.getConstructionSteps().remove(P.getIndex());
+				this.consProtocol.removeGeoConstruction(P);
 				XPolySystem system = this.consProtocol.getAlgebraicGeoTheorem().getHypotheses();
 				for (int ii = 0, jj = system.getPolynomials().size() - numOfPolynomialsInSystem; ii < jj; ii++)
 					system.removePoly(system.getPolynomials().size() - 1); // remove last polynomial
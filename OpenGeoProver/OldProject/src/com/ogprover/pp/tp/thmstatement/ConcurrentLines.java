@@ -242,7 +242,7 @@ public class ConcurrentLines extends PositionThmStatement {
 				
 				// now remove point P from CP and lines and prepare CP for instantiation of new
 				// intersection point
-				this.consProtocol.getConstructionSteps().remove(P.getIndex());
+				this.consProtocol.removeGeoConstruction(P);
 				l1.getPoints().remove(P);
 				l2.getPoints().remove(P);
 				XPolySystem system = this.consProtocol.getAlgebraicGeoTheorem().getHypotheses();
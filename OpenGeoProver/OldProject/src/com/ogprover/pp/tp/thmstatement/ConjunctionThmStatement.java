@@ -4,6 +4,7 @@
 
 package com.ogprover.pp.tp.thmstatement;
 
+import com.ogprover.polynomials.GeoBucket;
 import com.ogprover.polynomials.XPolynomial;
 
 
@@ -68,15 +69,15 @@ public abstract class ConjunctionThmStatement extends CompoundThmStatement {
 		// of equal lengths expresses the weaker condition since it is
 		// obtained by squaring the main condition (equality of square roots).
 		// Therefore, it is not correct to use it in conjunction statements.
-		XPolynomial statementPoly = new XPolynomial();
+		GeoBucket sumOfSquares = new GeoBucket();
 		
 		for (ThmStatement singleStatement : this.particleThmStatements) {
 			singleStatement.transformToAlgebraicForm(); // polynomial form of this statement is in CP
 			XPolynomial singleStatementPoly = this.consProtocol.getAlgebraicGeoTheorem().getStatement();
-			statementPoly.addPolynomial(singleStatementPoly.multiplyByPolynomial(singleStatementPoly));
+			sumOfSquares.addProduct(singleStatementPoly, singleStatementPoly);
 		}
 		
-		return statementPoly;
+		return (XPolynomial)sumOfSquares.writeTo(new XPolynomial());
 	}
 	
 }
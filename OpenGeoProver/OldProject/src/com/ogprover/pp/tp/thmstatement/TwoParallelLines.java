@@ -161,7 +161,7 @@ public class TwoParallelLines extends PositionThmStatement {
 				}
 				
 				// remove constructed line from CP - it is at last place
-				this.consProtocol.getConstructionSteps().remove(this.consProtocol.getConstructionSteps().size() - 1);
+				this.consProtocol.removeGeoConstruction(p);
 			}
 		}
 		
@@ -202,7 +202,7 @@ public class TwoParallelLines extends PositionThmStatement {
 				}
 				
 				// remove constructed line from CP - it is at last place
-				this.consProtocol.getConstructionSteps().remove(this.consProtocol.getConstructionSteps().size() - 1);
+				this.consProtocol.removeGeoConstruction(p);
 			}
 		}
 		
@@ -137,8 +137,10 @@ public class GeoTheoremXMLParser {
 			writer = new CustomFileWriter(GeoTheoremXMLParser.XML_DIR_NAME, fileName, "xml");
 			writer.write(this.xstream.toXML(theorem));
 		} catch (IOException e) {
+			// do nothing
+		} finally {
 			if (writer != null)
-				writer.close();
+				writer.close(); // writes buffered text to file
 		}
 	}
 }
\ No newline at end of file
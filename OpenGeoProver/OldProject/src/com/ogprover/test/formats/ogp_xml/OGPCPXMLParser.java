@@ -15,6 +15,8 @@ import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.utilities.io.CustomFileReader;
 import com.ogprover.utilities.io.CustomFileWriter;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 import com.thoughtworks.xstream.XStream;
 
 /**
@@ -172,6 +174,7 @@ public class OGPCPXMLParser {
 			return null;
 		}
 		
+		MetricsSpan parseSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_XML_PARSE);
 		try {
 			input = new FileInputStream(xstreamFileName);
 			
@@ -192,6 +195,10 @@ public class OGPCPXMLParser {
 			}
 		}
 		
+		if (consProtocol != null && consProtocol.getConstructionSteps() != null)
+			parseSpan.setAttribute(OGPMetrics.ATTR_CONSTRUCTIONS, consProtocol.getConstructionSteps().size());
+		parseSpan.end();
+		
 		return consProtocol;
 	}
 	
@@ -207,8 +214,10 @@ public class OGPCPXMLParser {
 			writer = new CustomFileWriter(OGPCPXMLParser.XML_DIR_NAME, fileName, "xml");
 			writer.write(this.xstream.toXML(consProtocol));
 		} catch (IOException e) {
+			// do nothing
+		} finally {
 			if (writer != null)
-				writer.close();
+				writer.close(); // writes buffered text to file
 		}
 	}
 }
\ No newline at end of file
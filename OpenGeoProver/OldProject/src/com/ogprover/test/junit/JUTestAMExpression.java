@@ -0,0 +1,103 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.tp.expressions.AMExpression;
+import com.ogprover.pp.tp.expressions.AdditiveInverse;
+import com.ogprover.pp.tp.expressions.AreaOfTriangle;
+import com.ogprover.pp.tp.expressions.BasicNumber;
+import com.ogprover.pp.tp.expressions.Product;
+import com.ogprover.pp.tp.expressions.Sum;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of area method expressions</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestAMExpression extends TestCase {
+	/**
+	 * Depth of expressions which would overflow the default stack with recursive transformations
+	 */
+	private static final int DEEP_EXPRESSION_DEPTH = 200000;
+
+	private Point pointA, pointB, pointC;
+
+	public JUTestAMExpression(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		pointA = new FreePoint("A");
+		pointB = new FreePoint("B");
+		pointC = new FreePoint("C");
+		OpenGeoProver.settings.getLogger().info("Starting new area method expression test");
+	}
+
+	@After
+	public void tearDown() {
+		pointA = null;
+		pointB = null;
+		pointC = null;
+		OpenGeoProver.settings.getLogger().info("Finished area method expression test");
+	}
+
+	@Test
+	public void testDeepSumTransformations() {
+		OpenGeoProver.settings.getLogger().info("Testing transformations of deep sum");
+
+		AMExpression zero = new BasicNumber(0);
+		AMExpression sum = zero;
+		AMExpression otherSum = zero;
+		for (int ii = 0; ii < DEEP_EXPRESSION_DEPTH; ii++) {
+			sum = new Sum(new AreaOfTriangle(pointC, pointB, pointA), sum);
+			otherSum = new Sum(new AreaOfTriangle(pointC, pointB, pointA), otherSum);
+		}
+		assertTrue(sum.equals(otherSum));
+
+		AMExpression uniformized = sum.uniformize(new HashSet<HashSet<Point>>());
+		// S_CBA -> -S_ABC
+		assertTrue(((Sum)uniformized).getTerm1() instanceof AdditiveInverse);
+
+		// (-a)+b -> b-a and a+0 -> a must be applied at the top of sum
+		AMExpression simplified = uniformized.simplifyInOneStep();
+		assertNotNull(simplified);
+		assertFalse(simplified.equals(uniformized));
+	}
+
+	@Test
+	public void testDeepProductToList() {
+		OpenGeoProver.settings.getLogger().info("Testing list of factors of deep product");
+
+		AMExpression product = new AreaOfTriangle(pointA, pointB, pointC);
+		for (int ii = 1; ii < DEEP_EXPRESSION_DEPTH; ii++)
+			product = new Product(new AreaOfTriangle(pointA, pointB, pointC), product);
+		product = new Product(new BasicNumber(2), product);
+
+		List<AMExpression> factors = product.productToList();
+		assertEquals(DEEP_EXPRESSION_DEPTH, factors.size());
+
+		AMExpression sum = new Sum(product, new Product(new BasicNumber(3), new AreaOfTriangle(pointA, pointB, pointC)));
+		AMExpression newSum = sum.addProductToSum(product);
+		assertTrue(newSum instanceof Sum);
+		assertEquals(4, ((BasicNumber)((Product)((Sum)newSum).getTerm1()).getFactor1()).value().intValue());
+	}
+}
@@ -0,0 +1,88 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.tp.expressions.AMExpression;
+import com.ogprover.pp.tp.expressions.AreaOfTriangle;
+import com.ogprover.pp.tp.expressions.BasicNumber;
+import com.ogprover.pp.tp.expressions.Difference;
+import com.ogprover.pp.tp.expressions.Fraction;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.PRatioPoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.ndgcondition.SimpleNDGCondition;
+import com.ogprover.pp.tp.thmstatement.AreaMethodTheoremStatement;
+import com.ogprover.thmprover.AreaMethodProver;
+import com.ogprover.thmprover.TheoremProver;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of area method prover</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestAreaMethodProver extends TestCase {
+	private Point pointA, pointB, pointC;
+	private Vector<GeoConstruction> constructions;
+
+	public JUTestAreaMethodProver(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		pointA = new FreePoint("A");
+		pointB = new FreePoint("B");
+		pointC = new FreePoint("C");
+		constructions = new Vector<GeoConstruction>();
+		constructions.add(pointA);
+		constructions.add(pointB);
+		constructions.add(pointC);
+		AreaMethodProver.setDebugMode(false);
+		OpenGeoProver.settings.getLogger().info("Starting new area method prover test");
+	}
+
+	@After
+	public void tearDown() {
+		pointA = null;
+		pointB = null;
+		pointC = null;
+		constructions = null;
+		OpenGeoProver.settings.getLogger().info("Finished area method prover test");
+	}
+
+	@Test
+	public void testEliminationOfPoints() {
+		OpenGeoProver.settings.getLogger().info("Testing elimination of constructed points");
+
+		// midpoints M and N of AB and AC - MN is parallel to BC
+		AMExpression half = new Fraction(new BasicNumber(1), new BasicNumber(2));
+		Point pointM = new PRatioPoint("M", pointA, pointA, pointB, half);
+		Point pointN = new PRatioPoint("N", pointA, pointA, pointC, half);
+		constructions.add(pointM);
+		constructions.add(pointN);
+
+		Vector<AMExpression> statements = new Vector<AMExpression>();
+		statements.add(new Difference(new AreaOfTriangle(pointM, pointB, pointC), new AreaOfTriangle(pointN, pointB, pointC)));
+		AreaMethodTheoremStatement statement = new AreaMethodTheoremStatement("midsegment", statements);
+
+		// elimination fills flags of used lemmas for each eliminated point
+		AreaMethodProver prover = new AreaMethodProver(statement, constructions, new Vector<SimpleNDGCondition>());
+		assertEquals(TheoremProver.THEO_PROVE_RET_CODE_TRUE, prover.prove());
+	}
+}
@@ -29,6 +29,13 @@ public class JUTestCPSuite extends TestSuite {
 		
 		// Add single test cases here
 		suite.addTestSuite(JUTestPoint.class);
+		suite.addTestSuite(JUTestAMExpression.class);
+		suite.addTestSuite(JUTestAreaMethodProver.class);
+		suite.addTestSuite(JUTestConstructionDependencyGraph.class);
+		suite.addTestSuite(JUTestSessionSettings.class);
+		suite.addTestSuite(JUTestPointSetRelationshipManager.class);
+		suite.addTestSuite(JUTestPointsPositionIndex.class);
+		suite.addTestSuite(JUTestNDGConditionTranslation.class);
 		// TODO - other tests for geometry classes
 		
 		return suite;
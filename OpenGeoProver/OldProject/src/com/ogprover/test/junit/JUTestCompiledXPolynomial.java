@@ -0,0 +1,181 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.CompiledXPolynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.UXVariable;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.Interval;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of CompiledXPolynomial</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestCompiledXPolynomial extends TestCase {
+	private XPolynomial xpoly;
+	private Vector<UXVariable> variables;
+	private Map<UXVariable, Double> varValuesMap;
+
+	public JUTestCompiledXPolynomial(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// ((3*u1^2*u2 + 1)/2)*x1*x2^2 + (u2/(u1 + 1))*x1 - 7
+		UPolynomial num1 = new UPolynomial(1);
+		UTerm ut = new UTerm(3);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 2));
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, 1));
+		num1.addTerm(ut);
+		XTerm xt1 = new XTerm(new UFraction(num1, new UPolynomial(2)));
+		xt1.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 1));
+		xt1.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 2));
+
+		UPolynomial num2 = new UPolynomial();
+		ut = new UTerm(1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, 1));
+		num2.addTerm(ut);
+		UPolynomial den2 = new UPolynomial(1);
+		ut = new UTerm(1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 1));
+		den2.addTerm(ut);
+		XTerm xt2 = new XTerm(new UFraction(num2, den2));
+		xt2.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 1));
+
+		xpoly = new XPolynomial(-7);
+		xpoly.addTerm(xt1);
+		xpoly.addTerm(xt2);
+
+		variables = new Vector<UXVariable>();
+		varValuesMap = new HashMap<UXVariable, Double>();
+		addVariable(Variable.VAR_TYPE_UX_U, 1, 2);
+		addVariable(Variable.VAR_TYPE_UX_U, 2, 3);
+		addVariable(Variable.VAR_TYPE_UX_X, 1, 0.5);
+		addVariable(Variable.VAR_TYPE_UX_X, 2, -1);
+		OpenGeoProver.settings.getLogger().info("Starting new compiled x-polynomial test");
+	}
+
+	private void addVariable(short varType, long index, double value) {
+		UXVariable var = new UXVariable(varType, index);
+		variables.add(var);
+		varValuesMap.put(var, Double.valueOf(value));
+	}
+
+	@After
+	public void tearDown() {
+		xpoly = null;
+		variables = null;
+		varValuesMap = null;
+		OpenGeoProver.settings.getLogger().info("Finished compiled x-polynomial test");
+	}
+
+	@Test
+	public void testEvaluation() {
+		OpenGeoProver.settings.getLogger().info("Testing evaluation of compiled x-polynomial");
+
+		CompiledXPolynomial compiled = CompiledXPolynomial.compile(xpoly, variables);
+		Assert.assertNotNull(compiled);
+		Assert.assertEquals(3, compiled.getNumOfXTerms());
+
+		double[] values = CompiledXPolynomial.getSlotValues(variables, varValuesMap);
+		Assert.assertEquals(2.75, compiled.evaluate(values), OGPConstants.EPSILON);
+		Interval value = compiled.evaluateWithErrorBound(values);
+		Assert.assertTrue(value.getLowerBound() <= 2.75 && value.getUpperBound() >= 2.75);
+		Assert.assertEquals(2.75, value.getUpperBound(), OGPConstants.EPSILON);
+		Assert.assertEquals(1, value.signum());
+
+		values[2] = 0; // x1 = 0
+		Assert.assertEquals(-7, compiled.evaluate(values), OGPConstants.EPSILON);
+		value = compiled.evaluateWithErrorBound(values);
+		Assert.assertEquals(-7, value.getLowerBound(), OGPConstants.EPSILON);
+		Assert.assertEquals(-1, value.signum());
+
+		// 0.1*x1 - 1 for x1 = 10 is too close to zero to decide its sign
+		XPolynomial nearZeroPoly = new XPolynomial(-1);
+		XTerm xt = new XTerm(0.1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 1));
+		nearZeroPoly.addTerm(xt);
+		values[2] = 10;
+		Assert.assertEquals(0, CompiledXPolynomial.compile(nearZeroPoly, variables).evaluateWithErrorBound(values).signum());
+
+		// denominator u1 + 1 is zero for u1 = -1
+		values[0] = -1;
+		Assert.assertEquals(0, compiled.evaluateWithErrorBound(values).signum());
+	}
+
+	@Test
+	public void testRandomPoint() {
+		OpenGeoProver.settings.getLogger().info("Testing evaluation of x-polynomials at fixed pseudo-random point");
+
+		// same polynomial has same value and value of different polynomial is certainly different
+		XPolynomial samePoly = (XPolynomial)xpoly.clone();
+		Interval value = CompiledXPolynomial.evaluateAtRandomPoint(xpoly);
+		Assert.assertEquals(0, value.subtract(CompiledXPolynomial.evaluateAtRandomPoint(samePoly)).signum());
+		samePoly.addTerm(new XTerm(1));
+		Assert.assertTrue(value.subtract(CompiledXPolynomial.evaluateAtRandomPoint(samePoly)).signum() != 0);
+		// compiled form kept by polynomial is discarded when its terms are changed
+		Assert.assertEquals(0, value.subtract(CompiledXPolynomial.evaluateAtRandomPoint(xpoly)).signum());
+		samePoly.subtractPolynomial(new XPolynomial(1));
+		Assert.assertEquals(0, value.subtract(CompiledXPolynomial.evaluateAtRandomPoint(samePoly)).signum());
+
+		// values of variables are fixed
+		UXVariable var = new UXVariable(Variable.VAR_TYPE_UX_U, 1);
+		Assert.assertEquals(CompiledXPolynomial.getRandomValue(var), CompiledXPolynomial.getRandomValue(new UXVariable(Variable.VAR_TYPE_UX_U, 1)), 0);
+		Assert.assertTrue(CompiledXPolynomial.getRandomValue(var) != CompiledXPolynomial.getRandomValue(new UXVariable(Variable.VAR_TYPE_UX_X, 1)));
+	}
+
+	@Test
+	public void testInstantiation() {
+		OpenGeoProver.settings.getLogger().info("Testing instantiation of compiled x-polynomial");
+
+		// u1 = 2, u2 = 3, x2 = -1; x1 is kept
+		Map<UXVariable, Double> partialMap = new HashMap<UXVariable, Double>(varValuesMap);
+		partialMap.remove(variables.get(2));
+		XPolySystem system = new XPolySystem();
+		system.addXPoly(xpoly);
+		XPolySystem instSystem = system.instantiateVariablesWithValues(partialMap);
+		Assert.assertNotNull(instSystem);
+		Assert.assertEquals(xpoly.instantiateVariablesWithValues(partialMap).print(), instSystem.getXPoly(0).print());
+		Assert.assertEquals(2, instSystem.getXPoly(0).getTerms().size()); // x1 and constant term
+
+		// u1 = -1 makes denominator of second term zero
+		partialMap.put(variables.get(0), Double.valueOf(-1));
+		Assert.assertNull(system.instantiateVariablesWithValues(partialMap));
+	}
+
+	@Test
+	public void testMissingVariable() {
+		OpenGeoProver.settings.getLogger().info("Testing compilation of x-polynomial with unknown variable");
+
+		variables.remove(3); // x2
+		Assert.assertNull(CompiledXPolynomial.compile(xpoly, variables));
+	}
+}
@@ -0,0 +1,151 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.auxiliary.ConstructionDependencyGraph;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.MidPoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.thmstatement.CollinearPoints;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of dependency graph of constructions
+*     and simplification of Construction Protocol</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestConstructionDependencyGraph extends TestCase {
+	private OGPTP consProtocol = null;
+	private Point pointA, pointB, pointC, pointM, pointN;
+
+	public JUTestConstructionDependencyGraph(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// CP: A, B, C, M = midpoint(A, B), N = midpoint(B, C)
+		consProtocol = new OGPTP();
+		pointA = new FreePoint("A");
+		pointB = new FreePoint("B");
+		pointC = new FreePoint("C");
+		pointM = new MidPoint("M", pointA, pointB);
+		pointN = new MidPoint("N", pointB, pointC);
+		consProtocol.addGeoConstruction(pointA);
+		consProtocol.addGeoConstruction(pointB);
+		consProtocol.addGeoConstruction(pointC);
+		consProtocol.addGeoConstruction(pointM);
+		consProtocol.addGeoConstruction(pointN);
+
+		OpenGeoProver.settings.getLogger().info("Starting new construction dependency graph test");
+	}
+
+	@After
+	public void tearDown() {
+		consProtocol = null;
+		pointA = pointB = pointC = pointM = pointN = null;
+		OpenGeoProver.settings.getLogger().info("Finished construction dependency graph test");
+	}
+
+	@Test
+	public void testDependencies() {
+		OpenGeoProver.settings.getLogger().info("Testing edges of dependency graph");
+
+		ConstructionDependencyGraph graph = consProtocol.getDependencyGraph();
+
+		Assert.assertEquals(5, graph.size());
+		Assert.assertTrue(graph.contains(pointN));
+		Assert.assertEquals(0, graph.getDependencies(pointA).size());
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointA, pointB}), graph.getDependencies(pointM));
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointB, pointC}), graph.getDependencies(pointN));
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointM, pointN}), graph.getDependents(pointB));
+		Assert.assertEquals(0, graph.getDependents(pointN).size());
+
+		Map<GeoConstruction, GeoConstruction> necessary = graph.findNecessaryConstructions(Arrays.asList(new String[] {"M", "X"}));
+		Assert.assertEquals(3, necessary.size());
+		Assert.assertSame(pointA, necessary.get(pointA));
+		Assert.assertSame(pointB, necessary.get(pointB));
+		Assert.assertSame(pointM, necessary.get(pointM));
+
+		// graph follows changes of CP
+		consProtocol.removeGeoConstruction(pointN);
+		Assert.assertEquals(4, graph.size());
+		Assert.assertFalse(graph.contains(pointN));
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointM}), graph.getDependents(pointB));
+		Assert.assertEquals(0, graph.getDependents(pointC).size());
+	}
+
+	@Test
+	public void testConstructionOrder() {
+		OpenGeoProver.settings.getLogger().info("Testing check of construction order by dependency graph");
+
+		ConstructionDependencyGraph graph = consProtocol.getDependencyGraph();
+
+		// midpoint of A and D is added before D
+		Point pointD = new FreePoint("D");
+		Point pointE = new MidPoint("E", pointA, pointD);
+		consProtocol.addGeoConstruction(pointE);
+		Assert.assertNull(graph.findInputNotConstructedBefore(pointM));
+		Assert.assertEquals("D", graph.findInputNotConstructedBefore(pointE));
+		Assert.assertEquals(0, graph.getDependents(pointD).size());
+
+		consProtocol.addGeoConstruction(pointD);
+		Assert.assertEquals("D", graph.findInputNotConstructedBefore(pointE));
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointE}), graph.getDependents(pointD));
+
+		// move D before E
+		consProtocol.removeGeoConstruction(pointD);
+		consProtocol.addGeoConstruction(pointE.getIndex(), pointD);
+		Assert.assertNull(graph.findInputNotConstructedBefore(pointE));
+		Assert.assertEquals(Arrays.asList(new GeoConstruction[] {pointA, pointD}), graph.getDependencies(pointE));
+	}
+
+	@Test
+	public void testSimplify() {
+		OpenGeoProver.settings.getLogger().info("Testing removal of unnecessary constructions");
+
+		Point pointD = new FreePoint("D");
+		consProtocol.addGeoConstruction(3, pointD);
+		Assert.assertEquals(3, pointD.getIndex());
+		Assert.assertEquals(4, pointM.getIndex());
+		Assert.assertEquals(5, pointN.getIndex());
+
+		// statement uses only A, M and D - constructions of C and N are not necessary
+		ArrayList<Point> pointList = new ArrayList<Point>();
+		pointList.add(pointA);
+		pointList.add(pointM);
+		pointList.add(pointD);
+		consProtocol.addThmStatement(new CollinearPoints(pointList));
+		consProtocol.simplify();
+
+		GeoConstruction[] expectedSteps = new GeoConstruction[] {pointA, pointB, pointD, pointM};
+		Assert.assertEquals(expectedSteps.length, consProtocol.getConstructionSteps().size());
+		for (int ii = 0; ii < expectedSteps.length; ii++) {
+			Assert.assertSame(expectedSteps[ii], consProtocol.getConstructionSteps().get(ii));
+			Assert.assertEquals(ii, expectedSteps[ii].getIndex());
+		}
+		Assert.assertNull(consProtocol.getConstructionMap().get("N"));
+		Assert.assertNull(pointC.getConsProtocol());
+		Assert.assertEquals(-1, pointC.getIndex());
+	}
+}
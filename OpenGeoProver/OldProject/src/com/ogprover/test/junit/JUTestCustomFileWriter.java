@@ -0,0 +1,110 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.io.CustomFileWriter;
+import com.ogprover.utilities.io.JSONFileWriter;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of encoding and buffering of text in writers of output files</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestCustomFileWriter extends TestCase {
+	private File tempDir;
+
+	public JUTestCustomFileWriter(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		tempDir = new File(System.getProperty("java.io.tmpdir"), "ogp_writer_test");
+		OpenGeoProver.settings.getLogger().info("Starting new file writer test");
+	}
+
+	@After
+	public void tearDown() {
+		File[] files = tempDir.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+		tempDir.delete();
+		tempDir = null;
+		OpenGeoProver.settings.getLogger().info("Finished file writer test");
+	}
+
+	private static String createText() {
+		// text with one-, two-, three- and four-byte characters, several times bigger than buffer
+		StringBuilder sb = new StringBuilder();
+		for (int ii = 0; sb.length() < 3 * CustomFileWriter.BUFFER_SIZE; ii++) {
+			sb.append("Point A");
+			sb.append(ii);
+			sb.append(" \u010D\u0107\u017E \u2220ABC \uD835\uDC00 ");
+		}
+		return sb.toString();
+	}
+
+	private String readFile(String fileName) throws IOException {
+		return new String(Files.readAllBytes(new File(tempDir, fileName).toPath()), CustomFileWriter.OUTPUT_CHARSET_NAME);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		OpenGeoProver.settings.getLogger().info("Testing writing of text through encoder and buffer");
+
+		String text = createText();
+		CustomFileWriter writer = new CustomFileWriter(tempDir.getAbsolutePath(), "text", "txt");
+		try {
+			writer.write(text.substring(0, 100));
+			writer.flush();
+			Assert.assertEquals(text.substring(0, 100), readFile("text.txt"));
+
+			// parts of text are written without copying; surrogate pairs are not split
+			int split = text.indexOf('\uD835', 2 * CustomFileWriter.BUFFER_SIZE);
+			writer.write(text, 100, split);
+			writer.write(text, split, text.length());
+			writer.write(null);
+			writer.write(text, 5, 5);
+		} finally {
+			writer.close();
+		}
+
+		Assert.assertEquals(text, readFile("text.txt"));
+	}
+
+	@Test
+	public void testReportWriter() throws IOException {
+		OpenGeoProver.settings.getLogger().info("Testing writing of text through report writer");
+
+		// escaped characters split text into parts which are written separately
+		String text = createText().replace(" \uD835\uDC00 ", " \uD835\uDC00\n");
+		JSONFileWriter writer = new JSONFileWriter(tempDir.getAbsolutePath(), "report");
+		try {
+			writer.writeValue(text);
+		} finally {
+			writer.close(); // remaining text is written when writer is closed
+		}
+
+		Assert.assertEquals("\"" + text.replace("\n", "\\n") + "\"", readFile("report.json"));
+	}
+}
@@ -0,0 +1,182 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.FieldExtensionAnalyzer;
+import com.ogprover.polynomials.ModularPolynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.UXVariable;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of modular factorization and analysis
+*     of degrees of field extensions</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestFieldExtensionAnalyzer extends TestCase {
+	private Vector<UXVariable> targets;
+
+	public JUTestFieldExtensionAnalyzer(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		targets = new Vector<UXVariable>();
+		targets.add(UXVariable.getInstance(Variable.VAR_TYPE_UX_X, 2));
+		OpenGeoProver.settings.getLogger().info("Starting new field extension analysis test");
+	}
+
+	@After
+	public void tearDown() {
+		targets = null;
+		OpenGeoProver.settings.getLogger().info("Finished field extension analysis test");
+	}
+
+	// coefficient is coeff*u1^uExp, x-variable is x_xIndex^xExp
+	private static XTerm createXTerm(double coeff, int uExp, long xIndex, int xExp) {
+		UTerm ut = new UTerm(coeff);
+		if (uExp > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, uExp));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		XTerm xt = new XTerm(new UFraction(up));
+		if (xExp > 0)
+			xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xIndex, xExp));
+		return xt;
+	}
+
+	// polynomial in x_xIndex with given coefficients (from constant one)
+	private static XPolynomial createXPoly(long xIndex, double[] coeffs) {
+		XPolynomial xp = new XPolynomial();
+		for (int ii = 0; ii < coeffs.length; ii++) {
+			if (coeffs[ii] != 0)
+				xp.addTerm(createXTerm(coeffs[ii], 0, xIndex, ii));
+		}
+		return xp;
+	}
+
+	@Test
+	public void testFactorDegrees() {
+		OpenGeoProver.settings.getLogger().info("Testing distinct-degree factorization modulo prime number");
+
+		// x^4 - 1 = (x-1)(x+1)(x-2)(x+2) modulo 5
+		Vector<Integer> degrees = new ModularPolynomial(new long[] {-1, 0, 0, 0, 1}, 5).getFactorDegrees();
+		Assert.assertEquals(4, degrees.size());
+		Assert.assertEquals(Integer.valueOf(1), degrees.get(3));
+
+		// x^2 + 1 is irreducible modulo 7
+		degrees = new ModularPolynomial(new long[] {1, 0, 1}, 7).getFactorDegrees();
+		Assert.assertEquals(1, degrees.size());
+		Assert.assertEquals(Integer.valueOf(2), degrees.get(0));
+
+		// (x^2 + 1)(x - 3) modulo 7
+		degrees = new ModularPolynomial(new long[] {-3, 1, -3, 1}, 7).getFactorDegrees();
+		Assert.assertEquals(2, degrees.size());
+		Assert.assertEquals(Integer.valueOf(1), degrees.get(0));
+		Assert.assertEquals(Integer.valueOf(2), degrees.get(1));
+
+		// (x - 1)^2 is not square-free
+		Assert.assertNull(new ModularPolynomial(new long[] {1, -2, 1}, 7).getFactorDegrees());
+	}
+
+	@Test
+	public void testVerdicts() {
+		OpenGeoProver.settings.getLogger().info("Testing analysis of degrees of field extensions");
+
+		// x1^2 - u1, x2 - x1
+		XPolySystem system = new XPolySystem();
+		XPolynomial xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 1, 2));
+		xp.addTerm(createXTerm(-1, 1, 0, 0));
+		system.addXPoly(xp);
+		xp = createXPoly(2, new double[] {0, 1});
+		xp.addTerm(createXTerm(-1, 0, 1, 1));
+		system.addXPoly(xp);
+		FieldExtensionAnalyzer analyzer = FieldExtensionAnalyzer.analyze(system, targets);
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_CONSTRUCTIBLE, analyzer.getVerdict());
+		Assert.assertEquals(2, analyzer.getDegree(0));
+		Assert.assertEquals(2, analyzer.getMainVariable(1));
+		Assert.assertSame(analyzer, FieldExtensionAnalyzer.analyze(system, targets));
+
+		// x2^3 - 2 - irreducible cubic
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {-2, 0, 0, 1}));
+		analyzer = FieldExtensionAnalyzer.analyze(system, targets);
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_NOT_CONSTRUCTIBLE, analyzer.getVerdict());
+		Assert.assertTrue(analyzer.getPossibleFactorDegrees(0)[3]);
+		Assert.assertFalse(analyzer.getPossibleFactorDegrees(0)[1]);
+
+		// same system of problem with same constructions is analyzed only once
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {-2, 0, 0, 1}));
+		Assert.assertSame(analyzer, FieldExtensionAnalyzer.analyze(system, targets));
+
+		// x2^3 - 8 differs only in coefficient, so it is not same polynomial
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {-8, 0, 0, 1}));
+		Assert.assertNotSame(analyzer, FieldExtensionAnalyzer.analyze(system, targets));
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN, FieldExtensionAnalyzer.analyze(system, targets).getVerdict());
+
+		// same polynomial in variable which is not coordinate of point to construct
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(1, new double[] {-2, 0, 0, 1}));
+		analyzer = FieldExtensionAnalyzer.analyze(system, targets);
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN, analyzer.getVerdict());
+		Assert.assertNull(analyzer.getPossibleFactorDegrees(0));
+
+		// (x2 - 1)(x2^3 - 2) has linear factor
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {2, -2, 0, -1, 1}));
+		analyzer = FieldExtensionAnalyzer.analyze(system, targets);
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN, analyzer.getVerdict());
+		Assert.assertTrue(analyzer.getPossibleFactorDegrees(0)[1]);
+		Assert.assertFalse(analyzer.getPossibleFactorDegrees(0)[2]);
+	}
+
+	@Test
+	public void testInexactCoefficients() {
+		OpenGeoProver.settings.getLogger().info("Testing reduction of coefficients which are not exact");
+
+		// only certainly exact numbers are reduced
+		Assert.assertEquals(4, ModularPolynomial.valueOf(0.5, 7));
+		Assert.assertEquals(4, ModularPolynomial.valueOf(-3, 7));
+		Assert.assertEquals(-1, ModularPolynomial.valueOf(1.0 / 3, 7));
+		Assert.assertEquals(-1, ModularPolynomial.valueOf(9007199254740992.0, 7));
+
+		// (x2 - 1/3)(x2^2 + 1) with rounded coefficients can't be analyzed
+		XPolySystem system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {-1.0 / 3, 1, -1.0 / 3, 1}));
+		FieldExtensionAnalyzer analyzer = FieldExtensionAnalyzer.analyze(system, targets);
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN, analyzer.getVerdict());
+		Assert.assertNull(analyzer.getPossibleFactorDegrees(0));
+
+		// coefficients too big to be exact
+		system = new XPolySystem();
+		system.addXPoly(createXPoly(2, new double[] {-2 * 9007199254740992.0, 0, 0, 1}));
+		Assert.assertEquals(FieldExtensionAnalyzer.RC_VERDICT_UNKNOWN, FieldExtensionAnalyzer.analyze(system, targets).getVerdict());
+	}
+}
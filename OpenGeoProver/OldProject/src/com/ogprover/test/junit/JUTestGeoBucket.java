@@ -0,0 +1,151 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.GeoBucket;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.utilities.OGPTimer;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of geobucket accumulator</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestGeoBucket extends TestCase {
+	private GeoBucket bucket;
+
+	public JUTestGeoBucket(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		bucket = new GeoBucket();
+		OpenGeoProver.settings.getLogger().info("Starting new geobucket test");
+	}
+
+	@After
+	public void tearDown() {
+		bucket = null;
+		OpenGeoProver.settings.getLogger().info("Finished geobucket test");
+	}
+
+	private static UTerm createTerm(double coeff, int exp1, int exp2) {
+		UTerm ut = new UTerm(coeff);
+
+		if (exp1 > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, exp1));
+		if (exp2 > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, exp2));
+		return ut;
+	}
+
+	@Test
+	public void testProduct() {
+		OpenGeoProver.settings.getLogger().info("Testing product collected in geobucket");
+
+		// (u1 + u2 + 1) * (u1 - u2) = u1^2 - u2^2 + u1 - u2
+		UPolynomial p = new UPolynomial();
+		p.addTerm(createTerm(1, 1, 0));
+		p.addTerm(createTerm(1, 0, 1));
+		p.addTerm(createTerm(1, 0, 0));
+		UPolynomial q = new UPolynomial();
+		q.addTerm(createTerm(1, 1, 0));
+		q.addTerm(createTerm(-1, 0, 1));
+
+		UPolynomial expected = new UPolynomial();
+		expected.addTerm(createTerm(1, 2, 0));
+		expected.addTerm(createTerm(-1, 0, 2));
+		expected.addTerm(createTerm(1, 1, 0));
+		expected.addTerm(createTerm(-1, 0, 1));
+
+		bucket.addProduct(p, q);
+		UPolynomial result = (UPolynomial)bucket.writeTo(new UPolynomial());
+
+		Assert.assertEquals(4, result.getTerms().size());
+		Assert.assertEquals(expected, result);
+		Assert.assertTrue(bucket.isEmpty());
+		Assert.assertEquals(3, p.getTerms().size()); // factors are not changed
+		Assert.assertEquals(2, q.getTerms().size());
+
+		// p*q - q*p = 0
+		bucket.addProduct(p, q);
+		bucket.subtractProduct(q, p);
+		Assert.assertTrue(bucket.writeTo(new UPolynomial()).isZero());
+	}
+
+	@Test
+	public void testManyTerms() {
+		OpenGeoProver.settings.getLogger().info("Testing sum of many terms collected in geobucket");
+
+		// terms pass through several buckets: sum of 2*u1^k and -u1^k, for k = 1..200,
+		// and u2^k added one by one
+		UPolynomial p = new UPolynomial();
+		for (int ii = 1; ii <= 200; ii++)
+			p.addTerm(createTerm(2, ii, 0));
+		bucket.addPolynomial(p);
+		for (int ii = 200; ii > 0; ii--) {
+			bucket.addTerm(createTerm(-1, ii, 0));
+			bucket.addTerm(createTerm(1, 0, ii));
+		}
+
+		UPolynomial result = (UPolynomial)bucket.writeTo(new UPolynomial());
+		UPolynomial expected = new UPolynomial();
+		for (int ii = 1; ii <= 200; ii++) {
+			expected.addTerm(createTerm(1, ii, 0));
+			expected.addTerm(createTerm(1, 0, ii));
+		}
+
+		Assert.assertEquals(400, result.getTerms().size());
+		Assert.assertEquals(expected, result);
+
+		// everything cancels out
+		bucket.addPolynomial(p);
+		bucket.addPolynomial(p.invert());
+		Assert.assertTrue(bucket.writeTo(new UPolynomial()).isZero());
+	}
+
+	@Test
+	public void testTimer() {
+		OpenGeoProver.settings.getLogger().info("Testing stopping of geobucket when time is up");
+
+		UPolynomial p = new UPolynomial();
+		p.addTerm(createTerm(1, 1, 0));
+		p.addTerm(createTerm(1, 0, 1));
+		OGPTimer timer = new OGPTimer();
+		timer.setTimeIsUp(true);
+		bucket.setTimer(timer);
+
+		// nothing is added when time is up
+		bucket.addProduct(p, p);
+		bucket.addProduct(p, createTerm(2, 1, 1));
+		Assert.assertTrue(bucket.isEmpty());
+
+		// accumulator made outside of adding of product doesn't get the timer
+		GeoBucket other = new GeoBucket();
+		other.addProduct(p, p);
+		Assert.assertEquals(3, other.writeTo(new UPolynomial()).getTerms().size());
+
+		timer.setTimeIsUp(false);
+		bucket.addProduct(p, p);
+		Assert.assertEquals(3, bucket.writeTo(new UPolynomial()).getTerms().size());
+		timer.cancel();
+	}
+}
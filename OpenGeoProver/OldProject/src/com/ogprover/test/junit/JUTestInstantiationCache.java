@@ -0,0 +1,154 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.InstantiationCache;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.SymbolicPolynomial;
+import com.ogprover.polynomials.SymbolicPolynomialTemplate;
+import com.ogprover.polynomials.SymbolicTerm;
+import com.ogprover.polynomials.SymbolicVariable;
+import com.ogprover.polynomials.UXVariable;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of cache of instantiated conditions</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestInstantiationCache extends TestCase {
+	private SymbolicPolynomialTemplate template;
+
+	public JUTestInstantiationCache(String name) {
+		super(name);
+	}
+
+	private static SymbolicPolynomial createCondition() {
+		// condition xA*xB + yA*yB - symmetric in points A and B
+		SymbolicPolynomial condition = new SymbolicPolynomial();
+		SymbolicTerm t = new SymbolicTerm(1);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "A"), 1));
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "B"), 1));
+		condition.addTerm(t);
+		t = new SymbolicTerm(1);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_Y, "A"), 1));
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_Y, "B"), 1));
+		condition.addTerm(t);
+		return condition;
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		template = createCondition().getTemplate();
+
+		OpenGeoProver.settings.getLogger().info("Starting new instantiation cache test");
+	}
+
+	@After
+	public void tearDown() {
+		template = null;
+		OpenGeoProver.settings.getLogger().info("Finished instantiation cache test");
+	}
+
+	private static UXVariable[] createCoordinates(long firstIndex, long secondIndex) {
+		// point in first slot is (x<firstIndex>, x<firstIndex + 1>), similar for second slot
+		return new UXVariable[] {UXVariable.getInstance(Variable.VAR_TYPE_UX_X, firstIndex),
+								 UXVariable.getInstance(Variable.VAR_TYPE_UX_X, firstIndex + 1),
+								 UXVariable.getInstance(Variable.VAR_TYPE_UX_X, secondIndex),
+								 UXVariable.getInstance(Variable.VAR_TYPE_UX_X, secondIndex + 1)};
+	}
+
+	@Test
+	public void testReuse() {
+		OpenGeoProver.settings.getLogger().info("Testing reuse of instantiated conditions");
+
+		InstantiationCache cache = new InstantiationCache(InstantiationCache.DEFAULT_CAPACITY);
+		XPolynomial first = cache.instantiate(template, createCoordinates(1, 3));
+		Assert.assertEquals(template.instantiate(createCoordinates(1, 3)), first);
+		Assert.assertEquals(1, cache.getNumOfMisses());
+		Assert.assertEquals(1, cache.size());
+
+		// same points assigned in other order give same polynomial
+		XPolynomial second = cache.instantiate(template, createCoordinates(3, 1));
+		Assert.assertEquals(1, cache.getNumOfMisses());
+		Assert.assertEquals(1, cache.getNumOfHits());
+		Assert.assertEquals(first, second);
+		Assert.assertNotSame(first, second);
+
+		// change of returned copy doesn't affect cache
+		second.multiplyByRealConstant(2);
+		Assert.assertEquals(first, cache.instantiate(template, createCoordinates(1, 3)));
+		Assert.assertEquals(2, cache.getNumOfHits());
+		Assert.assertEquals(1, cache.size());
+
+		// missing point is not cached
+		UXVariable[] coords = createCoordinates(1, 3);
+		coords[0] = null;
+		Assert.assertNull(cache.instantiate(template, coords));
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testEviction() {
+		OpenGeoProver.settings.getLogger().info("Testing removal of least recently used conditions");
+
+		InstantiationCache cache = new InstantiationCache(2);
+		cache.instantiate(template, createCoordinates(1, 3));
+		cache.instantiate(template, createCoordinates(5, 7));
+		cache.instantiate(template, createCoordinates(1, 3)); // (5, 7) becomes least recently used
+		cache.instantiate(template, createCoordinates(9, 11));
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, cache.getNumOfHits());
+
+		cache.instantiate(template, createCoordinates(1, 3));
+		Assert.assertEquals(2, cache.getNumOfHits());
+		cache.instantiate(template, createCoordinates(5, 7));
+		Assert.assertEquals(2, cache.getNumOfHits());
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getNumOfMisses());
+	}
+
+	@Test
+	public void testReducedInstantiations() {
+		OpenGeoProver.settings.getLogger().info("Testing cache of reduced instantiated conditions");
+
+		InstantiationCache cache = new InstantiationCache(InstantiationCache.DEFAULT_CAPACITY);
+		// first point is free point (u1, u2)
+		UXVariable[] coords = createCoordinates(1, 3);
+		coords[0] = UXVariable.getInstance(Variable.VAR_TYPE_UX_U, 1);
+		coords[1] = UXVariable.getInstance(Variable.VAR_TYPE_UX_U, 2);
+		XPolynomial expected = template.instantiate(coords).reduceByUTermDivision();
+
+		XPolynomial reduced = cache.instantiateReduced(template, coords);
+		Assert.assertEquals(expected, reduced);
+		Assert.assertEquals(1, cache.getNumOfMisses());
+
+		// polynomial which is not reduced is cached separately
+		Assert.assertEquals(template.instantiate(coords), cache.instantiate(template, coords));
+		Assert.assertEquals(2, cache.getNumOfMisses());
+		Assert.assertEquals(2, cache.size());
+
+		// change of returned copy doesn't affect cache
+		reduced.multiplyByRealConstant(2);
+		Assert.assertEquals(expected, cache.instantiateReduced(template, coords));
+		Assert.assertEquals(1, cache.getNumOfHits());
+		Assert.assertEquals(2, cache.size());
+	}
+}
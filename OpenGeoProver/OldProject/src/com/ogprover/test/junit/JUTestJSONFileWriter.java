@@ -0,0 +1,87 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.io.CustomFileReader;
+import com.ogprover.utilities.io.JSONFileWriter;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of streaming JSON writer</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestJSONFileWriter extends TestCase {
+	private File tempDir;
+
+	public JUTestJSONFileWriter(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		tempDir = new File(System.getProperty("java.io.tmpdir"), "ogp_json_test");
+		OpenGeoProver.settings.getLogger().info("Starting new JSON writer test");
+	}
+
+	@After
+	public void tearDown() {
+		File jsonFile = new File(tempDir, "result.json");
+		if (jsonFile.exists())
+			jsonFile.delete();
+		tempDir.delete();
+		tempDir = null;
+		OpenGeoProver.settings.getLogger().info("Finished JSON writer test");
+	}
+
+	@Test
+	public void testWriteNestedValues() throws IOException {
+		OpenGeoProver.settings.getLogger().info("Testing nesting, separators and escaping of JSON values");
+
+		JSONFileWriter writer = new JSONFileWriter(tempDir.getAbsolutePath(), "result");
+		try {
+			writer.beginObject();
+			writer.writeName("name");
+			writer.writeValue("a \"b\"\\c\nd\u0001");
+			writer.writeName("count");
+			writer.writeValue(3);
+			writer.writeName("empty");
+			writer.beginArray();
+			writer.endArray();
+			writer.writeName("items");
+			writer.beginArray();
+			writer.writeValue(true);
+			writer.writeValue((String)null);
+			writer.beginObject();
+			writer.writeName("x");
+			writer.writeValue(-1);
+			writer.endObject();
+			writer.endArray();
+			writer.endObject();
+		} finally {
+			writer.close();
+		}
+
+		CustomFileReader reader = new CustomFileReader(tempDir.getAbsolutePath(), "result", "json");
+		String line = reader.readLine();
+		reader.close();
+
+		Assert.assertEquals("{\"name\":\"a \\\"b\\\"\\\\c\\nd\\u0001\",\"count\":3,\"empty\":[],\"items\":[true,null,{\"x\":-1}]}", line);
+	}
+}
@@ -0,0 +1,162 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.WriterAppender;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.logger.AsyncLogWriter;
+import com.ogprover.utilities.logger.FileLogger;
+import com.ogprover.utilities.logger.RateLimitedMessage;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of asynchronous and rate limited logging</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestLogger extends TestCase {
+	private Logger testLogger;
+	private StringWriter logContent;
+
+	public JUTestLogger(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		logContent = new StringWriter();
+		testLogger = Logger.getLogger("JUTestLogger");
+		testLogger.removeAllAppenders();
+		testLogger.setAdditivity(false);
+		testLogger.addAppender(new WriterAppender(new PatternLayout("%m%n"), logContent));
+		OpenGeoProver.settings.getLogger().info("Starting new logger test");
+	}
+
+	@After
+	public void tearDown() {
+		testLogger.removeAllAppenders();
+		testLogger = null;
+		logContent = null;
+		OpenGeoProver.settings.getLogger().info("Finished logger test");
+	}
+
+	@Test
+	public void testAsyncWriterKeepsOrder() {
+		OpenGeoProver.settings.getLogger().info("Testing order of messages written by asynchronous writer");
+
+		final int threadsNum = 4;
+		final int messagesNum = 500;
+		// small buffer, so producers have to wait for consumer
+		final AsyncLogWriter writer = new AsyncLogWriter(testLogger, 10);
+		Thread[] threads = new Thread[threadsNum];
+
+		Assert.assertEquals(16, writer.getCapacity());
+
+		for (int ii = 0; ii < threadsNum; ii++) {
+			final int threadIdx = ii;
+
+			threads[ii] = new Thread() {
+				@Override
+				public void run() {
+					for (int jj = 0; jj < messagesNum; jj++)
+						writer.append(new LoggingEvent(Logger.class.getName(), testLogger, Level.INFO, threadIdx + " " + jj, null));
+				}
+			};
+			threads[ii].start();
+		}
+		for (int ii = 0; ii < threadsNum; ii++) {
+			try {
+				threads[ii].join();
+			} catch (InterruptedException e) {
+				Assert.fail("Interrupted");
+			}
+		}
+		writer.close();
+
+		Assert.assertEquals(0, writer.getPendingCount());
+		Assert.assertFalse(writer.append(new LoggingEvent(Logger.class.getName(), testLogger, Level.INFO, "closed", null)));
+
+		String[] lines = logContent.toString().split("\r?\n");
+		int[] lastMessage = new int[threadsNum];
+
+		Assert.assertEquals(threadsNum * messagesNum, lines.length);
+		for (int ii = 0; ii < threadsNum; ii++)
+			lastMessage[ii] = -1;
+		for (String line : lines) {
+			String[] parts = line.split(" ");
+			int threadIdx = Integer.parseInt(parts[0]);
+			int messageIdx = Integer.parseInt(parts[1]);
+
+			// messages of each thread are written in order in which they are logged
+			Assert.assertEquals(lastMessage[threadIdx] + 1, messageIdx);
+			lastMessage[threadIdx] = messageIdx;
+		}
+	}
+
+	@Test
+	public void testCloseFileLogger() throws IOException {
+		OpenGeoProver.settings.getLogger().info("Testing closing of file logger");
+
+		final int messagesNum = 200;
+		FileLogger fileLogger = FileLogger.getLogger("JUTestLoggerClose.log");
+
+		fileLogger.setAsynchronous(true);
+		for (int ii = 0; ii < messagesNum; ii++)
+			fileLogger.info("message " + ii);
+		fileLogger.close();
+
+		Assert.assertFalse(fileLogger.isAsynchronous());
+		Assert.assertFalse(fileLogger.getAllAppenders().hasMoreElements());
+
+		// messages which were waiting in buffer are written before log file is closed
+		File logFile = new File(fileLogger.getLogDirectoryPath(), fileLogger.getLogBaseFileName());
+		BufferedReader reader = new BufferedReader(new FileReader(logFile));
+		int linesNum = 0;
+
+		try {
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.endsWith("message " + linesNum))
+					linesNum++;
+			}
+		} finally {
+			reader.close();
+		}
+		logFile.delete();
+		Assert.assertEquals(messagesNum, linesNum);
+	}
+
+	@Test
+	public void testRateLimitedMessage() {
+		OpenGeoProver.settings.getLogger().info("Testing rate limited message");
+
+		RateLimitedMessage msg = new RateLimitedMessage(1000);
+
+		Assert.assertEquals(0, msg.acquire(5000));
+		Assert.assertTrue(msg.acquire(5010) < 0);
+		Assert.assertTrue(msg.acquire(5999) < 0);
+		Assert.assertEquals(2, msg.acquire(6000));
+		Assert.assertEquals(0, msg.acquire(8000));
+	}
+}
@@ -0,0 +1,191 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.metrics.Histogram;
+import com.ogprover.utilities.metrics.IMetricsListener;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of prover metrics</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestMetrics extends TestCase {
+	private OGPMetrics metrics;
+
+	public JUTestMetrics(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		metrics = OpenGeoProver.settings.getMetrics();
+		metrics.reset();
+		metrics.setEnabled(true);
+		OpenGeoProver.settings.getLogger().info("Starting new metrics test");
+	}
+
+	@After
+	public void tearDown() {
+		metrics.setEnabled(false);
+		metrics.reset();
+		metrics = null;
+		OpenGeoProver.settings.getLogger().info("Finished metrics test");
+	}
+
+	// u-term with single power of u-variable
+	private static UTerm uTerm(long index) {
+		UTerm ut = new UTerm(1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, index, 1));
+		return ut;
+	}
+
+	// x-term with u-variable as coefficient
+	private static XTerm uCoeffXTerm(long index) {
+		UPolynomial num = new UPolynomial();
+		num.addTerm(uTerm(index));
+		return new XTerm(new UFraction(num, new UPolynomial(1)));
+	}
+
+	@Test
+	public void testPseudoDivision() {
+		OpenGeoProver.settings.getLogger().info("Testing metrics of pseudo division");
+
+		// x1^2 - u1
+		XPolynomial p1 = new XPolynomial();
+		XTerm xt = new XTerm(1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 2));
+		p1.addTerm(xt);
+		p1.addTerm(uCoeffXTerm(1).invert());
+
+		// x1 - u2
+		XPolynomial p2 = new XPolynomial();
+		xt = new XTerm(1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 1));
+		p2.addTerm(xt);
+		p2.addTerm(uCoeffXTerm(2).invert());
+
+		Assert.assertNotNull(p1.pseudoReminder(p2, 1));
+		Assert.assertEquals(1, metrics.getCounter(OGPMetrics.PSEUDO_DIVISION_CALLS, null, null).getValue());
+		Assert.assertEquals(2, metrics.getCounter(OGPMetrics.PSEUDO_DIVISION_STEPS, null, null).getValue());
+
+		// x1^2 - u1 -> u2*x1 - u1 -> (u2^2 - u1), where last remainder is single x-term
+		Histogram stepTerms = metrics.getHistogram(OGPMetrics.PSEUDO_DIVISION_STEP_TERMS, null, null);
+		Assert.assertEquals(2, stepTerms.getCount());
+		Assert.assertEquals(3, stepTerms.getSum());
+		Assert.assertEquals(2, stepTerms.getMax());
+
+		// disabled metrics are not updated
+		metrics.setEnabled(false);
+		Assert.assertNotNull(((XPolynomial)p2.clone()).pseudoReminder(p2, 1));
+		Assert.assertEquals(1, metrics.getCounter(OGPMetrics.PSEUDO_DIVISION_CALLS, null, null).getValue());
+
+		// span is finished also when pseudo division fails - (x1 - u2)^2 -> -u2*x1 + u2^2 exceeds space limit
+		metrics.setEnabled(true);
+		int spaceLimit = OpenGeoProver.settings.getParameters().getSpaceLimit();
+		OpenGeoProver.settings.getParameters().putSpaceLimit(1);
+		XPolynomial p3 = (XPolynomial)p2.clone();
+		p3.multiplyByPolynomial(p2);
+		Assert.assertNull(p3.pseudoReminder(p2, 1));
+		OpenGeoProver.settings.getParameters().putSpaceLimit(spaceLimit);
+		Assert.assertEquals(2, metrics.getHistogram(OGPMetrics.SPAN_DURATIONS, OGPMetrics.LABEL_SPAN, OGPMetrics.SPAN_PSEUDO_DIVISION).getCount());
+	}
+
+	@Test
+	public void testHistogramAndExport() {
+		OpenGeoProver.settings.getLogger().info("Testing histogram and export of metrics");
+
+		Histogram histogram = new Histogram("h", null, null);
+		histogram.record(0);
+		histogram.record(1);
+		histogram.record(3);
+		histogram.record(4);
+		histogram.record(Long.MAX_VALUE);
+		Assert.assertEquals(2, histogram.getBucketCount(0));
+		Assert.assertEquals(2, histogram.getBucketCount(2));
+		Assert.assertEquals(1, histogram.getBucketCount(Histogram.NUM_OF_BUCKETS - 1));
+		Assert.assertEquals(Long.MAX_VALUE, histogram.getMax());
+
+		metrics.incrementCounter(OGPMetrics.AREA_METHOD_LEMMA_USES, OGPMetrics.LABEL_LEMMA, "3");
+		metrics.incrementCounter(OGPMetrics.AREA_METHOD_LEMMA_USES, OGPMetrics.LABEL_LEMMA, "3");
+		metrics.recordValue(OGPMetrics.TRIANGULATION_STEP_POLYNOMIALS, 3);
+
+		String prom = metrics.exportToPrometheus();
+		Assert.assertTrue(prom.contains("# TYPE " + OGPMetrics.AREA_METHOD_LEMMA_USES + " counter\n"));
+		Assert.assertTrue(prom.contains(OGPMetrics.AREA_METHOD_LEMMA_USES + "{lemma=\"3\"} 2\n"));
+		Assert.assertTrue(prom.contains(OGPMetrics.TRIANGULATION_STEP_POLYNOMIALS + "_bucket{le=\"2\"} 0\n"));
+		Assert.assertTrue(prom.contains(OGPMetrics.TRIANGULATION_STEP_POLYNOMIALS + "_bucket{le=\"4\"} 1\n"));
+		Assert.assertTrue(prom.contains(OGPMetrics.TRIANGULATION_STEP_POLYNOMIALS + "_count 1\n"));
+
+		String json = metrics.exportToJSON();
+		Assert.assertTrue(json.contains("\"labels\": {\"lemma\": \"3\"}, \"value\": 2}"));
+		Assert.assertTrue(json.contains("\"count\": 1, \"sum\": 3, \"max\": 3, \"buckets\": {\"4\": 1}}"));
+	}
+
+	@Test
+	public void testSpans() {
+		OpenGeoProver.settings.getLogger().info("Testing spans of metrics");
+
+		final Vector<MetricsSpan> finishedSpans = new Vector<MetricsSpan>();
+		final Vector<MetricsSpan> startedSpans = new Vector<MetricsSpan>();
+		IMetricsListener listener = new IMetricsListener() {
+			public void spanStarted(MetricsSpan span) {
+				startedSpans.add(span);
+			}
+			public void spanFinished(MetricsSpan span) {
+				finishedSpans.add(span);
+			}
+		};
+		metrics.addListener(listener);
+		metrics.setTheoremName("test_theorem");
+
+		MetricsSpan span = metrics.startSpan(OGPMetrics.SPAN_TRIANGULATION);
+		span.setAttribute(OGPMetrics.ATTR_POLYNOMIALS, 5);
+		Assert.assertEquals("test_theorem", span.getTheoremName());
+		Assert.assertEquals(5, span.getAttribute(OGPMetrics.ATTR_POLYNOMIALS, -1));
+		Assert.assertEquals(-1, span.getAttribute(OGPMetrics.ATTR_STEPS, -1));
+		Assert.assertEquals(1, startedSpans.size());
+		Assert.assertEquals(0, finishedSpans.size());
+		span.end();
+		span.end(); // only first call has effect
+		Assert.assertEquals(1, finishedSpans.size());
+		Assert.assertSame(span, finishedSpans.get(0));
+		Assert.assertTrue(finishedSpans.get(0).getDuration() >= 0);
+		Assert.assertEquals(1, metrics.getHistogram(OGPMetrics.SPAN_DURATIONS, OGPMetrics.LABEL_SPAN, OGPMetrics.SPAN_TRIANGULATION).getCount());
+
+		metrics.setEnabled(false);
+		Assert.assertSame(MetricsSpan.DISABLED_SPAN, metrics.startSpan(OGPMetrics.SPAN_TRIANGULATION));
+		MetricsSpan.DISABLED_SPAN.setAttribute(OGPMetrics.ATTR_POLYNOMIALS, 5);
+		MetricsSpan.DISABLED_SPAN.end();
+		Assert.assertEquals(-1, MetricsSpan.DISABLED_SPAN.getAttribute(OGPMetrics.ATTR_POLYNOMIALS, -1));
+		Assert.assertEquals(1, startedSpans.size());
+		Assert.assertEquals(1, finishedSpans.size());
+		metrics.removeListener(listener);
+		metrics.setTheoremName(null);
+	}
+}
@@ -0,0 +1,231 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.FractionFreeLinearSolver;
+import com.ogprover.polynomials.ModularLinearSolver;
+import com.ogprover.polynomials.ModularPolynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of solving of linear systems of hypotheses
+*     modulo prime number and by fraction-free elimination</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestModularLinearSolver extends TestCase {
+	private XPolySystem system;
+
+	public JUTestModularLinearSolver(String name) {
+		super(name);
+	}
+
+	// x1 - u1, x2 - x1 - 1
+	@Before
+	public void setUp() throws Exception{
+		system = new XPolySystem();
+		XPolynomial xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 1, 1));
+		xp.addTerm(createXTerm(-1, 1, 0, 0));
+		system.addXPoly(xp);
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 0, 1, 1));
+		xp.addTerm(createXTerm(-1, 0, 0, 0));
+		system.addXPoly(xp);
+		OpenGeoProver.settings.getLogger().info("Starting new modular linear solver test");
+	}
+
+	@After
+	public void tearDown() {
+		system = null;
+		OpenGeoProver.settings.getLogger().info("Finished modular linear solver test");
+	}
+
+	// coefficient is coeff*u1^uExp, x-variable is x_xIndex^xExp
+	private static XTerm createXTerm(double coeff, int uExp, long xIndex, int xExp) {
+		UTerm ut = new UTerm(coeff);
+		if (uExp > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, uExp));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		XTerm xt = new XTerm(new UFraction(up));
+		if (xExp > 0)
+			xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xIndex, xExp));
+		return xt;
+	}
+
+	@Test
+	public void testSolve() {
+		OpenGeoProver.settings.getLogger().info("Testing solving of linear system modulo prime number");
+
+		ModularLinearSolver solver = ModularLinearSolver.createSolver(system);
+		Assert.assertNotNull(solver);
+
+		long prime = 1000003L, seed = 17L;
+		long u1 = ModularPolynomial.getUValue(1, seed, prime);
+		long[] solution = solver.solve(seed, prime);
+		Assert.assertNotNull(solution);
+		Assert.assertEquals(u1, solution[0]);
+		Assert.assertEquals((u1 + 1) % prime, solution[1]);
+
+		// hypotheses vanish for solution
+		Assert.assertEquals(0, solver.evaluate(system.getXPoly(0), solution, seed, prime));
+		Assert.assertEquals(0, solver.evaluate(system.getXPoly(1), solution, seed, prime));
+
+		// x3 is not in system
+		XPolynomial xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 3, 1));
+		Assert.assertEquals(-1, solver.evaluate(xp, solution, seed, prime));
+
+		// x1 + x2 - u1, 2*x1 + 2*x2 - 1 is singular
+		XPolySystem otherSystem = new XPolySystem();
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 1, 1));
+		xp.addTerm(createXTerm(1, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 1, 0, 0));
+		otherSystem.addXPoly(xp);
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(2, 0, 1, 1));
+		xp.addTerm(createXTerm(2, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 0, 0, 0));
+		otherSystem.addXPoly(xp);
+		solver = ModularLinearSolver.createSolver(otherSystem);
+		Assert.assertNotNull(solver);
+		Assert.assertNull(solver.solve(seed, prime));
+
+		// x2 - x1 - 1 has less polynomials than variables
+		otherSystem = new XPolySystem();
+		otherSystem.addXPoly(system.getXPoly(1));
+		Assert.assertNull(ModularLinearSolver.createSolver(otherSystem));
+
+		// x1*x2 - u1 is not linear
+		otherSystem = new XPolySystem();
+		xp = new XPolynomial();
+		XTerm xt = createXTerm(1, 0, 1, 1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 1));
+		xp.addTerm(xt);
+		xp.addTerm(createXTerm(-1, 1, 0, 0));
+		otherSystem.addXPoly(xp);
+		otherSystem.addXPoly(system.getXPoly(1));
+		Assert.assertNull(ModularLinearSolver.createSolver(otherSystem));
+
+		// x1 - 0.3*u1, x2 - x1 - 1 has approximate coefficient
+		otherSystem = new XPolySystem();
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 1, 1));
+		xp.addTerm(createXTerm(-0.3, 1, 0, 0));
+		otherSystem.addXPoly(xp);
+		otherSystem.addXPoly(system.getXPoly(1));
+		Assert.assertNull(ModularLinearSolver.createSolver(otherSystem));
+	}
+
+	@Test
+	public void testStatementRefutation() {
+		OpenGeoProver.settings.getLogger().info("Testing refutation of statement by solution of linear system");
+
+		ModularLinearSolver solver = ModularLinearSolver.createSolver(system);
+
+		// x2 - u1 - 1 is consequence of hypotheses
+		XPolynomial statement = new XPolynomial();
+		statement.addTerm(createXTerm(1, 0, 2, 1));
+		statement.addTerm(createXTerm(-1, 1, 0, 0));
+		statement.addTerm(createXTerm(-1, 0, 0, 0));
+		Assert.assertFalse(solver.isStatementRefuted(statement));
+
+		// x2 - u1 is not consequence of hypotheses
+		statement = new XPolynomial();
+		statement.addTerm(createXTerm(1, 0, 2, 1));
+		statement.addTerm(createXTerm(-1, 1, 0, 0));
+		Assert.assertTrue(solver.isStatementRefuted(statement));
+	}
+
+	@Test
+	public void testExactSolution() {
+		OpenGeoProver.settings.getLogger().info("Testing exact solution of linear system by fraction-free elimination");
+
+		// x1 = u1, x2 = u1 + 1
+		FractionFreeLinearSolver solver = FractionFreeLinearSolver.createSolver(system);
+		Assert.assertNotNull(solver);
+		Assert.assertEquals(new UPolynomial(1), solver.getDeterminant());
+		Assert.assertEquals(createXTerm(1, 1, 0, 0).getUCoeff().getNumerator(), solver.getNumerator(1));
+
+		// u1*x1 - 1, 2*x2 - x1 has solution x1 = 1/u1, x2 = 1/(2*u1)
+		XPolySystem otherSystem = new XPolySystem();
+		XPolynomial xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 1, 1, 1));
+		xp.addTerm(createXTerm(-1, 0, 0, 0));
+		otherSystem.addXPoly(xp);
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(2, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 0, 1, 1));
+		otherSystem.addXPoly(xp);
+		solver = FractionFreeLinearSolver.createSolver(otherSystem);
+		Assert.assertNotNull(solver);
+		Assert.assertFalse(solver.getDeterminant().isZero());
+
+		// 2*u1*x2 - 1 is consequence of hypotheses
+		XPolynomial statement = new XPolynomial();
+		statement.addTerm(createXTerm(2, 1, 2, 1));
+		statement.addTerm(createXTerm(-1, 0, 0, 0));
+		Assert.assertTrue(solver.substituteSolution(statement).isZero());
+
+		// u1^2*x1^2 - 1 is consequence of hypotheses
+		statement = new XPolynomial();
+		statement.addTerm(createXTerm(1, 2, 1, 2));
+		statement.addTerm(createXTerm(-1, 0, 0, 0));
+		Assert.assertTrue(solver.substituteSolution(statement).isZero());
+
+		// 0.5*x1 - x2 is consequence of hypotheses
+		statement = new XPolynomial();
+		statement.addTerm(createXTerm(0.5, 0, 1, 1));
+		statement.addTerm(createXTerm(-1, 0, 2, 1));
+		Assert.assertTrue(solver.substituteSolution(statement).isZero());
+
+		// x1 - x2 is not consequence of hypotheses
+		statement = new XPolynomial();
+		statement.addTerm(createXTerm(1, 0, 1, 1));
+		statement.addTerm(createXTerm(-1, 0, 2, 1));
+		Assert.assertFalse(solver.substituteSolution(statement).isZero());
+
+		// x3 is not in system
+		statement = new XPolynomial();
+		statement.addTerm(createXTerm(1, 0, 3, 1));
+		Assert.assertNull(solver.substituteSolution(statement));
+
+		// x1 + x2 - u1, 2*x1 + 2*x2 - 1 is singular
+		otherSystem = new XPolySystem();
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(1, 0, 1, 1));
+		xp.addTerm(createXTerm(1, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 1, 0, 0));
+		otherSystem.addXPoly(xp);
+		xp = new XPolynomial();
+		xp.addTerm(createXTerm(2, 0, 1, 1));
+		xp.addTerm(createXTerm(2, 0, 2, 1));
+		xp.addTerm(createXTerm(-1, 0, 0, 0));
+		otherSystem.addXPoly(xp);
+		Assert.assertNull(FractionFreeLinearSolver.createSolver(otherSystem));
+	}
+}
@@ -0,0 +1,98 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
+import com.ogprover.pp.tp.thmstatement.CollinearPoints;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of concurrent translation of NDG conditions
+*     to readable form</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestNDGConditionTranslation extends TestCase {
+	private static final String[][] COLLINEAR_POINTS = {{"A", "B", "C"}, {"A", "B", "D"}, {"A", "C", "D"}, {"B", "C", "D"}, {"A", "B", "E"}, {"C", "D", "E"}};
+
+	public JUTestNDGConditionTranslation(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		OpenGeoProver.settings.getLogger().info("Starting new NDG condition translation test");
+	}
+
+	@After
+	public void tearDown() {
+		OpenGeoProver.settings.getParameters().putConLevel(1);
+		OpenGeoProver.settings.getLogger().info("Finished NDG condition translation test");
+	}
+
+	private static OGPTP createConsProtocol() {
+		// CP: free points A, B, C, D and E, with NDG conditions that some of them are not collinear
+		OGPTP consProtocol = new OGPTP();
+		for (String label : new String[] {"A", "B", "C", "D", "E"})
+			consProtocol.addGeoConstruction(new FreePoint(label));
+		for (GeoConstruction geoCons : consProtocol.getConstructionSteps())
+			((Point)geoCons).transformToAlgebraicForm();
+
+		for (String[] labels : COLLINEAR_POINTS) {
+			ArrayList<Point> pointList = new ArrayList<Point>();
+			for (String label : labels)
+				pointList.add((Point)consProtocol.getConstructionMap().get(label));
+			consProtocol.addThmStatement(new CollinearPoints(pointList));
+			consProtocol.addAlgebraicNDGCondition(new AlgebraicNDGCondition(consProtocol.getTheoremStatement().getAlgebraicForm()));
+		}
+		return consProtocol;
+	}
+
+	@Test
+	public void testConcurrentTranslation() {
+		OpenGeoProver.settings.getLogger().info("Testing concurrent translation of NDG conditions");
+
+		OpenGeoProver.settings.getParameters().putConLevel(1);
+		OGPTP seqProtocol = createConsProtocol();
+		Assert.assertEquals(OGPConstants.RET_CODE_SUCCESS, seqProtocol.translateNDGConditionsToUserReadableForm());
+
+		OpenGeoProver.settings.getParameters().putConLevel(4);
+		OGPTP conProtocol = createConsProtocol();
+		Assert.assertEquals(OGPConstants.RET_CODE_SUCCESS, conProtocol.translateNDGConditionsToUserReadableForm());
+
+		// translations are in order of conditions and same as sequential ones
+		Vector<AlgebraicNDGCondition> seqConds = seqProtocol.getAlgebraicNDGConditions();
+		Vector<AlgebraicNDGCondition> conConds = conProtocol.getAlgebraicNDGConditions();
+		Assert.assertEquals(COLLINEAR_POINTS.length, conConds.size());
+		for (int ii = 0; ii < COLLINEAR_POINTS.length; ii++) {
+			String[] labels = COLLINEAR_POINTS[ii];
+			Assert.assertEquals("Points " + labels[0] + ", " + labels[1] + " and " + labels[2] + " are not collinear", conConds.get(ii).getBestDescription());
+			Assert.assertEquals(seqConds.get(ii).getBestDescription(), conConds.get(ii).getBestDescription());
+			Assert.assertEquals(seqConds.get(ii).getText(), conConds.get(ii).getText());
+		}
+
+		// threads share one index of positions of points
+		Assert.assertEquals(seqProtocol.getPointsPositionIndex().size(), conProtocol.getPointsPositionIndex().size());
+	}
+}
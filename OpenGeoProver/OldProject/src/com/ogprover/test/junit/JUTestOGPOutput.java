@@ -0,0 +1,142 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.io.CustomFileWriter;
+import com.ogprover.utilities.io.LaTeXFileWriter;
+import com.ogprover.utilities.io.OGPOutput;
+import com.ogprover.utilities.io.SpecialFileFormatting;
+import com.ogprover.utilities.io.XMLFileWriter;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of deferred rendering of output report files</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestOGPOutput extends TestCase {
+	private File tempDir;
+
+	public JUTestOGPOutput(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		tempDir = new File(System.getProperty("java.io.tmpdir"), "ogp_output_test");
+		OpenGeoProver.settings.getLogger().info("Starting new output test");
+	}
+
+	@After
+	public void tearDown() {
+		File[] files = tempDir.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+		tempDir.delete();
+		tempDir = null;
+		OpenGeoProver.settings.getLogger().info("Finished output test");
+	}
+
+	private OGPOutput createOutput(String fileName) throws IOException {
+		return new OGPOutput(new LaTeXFileWriter(tempDir.getAbsolutePath(), fileName), new XMLFileWriter(tempDir.getAbsolutePath(), fileName));
+	}
+
+	private String readFile(String fileName) throws IOException {
+		return new String(Files.readAllBytes(new File(tempDir, fileName).toPath()), CustomFileWriter.OUTPUT_CHARSET_NAME);
+	}
+
+	// x1 + u2
+	private static XPolynomial createPolynomial() {
+		XPolynomial xpoly = new XPolynomial();
+		UPolynomial up = new UPolynomial();
+		up.addTerm(new UTerm(1));
+		XTerm xt = new XTerm(new UFraction(up));
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, 1));
+		xpoly.addTerm(xt);
+		UTerm ut = new UTerm(1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, 1));
+		up = new UPolynomial();
+		up.addTerm(ut);
+		xpoly.addTerm(new XTerm(new UFraction(up)));
+		return xpoly;
+	}
+
+	// writes same report to output and checks its status while writing
+	private static void writeReport(OGPOutput output) throws IOException {
+		XPolynomial xpoly = createPolynomial();
+
+		output.openDocument("article", "Report", "OGP");
+		Assert.assertTrue(output.isDocumentOpened());
+		output.openSection("Hypotheses");
+		Assert.assertTrue(output.isSectionOpened());
+		output.openParagraph();
+		Assert.assertTrue(output.isParagraphOpened());
+		output.writePlainText("Polynomial of point A:");
+		output.writePolynomial(1, xpoly);
+		xpoly.multiplyByRealConstant(3); // polynomial changed by prover after it is written
+		output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+		output.writeEnumItem("first item");
+		output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+		output.openSubSection("Triangulation", false);
+		Assert.assertTrue(output.isSubSectionOpened());
+		Assert.assertFalse(output.isParagraphOpened());
+		output.writeFormattedText("Triangulation done", SpecialFileFormatting.FMT_TYPE_PROOF_BOLD);
+		output.openSection("Proof");
+		Assert.assertTrue(output.isSectionOpened());
+		Assert.assertFalse(output.isSubSectionOpened());
+		output.closeSection();
+		Assert.assertFalse(output.isSectionOpened());
+		output.writePolynomial(xpoly);
+	}
+
+	@Test
+	public void testDeferredRendering() throws IOException {
+		OpenGeoProver.settings.getLogger().info("Testing order of deferred write actions and status of deferred output");
+
+		OGPOutput immediateOutput = createOutput("immediate");
+		writeReport(immediateOutput);
+		immediateOutput.close();
+
+		OGPOutput deferredOutput = createOutput("deferred");
+		deferredOutput.setDeferred(true);
+		writeReport(deferredOutput);
+		// nothing is rendered until output is closed
+		Assert.assertFalse(deferredOutput.getLatexFile().isSectionOpened());
+		Assert.assertFalse(deferredOutput.getXmlFile().isDocumentOpened());
+		deferredOutput.close();
+		Assert.assertTrue(deferredOutput.isClosed());
+		Assert.assertFalse(deferredOutput.isDocumentOpened());
+		deferredOutput.waitForRendering();
+
+		// rendered files are same as files written immediately
+		Assert.assertEquals(readFile("immediate.tex"), readFile("deferred.tex"));
+		Assert.assertEquals(readFile("immediate.xml"), readFile("deferred.xml"));
+		Assert.assertTrue(readFile("deferred.tex").indexOf("Triangulation") > readFile("deferred.tex").indexOf("Hypotheses"));
+	}
+}
@@ -0,0 +1,122 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.auxiliary.PointSetRelationshipManager;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.Line;
+import com.ogprover.pp.tp.geoconstruction.LineThroughTwoPoints;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.geoconstruction.RandomPointFromLine;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of search for best points for instantiation
+*     of condition of point from set of points</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestPointSetRelationshipManager extends TestCase {
+	private OGPTP consProtocol = null;
+	private Line line = null;
+	private Point pointX = null;
+
+	public JUTestPointSetRelationshipManager(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// CP: A, B, C, l = line BC, P1, P2, P3 and X are random points of l;
+		// for X there are 20 candidates (ordered pairs of points of l constructed before it)
+		consProtocol = new OGPTP();
+		Point pointA = new FreePoint("A");
+		Point pointB = new FreePoint("B");
+		Point pointC = new FreePoint("C");
+		consProtocol.addGeoConstruction(pointA);
+		consProtocol.addGeoConstruction(pointB);
+		consProtocol.addGeoConstruction(pointC);
+		line = new LineThroughTwoPoints("l", pointB, pointC);
+		consProtocol.addGeoConstruction(line);
+		for (int ii = 1; ii <= 3; ii++)
+			consProtocol.addGeoConstruction(new RandomPointFromLine("P" + ii, line));
+		pointX = new RandomPointFromLine("X", line);
+		consProtocol.addGeoConstruction(pointX);
+
+		for (int ii = 0, jj = pointX.getIndex(); ii < jj; ii++) {
+			GeoConstruction geoCons = consProtocol.getConstructionSteps().get(ii);
+			
+			if (geoCons instanceof Point)
+				((Point)geoCons).transformToAlgebraicForm();
+		}
+		consProtocol.instantiatePoint(pointX, Point.POINT_TYPE_X_INDEPENDENT);
+
+		OpenGeoProver.settings.getLogger().info("Starting new point set relationship manager test");
+	}
+
+	@After
+	public void tearDown() {
+		OpenGeoProver.settings.getParameters().putConLevel(1);
+		consProtocol = null;
+		line = null;
+		pointX = null;
+		OpenGeoProver.settings.getLogger().info("Finished point set relationship manager test");
+	}
+
+	@Test
+	public void testConcurrentSearchForConstruction() {
+		OpenGeoProver.settings.getLogger().info("Testing concurrent search for best points for instantiation");
+
+		int numOfHypotheses = consProtocol.getAlgebraicGeoTheorem().getHypotheses().getPolynomials().size();
+		String xCoord = pointX.getX().toString();
+		String yCoord = pointX.getY().toString();
+
+		OpenGeoProver.settings.getParameters().putConLevel(1);
+		PointSetRelationshipManager seqManager = new PointSetRelationshipManager(line, pointX);
+		XPolynomial seqCondition = seqManager.retrieveInstantiatedCondition();
+
+		OpenGeoProver.settings.getParameters().putConLevel(4);
+		PointSetRelationshipManager conManager = new PointSetRelationshipManager(line, pointX);
+		XPolynomial conCondition = conManager.retrieveInstantiatedCondition();
+
+		Assert.assertFalse(seqManager.isErrorFlag());
+		Assert.assertFalse(conManager.isErrorFlag());
+		Assert.assertNotNull(seqCondition);
+		Assert.assertNotNull(conCondition);
+		Assert.assertEquals(seqCondition.toString(), conCondition.toString());
+
+		Map<String, Point> seqPoints = seqManager.getBestPointsForInstantiation();
+		Map<String, Point> conPoints = conManager.getBestPointsForInstantiation();
+		Assert.assertEquals(seqPoints.keySet(), conPoints.keySet());
+		for (String label : seqPoints.keySet())
+			Assert.assertEquals(seqPoints.get(label).getGeoObjectLabel(), conPoints.get(label).getGeoObjectLabel());
+
+		// line is given by B and C, so their condition is simplest one
+		Assert.assertEquals(1, seqCondition.getPolynomialDegree());
+		Assert.assertEquals("B", seqPoints.get("A").getGeoObjectLabel());
+		Assert.assertEquals("C", seqPoints.get("B").getGeoObjectLabel());
+
+		// search changes neither the point nor the system of hypotheses
+		Assert.assertEquals(numOfHypotheses, consProtocol.getAlgebraicGeoTheorem().getHypotheses().getPolynomials().size());
+		Assert.assertEquals(xCoord, pointX.getX().toString());
+		Assert.assertEquals(yCoord, pointX.getY().toString());
+	}
+}
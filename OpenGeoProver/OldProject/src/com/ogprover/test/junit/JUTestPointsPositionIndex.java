@@ -0,0 +1,121 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.auxiliary.PointsPositionIndex;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
+import com.ogprover.pp.tp.thmstatement.CollinearPoints;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of index of algebraic forms of positions of points
+*     used in translation of NDG conditions</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestPointsPositionIndex extends TestCase {
+	private OGPTP consProtocol = null;
+	private Point pointA = null;
+	private Point pointB = null;
+	private Point pointC = null;
+	private Point pointD = null;
+
+	public JUTestPointsPositionIndex(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// CP: free points A, B, C and D
+		consProtocol = new OGPTP();
+		pointA = new FreePoint("A");
+		pointB = new FreePoint("B");
+		pointC = new FreePoint("C");
+		pointD = new FreePoint("D");
+		consProtocol.addGeoConstruction(pointA);
+		consProtocol.addGeoConstruction(pointB);
+		consProtocol.addGeoConstruction(pointC);
+		consProtocol.addGeoConstruction(pointD);
+		for (GeoConstruction geoCons : consProtocol.getConstructionSteps())
+			((Point)geoCons).transformToAlgebraicForm();
+
+		OpenGeoProver.settings.getLogger().info("Starting new points position index test");
+	}
+
+	@After
+	public void tearDown() {
+		consProtocol = null;
+		pointA = null;
+		pointB = null;
+		pointC = null;
+		pointD = null;
+		OpenGeoProver.settings.getLogger().info("Finished points position index test");
+	}
+
+	private XPolynomial getCollinearityCondition(Point A, Point B, Point C) {
+		ArrayList<Point> pointList = new ArrayList<Point>();
+		pointList.add(A);
+		pointList.add(B);
+		pointList.add(C);
+		consProtocol.addThmStatement(new CollinearPoints(pointList));
+		return consProtocol.getTheoremStatement().getAlgebraicForm();
+	}
+
+	private AlgebraicNDGCondition translate(XPolynomial ndgPoly) {
+		AlgebraicNDGCondition ndgCond = new AlgebraicNDGCondition(ndgPoly);
+		ndgCond.setConsProtocol(consProtocol);
+		Assert.assertEquals(OGPConstants.RET_CODE_SUCCESS, ndgCond.transformToUserReadableForm());
+		return ndgCond;
+	}
+
+	@Test
+	public void testIndexedPositionLookups() {
+		OpenGeoProver.settings.getLogger().info("Testing look-ups of positions of points in index");
+
+		PointsPositionIndex index = consProtocol.getPointsPositionIndex();
+		String key = PointsPositionIndex.makeKey("ThreeCollinearPoints", pointA, pointB, pointC);
+		Assert.assertEquals("ThreeCollinearPoints:A:B:C", key);
+		Assert.assertNull(index.get(key));
+
+		// first translation transforms positions of points and stores them in index
+		XPolynomial ndgPoly = getCollinearityCondition(pointA, pointB, pointC);
+		AlgebraicNDGCondition firstCond = translate(ndgPoly);
+		Assert.assertEquals("Points A, B and C are not collinear", firstCond.getBestDescription());
+		Assert.assertNotNull(index.get(key));
+		int numOfPositions = index.size();
+		Assert.assertTrue(numOfPositions > 0);
+
+		// same condition is translated by look-ups only, with same result
+		AlgebraicNDGCondition secondCond = translate(ndgPoly);
+		Assert.assertEquals(numOfPositions, index.size());
+		Assert.assertEquals(firstCond.getBestDescription(), secondCond.getBestDescription());
+		Assert.assertEquals(firstCond.getText(), secondCond.getText());
+
+		// condition for other points needs positions of those points
+		AlgebraicNDGCondition thirdCond = translate(getCollinearityCondition(pointA, pointB, pointD));
+		Assert.assertEquals("Points A, B and D are not collinear", thirdCond.getBestDescription());
+		Assert.assertTrue(index.size() > numOfPositions);
+		Assert.assertNotNull(index.get(PointsPositionIndex.makeKey("ThreeCollinearPoints", pointA, pointB, pointD)));
+	}
+}
@@ -30,6 +30,19 @@ public class JUTestPolynomialsSuite extends TestSuite {
 		// Add single test cases here
 		suite.addTestSuite(JUTestPower.class);
 		suite.addTestSuite(JUTestUTerm.class);
+		suite.addTestSuite(JUTestCompiledXPolynomial.class);
+		suite.addTestSuite(JUTestMetrics.class);
+		suite.addTestSuite(JUTestLogger.class);
+		suite.addTestSuite(JUTestJSONFileWriter.class);
+		suite.addTestSuite(JUTestCustomFileWriter.class);
+		suite.addTestSuite(JUTestOGPOutput.class);
+		suite.addTestSuite(JUTestGeoBucket.class);
+		suite.addTestSuite(JUTestSymbolicPolynomialTemplate.class);
+		suite.addTestSuite(JUTestInstantiationCache.class);
+		suite.addTestSuite(JUTestXPolySystem.class);
+		suite.addTestSuite(JUTestXPolynomial.class);
+		suite.addTestSuite(JUTestFieldExtensionAnalyzer.class);
+		suite.addTestSuite(JUTestModularLinearSolver.class);
 		// TODO - other tests for algebraic classes
 		
 		return suite;
@@ -48,7 +48,7 @@ public class JUTestPower extends TestCase {
 		
 		Power p = new Power(Variable.VAR_TYPE_UX_U, 1, 4);
 		
-		pow.mul(p);
+		pow = pow.mul(p);
 		
 		assertEquals(Variable.VAR_TYPE_UX_U, pow.getVarType());
 		assertEquals(1, pow.getIndex());
@@ -0,0 +1,78 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPResult;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.logger.FileLogger;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of prover sessions bound to threads</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestSessionSettings extends TestCase {
+	private OGPConfigurationSettings session;
+
+	public JUTestSessionSettings(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		session = new OGPConfigurationSettings("JUTestSessionLogFile", ".." + File.separator + FileLogger.DEFAULT_LOG_DIR);
+		OpenGeoProver.settings.getLogger().info("Starting new session settings test");
+	}
+
+	@After
+	public void tearDown() {
+		OGPConfigurationSettings.unbindSession();
+		session.getTimer().cancel();
+		session = null;
+		OpenGeoProver.settings.getLogger().info("Finished session settings test");
+	}
+
+	@Test
+	public void testBinding() throws InterruptedException {
+		OpenGeoProver.settings.getLogger().info("Testing delegation of global settings to bound session");
+
+		OGPResult globalResult = OpenGeoProver.settings.getResult();
+		int globalMaxNumOfTerms = OpenGeoProver.settings.getMaxNumOfTerms();
+
+		OGPConfigurationSettings.bindSession(session);
+		Assert.assertSame(session.getResult(), OpenGeoProver.settings.getResult());
+		OpenGeoProver.settings.setMaxNumOfTerms(globalMaxNumOfTerms + 5);
+		Assert.assertEquals(globalMaxNumOfTerms + 5, session.getMaxNumOfTerms());
+
+		// thread started from this thread works in same session
+		final OGPResult[] childResult = new OGPResult[1];
+		Thread child = new Thread() {
+			public void run() {
+				childResult[0] = OpenGeoProver.settings.getResult();
+			}
+		};
+		child.start();
+		child.join();
+		Assert.assertSame(session.getResult(), childResult[0]);
+
+		OGPConfigurationSettings.unbindSession();
+		Assert.assertSame(globalResult, OpenGeoProver.settings.getResult());
+		Assert.assertEquals(globalMaxNumOfTerms, OpenGeoProver.settings.getMaxNumOfTerms());
+	}
+}
@@ -0,0 +1,132 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.SymbolicPolynomial;
+import com.ogprover.polynomials.SymbolicPolynomialTemplate;
+import com.ogprover.polynomials.SymbolicTerm;
+import com.ogprover.polynomials.SymbolicVariable;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.UXVariable;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of templates for instantiation of symbolic polynomials</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestSymbolicPolynomialTemplate extends TestCase {
+	private SymbolicPolynomial condition;
+
+	public JUTestSymbolicPolynomialTemplate(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// condition 2*x0*xA - yA^2 + 3*xA*xB
+		condition = new SymbolicPolynomial();
+		SymbolicTerm t = new SymbolicTerm(2);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "0"), 1));
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "A"), 1));
+		condition.addTerm(t);
+		t = new SymbolicTerm(-1);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_Y, "A"), 2));
+		condition.addTerm(t);
+		t = new SymbolicTerm(3);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "A"), 1));
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_X, "B"), 1));
+		condition.addTerm(t);
+
+		OpenGeoProver.settings.getLogger().info("Starting new symbolic polynomial template test");
+	}
+
+	@After
+	public void tearDown() {
+		condition = null;
+		OpenGeoProver.settings.getLogger().info("Finished symbolic polynomial template test");
+	}
+
+	private static XTerm createXTerm(double coeff, long uIndex, int uExp, long xIndex) {
+		UTerm ut = new UTerm(coeff);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, uIndex, uExp));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		XTerm xt = new XTerm(new UFraction(up));
+		if (xIndex > 0)
+			xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xIndex, 1));
+		return xt;
+	}
+
+	@Test
+	public void testInstantiation() {
+		OpenGeoProver.settings.getLogger().info("Testing instantiation of compiled symbolic polynomial");
+
+		SymbolicPolynomialTemplate template = condition.getTemplate();
+		Assert.assertEquals(3, template.getNumOfSlots());
+
+		// 0 = (x1, x2), A = (u1, 0), B = (u1, x3)
+		UXVariable[] coords = new UXVariable[2 * template.getNumOfSlots()];
+		for (int ii = 0; ii < template.getNumOfSlots(); ii++) {
+			String label = template.getPointLabel(ii);
+			if (label.equals("0")) {
+				coords[2 * ii] = UXVariable.getInstance(Variable.VAR_TYPE_UX_X, 1);
+				coords[2 * ii + 1] = UXVariable.getInstance(Variable.VAR_TYPE_UX_X, 2);
+			}
+			else if (label.equals("A")) {
+				coords[2 * ii] = UXVariable.getInstance(Variable.VAR_TYPE_UX_U, 1);
+				coords[2 * ii + 1] = UXVariable.getInstance(Variable.VAR_TYPE_UX_U, 0);
+			}
+			else {
+				coords[2 * ii] = UXVariable.getInstance(Variable.VAR_TYPE_UX_U, 1);
+				coords[2 * ii + 1] = UXVariable.getInstance(Variable.VAR_TYPE_UX_X, 3);
+			}
+		}
+
+		// 2*u1*x1 + 3*u1^2 (term with yA is zero)
+		XPolynomial expected = new XPolynomial();
+		expected.addTerm(createXTerm(2, 1, 1, 1));
+		expected.addTerm(createXTerm(3, 1, 2, 0));
+		Assert.assertEquals(expected, template.instantiate(coords));
+
+		// point that is not found
+		coords[0] = null;
+		coords[1] = null;
+		Assert.assertNull(template.instantiate(coords));
+	}
+
+	@Test
+	public void testTemplateChange() {
+		OpenGeoProver.settings.getLogger().info("Testing reuse and change of template of symbolic polynomial");
+
+		SymbolicPolynomialTemplate template = condition.getTemplate();
+		Assert.assertSame(template, condition.getTemplate());
+
+		SymbolicTerm t = new SymbolicTerm(1);
+		t.addPower(new Power(new SymbolicVariable(Variable.VAR_TYPE_SYMB_Y, "C"), 1));
+		condition.addTerm(t);
+
+		SymbolicPolynomialTemplate newTemplate = condition.getTemplate();
+		Assert.assertNotSame(template, newTemplate);
+		Assert.assertEquals(4, newTemplate.getNumOfSlots());
+	}
+}
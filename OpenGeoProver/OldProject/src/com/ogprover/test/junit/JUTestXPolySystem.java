@@ -0,0 +1,130 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of membership checks in system of x-polynomials</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestXPolySystem extends TestCase {
+	private XPolySystem system;
+
+	public JUTestXPolySystem(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// system: x1 - u1, 2*u2*x1*x2
+		system = new XPolySystem();
+		system.addXPoly(createXPolynomial(new XTerm[] {createXTerm(1, 0, 1), createXTerm(-1, 1, 0)}));
+		XTerm xt = createXTerm(2, 2, 1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 1));
+		system.addXPoly(createXPolynomial(new XTerm[] {xt}));
+
+		OpenGeoProver.settings.getLogger().info("Starting new polynomial system test");
+	}
+
+	@After
+	public void tearDown() {
+		system = null;
+		OpenGeoProver.settings.getLogger().info("Finished polynomial system test");
+	}
+
+	private static XTerm createXTerm(double coeff, long uIndex, long xIndex) {
+		UTerm ut = new UTerm(coeff);
+		if (uIndex > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, uIndex, 1));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		XTerm xt = new XTerm(new UFraction(up));
+		if (xIndex > 0)
+			xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xIndex, 1));
+		return xt;
+	}
+
+	private static XPolynomial createXPolynomial(XTerm[] terms) {
+		XPolynomial xp = new XPolynomial();
+		for (XTerm xt : terms)
+			xp.addTerm(xt);
+		return xp;
+	}
+
+	@Test
+	public void testContainsPolynomial() {
+		OpenGeoProver.settings.getLogger().info("Testing membership of polynomials in system");
+
+		XPolynomial first = createXPolynomial(new XTerm[] {createXTerm(1, 0, 1), createXTerm(-1, 1, 0)});
+		Assert.assertTrue(system.containsPolynomial(first));
+		Assert.assertFalse(system.containsPolynomial(createXPolynomial(new XTerm[] {createXTerm(1, 0, 1), createXTerm(-1, 2, 0)})));
+
+		// same terms but different coefficients
+		XPolynomial doubledFirst = (XPolynomial)first.clone();
+		long fingerprint = doubledFirst.getFingerprint();
+		doubledFirst.multiplyByRealConstant(2);
+		Assert.assertFalse(fingerprint == doubledFirst.getFingerprint());
+		Assert.assertFalse(system.containsPolynomial(doubledFirst));
+
+		// polynomial added after index has been built
+		system.addXPoly((XPolynomial)doubledFirst.clone());
+		Assert.assertTrue(system.containsPolynomial(doubledFirst));
+
+		// polynomial replaced after index has been built
+		XPolynomial second = system.getXPoly(1);
+		XTerm xt = createXTerm(6, 2, 1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 1));
+		XPolynomial tripledSecond = createXPolynomial(new XTerm[] {xt});
+		Assert.assertFalse(system.containsPolynomial(tripledSecond));
+		system.setXPoly(1, (XPolynomial)tripledSecond.clone());
+		Assert.assertTrue(system.containsPolynomial(tripledSecond));
+		Assert.assertFalse(system.containsPolynomial(second));
+
+		// polynomial removed after index has been built
+		system.removePoly(2);
+		Assert.assertFalse(system.containsPolynomial(doubledFirst));
+		Assert.assertTrue(system.containsPolynomial(first));
+
+		// polynomial changed through collection of polynomials of system
+		system.getPolynomials().get(1).multiplyByRealConstant(2);
+		Assert.assertFalse(system.containsPolynomial(tripledSecond));
+		xt = createXTerm(12, 2, 1);
+		xt.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 1));
+		Assert.assertTrue(system.containsPolynomial(createXPolynomial(new XTerm[] {xt})));
+
+		// polynomial with non-constant denominator
+		UPolynomial den = new UPolynomial();
+		UTerm ut = new UTerm(1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 1));
+		den.addTerm(ut);
+		xt = createXTerm(1, 0, 2);
+		xt.getUCoeff().setDenominator(den);
+		XPolynomial fraction = createXPolynomial(new XTerm[] {xt});
+		Assert.assertFalse(system.containsPolynomial(fraction));
+		system.addXPoly((XPolynomial)fraction.clone());
+		Assert.assertTrue(system.containsPolynomial(fraction));
+	}
+}
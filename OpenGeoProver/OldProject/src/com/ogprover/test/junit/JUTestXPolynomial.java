@@ -0,0 +1,245 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.CompiledXPolynomial;
+import com.ogprover.polynomials.PositionPolynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.Interval;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of leading exponents and pseudo division of x-polynomials</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestXPolynomial extends TestCase {
+	private XPolynomial xpoly;
+
+	public JUTestXPolynomial(String name) {
+		super(name);
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		// x7*x3 + x6*x3^2 + x5^5 + 2*u1*x3^2 + 1
+		xpoly = new XPolynomial();
+		xpoly.addTerm(createXTerm(1, 0, 0, new long[] {7, 1, 3, 1}));
+		xpoly.addTerm(createXTerm(1, 0, 0, new long[] {6, 1, 3, 2}));
+		xpoly.addTerm(createXTerm(1, 0, 0, new long[] {5, 5}));
+		xpoly.addTerm(createXTerm(2, 1, 1, new long[] {3, 2}));
+		xpoly.addTerm(createXTerm(1, 0, 0, new long[] {}));
+
+		OpenGeoProver.settings.getLogger().info("Starting new x-polynomial test");
+	}
+
+	@After
+	public void tearDown() {
+		xpoly = null;
+		OpenGeoProver.settings.getLogger().info("Finished x-polynomial test");
+	}
+
+	// xPowers contains pairs of index and exponent of x-variables
+	private static XTerm createXTerm(double coeff, long uIndex, int uExp, long[] xPowers) {
+		UTerm ut = new UTerm(coeff);
+		if (uIndex > 0)
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, uIndex, uExp));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		XTerm xt = new XTerm(new UFraction(up));
+		for (int ii = 0; ii < xPowers.length; ii += 2)
+			xt.addPower(new Power(Variable.VAR_TYPE_UX_X, xPowers[ii], (int)xPowers[ii + 1]));
+		return xt;
+	}
+
+	@Test
+	public void testLeadingExp() {
+		OpenGeoProver.settings.getLogger().info("Testing leading exponents and coefficients of variables");
+
+		Assert.assertEquals(2, xpoly.getLeadingExp(3));
+		Assert.assertEquals(5, xpoly.getLeadingExp(5));
+		Assert.assertEquals(0, xpoly.getLeadingExp(4));
+		Assert.assertEquals(0, xpoly.getLeadingExp(8));
+
+		// x6 + 2*u1
+		XPolynomial expected = new XPolynomial();
+		expected.addTerm(createXTerm(1, 0, 0, new long[] {6, 1}));
+		expected.addTerm(createXTerm(2, 1, 1, new long[] {}));
+		Assert.assertEquals(expected, xpoly.getLeadingCoefficientOfVariable(3));
+		Assert.assertTrue(xpoly.getLeadingCoefficientOfVariable(4).isZero());
+
+		// degrees are updated when terms are changed
+		xpoly.addTerm(createXTerm(1, 0, 0, new long[] {4, 1, 3, 4}));
+		Assert.assertEquals(4, xpoly.getLeadingExp(3));
+		Assert.assertEquals(1, xpoly.getLeadingExp(4));
+		xpoly.addTerm(createXTerm(-1, 0, 0, new long[] {4, 1, 3, 4}));
+		Assert.assertEquals(2, xpoly.getLeadingExp(3));
+		Assert.assertEquals(0, xpoly.getLeadingExp(4));
+
+		// greatest exponent stays while some term still has it
+		xpoly.addTerm(createXTerm(-1, 0, 0, new long[] {6, 1, 3, 2}));
+		Assert.assertEquals(2, xpoly.getLeadingExp(3));
+		Assert.assertEquals(0, xpoly.getLeadingExp(6));
+		xpoly.addTerm(createXTerm(-2, 1, 1, new long[] {3, 2}));
+		Assert.assertEquals(1, xpoly.getLeadingExp(3));
+
+		// degrees of product are collected as its terms are written
+		xpoly.multiplyByPolynomial(xpoly);
+		Assert.assertEquals(2, xpoly.getLeadingExp(3));
+		Assert.assertEquals(10, xpoly.getLeadingExp(5));
+	}
+
+	@Test
+	public void testPseudoReminder() {
+		OpenGeoProver.settings.getLogger().info("Testing pseudo division of x-polynomials");
+
+		// x1 - u2
+		XPolynomial divisor = new XPolynomial();
+		divisor.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		divisor.addTerm(createXTerm(-1, 2, 1, new long[] {}));
+
+		// prem(x1^2 - u1, x1 - u2) = u2^2 - u1
+		XPolynomial dividend = new XPolynomial();
+		dividend.addTerm(createXTerm(1, 0, 0, new long[] {1, 2}));
+		dividend.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		XPolynomial expected = new XPolynomial();
+		expected.addTerm(createXTerm(1, 2, 2, new long[] {}));
+		expected.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		Assert.assertEquals(expected, dividend.pseudoReminder(divisor, 1));
+		Assert.assertEquals(0, dividend.getLeadingExp(1));
+
+		// prem(x1^2 - u2^2, x1 - u2) = 0
+		dividend = new XPolynomial();
+		dividend.addTerm(createXTerm(1, 0, 0, new long[] {1, 2}));
+		dividend.addTerm(createXTerm(-1, 2, 2, new long[] {}));
+		Assert.assertTrue(dividend.pseudoReminder(divisor, 1).isZero());
+
+		// divisor doesn't contain variable
+		Assert.assertTrue(xpoly.pseudoReminder(divisor, 3).isZero());
+	}
+
+	@Test
+	public void testFactors() {
+		OpenGeoProver.settings.getLogger().info("Testing factors of x-polynomials");
+
+		Assert.assertEquals(0, xpoly.getCommonXFactor().getPowers().size());
+
+		// x2*x1^2 - u1*x2*x1 = x2*x1 * (x1 - u1)
+		XPolynomial product = new XPolynomial();
+		product.addTerm(createXTerm(1, 0, 0, new long[] {2, 1, 1, 2}));
+		product.addTerm(createXTerm(-1, 1, 1, new long[] {2, 1, 1, 1}));
+		XTerm commonXFactor = product.getCommonXFactor();
+		Assert.assertEquals(1, commonXFactor.getVariableExponent(2));
+		Assert.assertEquals(1, commonXFactor.getVariableExponent(1));
+		XPolynomial expected = new XPolynomial();
+		expected.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		expected.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		Assert.assertEquals(expected, product.divideByTerm(commonXFactor));
+		Assert.assertEquals(1, product.getLeadingExp(1));
+		Assert.assertEquals(0, product.getLeadingExp(2));
+
+		// x2*x1^2 - 2*u1*x2*x1 + u1^2*x2 = x2 * (x1 - u1)^2
+		XPolynomial square = new XPolynomial();
+		square.addTerm(createXTerm(1, 0, 0, new long[] {2, 1, 1, 2}));
+		square.addTerm(createXTerm(-2, 1, 1, new long[] {2, 1, 1, 1}));
+		square.addTerm(createXTerm(1, 1, 2, new long[] {2, 1}));
+		// linear factor is 2*x2*x1 - 2*u1*x2
+		expected = new XPolynomial();
+		expected.addTerm(createXTerm(2, 0, 0, new long[] {2, 1, 1, 1}));
+		expected.addTerm(createXTerm(-2, 1, 1, new long[] {2, 1}));
+		Assert.assertEquals(expected, square.getLinearFactorOfPower(1));
+		Assert.assertNull(square.getLinearFactorOfPower(2));
+
+		// x1^2 - u1 is not square
+		XPolynomial notSquare = new XPolynomial();
+		notSquare.addTerm(createXTerm(1, 0, 0, new long[] {1, 2}));
+		notSquare.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		Assert.assertNull(notSquare.getLinearFactorOfPower(1));
+
+		// x1^2 + x1 + u1 has all coefficients but is not square either
+		notSquare.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		notSquare.addTerm(createXTerm(2, 1, 1, new long[] {}));
+		Assert.assertNull(notSquare.getLinearFactorOfPower(1));
+
+		// x1^3 + 3*u1*x1^2 + 3*u1^2*x1 + u1^3 = (x1 + u1)^3
+		XPolynomial cube = new XPolynomial();
+		cube.addTerm(createXTerm(1, 0, 0, new long[] {1, 3}));
+		cube.addTerm(createXTerm(3, 1, 1, new long[] {1, 2}));
+		cube.addTerm(createXTerm(3, 1, 2, new long[] {1, 1}));
+		cube.addTerm(createXTerm(1, 1, 3, new long[] {}));
+		// linear factor is 3*x1 + 3*u1
+		expected = new XPolynomial();
+		expected.addTerm(createXTerm(3, 0, 0, new long[] {1, 1}));
+		expected.addTerm(createXTerm(3, 1, 1, new long[] {}));
+		Assert.assertEquals(expected, cube.getLinearFactorOfPower(1));
+		Assert.assertEquals(expected, cube.getSquareFreePart(1));
+		Assert.assertNull(notSquare.getSquareFreePart(1));
+		Assert.assertNull(product.getSquareFreePart(1));
+
+		// (x1^2 - u1)^2 * (x1 - u2) has square-free part of degree 3
+		XPolynomial quadratic = new XPolynomial();
+		quadratic.addTerm(createXTerm(1, 0, 0, new long[] {1, 2}));
+		quadratic.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		XPolynomial linear = new XPolynomial();
+		linear.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		linear.addTerm(createXTerm(-1, 2, 1, new long[] {}));
+		XPolynomial notSquareFree = (XPolynomial)quadratic.clone();
+		notSquareFree.multiplyByPolynomial(quadratic);
+		notSquareFree.multiplyByPolynomial(linear);
+		XPolynomial squareFreePart = notSquareFree.getSquareFreePart(1);
+		Assert.assertEquals(3, squareFreePart.getLeadingExp(1));
+		Assert.assertNull(squareFreePart.getSquareFreePart(1));
+		Assert.assertTrue(((XPolynomial)squareFreePart.clone()).pseudoReminder(quadratic, 1).isZero());
+		Assert.assertTrue(((XPolynomial)squareFreePart.clone()).pseudoReminder(linear, 1).isZero());
+	}
+
+	@Test
+	public void testPositionPolynomial() {
+		OpenGeoProver.settings.getLogger().info("Testing matching of position polynomials with NDG conditions");
+
+		// u1*x1 - u1*u2 = u1*(x1 - u2) matches x1 - u2
+		XPolynomial position = new XPolynomial();
+		position.addTerm(createXTerm(1, 1, 1, new long[] {1, 1}));
+		UTerm ut = new UTerm(-1);
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 1));
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, 1));
+		UPolynomial up = new UPolynomial();
+		up.addTerm(ut);
+		position.addTerm(new XTerm(new UFraction(up)));
+		PositionPolynomial positionPoly = new PositionPolynomial(position);
+		XPolynomial ndgcPoly = new XPolynomial();
+		ndgcPoly.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		ndgcPoly.addTerm(createXTerm(-1, 2, 1, new long[] {}));
+		Interval ndgcValue = CompiledXPolynomial.evaluateAtRandomPoint(ndgcPoly);
+		Assert.assertTrue(positionPoly.matches(ndgcPoly, ndgcValue));
+		Assert.assertTrue(positionPoly.matches(ndgcPoly, null));
+
+		// x1 - u1 doesn't match it and it is rejected by its value
+		XPolynomial otherPoly = new XPolynomial();
+		otherPoly.addTerm(createXTerm(1, 0, 0, new long[] {1, 1}));
+		otherPoly.addTerm(createXTerm(-1, 1, 1, new long[] {}));
+		Interval otherValue = CompiledXPolynomial.evaluateAtRandomPoint(otherPoly);
+		Assert.assertTrue(ndgcValue.subtract(otherValue).signum() != 0);
+		Assert.assertFalse(positionPoly.matches(otherPoly, otherValue));
+		Assert.assertFalse(positionPoly.matches(otherPoly, null));
+	}
+}
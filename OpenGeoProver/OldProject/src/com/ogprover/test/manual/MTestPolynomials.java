@@ -143,9 +143,9 @@ public class MTestPolynomials {
 		System.out.println();
 		printVectors(v1, v2);
 		
-		// Update third element from second vector - this will reflect to first vector as well
+		// Replace third element from second vector - powers are immutable, therefore first vector is not changed
 		Power pt = v2.get(2);
-		pt.setExponent(5);
+		v2.set(2, Power.getInstance(pt.getVariable(), 5));
 		
 		// printing vectors (3)
 		System.out.println(" ===== Print after update ===== ");
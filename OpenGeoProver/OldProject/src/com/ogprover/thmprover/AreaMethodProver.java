@@ -2,10 +2,11 @@
  * DISCLAIMER PLACEHOLDER 
  */
 
-package com.ogprover.thmprover;
+package com.ogprover.thmprover;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Vector;
 
 import com.ogprover.main.OpenGeoProver;
@@ -31,7 +32,9 @@ import com.ogprover.pp.tp.printing.UniformizationStep;
 import com.ogprover.pp.tp.thmstatement.AreaMethodTheoremStatement;
 import com.ogprover.pp.tp.thmstatement.IdenticalPoints;
 import com.ogprover.utilities.logger.ILogger;
-
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
+
 /**
  * <dl>
  * <dt><b>Class description:</b></dt>
@@ -47,6 +50,17 @@ public class AreaMethodProver implements TheoremProver {
 	 * ========================== VARIABLES =================================
 	 * ======================================================================
 	 */
+	/**
+	 * Seed for coordinates of free points used to check whether a formula is certainly non-zero,
+	 * so that the result of the check (and the report) is same in each run.
+	 */
+	private static final long FREE_POINTS_SEED = 20111L;
+	
+	/**
+	 * Number of lemmas which can be used for elimination of a point.
+	 */
+	private static final int NUMBER_OF_LEMMAS = 17;
+	
 	/**
 	 * Equals true iff this is the first time that the prover is launched.
 	 */
@@ -86,11 +100,11 @@ public class AreaMethodProver implements TheoremProver {
 	/**
 	 * Whether or not we have to do the "transform to independant variables" step
 	 */
-	protected boolean transformToIndependantVariables = true;
-	
+	protected boolean transformToIndependantVariables = true;
+	
 	/**
 	 * Arbitrary coordinates of each point, for fast verification and debugging
-	 */
+	 */
 	protected static HashMap<String, FloatCoordinates> coords;
 	
 	/**
@@ -183,9 +197,9 @@ public class AreaMethodProver implements TheoremProver {
 		this.nextPointToEliminate = constructions.size()-1;
 		this.ndgConditions = ndgConditions;
 		computeNextPointToEliminate();
-	}
+	}
 
-	
+	
 	/*
 	 * ======================================================================
 	 * ========================== SPECIFIC METHODS ==========================
@@ -253,6 +267,7 @@ public class AreaMethodProver implements TheoremProver {
 				debug("After couples of point deletion : ", expr);
 				current = current.replace(replacementMap);
 			}
+			MetricsSpan eliminationSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_AREA_METHOD);
 			computeNextPointToEliminate();
 			while (nextPointToEliminate >=0  && !current.isZero()) {
 				
@@ -264,16 +279,19 @@ public class AreaMethodProver implements TheoremProver {
 				steps.add(new SimplificationStep(current, next));
 				current = next;
 				
-				Vector<Boolean> isLemmaUsed = new Vector<Boolean>(17);
-				for (int i = 0 ; i < 17 ; i++)
-					isLemmaUsed.set(i, false);
+				// flags are added (not set) since vector is initially empty
+				Vector<Boolean> isLemmaUsed = new Vector<Boolean>(NUMBER_OF_LEMMAS);
+				for (int i = 0 ; i < NUMBER_OF_LEMMAS ; i++)
+					isLemmaUsed.add(false);
 				try {
-					next = current.eliminate((Point)constructions.get(nextPointToEliminate), isLemmaUsed, this); //safe cast
-				} catch (UnknownStatementException e) {
+					next = current.eliminate((Point)constructions.get(nextPointToEliminate), isLemmaUsed, this); //safe cast
+				} catch (UnknownStatementException e) {
 					logger.error("The point elimination required a intermediary lemma to be proved, and the sub-process crashed.");
-					logger.error("It occured on : " + e.getMessage());
+					logger.error("It occured on : " + e.getMessage());
+					eliminationSpan.end();
 					return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
 				}
+				recordElimination(isLemmaUsed);
 				steps.add(new EliminationStep(current, next, (Point)constructions.get(nextPointToEliminate)));
 				nextPointToEliminate--;
 				computeNextPointToEliminate();
@@ -296,6 +314,7 @@ public class AreaMethodProver implements TheoremProver {
 				
 				next = current.toSumOfProducts();
 			}
+			eliminationSpan.end();
 			if (next == null)
 				next = current;
 			next = next.reduceToSingleFraction();
@@ -316,12 +335,18 @@ public class AreaMethodProver implements TheoremProver {
 					return THEO_PROVE_RET_CODE_UNKNOWN;
 				}
 				
+				if (isCertainlyNonZero(current)) {
+					debug("The formula is certainly non-null for arbitrary coordinates of free points : the statement is false");
+					description = new ProofDescription(steps, statement, ndgConditions);
+					return TheoremProver.THEO_PROVE_RET_CODE_FALSE;
+				}
+				
 				try {
 					next = current.toIndependantVariables(this);
-				} catch (UnknownStatementException e) {
+				} catch (UnknownStatementException e) {
 					logger.error("The transformation to a formula with independant variables" +
 							" required a intermediary lemma to be proved, and the sub-process crashed.");
-					logger.error("It occured on : " + e.getMessage());
+					logger.error("It occured on : " + e.getMessage());
 					return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
 				}
 				steps.add(new ToIndependantVariablesStep(current, next));
@@ -356,13 +381,13 @@ public class AreaMethodProver implements TheoremProver {
 				description = new ProofDescription(steps, statement, ndgConditions);
 				debug("Result : ", current);
 				if (current.isZero())
-					debug("The formula equals zero : the statement is then proved");
+					debug("The formula equals zero : the statement is then proved");
 				else
 					return TheoremProver.THEO_PROVE_RET_CODE_FALSE;
 			}
 		}
-		
-		return TheoremProver.THEO_PROVE_RET_CODE_TRUE;
+		
+		return TheoremProver.THEO_PROVE_RET_CODE_TRUE;
 	}
 	
 	private void computeNextPointToEliminate() {
@@ -372,8 +397,26 @@ public class AreaMethodProver implements TheoremProver {
 			nextPointToEliminate--;
 	}
 	
+	/**
+	 * Records one point elimination and lemmas used in it in prover metrics.
+	 * 
+	 * @param isLemmaUsed	Flags of lemmas used in elimination
+	 */
+	private void recordElimination(Vector<Boolean> isLemmaUsed) {
+		OGPMetrics metrics = OpenGeoProver.settings.getMetrics();
+		
+		if (!metrics.isEnabled())
+			return;
+		
+		metrics.incrementCounter(OGPMetrics.AREA_METHOD_ELIMINATIONS);
+		for (int i = 0, size = isLemmaUsed.size(); i < size; i++) {
+			if (isLemmaUsed.get(i).booleanValue())
+				metrics.incrementCounter(OGPMetrics.AREA_METHOD_LEMMA_USES, OGPMetrics.LABEL_LEMMA, String.valueOf(i));
+		}
+	}
+	
 	public static void debug(String str, AMExpression expr) {
-		if (debugMode) {
+		if (debugMode && OpenGeoProver.settings.getLogger().isDebugEnabled()) { // printing and verification of expression are expensive
 			ILogger logger = OpenGeoProver.settings.getLogger();
 			int size = expr.size();
 			int MAX_SIZE = 200;
@@ -503,22 +546,22 @@ public class AreaMethodProver implements TheoremProver {
 				}
 			}
 		}
-	}
+	}
 	
 	/**
 	 * Initializes the coords HashMap.
 	 */
 	private void initCoords() { 
 		coords = new HashMap<String, FloatCoordinates>();
-		coords.put("iO", new FloatCoordinates(42, 17));
-		coords.put("iU", new FloatCoordinates(13, -66));
+		coords.put("iO", new FloatCoordinates(42, 17));
+		coords.put("iU", new FloatCoordinates(13, -66));
 		coords.put("iV", new FloatCoordinates(2, 34));
-		double norm = 10000000;
+		double norm = 10000000;
 		for (GeoConstruction cons : constructions) {
 			if (cons instanceof Point) {
-				if (cons instanceof FreePoint) {
+				if (cons instanceof FreePoint) {
 					// TODO put real randomness here
-					double x = (double) cons.hashCode() + 1;
+					double x = (double) cons.hashCode() + 1;
 					double y = (double) coords.hashCode() + 3;
 					// TODO debug
 					/*
@@ -609,6 +652,25 @@ public class AreaMethodProver implements TheoremProver {
 		}
 	}
 	
+	/**
+	 * Checks whether a formula which contains only free points is certainly non-zero, by evaluating it
+	 * in interval arithmetic for fixed pseudo-random coordinates of free points. When this is the case, the
+	 * formula can't be transformed to zero and the statement is false, so the expensive
+	 * transformation to independant variables can be skipped.
+	 */
+	private boolean isCertainlyNonZero(AMExpression expr) {
+		HashMap<String, FloatCoordinates> freePointsCoords = new HashMap<String, FloatCoordinates>();
+		Random random = new Random(FREE_POINTS_SEED);
+		for (GeoConstruction cons : constructions) {
+			if (cons instanceof FreePoint) {
+				double x = random.nextDouble();
+				double y = random.nextDouble();
+				freePointsCoords.put(cons.getGeoObjectLabel(), new FloatCoordinates(x, y));
+			}
+		}
+		return expr.testInterval(freePointsCoords).signum() != 0;
+	}
+	
 	/**
 	 * Verifies that a given formula is zero, by approximating its actual value.
 	 */
@@ -668,5 +730,5 @@ public class AreaMethodProver implements TheoremProver {
 		debug("P_ama = " + segment.testValue(coords) + " // ", segment); // 25
 		debug("===========================");
 	}
-	*/
+	*/
 }
\ No newline at end of file
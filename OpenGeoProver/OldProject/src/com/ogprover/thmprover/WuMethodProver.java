@@ -9,12 +9,19 @@ import java.io.IOException;
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OGPParameters;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.FractionFreeLinearSolver;
 import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.ModularLinearSolver;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
+import com.ogprover.utilities.metrics.MetricsSpan;
+import com.ogprover.utilities.metrics.OGPMetrics;
 
 /**
 * <dl>
@@ -72,7 +79,45 @@ public class WuMethodProver extends AlgebraicMethodProver {
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
 		}
+		// linear system of hypotheses has unique solution, so statement is
+		// decided by substitution of that solution without triangulation
+		if (isSystemLinear) {
+			MetricsSpan linearSystemSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_LINEAR_SYSTEM);
+			ModularLinearSolver solver = ModularLinearSolver.createSolver(hypotheses);
+			boolean isRefuted = (solver != null && solver.isStatementRefuted(statement));
+			FractionFreeLinearSolver exactSolver = null;
+			UPolynomial substitutedStatement = null;
+			
+			// statement which vanishes modulo prime numbers is checked by exact solution
+			if (solver != null && !isRefuted) {
+				exactSolver = FractionFreeLinearSolver.createSolver(hypotheses);
+				if (exactSolver != null)
+					substitutedStatement = exactSolver.substituteSolution(statement);
+			}
+			linearSystemSpan.end();
+			if (substitutedStatement != null) {
+				if (!substitutedStatement.isZero()) {
+					logger.info("Statement doesn't vanish for exact solution of linear system of hypotheses.");
+					return this.writeLinearSystemConclusion("The system of hypotheses is linear and it has been solved exactly by fraction-free elimination. The conclusion does not vanish for its solution, so the final remainder is not zero and triangulation is not needed.", TheoremProver.THEO_PROVE_RET_CODE_FALSE);
+				}
+				
+				// determinant of system is NDG condition
+				XPolynomial determinant = new XPolynomial();
+				determinant.addTerm(new XTerm(new UFraction(exactSolver.getDeterminant())));
+				determinant.reduceUTerms(false);
+				if (!determinant.equals(new XPolynomial(1)) && !this.theorem.getNDGConditions().containsPolynomial(determinant))
+					this.theorem.getNDGConditions().addXPoly(determinant);
+				logger.info("Statement vanishes for exact solution of linear system of hypotheses.");
+				return this.writeLinearSystemConclusion("The system of hypotheses is linear and it has been solved exactly by fraction-free elimination. The conclusion vanishes for its solution when determinant of the system is not zero, so the final remainder is zero and triangulation is not needed.", TheoremProver.THEO_PROVE_RET_CODE_TRUE);
+			}
+			if (isRefuted) {
+				logger.info("Statement doesn't vanish for solution of linear system of hypotheses.");
+				return this.writeLinearSystemConclusion("The system of hypotheses is linear and it has been solved modulo prime numbers for random values of independent variables. The conclusion does not vanish for these solutions, so the final remainder is not zero and triangulation is not needed.", TheoremProver.THEO_PROVE_RET_CODE_FALSE); // theorem has been disproved
+			}
+		}
+		MetricsSpan triangulationSpan = OpenGeoProver.settings.getMetrics().startSpan(OGPMetrics.SPAN_TRIANGULATION);
 		retCode = hypotheses.triangulate();
+		triangulationSpan.end();
 		if (writeToReport) {
 			try {
 				if (retCode == OGPConstants.ERR_CODE_SPACE) {
@@ -232,4 +277,31 @@ public class WuMethodProver extends AlgebraicMethodProver {
 		return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
 	}
 	
+	/**
+	 * Method that writes conclusion about statement of theorem whose
+	 * linear system of hypotheses has been solved.
+	 * 
+	 * @param text		Text of conclusion
+	 * @param retCode	Return code of prover
+	 * @return			Passed in return code, or general error if
+	 * 					writing to output has failed
+	 */
+	private int writeLinearSystemConclusion(String text, int retCode) {
+		OGPOutput output = OpenGeoProver.settings.getOutput();
+		
+		if (OpenGeoProver.settings.getParameters().createReport()) {
+			try {
+				output.openParagraph();
+				output.writePlainText(text);
+				output.closeParagraph();
+				output.closeSection();
+			} catch (IOException e) {
+				OpenGeoProver.settings.getLogger().error("Failed to write to output file(s).");
+				output.close();
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+		}
+		return retCode;
+	}
+	
 }
\ No newline at end of file
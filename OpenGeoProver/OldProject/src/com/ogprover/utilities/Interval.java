@@ -0,0 +1,292 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.utilities;
+
+import java.math.BigInteger;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for closed interval of real numbers, used for certified numeric
+ * 		evaluation. Each arithmetic operation rounds its bounds outwards, so the
+ * 		resulting interval always contains the exact result of operation applied
+ * 		to any numbers from operands. When the interval doesn't contain zero, the
+ * 		sign of exact value is decided rigorously, without comparisons with epsilon.
+ * 		Objects of this class are immutable.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class Interval {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Interval that contains all real numbers - result of operations whose
+	 * value can't be bounded (e.g. division by interval that contains zero)
+	 */
+	public static final Interval ENTIRE = new Interval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+	/**
+	 * Lower bound of interval
+	 */
+	private final double lo;
+	/**
+	 * Upper bound of interval
+	 */
+	private final double hi;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the lower bound of interval
+	 */
+	public double getLowerBound() {
+		return lo;
+	}
+
+	/**
+	 * @return the upper bound of interval
+	 */
+	public double getUpperBound() {
+		return hi;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param lo	Lower bound
+	 * @param hi	Upper bound
+	 */
+	public Interval(double lo, double hi) {
+		if (Double.isNaN(lo) || Double.isNaN(hi)) {
+			this.lo = Double.NEGATIVE_INFINITY;
+			this.hi = Double.POSITIVE_INFINITY;
+		}
+		else {
+			this.lo = lo;
+			this.hi = hi;
+		}
+	}
+
+	/**
+	 * Constructor of interval which contains single number
+	 *
+	 * @param value		Number which is exactly represented by double value
+	 */
+	public Interval(double value) {
+		this(value, value);
+	}
+
+	/**
+	 * Method that makes interval which contains passed in integer number
+	 * (which doesn't need to be exactly represented by double value).
+	 *
+	 * @param value		Integer number
+	 * @return			Interval with the integer
+	 */
+	public static Interval valueOf(BigInteger value) {
+		double d = value.doubleValue();
+
+		if (value.bitLength() <= 53)
+			return new Interval(d); // exact conversion
+		return new Interval(roundDown(d), roundUp(d));
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "[" + this.lo + ", " + this.hi + "]";
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param d		Double number
+	 * @return		The greatest double which is less than passed in number
+	 */
+	private static double roundDown(double d) {
+		return Math.nextAfter(d, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * @param d		Double number
+	 * @return		The smallest double which is greater than passed in number
+	 */
+	private static double roundUp(double d) {
+		return Math.nextUp(d);
+	}
+
+	/**
+	 * Method that makes interval from bounds computed with rounding to nearest,
+	 * by moving them outwards.
+	 *
+	 * @param lo	Lower bound rounded to nearest
+	 * @param hi	Upper bound rounded to nearest
+	 * @return		Interval that contains exact bounds
+	 */
+	private static Interval outward(double lo, double hi) {
+		return new Interval(roundDown(lo), roundUp(hi));
+	}
+
+	/**
+	 * @return	True if this interval contains zero, false otherwise
+	 */
+	public boolean containsZero() {
+		return this.lo <= 0 && this.hi >= 0;
+	}
+
+	/**
+	 * Method that determines sign of all numbers from this interval.
+	 *
+	 * @return	1 if all numbers are positive, -1 if all numbers are negative and
+	 * 			0 if interval contains zero, i.e. the sign can't be decided
+	 */
+	public int signum() {
+		if (this.lo > 0)
+			return 1;
+		if (this.hi < 0)
+			return -1;
+		return 0;
+	}
+
+	/**
+	 * @param i		Interval to add
+	 * @return		Sum of this and passed in interval
+	 */
+	public Interval add(Interval i) {
+		return outward(this.lo + i.lo, this.hi + i.hi);
+	}
+
+	/**
+	 * @param i		Interval to subtract
+	 * @return		Difference of this and passed in interval
+	 */
+	public Interval subtract(Interval i) {
+		return outward(this.lo - i.hi, this.hi - i.lo);
+	}
+
+	/**
+	 * @return		Interval with numbers opposite to numbers from this interval
+	 */
+	public Interval negate() {
+		return new Interval(-this.hi, -this.lo);
+	}
+
+	/**
+	 * @param i		Interval to multiply with
+	 * @return		Product of this and passed in interval
+	 */
+	public Interval multiply(Interval i) {
+		double p1 = this.lo * i.lo;
+		double p2 = this.lo * i.hi;
+		double p3 = this.hi * i.lo;
+		double p4 = this.hi * i.hi;
+
+		if (Double.isNaN(p1) || Double.isNaN(p2) || Double.isNaN(p3) || Double.isNaN(p4))
+			return ENTIRE; // zero multiplied by infinity
+		return outward(Math.min(Math.min(p1, p2), Math.min(p3, p4)), Math.max(Math.max(p1, p2), Math.max(p3, p4)));
+	}
+
+	/**
+	 * @param i		Divisor interval
+	 * @return		Quotient of this and passed in interval, or interval with all
+	 * 				real numbers if divisor contains zero
+	 */
+	public Interval divide(Interval i) {
+		if (i.containsZero())
+			return ENTIRE;
+
+		double q1 = this.lo / i.lo;
+		double q2 = this.lo / i.hi;
+		double q3 = this.hi / i.lo;
+		double q4 = this.hi / i.hi;
+
+		if (Double.isNaN(q1) || Double.isNaN(q2) || Double.isNaN(q3) || Double.isNaN(q4))
+			return ENTIRE;
+		return outward(Math.min(Math.min(q1, q2), Math.min(q3, q4)), Math.max(Math.max(q1, q2), Math.max(q3, q4)));
+	}
+
+	/**
+	 * Method that raises this interval to non-negative integer power. Unlike repeated
+	 * multiplication, result of even power is non-negative interval and result of
+	 * odd power is computed from the bounds since such power is monotone.
+	 *
+	 * @param exp	Non-negative exponent
+	 * @return		Power of this interval
+	 */
+	public Interval power(int exp) {
+		if (exp == 0)
+			return new Interval(1);
+		if (exp == 1)
+			return this;
+
+		if ((exp & 1) != 0)
+			return new Interval(new Interval(this.lo).powerOfNonNegative(exp).lo, new Interval(this.hi).powerOfNonNegative(exp).hi);
+
+		double maxAbs = Math.max(Math.abs(this.lo), Math.abs(this.hi));
+		double minAbs = this.containsZero() ? 0 : Math.min(Math.abs(this.lo), Math.abs(this.hi));
+		return new Interval(minAbs, maxAbs).powerOfNonNegative(exp);
+	}
+
+	/**
+	 * Method that raises this interval to power by repeated squaring; result is tight
+	 * when this interval doesn't contain negative numbers or contains single number.
+	 *
+	 * @param exp	Positive exponent
+	 * @return		Power of this interval
+	 */
+	private Interval powerOfNonNegative(int exp) {
+		Interval res = null;
+		Interval base = this;
+
+		while (exp > 0) {
+			if ((exp & 1) != 0)
+				res = (res == null) ? base : res.multiply(base);
+			exp >>= 1;
+			if (exp > 0)
+				base = base.multiply(base);
+		}
+		return res;
+	}
+}
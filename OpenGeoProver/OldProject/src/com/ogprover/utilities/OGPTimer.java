@@ -16,7 +16,7 @@ import java.util.Timer;
 * @author Ivan Petrovic
 */
 public class OGPTimer extends Timer {
-	private boolean timeIsUp = false;
+	private volatile boolean timeIsUp = false; // set by thread of timer
 	private OGPTimerTask timerTask;
 	
 	/**
@@ -4,16 +4,28 @@
 
 package com.ogprover.utilities.io;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import com.ogprover.main.OpenGeoProver;
 
 /**
 * <dl>
 * <dt><b>Class description:</b></dt>
-* <dd>Class for output files</dd>
+* <dd>Class for output files.
+*     <br>
+*     Text is encoded (in UTF-8) by single encoder into single byte buffer,
+*     which is written to file channel only when it becomes full, when
+*     writer is flushed or when it is closed. Therefore writing of text
+*     doesn't make any copies of it, no matter how big it is.</dd>
 * </dl>
 * 
 * @version 1.00
@@ -35,6 +47,7 @@ public class CustomFileWriter extends CustomFile {
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
 	
 	public static final int BUFFER_SIZE = 4096; // 4K for size of output buffer
+	public static final String OUTPUT_CHARSET_NAME = "UTF-8"; // encoding of output files
 	public static final String OUTPUT_DIR_NAME = "output"; // default name of destination directory for all output files (from current working directory, whatever it is)
 	
 	/**
@@ -44,11 +57,19 @@ public class CustomFileWriter extends CustomFile {
 	/**
 	 * Stream for writing
 	 */
-	private OutputStream outputStream = null;
+	private FileOutputStream outputStream = null;
+	/**
+	 * Channel of output stream used for writing of encoded text
+	 */
+	private FileChannel outputChannel = null;
+	/**
+	 * Encoder of text
+	 */
+	private CharsetEncoder encoder = null;
 	/**
-	 * Buffered output stream for writing
+	 * Buffer with encoded text that is waiting to be written to file
 	 */
-	private BufferedOutputStream buffOS = null;
+	private ByteBuffer byteBuffer = null;
 	
 	
 	
@@ -90,7 +111,11 @@ public class CustomFileWriter extends CustomFile {
 		// Create file object for output file inside output directory
 		this.outputFile = new File(outDir, CustomFile.buildBaseFileName(this.baseFileName, this.fileExtension));
 		this.outputStream = new FileOutputStream(this.outputFile);
-		this.buffOS = new BufferedOutputStream(this.outputStream);
+		this.outputChannel = this.outputStream.getChannel();
+		this.encoder = Charset.forName(CustomFileWriter.OUTPUT_CHARSET_NAME).newEncoder();
+		this.encoder.onMalformedInput(CodingErrorAction.REPLACE);
+		this.encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.byteBuffer = ByteBuffer.allocateDirect(CustomFileWriter.BUFFER_SIZE);
 	}
 	
 	/**
@@ -143,37 +168,76 @@ public class CustomFileWriter extends CustomFile {
 	/**
 	 * Method for writing to file.
 	 * 
-	 * @param s	String object to be written to file
+	 * @param s	Text to be written to file (string, string builder etc.)
 	 * @throws IOException
 	 */
-	public void write(String s) throws IOException {
+	public void write(CharSequence s) throws IOException {
 		if (s == null)
 			return;
 		
-		char[] charBuffer = s.toCharArray();
-		byte[] byteBuffer = new byte[CustomFileWriter.BUFFER_SIZE];
-		int bytesRemaining = 0; // number of bytes in array that are waiting to be written to stream
+		this.write(s, 0, s.length());
+	}
+	
+	/**
+	 * Method for writing part of text to file.
+	 * 
+	 * @param s			Text whose part is to be written to file
+	 * @param start		Index of first character to be written
+	 * @param end		Index after last character to be written
+	 * @throws IOException
+	 */
+	public void write(CharSequence s, int start, int end) throws IOException {
+		if (s == null || start >= end)
+			return;
 		
-		for (int ii = 0, size = s.length(); ii < size; ii++) {
-			if (bytesRemaining >= CustomFileWriter.BUFFER_SIZE) {
-				this.outputStream.write(byteBuffer);
-				this.buffOS.flush();
-				bytesRemaining = 0;
-			}
+		CharBuffer charBuffer = CharBuffer.wrap(s, start, end); // view of text - characters are not copied
+		
+		this.encoder.reset();
+		while (true) {
+			CoderResult result = this.encoder.encode(charBuffer, this.byteBuffer, true);
 			
-			byteBuffer[bytesRemaining] = (byte)charBuffer[ii];
-			bytesRemaining++;
+			if (result.isOverflow())
+				this.writeBuffer(); // buffer is full - write it and continue encoding
+			else
+				break; // whole text is encoded (malformed characters are replaced)
 		}
-		if (bytesRemaining > 0)
-			this.outputStream.write(byteBuffer, 0, bytesRemaining);
-		this.buffOS.flush();		
 	}
 	
 	/**
-	 * Method for safe closing of output stream.
+	 * Method that writes encoded text from buffer to file channel.
+	 * 
+	 * @throws IOException
+	 */
+	private void writeBuffer() throws IOException {
+		this.byteBuffer.flip();
+		while (this.byteBuffer.hasRemaining())
+			this.outputChannel.write(this.byteBuffer);
+		this.byteBuffer.clear();
+	}
+	
+	/**
+	 * Method that writes all text which is waiting in buffer to file.
+	 * 
+	 * @throws IOException
+	 */
+	public void flush() throws IOException {
+		if (this.outputChannel != null && this.byteBuffer.position() > 0)
+			this.writeBuffer();
+	}
+	
+	/**
+	 * Method for safe closing of output stream. Text which is waiting in
+	 * buffer is written to file first; if that fails, error is logged since
+	 * end of file is lost.
 	 */
 	public void close() {
 		if (this.outputStream != null) {
+			try {
+				if (this.outputChannel.isOpen())
+					this.flush();
+			} catch (IOException e) {
+				OpenGeoProver.settings.getLogger().error("Failed to write end of output file " + this.outputFile.getAbsolutePath() + ": " + e.getMessage());
+			}
 			try {
 				this.outputStream.close();
 			} catch (IOException e) {
@@ -0,0 +1,243 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.io;
+
+import java.io.IOException;
+import java.util.Stack;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for JSON output files. JSON text is written in compact form
+ *     (without white spaces) directly to file, value by value, therefore
+ *     whole document is never kept in memory. Writer only keeps track of
+ *     opened objects and arrays, to put commas between their members.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class JSONFileWriter extends CustomFileWriter {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Hexadecimal digits used for escaping of control characters
+	 */
+	private static final String HEX_DIGITS = "0123456789abcdef";
+
+	/**
+	 * Opened objects and arrays: for each of them there is flag which is
+	 * true if nothing has been written to it yet
+	 */
+	private Stack<Boolean> emptyScopes = new Stack<Boolean>();
+	/**
+	 * Flag which is true if name of object member has just been written
+	 * (and its value is expected)
+	 */
+	private boolean nameWritten = false;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method.
+	 *
+	 * @param fileName		Name of file to be created (extension "json" is added)
+	 * @throws IOException
+	 */
+	public JSONFileWriter(String fileName) throws IOException {
+		super(fileName, "json");
+	}
+
+	/**
+	 * Constructor method.
+	 *
+	 * @param dirName		Path or name of output directory
+	 * @param fileName		Name of file to be created (extension "json" is added)
+	 * @throws IOException
+	 */
+	public JSONFileWriter(String dirName, String fileName) throws IOException {
+		super(dirName, fileName, "json");
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that writes separator before new value, if it is needed.
+	 *
+	 * @throws IOException
+	 */
+	private void beginValue() throws IOException {
+		if (this.nameWritten) {
+			this.nameWritten = false; // value of object member - separator has been written with its name
+			return;
+		}
+		if (!this.emptyScopes.isEmpty()) {
+			if (this.emptyScopes.peek().booleanValue())
+				this.emptyScopes.set(this.emptyScopes.size() - 1, Boolean.FALSE);
+			else
+				this.write(",");
+		}
+	}
+
+	/**
+	 * Method that opens new JSON object.
+	 *
+	 * @throws IOException
+	 */
+	public void beginObject() throws IOException {
+		this.beginValue();
+		this.emptyScopes.push(Boolean.TRUE);
+		this.write("{");
+	}
+
+	/**
+	 * Method that closes last opened JSON object.
+	 *
+	 * @throws IOException
+	 */
+	public void endObject() throws IOException {
+		this.emptyScopes.pop();
+		this.write("}");
+	}
+
+	/**
+	 * Method that opens new JSON array.
+	 *
+	 * @throws IOException
+	 */
+	public void beginArray() throws IOException {
+		this.beginValue();
+		this.emptyScopes.push(Boolean.TRUE);
+		this.write("[");
+	}
+
+	/**
+	 * Method that closes last opened JSON array.
+	 *
+	 * @throws IOException
+	 */
+	public void endArray() throws IOException {
+		this.emptyScopes.pop();
+		this.write("]");
+	}
+
+	/**
+	 * Method that writes name of next member of opened object.
+	 *
+	 * @param name		Name of member
+	 * @throws IOException
+	 */
+	public void writeName(String name) throws IOException {
+		this.beginValue();
+		this.writeString(name);
+		this.write(":");
+		this.nameWritten = true;
+	}
+
+	/**
+	 * Method that writes text value (or null if text is null).
+	 *
+	 * @param value		Text value
+	 * @throws IOException
+	 */
+	public void writeValue(String value) throws IOException {
+		this.beginValue();
+		if (value == null)
+			this.write("null");
+		else
+			this.writeString(value);
+	}
+
+	/**
+	 * Method that writes integer value.
+	 *
+	 * @param value		Integer value
+	 * @throws IOException
+	 */
+	public void writeValue(long value) throws IOException {
+		this.beginValue();
+		this.write(String.valueOf(value));
+	}
+
+	/**
+	 * Method that writes boolean value.
+	 *
+	 * @param value		Boolean value
+	 * @throws IOException
+	 */
+	public void writeValue(boolean value) throws IOException {
+		this.beginValue();
+		this.write(value ? "true" : "false");
+	}
+
+	/**
+	 * Method that writes text in quotes, with escaped special characters.
+	 * Parts of text without special characters are written directly from
+	 * passed text.
+	 *
+	 * @param s		Text to write
+	 * @throws IOException
+	 */
+	private void writeString(String s) throws IOException {
+		int start = 0;
+
+		this.write("\"");
+		for (int ii = 0, size = s.length(); ii < size; ii++) {
+			char c = s.charAt(ii);
+			String escaped = null;
+
+			switch (c) {
+			case '"':
+				escaped = "\\\"";
+				break;
+			case '\\':
+				escaped = "\\\\";
+				break;
+			case '\n':
+				escaped = "\\n";
+				break;
+			case '\r':
+				escaped = "\\r";
+				break;
+			case '\t':
+				escaped = "\\t";
+				break;
+			default:
+				if (c < 0x20)
+					escaped = "\\u00" + HEX_DIGITS.charAt(c >> 4) + HEX_DIGITS.charAt(c & 0xF);
+			}
+
+			if (escaped != null) {
+				this.write(s, start, ii);
+				this.write(escaped);
+				start = ii + 1;
+			}
+		}
+		this.write(s, start, s.length());
+		this.write("\"");
+	}
+}
@@ -27,9 +27,14 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 	private boolean subSectionOpened;
 	private boolean paragraphOpened;
 	private Vector<String> lastEnumCommandList = null;
+	private StringBuilder polyText = new StringBuilder(); // text of polynomial being written, reused for all polynomials
 	
 	public LaTeXFileWriter(String fileName) throws IOException{
-		super(fileName, "tex");
+		this(CustomFileWriter.OUTPUT_DIR_NAME, fileName);
+	}
+	
+	public LaTeXFileWriter(String dirName, String fileName) throws IOException{
+		super(dirName, fileName, "tex");
 		this.documentOpened = false;
 		this.sectionOpened = false;
 		this.subSectionOpened = false;
@@ -337,9 +342,14 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 	
 	public void writePolynomial(int index, XPolynomial xpoly)
 			throws IOException {
+		this.writePolynomial(index, new ReportPolynomial(xpoly, false));
+	}
+	
+	public void writePolynomial(int index, ReportPolynomial rpoly)
+			throws IOException {
 		StringBuilder sb = new StringBuilder();
 		int outIndex = index + 1;
-		int numOfTerms = xpoly.getTerms().size();
+		int numOfTerms = rpoly.getNumOfTerms();
 		
 		if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM) {
 			sb.append("\n\\hspace*{2em} \\parbox{0.65\\textwidth}{\\textit{Polynomial too big for output (number of terms is $");
@@ -347,13 +357,12 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 			sb.append("$)}}\n\n");
 		}
 		else {
-			String latexXPoly = xpoly.printToLaTeX();
-			int len = latexXPoly.length();
+			this.polyText.setLength(0);
+			int len = rpoly.getPolynomial().printToLaTeX(this.polyText, OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM);
 			
-			if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM ||
-				latexXPoly.startsWith("??")) {
+			if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM || len < 0) {
 				sb.append("\n\\hspace*{2em} \\parbox{0.65\\textwidth}{\\textit{Polynomial too big for output (text size is ");
-				if (latexXPoly.startsWith("??")) {
+				if (len < 0) {
 					sb.append("greater than $");
 					sb.append(OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM);
 				}
@@ -373,41 +382,44 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 					sb.append("g & = & ");
 				else
 					sb.append("p_{" + outIndex + "} & = & ");
+				this.write(sb);
 				
-				int startIndex = 0;
-				String tempPolyOutput = latexXPoly;
-				int endIndex = tempPolyOutput.indexOf("$$"); // "$$" is used to separate chunks
-				boolean firstChunk = true;
-				
-				while (endIndex >= 0) {
-					if (!firstChunk)
-						sb.append("\\\\ \n & & ");
-					else
-						firstChunk = false;
-					
-					sb.append(tempPolyOutput.substring(startIndex, endIndex));
-					startIndex = endIndex + 2; // skip "$$"
-					if (startIndex < tempPolyOutput.length()) {
-						tempPolyOutput = tempPolyOutput.substring(startIndex);
-						endIndex = tempPolyOutput.indexOf("$$");
-						startIndex = 0;
-					}
-					else {
-						tempPolyOutput = null;
-						endIndex = -1;
-					}
-				}
+				this.writePolynomialChunks(this.polyText);
 				
-				if (tempPolyOutput != null && tempPolyOutput.length() > 0) {
-					if (!firstChunk)
-						sb.append("\\\\ \n & & ");
-					sb.append(tempPolyOutput);
-				}
+				sb.setLength(0);
 				sb.append("\n\\end{eqnarray*}\n");
 			}
 		}
 		
-		this.write(sb.toString());
+		this.write(sb);
+	}
+	
+	/**
+	 * Method that writes LaTeX text of polynomial directly to file, chunk
+	 * by chunk, where each chunk is in separate line of eqnarray.
+	 * 
+	 * @param text		LaTeX text of polynomial (chunks are separated by "$$")
+	 * @throws IOException
+	 */
+	private void writePolynomialChunks(StringBuilder text) throws IOException {
+		int startIndex = 0, size = text.length();
+		boolean firstChunk = true;
+		
+		while (startIndex < size) {
+			int endIndex = text.indexOf("$$", startIndex); // "$$" is used to separate chunks
+			
+			if (!firstChunk)
+				this.write("\\\\ \n & & ");
+			else
+				firstChunk = false;
+			
+			if (endIndex < 0) {
+				this.write(text, startIndex, size);
+				break;
+			}
+			this.write(text, startIndex, endIndex);
+			startIndex = endIndex + 2; // skip "$$"
+		}
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
@@ -419,68 +431,45 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 		if (xpolySys == null || xpolySys.getPolynomials().size() == 0)
 			return;
 		
-		StringBuilder sb = new StringBuilder();
+		Vector<ReportPolynomial> rpolys = new Vector<ReportPolynomial>(xpolySys.getPolynomials().size());
+		for (XPolynomial xp : xpolySys.getPolynomials())
+			rpolys.add(new ReportPolynomial(xp, false));
+		this.writePolySystem(rpolys);
+	}
+	
+	public void writePolySystem(Vector<ReportPolynomial> rpolys) throws IOException {
+		if (rpolys == null || rpolys.size() == 0)
+			return;
+		
 		int ii = 1;
 		boolean firstPoly = true;
 		
-		sb.append("\n\\begin{eqnarray*}\n");
+		this.write("\n\\begin{eqnarray*}\n");
 		
-		for (XPolynomial xp : xpolySys.getPolynomials()) {
-			int numOfTerms = xp.getTerms().size();
+		for (ReportPolynomial rp : rpolys) {
+			int numOfTerms = rp.getNumOfTerms();
 			
 			if (!firstPoly)
-				sb.append("\\\\ \n");
+				this.write("\\\\ \n");
 			else
 				firstPoly = false;
 			
-			sb.append("p_{" + ii + "} & = & ");
+			this.write("p_{" + ii + "} & = & ");
 			if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM)
-				sb.append("\\ldots");
+				this.write("\\ldots");
 			else {
-				String latexXPoly = xp.printToLaTeX();
-				int len = latexXPoly.length();
+				this.polyText.setLength(0);
+				int len = rp.getPolynomial().printToLaTeX(this.polyText, OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM);
 				
-				if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM ||
-					latexXPoly.startsWith("??"))
-					sb.append("\\ldots");
-				else {
-					int startIndex = 0;
-					String tempPolyOutput = latexXPoly;
-					int endIndex = tempPolyOutput.indexOf("$$"); // "$$" is used to separate chunks
-					boolean firstChunk = true;
-					
-					while (endIndex >= 0) {
-						if (!firstChunk)
-							sb.append("\\\\ \n & & ");
-						else
-							firstChunk = false;
-						
-						sb.append(tempPolyOutput.substring(startIndex, endIndex));
-						startIndex = endIndex + 2; // skip "$$"
-						if (startIndex < tempPolyOutput.length()) {
-							tempPolyOutput = tempPolyOutput.substring(startIndex);
-							endIndex = tempPolyOutput.indexOf("$$");
-							startIndex = 0;
-						}
-						else {
-							tempPolyOutput = null;
-							endIndex = -1;
-						}
-					}
-					
-					if (tempPolyOutput != null && tempPolyOutput.length() > 0) {
-						if (!firstChunk)
-							sb.append("\\\\ \n & & ");
-						sb.append(tempPolyOutput);
-					}
-				}
+				if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM || len < 0)
+					this.write("\\ldots");
+				else
+					this.writePolynomialChunks(this.polyText);
 			}
 			ii++;
 		}
 		
-		sb.append("\n\\end{eqnarray*}\n");
-		
-		this.write(sb.toString());
+		this.write("\n\\end{eqnarray*}\n");
 	}
 	
 	public boolean isDocumentOpened() {
@@ -5,7 +5,10 @@
 package com.ogprover.utilities.io;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Vector;
 
+import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.geoconstruction.Point;
@@ -13,7 +16,16 @@ import com.ogprover.pp.tp.geoconstruction.Point;
 /**
 * <dl>
 * <dt><b>Class description:</b></dt>
-* <dd>Class for output report files of the OGP prover</dd>
+* <dd>Class for output report files of the OGP prover.
+*     <br>
+*     Output can be deferred: in that case write actions are only recorded
+*     as report events (with copies of polynomials that are small enough
+*     to be printed) and output files are rendered from these events in
+*     separate thread, when output is closed. This way formatting of
+*     polynomials to LaTeX and XML is not performed during proving.
+*     Status of deferred output (which parts of document are opened) is
+*     tracked from recorded events, same as output files would track it
+*     if events were passed to them immediately.</dd>
 * </dl>
 * 
 * @version 1.00
@@ -23,6 +35,13 @@ public class OGPOutput implements SpecialFileFormatting {
 	private LaTeXFileWriter latexFile;
 	private XMLFileWriter xmlFile;
 	private boolean closed; // it is true if output is closed for writing 
+	private ArrayList<ReportEvent> recordedEvents = null; // events waiting to be rendered; it is null when output is not deferred
+	private Thread rendererThread = null; // thread which renders recorded events to output files
+	// status of deferred output after recorded events
+	private boolean documentOpened = false;
+	private boolean sectionOpened = false;
+	private boolean subSectionOpened = false;
+	private boolean paragraphOpened = false;
 	
 	public OGPOutput() {
 		this.setLatexFile(null);
@@ -34,19 +53,19 @@ public class OGPOutput implements SpecialFileFormatting {
 		this.setLatexFile(latexFile);
 		this.setXmlFile(xmlFile);
 	}
-
+	
 	public void setLatexFile(LaTeXFileWriter latexFile) {
 		this.latexFile = latexFile;
 	}
-
+	
 	public LaTeXFileWriter getLatexFile() {
 		return latexFile;
 	}
-
+	
 	public void setXmlFile(XMLFileWriter xmlFile) {
 		this.xmlFile = xmlFile;
 	}
-
+	
 	public XMLFileWriter getXmlFile() {
 		return xmlFile;
 	}
@@ -54,282 +73,238 @@ public class OGPOutput implements SpecialFileFormatting {
 	public void setClosed(boolean closed) {
 		this.closed = closed;
 	}
-
+	
 	public boolean isClosed() {
 		return closed;
 	}
-
-	public void openDocument(String documentType, String title, String author)
-			throws IOException {
-		if (this.closed)
+	
+	/**
+	 * Method for turning on deferred rendering of output files. It should be
+	 * called before anything is written to output.
+	 *
+	 * @param deferred	True if output files are rendered when output is closed,
+	 * 					false if they are written immediately
+	 */
+	public void setDeferred(boolean deferred) {
+		if (deferred && this.recordedEvents == null) {
+			// recording starts from current status of output files
+			this.documentOpened = this.isDocumentOpened();
+			this.sectionOpened = this.isSectionOpened();
+			this.subSectionOpened = this.isSubSectionOpened();
+			this.paragraphOpened = this.isParagraphOpened();
+			this.recordedEvents = new ArrayList<ReportEvent>();
+		}
+		else if (!deferred)
+			this.recordedEvents = null;
+	}
+	
+	public boolean isDeferred() {
+		return this.recordedEvents != null;
+	}
+	
+	/**
+	 * Method that passes write action to output files, or records it
+	 * for later rendering when output is deferred.
+	 *
+	 * @param event		Write action
+	 * @throws IOException
+	 */
+	private void dispatch(ReportEvent event) throws IOException {
+		if (this.closed || (this.latexFile == null && this.xmlFile == null))
 			return;
 		
-		if (this.latexFile != null)
-			this.latexFile.openDocument(documentType, title, author);
-		if (this.xmlFile != null)
-			this.xmlFile.openDocument(documentType, title, author);
-	}
-
-	public void closeDocument() throws IOException {
-		if (this.closed)
+		if (this.recordedEvents != null) {
+			event.makeSnapshot();
+			this.recordedEvents.add(event);
+			this.updateStatus(event);
 			return;
+		}
 		
 		if (this.latexFile != null)
-			this.latexFile.closeDocument();
+			event.replay(this.latexFile);
 		if (this.xmlFile != null)
-			this.xmlFile.closeDocument();
+			event.replay(this.xmlFile);
 	}
-
+	
+	/**
+	 * Method that updates status of deferred output after recorded event,
+	 * in same way as output files update their status when event is
+	 * passed to them.
+	 *
+	 * @param event		Recorded write action
+	 */
+	private void updateStatus(ReportEvent event) {
+		switch (event.getType()) {
+		case ReportEvent.EVENT_OPEN_DOCUMENT:
+			this.documentOpened = true;
+			break;
+		case ReportEvent.EVENT_CLOSE_DOCUMENT:
+			if (this.documentOpened) {
+				this.paragraphOpened = false;
+				this.subSectionOpened = false;
+				this.sectionOpened = false;
+				this.documentOpened = false;
+			}
+			break;
+		case ReportEvent.EVENT_OPEN_SECTION:
+			this.paragraphOpened = false;
+			this.subSectionOpened = false;
+			this.sectionOpened = true;
+			break;
+		case ReportEvent.EVENT_CLOSE_SECTION:
+			this.sectionOpened = false;
+			break;
+		case ReportEvent.EVENT_OPEN_SUBSECTION:
+			this.paragraphOpened = false;
+			this.subSectionOpened = true;
+			break;
+		case ReportEvent.EVENT_CLOSE_SUBSECTION:
+			this.subSectionOpened = false;
+			break;
+		case ReportEvent.EVENT_OPEN_PARAGRAPH:
+			this.paragraphOpened = true;
+			break;
+		case ReportEvent.EVENT_CLOSE_PARAGRAPH:
+			this.paragraphOpened = false;
+			break;
+		default:
+			break; // other events don't change status
+		}
+	}
+	
+	public void openDocument(String documentType, String title, String author)
+			throws IOException {
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_DOCUMENT, 0, new String[] {documentType, title, author}));
+	}
+	
+	public void closeDocument() throws IOException {
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_DOCUMENT, null));
+	}
+	
 	public void openSection(String title) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openSection(title);
-		if (this.xmlFile != null)
-			this.xmlFile.openSection(title);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_SECTION, title));
 	}
-
+	
 	public void closeSection() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeSection();
-		if (this.xmlFile != null)
-			this.xmlFile.closeSection();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_SECTION, null));
 	}
-
+	
 	public void openSubSection(String title, boolean hasNumeration)
 			throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openSubSection(title, hasNumeration);
-		if (this.xmlFile != null)
-			this.xmlFile.openSubSection(title, hasNumeration);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_SUBSECTION, title, 0, hasNumeration, null));
 	}
-
+	
 	public void closeSubSection() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeSubSection();
-		if (this.xmlFile != null)
-			this.xmlFile.closeSubSection();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_SUBSECTION, null));
 	}
-
+	
 	public void openParagraph() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openParagraph();
-		if (this.xmlFile != null)
-			this.xmlFile.openParagraph();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_PARAGRAPH, null));
 	}
-
+	
 	public void closeParagraph() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeParagraph();
-		if (this.xmlFile != null)
-			this.xmlFile.closeParagraph();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_PARAGRAPH, null));
 	}
-
+	
 	public void openEnum(String enumCommand) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openEnum(enumCommand);
-		if (this.xmlFile != null)
-			this.xmlFile.openEnum(enumCommand);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_ENUM, enumCommand));
 	}
-
+	
 	public void closeEnum(String enumCommand) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeEnum(enumCommand);
-		if (this.xmlFile != null)
-			this.xmlFile.closeEnum(enumCommand);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_ENUM, enumCommand));
 	}
-
+	
 	public void openItem() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openItem();
-		if (this.xmlFile != null)
-			this.xmlFile.openItem();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_ITEM, null));
 	}
-
+	
 	public void closeItem() throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeItem();
-		if (this.xmlFile != null)
-			this.xmlFile.closeItem();
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_ITEM, null));
 	}
-
+	
 	public void openItemWithDesc(String desc) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.openItemWithDesc(desc);
-		if (this.xmlFile != null)
-			this.xmlFile.openItemWithDesc(desc);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_OPEN_ITEM_WITH_DESC, desc));
 	}
-
+	
 	public void closeItemWithDesc(String desc) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.closeItemWithDesc(desc);
-		if (this.xmlFile != null)
-			this.xmlFile.closeItemWithDesc(desc);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_CLOSE_ITEM_WITH_DESC, desc));
 	}
-
+	
 	public void writePlainText(String text) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writePlainText(text);
-		if (this.xmlFile != null)
-			this.xmlFile.writePlainText(text);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_PLAIN_TEXT, text));
 	}
-
+	
 	public void writeFormattedText(String text, int formatType)
 			throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeFormattedText(text, formatType);
-		if (this.xmlFile != null)
-			this.xmlFile.writeFormattedText(text, formatType);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_FORMATTED_TEXT, text, formatType, false, null));
 	}
-
+	
 	public void writeProofText(String text) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeProofText(text);
-		if (this.xmlFile != null)
-			this.xmlFile.writeProofText(text);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_PROOF_TEXT, text));
 	}
-
+	
 	public void writeSingleLine(String text) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeSingleLine(text);
-		if (this.xmlFile != null)
-			this.xmlFile.writeSingleLine(text);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_SINGLE_LINE, text));
 	}
-
+	
 	public void writeBoldText(String text) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeBoldText(text);
-		if (this.xmlFile != null)
-			this.xmlFile.writeBoldText(text);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_BOLD_TEXT, text));
 	}
-
+	
 	public void writeEnumDescription(String desc) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeEnumDescription(desc);
-		if (this.xmlFile != null)
-			this.xmlFile.writeEnumDescription(desc);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_ENUM_DESCRIPTION, desc));
 	}
-
+	
 	public void writeEnumItem(String text) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writeEnumItem(text);
-		if (this.xmlFile != null)
-			this.xmlFile.writeEnumItem(text);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_ENUM_ITEM, text));
 	}
 	
 	public void writePointCoordinatesAssignment(Point P)
 			throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writePointCoordinatesAssignment(P);
-		if (this.xmlFile != null)
-			this.xmlFile.writePointCoordinatesAssignment(P);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POINT_COORDINATES_ASSIGNMENT, 0, P));
 	}
 	
 	public void writePointWithCoordinates(Point P)
 			throws IOException {
-		if (this.closed)
-			return;
-
-		if (this.latexFile != null)
-			this.latexFile.writePointWithCoordinates(P);
-		if (this.xmlFile != null)
-			this.xmlFile.writePointWithCoordinates(P);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POINT_WITH_COORDINATES, 0, P));
 	}
 	
 	public void writePolynomial(int index, XPolynomial xpoly)
 			throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writePolynomial(index, xpoly);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolynomial(index, xpoly);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POLYNOMIAL, index, xpoly));
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
 			throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writePolynomial(xpoly);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolynomial(xpoly);
+		this.writePolynomial(-2, xpoly);
 	}
 	
 	public void writePolySystem(XPolySystem xpolySys) throws IOException {
-		if (this.closed)
-			return;
-		
-		if (this.latexFile != null)
-			this.latexFile.writePolySystem(xpolySys);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolySystem(xpolySys);
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POLY_SYSTEM, 0, xpolySys));
 	}
 	
+	public void writePolynomial(int index, ReportPolynomial rpoly)
+			throws IOException {
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POLYNOMIAL, index, rpoly));
+	}
+	
+	public void writePolySystem(Vector<ReportPolynomial> rpolys) throws IOException {
+		this.dispatch(new ReportEvent(ReportEvent.EVENT_POLY_SYSTEM, 0, rpolys));
+	}
+	
+	/*
+	 * Status of output is status of output files, or status after recorded
+	 * events in deferred mode, since output files are not written until
+	 * output is closed.
+	 */
+	
 	public boolean isDocumentOpened() {
 		if (this.closed)
 			return false;
 		
+		if (this.recordedEvents != null)
+			return this.documentOpened;
+		
 		// since both files are written synchronously no matter which one is used
 		if (this.latexFile != null)
 			return this.latexFile.isDocumentOpened();
@@ -339,11 +314,14 @@ public class OGPOutput implements SpecialFileFormatting {
 		
 		return false;
 	}
-
+	
 	public boolean isSectionOpened() {
 		if (this.closed)
 			return false;
 		
+		if (this.recordedEvents != null)
+			return this.sectionOpened;
+		
 		// since both files are written synchronously no matter which one is used
 		if (this.latexFile != null)
 			return this.latexFile.isSectionOpened();
@@ -353,11 +331,14 @@ public class OGPOutput implements SpecialFileFormatting {
 		
 		return false;
 	}
-
+	
 	public boolean isSubSectionOpened() {
 		if (this.closed)
 			return false;
 		
+		if (this.recordedEvents != null)
+			return this.subSectionOpened;
+		
 		// since both files are written synchronously no matter which one is used
 		if (this.latexFile != null)
 			return this.latexFile.isSubSectionOpened();
@@ -367,34 +348,103 @@ public class OGPOutput implements SpecialFileFormatting {
 		
 		return false;
 	}
-
+	
 	public boolean isParagraphOpened() {
 		if (this.closed)
 			return false;
 		
+		if (this.recordedEvents != null)
+			return this.paragraphOpened;
+		
 		// since both files are written synchronously no matter which one is used
 		if (this.latexFile != null)
 			return this.latexFile.isParagraphOpened();
 		
 		if (this.xmlFile != null)
-			this.xmlFile.isParagraphOpened();
+			return this.xmlFile.isParagraphOpened();
 		
 		return false;
 	}
 	
 	/**
-	 * Method for closing output files.
+	 * Method for closing output files. If output is deferred, recorded
+	 * events are rendered to output files in separate thread, which
+	 * closes output files when it finishes.
 	 */
 	public void close() {
+		if (this.closed)
+			return;
+		
 		try {
-			this.closeDocument(); // finish formated text output 
+			this.closeDocument(); // finish formated text output
 		} catch (IOException e) {
 			// disregard this exception
 		}
+		this.closed = true; // forbid further write actions to this output
+		
+		if (this.recordedEvents != null) {
+			final ArrayList<ReportEvent> events = this.recordedEvents;
+			
+			this.recordedEvents = null;
+			this.rendererThread = new Thread("OGP-ReportRenderer") {
+				@Override
+				public void run() {
+					OGPOutput.this.renderEvents(events);
+				}
+			};
+			this.rendererThread.start();
+			return;
+		}
+		
+		this.closeFiles();
+	}
+	
+	/**
+	 * Method that waits until rendering of deferred output is finished.
+	 */
+	public void waitForRendering() {
+		Thread renderer = this.rendererThread;
+		
+		if (renderer == null)
+			return;
+		
+		try {
+			renderer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Method that renders recorded events to output files and closes them.
+	 *
+	 * @param events	Recorded events
+	 */
+	private void renderEvents(ArrayList<ReportEvent> events) {
+		try {
+			for (int ii = 0, size = events.size(); ii < size; ii++) {
+				ReportEvent event = events.get(ii);
+				
+				events.set(ii, null); // rendered event (with its polynomials) is not needed anymore
+				if (this.latexFile != null)
+					event.replay(this.latexFile);
+				if (this.xmlFile != null)
+					event.replay(this.xmlFile);
+			}
+		} catch (IOException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to write to output file(s).");
+		} finally {
+			this.closeFiles();
+		}
+	}
+	
+	/**
+	 * Method that closes output files.
+	 */
+	private void closeFiles() {
 		if (this.latexFile != null)
 			this.latexFile.close();
 		if (this.xmlFile != null)
 			this.xmlFile.close();
-		this.closed = true; // forbid further write actions to this output
 	}
-}
\ No newline at end of file
+}
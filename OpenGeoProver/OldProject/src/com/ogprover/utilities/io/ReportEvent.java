@@ -0,0 +1,283 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.io;
+
+import java.io.IOException;
+import java.util.Vector;
+
+import com.ogprover.polynomials.UXVariable;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for one write action to report (opening of section, writing
+ *     of text, polynomial etc.). Event is passed to output files by
+ *     replaying it on them. When report is rendered later, event has
+ *     to be made independent of prover objects, which could change
+ *     in the meantime: points and polynomials are then replaced by
+ *     their copies, while polynomials too big for output are replaced
+ *     by number of their terms.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ReportEvent {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/*
+	 * Types of events - one for each write method of SpecialFileFormatting
+	 */
+	public static final int EVENT_OPEN_DOCUMENT = 0;
+	public static final int EVENT_CLOSE_DOCUMENT = 1;
+	public static final int EVENT_OPEN_SECTION = 2;
+	public static final int EVENT_CLOSE_SECTION = 3;
+	public static final int EVENT_OPEN_SUBSECTION = 4;
+	public static final int EVENT_CLOSE_SUBSECTION = 5;
+	public static final int EVENT_OPEN_PARAGRAPH = 6;
+	public static final int EVENT_CLOSE_PARAGRAPH = 7;
+	public static final int EVENT_OPEN_ENUM = 8;
+	public static final int EVENT_CLOSE_ENUM = 9;
+	public static final int EVENT_OPEN_ITEM = 10;
+	public static final int EVENT_CLOSE_ITEM = 11;
+	public static final int EVENT_OPEN_ITEM_WITH_DESC = 12;
+	public static final int EVENT_CLOSE_ITEM_WITH_DESC = 13;
+	public static final int EVENT_PLAIN_TEXT = 14;
+	public static final int EVENT_FORMATTED_TEXT = 15;
+	public static final int EVENT_PROOF_TEXT = 16;
+	public static final int EVENT_SINGLE_LINE = 17;
+	public static final int EVENT_BOLD_TEXT = 18;
+	public static final int EVENT_ENUM_DESCRIPTION = 19;
+	public static final int EVENT_ENUM_ITEM = 20;
+	public static final int EVENT_POINT_COORDINATES_ASSIGNMENT = 21;
+	public static final int EVENT_POINT_WITH_COORDINATES = 22;
+	public static final int EVENT_POLYNOMIAL = 23;
+	public static final int EVENT_POLY_SYSTEM = 24;
+
+	/**
+	 * Type of event
+	 */
+	private int type;
+	/**
+	 * Text argument of write action (title, description, text or enumeration command)
+	 */
+	private String text;
+	/**
+	 * Integer argument of write action (format type or index of polynomial)
+	 */
+	private int intArg;
+	/**
+	 * Flag argument of write action (whether subsection has numeration)
+	 */
+	private boolean flag;
+	/**
+	 * Object argument of write action: array of strings for document,
+	 * point, polynomial or polynomial system
+	 */
+	private Object data;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the type
+	 */
+	public int getType() {
+		return this.type;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param type		Type of event
+	 * @param text		Text argument
+	 * @param intArg	Integer argument
+	 * @param flag		Flag argument
+	 * @param data		Object argument
+	 */
+	public ReportEvent(int type, String text, int intArg, boolean flag, Object data) {
+		this.type = type;
+		this.text = text;
+		this.intArg = intArg;
+		this.flag = flag;
+		this.data = data;
+	}
+
+	/**
+	 * Constructor method for events with only text argument (or without arguments)
+	 *
+	 * @param type		Type of event
+	 * @param text		Text argument
+	 */
+	public ReportEvent(int type, String text) {
+		this(type, text, 0, false, null);
+	}
+
+	/**
+	 * Constructor method for events with object argument
+	 *
+	 * @param type		Type of event
+	 * @param intArg	Integer argument
+	 * @param data		Object argument
+	 */
+	public ReportEvent(int type, int intArg, Object data) {
+		this(type, null, intArg, false, data);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that makes this event independent of prover objects, so it
+	 * can be replayed later: points and polynomials are replaced by copies.
+	 */
+	public void makeSnapshot() {
+		if (this.data instanceof Point) {
+			Point p = (Point)this.data;
+			Point copy = new FreePoint(p.getGeoObjectLabel()); // only label and coordinates are written
+
+			if (p.getX() != null)
+				copy.setX((UXVariable)p.getX().clone());
+			if (p.getY() != null)
+				copy.setY((UXVariable)p.getY().clone());
+			this.data = copy;
+		}
+		else if (this.data instanceof XPolynomial)
+			this.data = new ReportPolynomial((XPolynomial)this.data, true);
+		else if (this.data instanceof XPolySystem) {
+			Vector<XPolynomial> polys = ((XPolySystem)this.data).getPolynomials();
+			Vector<ReportPolynomial> rpolys = new Vector<ReportPolynomial>(polys.size());
+
+			for (XPolynomial xp : polys)
+				rpolys.add(new ReportPolynomial(xp, true));
+			this.data = rpolys;
+		}
+	}
+
+	/**
+	 * Method that performs write action of this event on output file.
+	 *
+	 * @param target	Output file
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public void replay(SpecialFileFormatting target) throws IOException {
+		switch (this.type) {
+		case EVENT_OPEN_DOCUMENT:
+			String[] docArgs = (String[])this.data;
+			target.openDocument(docArgs[0], docArgs[1], docArgs[2]);
+			break;
+		case EVENT_CLOSE_DOCUMENT:
+			target.closeDocument();
+			break;
+		case EVENT_OPEN_SECTION:
+			target.openSection(this.text);
+			break;
+		case EVENT_CLOSE_SECTION:
+			target.closeSection();
+			break;
+		case EVENT_OPEN_SUBSECTION:
+			target.openSubSection(this.text, this.flag);
+			break;
+		case EVENT_CLOSE_SUBSECTION:
+			target.closeSubSection();
+			break;
+		case EVENT_OPEN_PARAGRAPH:
+			target.openParagraph();
+			break;
+		case EVENT_CLOSE_PARAGRAPH:
+			target.closeParagraph();
+			break;
+		case EVENT_OPEN_ENUM:
+			target.openEnum(this.text);
+			break;
+		case EVENT_CLOSE_ENUM:
+			target.closeEnum(this.text);
+			break;
+		case EVENT_OPEN_ITEM:
+			target.openItem();
+			break;
+		case EVENT_CLOSE_ITEM:
+			target.closeItem();
+			break;
+		case EVENT_OPEN_ITEM_WITH_DESC:
+			target.openItemWithDesc(this.text);
+			break;
+		case EVENT_CLOSE_ITEM_WITH_DESC:
+			target.closeItemWithDesc(this.text);
+			break;
+		case EVENT_PLAIN_TEXT:
+			target.writePlainText(this.text);
+			break;
+		case EVENT_FORMATTED_TEXT:
+			target.writeFormattedText(this.text, this.intArg);
+			break;
+		case EVENT_PROOF_TEXT:
+			target.writeProofText(this.text);
+			break;
+		case EVENT_SINGLE_LINE:
+			target.writeSingleLine(this.text);
+			break;
+		case EVENT_BOLD_TEXT:
+			target.writeBoldText(this.text);
+			break;
+		case EVENT_ENUM_DESCRIPTION:
+			target.writeEnumDescription(this.text);
+			break;
+		case EVENT_ENUM_ITEM:
+			target.writeEnumItem(this.text);
+			break;
+		case EVENT_POINT_COORDINATES_ASSIGNMENT:
+			target.writePointCoordinatesAssignment((Point)this.data);
+			break;
+		case EVENT_POINT_WITH_COORDINATES:
+			target.writePointWithCoordinates((Point)this.data);
+			break;
+		case EVENT_POLYNOMIAL:
+			if (this.data instanceof ReportPolynomial)
+				target.writePolynomial(this.intArg, (ReportPolynomial)this.data);
+			else
+				target.writePolynomial(this.intArg, (XPolynomial)this.data);
+			break;
+		case EVENT_POLY_SYSTEM:
+			if (this.data instanceof XPolySystem)
+				target.writePolySystem((XPolySystem)this.data);
+			else
+				target.writePolySystem((Vector<ReportPolynomial>)this.data);
+			break;
+		}
+	}
+}
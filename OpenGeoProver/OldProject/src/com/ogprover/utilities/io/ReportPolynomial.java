@@ -0,0 +1,91 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.io;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.polynomials.XPolynomial;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for polynomial as it is written to report. Polynomials with
+ *     more than OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM terms are not
+ *     printed in report, therefore only their number of terms is kept
+ *     and polynomial itself is not referenced. When report is rendered
+ *     later (not in the moment of writing), polynomial is copied since
+ *     prover could change it in the meantime.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class ReportPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Polynomial to print, or null if it is too big for output
+	 */
+	private XPolynomial polynomial;
+	/**
+	 * Number of terms of polynomial
+	 */
+	private int numOfTerms;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the polynomial (null if it is too big for output)
+	 */
+	public XPolynomial getPolynomial() {
+		return this.polynomial;
+	}
+
+	/**
+	 * @return the numOfTerms
+	 */
+	public int getNumOfTerms() {
+		return this.numOfTerms;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param xpoly		Polynomial to be written to report
+	 * @param copy		True if polynomial has to be copied (when it
+	 * 					is written later), false otherwise
+	 */
+	public ReportPolynomial(XPolynomial xpoly, boolean copy) {
+		this.numOfTerms = xpoly.getTerms().size();
+
+		if (this.numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM)
+			this.polynomial = null;
+		else
+			this.polynomial = copy ? (XPolynomial)xpoly.clone() : xpoly;
+	}
+}
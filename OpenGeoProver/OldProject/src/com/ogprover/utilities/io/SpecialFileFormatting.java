@@ -5,6 +5,7 @@
 package com.ogprover.utilities.io;
 
 import java.io.IOException;
+import java.util.Vector;
 
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
@@ -66,6 +67,9 @@ public interface SpecialFileFormatting {
 	public void writePolynomial(int index, XPolynomial xpoly) throws IOException;
 	public void writePolynomial(XPolynomial xpoly) throws IOException;
 	public void writePolySystem(XPolySystem xpolySys) throws IOException;
+	// writing of polynomials whose report is rendered later (see ReportEvent)
+	public void writePolynomial(int index, ReportPolynomial rpoly) throws IOException;
+	public void writePolySystem(Vector<ReportPolynomial> rpolys) throws IOException;
 	
 	// checking status of output
 	public boolean isDocumentOpened();
@@ -30,9 +30,14 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 	// numbers of section and subsection to be opened
 	private int nextSectionNum = 0;
 	private int nextSubSectionNum = 0;
+	private StringBuilder polyText = new StringBuilder(); // text of polynomial being written, reused for all polynomials
 	
 	public XMLFileWriter(String fileName) throws IOException{
-		super(fileName, "xml");
+		this(CustomFileWriter.OUTPUT_DIR_NAME, fileName);
+	}
+	
+	public XMLFileWriter(String dirName, String fileName) throws IOException{
+		super(dirName, fileName, "xml");
 		this.documentOpened = false;
 		this.sectionOpened = false;
 		this.subSectionOpened = false;
@@ -322,10 +327,17 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 		this.write(sb.toString());
 	}
 	
-	private String getPolynomialText(int index, XPolynomial xpoly) {
+	/**
+	 * Method that writes XML text of polynomial directly to file.
+	 * 
+	 * @param index		Index of polynomial
+	 * @param rpoly		Polynomial to be written
+	 * @throws IOException
+	 */
+	private void writePolynomialText(int index, ReportPolynomial rpoly) throws IOException {
 		StringBuilder sb = new StringBuilder();
 		int outIndex = index + 1;
-		int numOfTerms = xpoly.getTerms().size();
+		int numOfTerms = rpoly.getNumOfTerms();
 		
 		if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM) {
 			sb.append("\n<proof_line>\n");
@@ -334,19 +346,11 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 			sb.append(")\n</proof_line>\n");
 		}
 		else {
-			String xmlXPoly = xpoly.printToXML();
-			int len = xmlXPoly.length();
-			
-			if (len > OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM ||
-				xmlXPoly.startsWith("??")) {
+			this.polyText.setLength(0);
+			if (!rpoly.getPolynomial().printToXML(this.polyText, OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM)) {
 				sb.append("\n<proof_line>\n");
-				sb.append("Polynomial too big for output (text size is ");
-				if (xmlXPoly.startsWith("??")) {
-					sb.append("greater than ");
-					sb.append(OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM);
-				}
-				else
-					sb.append(len);
+				sb.append("Polynomial too big for output (text size is greater than ");
+				sb.append(OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM);
 				sb.append(" characters, number of terms is ");
 				sb.append(numOfTerms);
 				sb.append(")\n</proof_line>\n");
@@ -364,18 +368,26 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 					sb.append("</proof_index>");
 				}
 				sb.append("</poly_label>");
+				this.write(sb);
+				
+				this.write(this.polyText);
 				
-				sb.append(xmlXPoly);
+				sb.setLength(0);
 				sb.append("\n</polynomial>\n");
 			}
 		}
 		
-		return sb.toString();
+		this.write(sb);
 	}
 	
 	public void writePolynomial(int index, XPolynomial xpoly)
 			throws IOException {
-		this.write(getPolynomialText(index, xpoly));
+		this.writePolynomial(index, new ReportPolynomial(xpoly, false));
+	}
+	
+	public void writePolynomial(int index, ReportPolynomial rpoly)
+			throws IOException {
+		this.writePolynomialText(index, rpoly);
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
@@ -387,21 +399,26 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 		if (xpolySys == null || xpolySys.getPolynomials().size() == 0)
 			return;
 		
-		StringBuilder sb = new StringBuilder();
+		Vector<ReportPolynomial> rpolys = new Vector<ReportPolynomial>(xpolySys.getPolynomials().size());
+		for (XPolynomial xp : xpolySys.getPolynomials())
+			rpolys.add(new ReportPolynomial(xp, false));
+		this.writePolySystem(rpolys);
+	}
+	
+	public void writePolySystem(Vector<ReportPolynomial> rpolys) throws IOException {
+		if (rpolys == null || rpolys.size() == 0)
+			return;
 		
-		sb.append("\n<polynomial_system>\n");
+		this.write("\n<polynomial_system>\n");
 		
 		int ii = 0;
-		for (XPolynomial xp : xpolySys.getPolynomials()) {
-			sb.append(this.getPolynomialText(ii, xp));
-			sb.append("\n");
+		for (ReportPolynomial rp : rpolys) {
+			this.writePolynomialText(ii, rp);
+			this.write("\n");
 			ii++;
 		}
 		
-		sb.append("\n</polynomial_system>\n");
-		
-		this.write(sb.toString());
-		
+		this.write("\n</polynomial_system>\n");
 	}
 	
 	public boolean isDocumentOpened() {
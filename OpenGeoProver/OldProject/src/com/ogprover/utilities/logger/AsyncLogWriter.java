@@ -0,0 +1,279 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Category;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for asynchronous writing of log messages. Threads which log
+ *     messages only put logging events to bounded lock-free ring buffer,
+ *     while single background thread takes events from buffer in same
+ *     order and passes them to appenders of logger (i.e. it formats them
+ *     and writes them to log file).
+ *     <br>
+ *     Producer thread claims slot of buffer by increasing tail sequence
+ *     (compare-and-set), so there are no locks on logging path. When buffer
+ *     is full, producer waits for consumer to release some slot; messages
+ *     are therefore never dropped and their order is preserved.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class AsyncLogWriter implements Runnable {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Default capacity of ring buffer
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
+	/**
+	 * Time in nanoseconds for which consumer thread sleeps when buffer is empty
+	 */
+	private static final long IDLE_PARK_NANOS = 1000000L;
+
+	/**
+	 * Logger whose appenders write events from buffer
+	 */
+	private Category logger;
+	/**
+	 * Slots of ring buffer; number of slots is power of two
+	 */
+	private AtomicReferenceArray<LoggingEvent> slots;
+	/**
+	 * Mask for calculation of slot index from sequence number
+	 */
+	private int mask;
+	/**
+	 * Sequence number of next slot that will be claimed by producer
+	 */
+	private AtomicLong tail = new AtomicLong(0);
+	/**
+	 * Sequence number of next slot that will be read by consumer;
+	 * it is changed only by consumer thread
+	 */
+	private volatile long head = 0;
+	/**
+	 * Flag which is set when writer is closed
+	 */
+	private volatile boolean closed = false;
+	/**
+	 * Background thread which writes events
+	 */
+	private Thread consumerThread;
+	/**
+	 * Thread registered as shutdown hook, which closes this writer when
+	 * JVM exits; it is unregistered when writer is closed before that
+	 */
+	private Thread shutdownHook;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the capacity of ring buffer
+	 */
+	public int getCapacity() {
+		return this.slots.length();
+	}
+
+	/**
+	 * @return the number of events which are waiting to be written
+	 */
+	public long getPendingCount() {
+		return this.tail.get() - this.head;
+	}
+
+	/**
+	 * @return the closed flag
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method. It starts background (daemon) thread which writes
+	 * events and registers shutdown hook which writes remaining events
+	 * when JVM exits.
+	 *
+	 * @param logger		Logger whose appenders write events
+	 * @param capacity		Minimal capacity of ring buffer (it is rounded
+	 * 						to power of two)
+	 */
+	public AsyncLogWriter(Category logger, int capacity) {
+		int size = 1;
+
+		while (size < capacity)
+			size <<= 1;
+		this.logger = logger;
+		this.slots = new AtomicReferenceArray<LoggingEvent>(size);
+		this.mask = size - 1;
+
+		this.consumerThread = new Thread(this, "OGP-AsyncLogWriter");
+		this.consumerThread.setDaemon(true);
+		this.consumerThread.start();
+
+		this.shutdownHook = new Thread("OGP-AsyncLogWriter-shutdown") {
+			@Override
+			public void run() {
+				AsyncLogWriter.this.close();
+			}
+		};
+		Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+	}
+
+	/**
+	 * Constructor method.
+	 *
+	 * @param logger		Logger whose appenders write events
+	 */
+	public AsyncLogWriter(Category logger) {
+		this(logger, AsyncLogWriter.DEFAULT_CAPACITY);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that puts logging event to buffer. All parts of event which
+	 * depend on calling thread (thread name, nested diagnostic context and
+	 * location information) are calculated here, before event is passed
+	 * to background thread.
+	 *
+	 * @param event		Logging event
+	 * @return			True if event has been put to buffer, false if
+	 * 					writer is already closed and caller has to write
+	 * 					event by itself
+	 */
+	public boolean append(LoggingEvent event) {
+		if (this.closed)
+			return false;
+
+		event.getThreadName();
+		event.getNDC();
+		event.getLocationInformation();
+		event.getRenderedMessage();
+
+		long seq;
+		int capacity = this.slots.length();
+
+		while (true) {
+			seq = this.tail.get();
+			if (seq - this.head >= capacity) {
+				// buffer is full - wait for consumer
+				LockSupport.unpark(this.consumerThread);
+				Thread.yield();
+				continue;
+			}
+			if (this.tail.compareAndSet(seq, seq + 1))
+				break;
+		}
+
+		this.slots.set((int)(seq & this.mask), event);
+		return true;
+	}
+
+	/**
+	 * Method that waits until all events which were put to buffer
+	 * before call of this method are written.
+	 */
+	public void flush() {
+		long target = this.tail.get();
+
+		while (this.head < target && this.consumerThread.isAlive()) {
+			LockSupport.unpark(this.consumerThread);
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Method that closes writer: remaining events are written,
+	 * background thread is stopped and shutdown hook is unregistered.
+	 * Events logged after this are rejected by append() method.
+	 */
+	public void close() {
+		if (this.closed)
+			return;
+
+		this.closed = true;
+		LockSupport.unpark(this.consumerThread);
+		try {
+			this.consumerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		try {
+			Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+		} catch (IllegalStateException e) {
+			// JVM is already shutting down (this method could be called from hook itself)
+		}
+	}
+
+	/**
+	 * Method of background thread which takes events from buffer and writes them.
+	 *
+	 * @see java.lang.Runnable#run()
+	 */
+	public void run() {
+		while (true) {
+			long seq = this.head;
+			int idx = (int)(seq & this.mask);
+			LoggingEvent event = this.slots.get(idx);
+
+			if (event != null) {
+				this.slots.set(idx, null); // slot must be released before head is moved
+				try {
+					this.logger.callAppenders(event);
+				} catch (RuntimeException e) {
+					e.printStackTrace(); // background thread must not die because of one event
+				}
+				this.head = seq + 1; // moved after writing, so flush() returns when events are in file
+				continue;
+			}
+
+			if (seq == this.tail.get()) {
+				if (this.closed)
+					return;
+				LockSupport.parkNanos(AsyncLogWriter.IDLE_PARK_NANOS);
+			}
+			else
+				Thread.yield(); // slot is claimed, but event is not set yet
+		}
+	}
+}
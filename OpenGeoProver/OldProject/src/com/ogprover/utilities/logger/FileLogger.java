@@ -6,12 +6,14 @@ package com.ogprover.utilities.logger;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.FileAppender;
 import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
 
 import com.ogprover.utilities.io.CustomFile;
 
@@ -52,6 +54,7 @@ public class FileLogger extends Logger implements ILogger {
 	public static final String DEFAULT_LOG_DIR = "log"; // default name of destination directory for all log files (from current working directory, whatever it is)
 	public static final String DEFAULT_LOG_FILE_EXTENSION = "log"; // default extension for log files
 	public static final String DEFAULT_LOG_FILE_NAME = "tempOGPLogFile";
+	public static final long DEFAULT_RATE_LIMIT_INTERVAL = 1000; // default minimal time in milliseconds between two logged occurrences of rate limited message
 	
 	/**
 	 * <i>
@@ -71,6 +74,20 @@ public class FileLogger extends Logger implements ILogger {
 	 * Base name of log file with extension (default extension is ".log")
 	 */
 	private String logBaseFileName;
+	/**
+	 * Writer which writes messages to log file in background thread;
+	 * if it is null, messages are written synchronously
+	 */
+	private volatile AsyncLogWriter asyncWriter = null;
+	/**
+	 * Lock for switching between asynchronous and synchronous writing; logger
+	 * itself is not locked since log4j locks it while writing events
+	 */
+	private final Object asyncWriterLock = new Object();
+	/**
+	 * States of rate limited messages, with message text as the key
+	 */
+	private ConcurrentHashMap<String, RateLimitedMessage> rateLimitedMessages = new ConcurrentHashMap<String, RateLimitedMessage>();
 	
 	
 	
@@ -127,6 +144,40 @@ public class FileLogger extends Logger implements ILogger {
 	public void setLogBaseFileName(String logBaseFileName) {
 		this.logBaseFileName = logBaseFileName;
 	}
+	
+	/**
+	 * @return true if messages are written to log file asynchronously
+	 */
+	public boolean isAsynchronous() {
+		return this.asyncWriter != null;
+	}
+	
+	/**
+	 * Method for switching between asynchronous and synchronous writing of
+	 * messages. When asynchronous writing is turned off, all messages that
+	 * are waiting in buffer are written first.
+	 * 
+	 * @param asynchronous	True for asynchronous writing
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		AsyncLogWriter writer;
+		
+		synchronized (this.asyncWriterLock) {
+			if (asynchronous == (this.asyncWriter != null))
+				return;
+			
+			if (asynchronous) {
+				this.asyncWriter = new AsyncLogWriter(this);
+				return;
+			}
+			writer = this.asyncWriter;
+			this.asyncWriter = null;
+		}
+		
+		// background thread locks this logger when it writes events, so
+		// it must not be locked while waiting for that thread to finish
+		writer.close();
+	}
 
 	
 	
@@ -226,55 +277,124 @@ public class FileLogger extends Logger implements ILogger {
     }
     
     
+    /**
+     * Method that closes log file: messages which are waiting in buffer are
+     * written, background writer is stopped and appenders of this logger are
+     * closed and removed. Logger instances are kept by log4j repository, so
+     * this must be done when log file is not needed any more.
+     */
+    public void close() {
+    	this.setAsynchronous(false);
+    	this.removeAllAppenders(); // appenders are closed before they are removed
+    }
+    
+    /**
+     * Method that waits until all messages logged so far are written to log file.
+     */
+    public void flush() {
+    	AsyncLogWriter writer = this.asyncWriter;
+    	
+    	if (writer != null)
+    		writer.flush();
+    }
+    
+    /**
+     * Method that logs message with specified level. Logging event is created
+     * only if level is enabled and then it is either put to buffer of
+     * asynchronous writer or passed directly to appenders of this logger.
+     * 
+     * @param level		Level of message
+     * @param msg		Message to log
+     */
+    private void logMessage(Level level, String msg) {
+    	if (this.verbose)
+    		System.out.println(msg);
+    	
+    	if (this.repository.isDisabled(level.toInt()) || !level.isGreaterOrEqual(this.getEffectiveLevel()))
+    		return;
+    	
+    	LoggingEvent event = new LoggingEvent(FileLogger.class.getName(), this, level, msg, null);
+    	AsyncLogWriter writer = this.asyncWriter;
+    	
+    	if (writer == null || !writer.append(event))
+    		this.callAppenders(event);
+    }
+    
+    
     /*
      * Implementation methods from ILogger interface
      */
     
     /* 
-     * Base log functions - they are all made to be thread safe
-     * since logger could be used in multi-threading environment
-     * when multiplying two polynomials. 
-     * 
-     * Following comment is from book "Thinking in Java" by Bruce Eckel
-     * (section with title "Resolving shared resource contention"):
-     * "When you call any synchronized method, that object is locked 
-     * and no other synchronized method of that object can be called 
-     * until the first one finishes and releases the lock."
+     * Base log functions - they are all thread safe since logger could 
+     * be used in multi-threading environment when multiplying two 
+     * polynomials. They don't lock logger object: log4j appenders are 
+     * synchronized by themselves, and in asynchronous mode messages
+     * are passed to background thread through lock-free buffer.
      */
     
-    public synchronized void fatal(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.FATAL, msg, null);
+    public void fatal(String msg) {
+    	this.logMessage(Level.FATAL, msg);
 	}
     
-    public synchronized void error(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.ERROR, msg, null);	
+    public void error(String msg) {
+    	this.logMessage(Level.ERROR, msg);
     }
     
-    public synchronized void warn(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.WARN, msg, null);	
+    public void warn(String msg) {
+    	this.logMessage(Level.WARN, msg);
     }
     
-    public synchronized void info(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.INFO, msg, null);	
+    public void info(String msg) {
+    	this.logMessage(Level.INFO, msg);
     }
     
-    public synchronized void debug(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.DEBUG, msg, null);	
+    public void debug(String msg) {
+    	this.logMessage(Level.DEBUG, msg);
     }
     
-	public synchronized void trace(String msg) {
-		if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.TRACE, msg, null);
+	public void trace(String msg) {
+		this.logMessage(Level.TRACE, msg);
+	}
+	
+	public void warnRateLimited(String msg) {
+		RateLimitedMessage state = this.rateLimitedMessages.get(msg);
+		
+		if (state == null) {
+			RateLimitedMessage newState = new RateLimitedMessage(FileLogger.DEFAULT_RATE_LIMIT_INTERVAL);
+			
+			state = this.rateLimitedMessages.putIfAbsent(msg, newState);
+			if (state == null)
+				state = newState;
+		}
+		
+		long suppressed = state.acquire(System.currentTimeMillis());
+		
+		if (suppressed < 0)
+			return;
+		if (suppressed == 0)
+			this.logMessage(Level.WARN, msg);
+		else
+			this.logMessage(Level.WARN, msg + " (suppressed " + suppressed + " similar messages)");
+	}
+	
+	/*
+	 * Messages are also printed to standard output in verbose mode,
+	 * regardless of log level.
+	 */
+	
+	@Override
+	public boolean isInfoEnabled() {
+		return this.verbose || super.isInfoEnabled();
+	}
+	
+	@Override
+	public boolean isDebugEnabled() {
+		return this.verbose || super.isDebugEnabled();
+	}
+	
+	@Override
+	public boolean isTraceEnabled() {
+		return this.verbose || super.isTraceEnabled();
 	}
 }
\ No newline at end of file
@@ -77,4 +77,33 @@ public interface ILogger {
 	 * @param msg	Message to log.
 	 */
     public void trace(String msg);
+    /**
+     * Method for logging warning from frequently executed code. Same
+     * message is logged at most once in some time interval, while number
+     * of suppressed occurrences is appended to next logged occurrence.
+     * 
+     * @param msg	Message to log (it should be constant text).
+     */
+    public void warnRateLimited(String msg);
+    /**
+     * Method which checks whether information messages are enabled; it
+     * should be used to avoid construction of messages which won't be logged.
+     * 
+     * @return	True if information messages are logged, false otherwise.
+     */
+    public boolean isInfoEnabled();
+    /**
+     * Method which checks whether debugger messages are enabled; it
+     * should be used to avoid construction of messages which won't be logged.
+     * 
+     * @return	True if debugger messages are logged, false otherwise.
+     */
+    public boolean isDebugEnabled();
+    /**
+     * Method which checks whether trace messages are enabled; it
+     * should be used to avoid construction of messages which won't be logged.
+     * 
+     * @return	True if trace messages are logged, false otherwise.
+     */
+    public boolean isTraceEnabled();
 }
\ No newline at end of file
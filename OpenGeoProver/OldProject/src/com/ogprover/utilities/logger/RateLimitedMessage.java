@@ -0,0 +1,110 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class which keeps state of one rate limited log message (i.e. message
+ *     which can be logged from some hot loop of prover). Message is logged
+ *     at most once in specified time interval, while other occurrences are
+ *     only counted and that number is reported with next logged occurrence.
+ *     It can be used from concurrent threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class RateLimitedMessage {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Time (in milliseconds) when message has been logged last time
+	 */
+	private AtomicLong lastLoggedTime = new AtomicLong(Long.MIN_VALUE);
+	/**
+	 * Number of occurrences suppressed since message has been logged last time
+	 */
+	private AtomicLong suppressedCount = new AtomicLong(0);
+	/**
+	 * Minimal time (in milliseconds) between two logged occurrences
+	 */
+	private long interval;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the interval
+	 */
+	public long getInterval() {
+		return this.interval;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param interval	Minimal time (in milliseconds) between two logged occurrences
+	 */
+	public RateLimitedMessage(long interval) {
+		this.interval = interval;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that records one occurrence of message and decides whether
+	 * it has to be logged.
+	 *
+	 * @param currentTime	Current time in milliseconds
+	 * @return				Negative value if this occurrence has to be suppressed,
+	 * 						otherwise number of occurrences suppressed since
+	 * 						message has been logged last time
+	 */
+	public long acquire(long currentTime) {
+		long last = this.lastLoggedTime.get();
+
+		if (last != Long.MIN_VALUE && currentTime - last < this.interval) {
+			this.suppressedCount.incrementAndGet();
+			return -1;
+		}
+		if (!this.lastLoggedTime.compareAndSet(last, currentTime)) {
+			// other thread has just logged this message
+			this.suppressedCount.incrementAndGet();
+			return -1;
+		}
+		return this.suppressedCount.getAndSet(0);
+	}
+}
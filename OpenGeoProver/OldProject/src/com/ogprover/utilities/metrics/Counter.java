@@ -0,0 +1,87 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for metric which counts events (e.g. number of steps of pseudo
+ *     division). Counter can only be increased and it can be updated from
+ *     concurrent threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class Counter extends Metric {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Current value of counter
+	 */
+	private AtomicLong value = new AtomicLong(0);
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the current value of counter
+	 */
+	public long getValue() {
+		return this.value.get();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param name			Name of counter
+	 * @param labelName		Name of label which distinguishes counters with
+	 * 						same name, or null if counter doesn't have label
+	 * @param labelValue	Value of label
+	 */
+	public Counter(String name, String labelName, String labelValue) {
+		super(name, labelName, labelValue);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that increases counter.
+	 *
+	 * @param delta		Non-negative value to add to counter
+	 */
+	public void add(long delta) {
+		this.value.addAndGet(delta);
+	}
+}
@@ -0,0 +1,150 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for metric which records distribution of non-negative values
+ *     (e.g. number of terms of polynomials or durations of spans). Values
+ *     are counted in buckets with upper bounds 1, 2, 4, ..., 2^(NUM_OF_BUCKETS-2)
+ *     and last bucket is for all bigger values. Histogram can be updated
+ *     from concurrent threads.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class Histogram extends Metric {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Number of buckets
+	 */
+	public static final int NUM_OF_BUCKETS = 32;
+	/**
+	 * Number of values in each bucket (not cumulative)
+	 */
+	private AtomicLongArray buckets = new AtomicLongArray(NUM_OF_BUCKETS);
+	/**
+	 * Number of recorded values
+	 */
+	private AtomicLong count = new AtomicLong(0);
+	/**
+	 * Sum of recorded values
+	 */
+	private AtomicLong sum = new AtomicLong(0);
+	/**
+	 * Maximal recorded value
+	 */
+	private AtomicLong max = new AtomicLong(0);
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * @return the sum of recorded values
+	 */
+	public long getSum() {
+		return this.sum.get();
+	}
+
+	/**
+	 * @return the maximal recorded value
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * @param index		Index of bucket
+	 * @return			Number of values in bucket (not cumulative)
+	 */
+	public long getBucketCount(int index) {
+		return this.buckets.get(index);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param name			Name of histogram
+	 * @param labelName		Name of label or null if histogram doesn't have label
+	 * @param labelValue	Value of label
+	 */
+	public Histogram(String name, String labelName, String labelValue) {
+		super(name, labelName, labelValue);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that records one value.
+	 *
+	 * @param value		Non-negative value to record
+	 */
+	public void record(long value) {
+		int index = 0;
+
+		// index of first bucket whose upper bound 2^index is not less than value
+		if (value > 1)
+			index = Math.min(64 - Long.numberOfLeadingZeros(value - 1), NUM_OF_BUCKETS - 1);
+
+		this.buckets.incrementAndGet(index);
+		this.count.incrementAndGet();
+		this.sum.addAndGet(value);
+
+		long currMax = this.max.get();
+		while (value > currMax && !this.max.compareAndSet(currMax, value))
+			currMax = this.max.get();
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * @param index		Index of bucket
+	 * @return			Upper bound of bucket in Prometheus format ("+Inf" for last bucket)
+	 */
+	public static String getBucketUpperBound(int index) {
+		if (index == NUM_OF_BUCKETS - 1)
+			return "+Inf";
+		return String.valueOf(1L << index);
+	}
+}
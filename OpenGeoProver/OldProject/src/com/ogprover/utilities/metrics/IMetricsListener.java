@@ -0,0 +1,42 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+/**
+ * <dl>
+ * <dt><b>Interface description:</b></dt>
+ * <dd>Interface for listeners of prover metrics. Listener is notified
+ *     when span is started and finished, so it can export it to other
+ *     tracing system (e.g. as events of Java Flight Recorder). Listeners
+ *     are called in thread which executes the span.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public interface IMetricsListener {
+	/**
+	 * <i><b>
+	 * Version number of interface in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from interface comment
+
+	/**
+	 * Method called when span is started.
+	 *
+	 * @param span	Started span
+	 */
+	public void spanStarted(MetricsSpan span);
+
+	/**
+	 * Method called when span is finished.
+	 *
+	 * @param span	Finished span
+	 */
+	public void spanFinished(MetricsSpan span);
+}
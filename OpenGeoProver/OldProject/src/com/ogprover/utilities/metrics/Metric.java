@@ -0,0 +1,131 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Abstract class for metric of prover. Each metric has name and
+ *     optional label (name and value) which distinguishes metrics with
+ *     same name, e.g. counters of eliminations by different lemmas of
+ *     area method.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public abstract class Metric {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Name of metric
+	 */
+	protected String name;
+	/**
+	 * Name of label or null if metric doesn't have label
+	 */
+	protected String labelName;
+	/**
+	 * Value of label
+	 */
+	protected String labelValue;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the name of metric
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the name of label or null if metric doesn't have label
+	 */
+	public String getLabelName() {
+		return labelName;
+	}
+
+	/**
+	 * @return the value of label
+	 */
+	public String getLabelValue() {
+		return labelValue;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param name			Name of metric
+	 * @param labelName		Name of label or null if metric doesn't have label
+	 * @param labelValue	Value of label
+	 */
+	protected Metric(String name, String labelName, String labelValue) {
+		this.name = name;
+		this.labelName = labelName;
+		this.labelValue = labelValue;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that makes key which identifies metric in registry; key is in
+	 * same form as metric is written in Prometheus text format, e.g.
+	 * <code>name{label="value"}</code>.
+	 *
+	 * @param name			Name of metric
+	 * @param labelName		Name of label or null if metric doesn't have label
+	 * @param labelValue	Value of label
+	 * @return				Key of metric
+	 */
+	public static String makeKey(String name, String labelName, String labelValue) {
+		if (labelName == null)
+			return name;
+
+		StringBuilder sb = new StringBuilder(name);
+		sb.append("{");
+		sb.append(labelName);
+		sb.append("=\"");
+		sb.append(labelValue);
+		sb.append("\"}");
+		return sb.toString();
+	}
+
+	/**
+	 * @return	Key of this metric
+	 */
+	public String getKey() {
+		return Metric.makeKey(this.name, this.labelName, this.labelValue);
+	}
+}
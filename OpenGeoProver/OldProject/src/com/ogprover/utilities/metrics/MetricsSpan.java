@@ -0,0 +1,193 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for span - measured part of prover work (e.g. transformation
+ *     to algebraic form or triangulation). Span is started by
+ *     <i>OGPMetrics.startSpan()</i> and finished by <i>end()</i>, when its
+ *     duration is recorded in histogram of span durations and listeners
+ *     of metrics are notified. Span carries name of theorem and numeric
+ *     attributes (e.g. number of terms of polynomials) which listeners
+ *     can export. When metrics are disabled, shared span which doesn't
+ *     record anything is used.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class MetricsSpan {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Span which is used when metrics are disabled
+	 */
+	public static final MetricsSpan DISABLED_SPAN = new MetricsSpan(null, null, null);
+	/**
+	 * Metrics where span is recorded
+	 */
+	private OGPMetrics metrics;
+	/**
+	 * Name of span
+	 */
+	private String name;
+	/**
+	 * Name of theorem being processed when span was started
+	 */
+	private String theoremName;
+	/**
+	 * Numeric attributes of span mapped by their names; created
+	 * when first attribute is set
+	 */
+	private Map<String, Long> attributes = null;
+	/**
+	 * Object attached to this span by listener (e.g. event of other tracing system)
+	 */
+	private Object attachment = null;
+	/**
+	 * Start time of span in nanoseconds (as returned by System.nanoTime())
+	 */
+	private long startTime;
+	/**
+	 * Duration of span in nanoseconds; -1 while span is not finished
+	 */
+	private long duration = -1;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return the name of span
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the name of theorem or null if it is not known
+	 */
+	public String getTheoremName() {
+		return theoremName;
+	}
+
+	/**
+	 * @return the start time in nanoseconds
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the duration in nanoseconds or -1 if span is not finished
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @param attachment the object attached by listener to set
+	 */
+	public void setAttachment(Object attachment) {
+		if (this.metrics != null)
+			this.attachment = attachment;
+	}
+
+	/**
+	 * @return the object attached by listener
+	 */
+	public Object getAttachment() {
+		return attachment;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param metrics		Metrics where span is recorded
+	 * @param name			Name of span
+	 * @param theoremName	Name of theorem being processed
+	 */
+	MetricsSpan(OGPMetrics metrics, String name, String theoremName) {
+		this.metrics = metrics;
+		this.name = name;
+		this.theoremName = theoremName;
+		this.startTime = System.nanoTime();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that sets numeric attribute of span; it doesn't have
+	 * effect on span used when metrics are disabled.
+	 *
+	 * @param attrName	Name of attribute (one of ATTR_xxx values from OGPMetrics)
+	 * @param value		Value of attribute
+	 */
+	public void setAttribute(String attrName, long value) {
+		if (this.metrics == null)
+			return;
+
+		if (this.attributes == null)
+			this.attributes = new LinkedHashMap<String, Long>();
+		this.attributes.put(attrName, Long.valueOf(value));
+	}
+
+	/**
+	 * Method that retrieves numeric attribute of span.
+	 *
+	 * @param attrName	Name of attribute
+	 * @param defValue	Value returned when attribute is not set
+	 * @return			Value of attribute or default value if attribute is not set
+	 */
+	public long getAttribute(String attrName, long defValue) {
+		if (this.attributes == null)
+			return defValue;
+
+		Long value = this.attributes.get(attrName);
+		return (value != null) ? value.longValue() : defValue;
+	}
+
+	/**
+	 * Method that finishes the span. Only first call has effect.
+	 */
+	public void end() {
+		if (this.metrics == null || this.duration >= 0)
+			return;
+
+		this.duration = System.nanoTime() - this.startTime;
+		this.metrics.spanFinished(this);
+	}
+}
@@ -0,0 +1,638 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.utilities.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.io.CustomFileWriter;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for registry of prover metrics - counters, histograms and
+ *     spans - which are collected during prover execution and can be
+ *     exported in JSON or Prometheus text format, or passed to listeners
+ *     (e.g. to Java Flight Recorder). Metrics are disabled by default and
+ *     then updating of metrics costs only one check of flag.
+ *     <br><br>
+ *     Names of metrics and spans used by prover are defined here as
+ *     constants.</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class OGPMetrics {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/*
+	 * Formats of exported metrics
+	 */
+	/**
+	 * <i><b>JSON format of exported metrics</b></i>
+	 */
+	public static final String FORMAT_JSON = "J";
+	/**
+	 * <i><b>Prometheus text format of exported metrics</b></i>
+	 */
+	public static final String FORMAT_PROMETHEUS = "P";
+	/**
+	 * <i><b>Metrics are not written to file but spans are recorded as Java Flight Recorder events</b></i>
+	 */
+	public static final String FORMAT_JFR = "F";
+	/**
+	 * <i><b>Name of listener class which records spans as Java Flight Recorder events</b></i>
+	 * <br>
+	 * That class is compiled separately from jfr source folder, since it needs Java 11 or later.
+	 */
+	public static final String JFR_LISTENER_CLASS_NAME = "com.ogprover.utilities.metrics.jfr.JFRMetricsListener";
+
+	/*
+	 * Names of metrics
+	 */
+	/**
+	 * <i><b>Counter of calls of pseudo division</b></i>
+	 */
+	public static final String PSEUDO_DIVISION_CALLS = "ogp_pseudo_division_calls_total";
+	/**
+	 * <i><b>Counter of steps of pseudo division</b></i>
+	 */
+	public static final String PSEUDO_DIVISION_STEPS = "ogp_pseudo_division_steps_total";
+	/**
+	 * <i><b>Histogram of number of terms of reminder after each step of pseudo division</b></i>
+	 */
+	public static final String PSEUDO_DIVISION_STEP_TERMS = "ogp_pseudo_division_step_terms";
+	/**
+	 * <i><b>Counter of steps of triangulation</b></i>
+	 */
+	public static final String TRIANGULATION_STEPS = "ogp_triangulation_steps_total";
+	/**
+	 * <i><b>Counter of variables chosen in triangulation steps, labeled by variable</b></i>
+	 */
+	public static final String TRIANGULATION_CHOSEN_VARIABLES = "ogp_triangulation_chosen_variables_total";
+	/**
+	 * <i><b>Histogram of number of polynomials which contain chosen variable in triangulation step</b></i>
+	 */
+	public static final String TRIANGULATION_STEP_POLYNOMIALS = "ogp_triangulation_step_polynomials";
+	/**
+	 * <i><b>Counter of reductions of u-fractions</b></i>
+	 */
+	public static final String UFRACTION_REDUCTIONS = "ogp_ufraction_reductions_total";
+	/**
+	 * <i><b>Counter of eliminations of points in area method</b></i>
+	 */
+	public static final String AREA_METHOD_ELIMINATIONS = "ogp_area_method_eliminations_total";
+	/**
+	 * <i><b>Counter of eliminations of points in area method in which lemma has been used, labeled by lemma</b></i>
+	 */
+	public static final String AREA_METHOD_LEMMA_USES = "ogp_area_method_lemma_uses_total";
+	/**
+	 * <i><b>Counter of NDG conditions whose translation to readable form has been attempted</b></i>
+	 */
+	public static final String NDG_TRANSLATION_ATTEMPTS = "ogp_ndg_translation_attempts_total";
+	/**
+	 * <i><b>Counter of NDG conditions successfully translated to readable form</b></i>
+	 */
+	public static final String NDG_TRANSLATIONS = "ogp_ndg_translations_total";
+	/**
+	 * <i><b>Counter of checks of positions of points against NDG condition</b></i>
+	 */
+	public static final String NDG_POSITION_CHECKS = "ogp_ndg_position_checks_total";
+	/**
+	 * <i><b>Histogram of durations of spans in microseconds, labeled by span</b></i>
+	 */
+	public static final String SPAN_DURATIONS = "ogp_span_duration_microseconds";
+
+	/*
+	 * Names of spans
+	 */
+	/**
+	 * <i><b>Span of transformation of construction protocol to algebraic form</b></i>
+	 */
+	public static final String SPAN_ALGEBRAIC_FORM = "algebraic_form";
+	/**
+	 * <i><b>Span of proving by Wu's method</b></i>
+	 */
+	public static final String SPAN_WU_METHOD = "wu_method";
+	/**
+	 * <i><b>Span of triangulation of system of hypotheses</b></i>
+	 */
+	public static final String SPAN_TRIANGULATION = "triangulation";
+	/**
+	 * <i><b>Span of check of statement by solving of linear system of hypotheses</b></i>
+	 */
+	public static final String SPAN_LINEAR_SYSTEM = "linear_system";
+	/**
+	 * <i><b>Span of proving by area method</b></i>
+	 */
+	public static final String SPAN_AREA_METHOD = "area_method";
+	/**
+	 * <i><b>Span of translation of NDG conditions to readable form</b></i>
+	 */
+	public static final String SPAN_NDG_TRANSLATION = "ndg_translation";
+	/**
+	 * <i><b>Span of transformation of RC-constructibility problem to polynomial form</b></i>
+	 */
+	public static final String SPAN_RC_TRANSFORMATION = "rc_transformation";
+	/**
+	 * <i><b>Span of analysis of degrees of field extensions of RC-constructibility problem</b></i>
+	 */
+	public static final String SPAN_RC_DEGREE_ANALYSIS = "rc_degree_analysis";
+	/**
+	 * <i><b>Span of reading of construction protocol from XML file</b></i>
+	 */
+	public static final String SPAN_XML_PARSE = "xml_parse";
+	/**
+	 * <i><b>Span of validation of construction protocol</b></i>
+	 */
+	public static final String SPAN_VALIDATION = "validation";
+	/**
+	 * <i><b>Span of simplification of construction protocol</b></i>
+	 */
+	public static final String SPAN_SIMPLIFICATION = "simplification";
+	/**
+	 * <i><b>Span of one step of triangulation</b></i>
+	 */
+	public static final String SPAN_TRIANGULATION_STEP = "triangulation_step";
+	/**
+	 * <i><b>Span of calculation of pseudo remainder</b></i>
+	 */
+	public static final String SPAN_PSEUDO_DIVISION = "pseudo_division";
+	/**
+	 * <i><b>Span of writing of prover results to report</b></i>
+	 */
+	public static final String SPAN_REPORT = "report";
+
+	/*
+	 * Names of attributes of spans
+	 */
+	/**
+	 * <i><b>Number of construction steps</b></i>
+	 */
+	public static final String ATTR_CONSTRUCTIONS = "constructions";
+	/**
+	 * <i><b>Number of polynomials</b></i>
+	 */
+	public static final String ATTR_POLYNOMIALS = "polynomials";
+	/**
+	 * <i><b>Number of NDG conditions</b></i>
+	 */
+	public static final String ATTR_NDG_CONDITIONS = "ndg_conditions";
+	/**
+	 * <i><b>Index of variable</b></i>
+	 */
+	public static final String ATTR_VARIABLE_INDEX = "variable_index";
+	/**
+	 * <i><b>Number of terms of dividend</b></i>
+	 */
+	public static final String ATTR_DIVIDEND_TERMS = "dividend_terms";
+	/**
+	 * <i><b>Number of terms of divisor</b></i>
+	 */
+	public static final String ATTR_DIVISOR_TERMS = "divisor_terms";
+	/**
+	 * <i><b>Number of terms of remainder</b></i>
+	 */
+	public static final String ATTR_REMAINDER_TERMS = "remainder_terms";
+	/**
+	 * <i><b>Number of steps</b></i>
+	 */
+	public static final String ATTR_STEPS = "steps";
+
+	/**
+	 * Name of label of spans
+	 */
+	public static final String LABEL_SPAN = "span";
+	/**
+	 * Name of label of variables
+	 */
+	public static final String LABEL_VARIABLE = "variable";
+	/**
+	 * Name of label of lemmas
+	 */
+	public static final String LABEL_LEMMA = "lemma";
+
+	/**
+	 * Flag whether metrics are collected
+	 */
+	private volatile boolean enabled = false;
+	/**
+	 * Name of theorem which is currently processed; it is assigned to
+	 * started spans
+	 */
+	private volatile String theoremName = null;
+	/**
+	 * Counters mapped by their keys
+	 */
+	private ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+	/**
+	 * Histograms mapped by their keys
+	 */
+	private ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<String, Histogram>();
+	/**
+	 * Listeners notified about finished spans
+	 */
+	private CopyOnWriteArrayList<IMetricsListener> listeners = new CopyOnWriteArrayList<IMetricsListener>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param enabled the flag whether metrics are collected to set
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return the flag whether metrics are collected
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param theoremName the name of theorem which is currently processed to set
+	 */
+	public void setTheoremName(String theoremName) {
+		this.theoremName = theoremName;
+	}
+
+	/**
+	 * @return the name of theorem which is currently processed
+	 */
+	public String getTheoremName() {
+		return theoremName;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that retrieves counter, creating it if it doesn't exist.
+	 *
+	 * @param name			Name of counter
+	 * @param labelName		Name of label or null if counter doesn't have label
+	 * @param labelValue	Value of label
+	 * @return				The counter
+	 */
+	public Counter getCounter(String name, String labelName, String labelValue) {
+		String key = Metric.makeKey(name, labelName, labelValue);
+		Counter counter = this.counters.get(key);
+
+		if (counter == null) {
+			Counter newCounter = new Counter(name, labelName, labelValue);
+			counter = this.counters.putIfAbsent(key, newCounter);
+			if (counter == null)
+				counter = newCounter;
+		}
+		return counter;
+	}
+
+	/**
+	 * Method that retrieves histogram, creating it if it doesn't exist.
+	 *
+	 * @param name			Name of histogram
+	 * @param labelName		Name of label or null if histogram doesn't have label
+	 * @param labelValue	Value of label
+	 * @return				The histogram
+	 */
+	public Histogram getHistogram(String name, String labelName, String labelValue) {
+		String key = Metric.makeKey(name, labelName, labelValue);
+		Histogram histogram = this.histograms.get(key);
+
+		if (histogram == null) {
+			Histogram newHistogram = new Histogram(name, labelName, labelValue);
+			histogram = this.histograms.putIfAbsent(key, newHistogram);
+			if (histogram == null)
+				histogram = newHistogram;
+		}
+		return histogram;
+	}
+
+	/**
+	 * Method that increments counter without label, if metrics are enabled.
+	 *
+	 * @param name	Name of counter
+	 */
+	public void incrementCounter(String name) {
+		if (this.enabled)
+			this.getCounter(name, null, null).add(1);
+	}
+
+	/**
+	 * Method that increments counter with label, if metrics are enabled.
+	 *
+	 * @param name			Name of counter
+	 * @param labelName		Name of label
+	 * @param labelValue	Value of label
+	 */
+	public void incrementCounter(String name, String labelName, String labelValue) {
+		if (this.enabled)
+			this.getCounter(name, labelName, labelValue).add(1);
+	}
+
+	/**
+	 * Method that records value in histogram without label, if metrics are enabled.
+	 *
+	 * @param name		Name of histogram
+	 * @param value		Value to record
+	 */
+	public void recordValue(String name, long value) {
+		if (this.enabled)
+			this.getHistogram(name, null, null).record(value);
+	}
+
+	/**
+	 * Method that starts new span.
+	 *
+	 * @param name	Name of span
+	 * @return		Started span; if metrics are disabled, shared span which doesn't record anything
+	 */
+	public MetricsSpan startSpan(String name) {
+		if (!this.enabled)
+			return MetricsSpan.DISABLED_SPAN;
+
+		MetricsSpan span = new MetricsSpan(this, name, this.theoremName);
+		for (IMetricsListener listener : this.listeners)
+			listener.spanStarted(span);
+		return span;
+	}
+
+	/**
+	 * Method called when span is finished; it records duration of span
+	 * and notifies listeners.
+	 *
+	 * @param span	Finished span
+	 */
+	void spanFinished(MetricsSpan span) {
+		this.getHistogram(SPAN_DURATIONS, LABEL_SPAN, span.getName()).record(span.getDuration() / 1000);
+		for (IMetricsListener listener : this.listeners)
+			listener.spanFinished(span);
+	}
+
+	/**
+	 * @param listener	Listener to add
+	 */
+	public void addListener(IMetricsListener listener) {
+		this.listeners.addIfAbsent(listener);
+	}
+
+	/**
+	 * Method that creates listener of passed in class and adds it to
+	 * listeners of this metrics. It is used for listeners which are not
+	 * compiled together with prover (e.g. recorder of Java Flight Recorder
+	 * events), so they are loaded only when they are needed.
+	 *
+	 * @param className	Name of listener class which has default constructor
+	 * @return			SUCCESS if listener is added, general error otherwise
+	 */
+	public int addListener(String className) {
+		try {
+			Object listener = Class.forName(className).getDeclaredConstructor().newInstance();
+
+			if (!(listener instanceof IMetricsListener)) {
+				OpenGeoProver.settings.getLogger().error("Class " + className + " is not listener of metrics.");
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+			this.addListener((IMetricsListener)listener);
+		} catch (ClassNotFoundException e) {
+			OpenGeoProver.settings.getLogger().error("Listener class " + className + " not found - check the class path.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (InstantiationException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to create listener of class " + className + ": " + e.getMessage());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (IllegalAccessException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to create listener of class " + className + ": " + e.getMessage());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (NoSuchMethodException e) {
+			OpenGeoProver.settings.getLogger().error("Listener class " + className + " has no default constructor.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (InvocationTargetException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to create listener of class " + className + ": " + e.getCause());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (LinkageError e) {
+			// e.g. listener needs newer version of Java
+			OpenGeoProver.settings.getLogger().error("Failed to load listener class " + className + ": " + e);
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * @param listener	Listener to remove
+	 */
+	public void removeListener(IMetricsListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Method that removes all collected metrics.
+	 */
+	public void reset() {
+		this.counters.clear();
+		this.histograms.clear();
+	}
+
+	/**
+	 * Method that exports all collected metrics in JSON format.
+	 *
+	 * @return	JSON object with arrays of counters and histograms
+	 */
+	public String exportToJSON() {
+		StringBuilder sb = new StringBuilder();
+		boolean first = true;
+
+		sb.append("{\n  \"counters\": [");
+		for (Counter counter : new TreeMap<String, Counter>(this.counters).values()) {
+			sb.append(first ? "\n" : ",\n");
+			first = false;
+			sb.append("    {");
+			OGPMetrics.appendJSONNameAndLabel(sb, counter);
+			sb.append(", \"value\": ");
+			sb.append(counter.getValue());
+			sb.append("}");
+		}
+		sb.append("\n  ],\n  \"histograms\": [");
+
+		first = true;
+		for (Histogram histogram : new TreeMap<String, Histogram>(this.histograms).values()) {
+			sb.append(first ? "\n" : ",\n");
+			first = false;
+			sb.append("    {");
+			OGPMetrics.appendJSONNameAndLabel(sb, histogram);
+			sb.append(", \"count\": ");
+			sb.append(histogram.getCount());
+			sb.append(", \"sum\": ");
+			sb.append(histogram.getSum());
+			sb.append(", \"max\": ");
+			sb.append(histogram.getMax());
+			sb.append(", \"buckets\": {");
+
+			boolean firstBucket = true;
+			for (int ii = 0; ii < Histogram.NUM_OF_BUCKETS; ii++) {
+				long bucketCount = histogram.getBucketCount(ii);
+
+				if (bucketCount == 0)
+					continue; // only non-empty buckets are exported
+				if (!firstBucket)
+					sb.append(", ");
+				firstBucket = false;
+				sb.append("\"");
+				sb.append(Histogram.getBucketUpperBound(ii));
+				sb.append("\": ");
+				sb.append(bucketCount);
+			}
+			sb.append("}}");
+		}
+		sb.append("\n  ]\n}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Method that exports all collected metrics in Prometheus text format.
+	 * Buckets of histograms are cumulative, as required by that format.
+	 *
+	 * @return	Metrics in Prometheus text format
+	 */
+	public String exportToPrometheus() {
+		StringBuilder sb = new StringBuilder();
+		String lastName = null;
+
+		for (Map.Entry<String, Counter> entry : new TreeMap<String, Counter>(this.counters).entrySet()) {
+			Counter counter = entry.getValue();
+
+			if (!counter.getName().equals(lastName)) {
+				lastName = counter.getName();
+				sb.append("# TYPE ");
+				sb.append(lastName);
+				sb.append(" counter\n");
+			}
+			sb.append(entry.getKey());
+			sb.append(" ");
+			sb.append(counter.getValue());
+			sb.append("\n");
+		}
+
+		lastName = null;
+		for (Histogram histogram : new TreeMap<String, Histogram>(this.histograms).values()) {
+			String name = histogram.getName();
+			String labels = (histogram.getLabelName() == null) ? "" : histogram.getLabelName() + "=\"" + histogram.getLabelValue() + "\",";
+			long cumulativeCount = 0;
+
+			if (!name.equals(lastName)) {
+				lastName = name;
+				sb.append("# TYPE ");
+				sb.append(name);
+				sb.append(" histogram\n");
+			}
+			for (int ii = 0; ii < Histogram.NUM_OF_BUCKETS; ii++) {
+				cumulativeCount += histogram.getBucketCount(ii);
+				sb.append(name);
+				sb.append("_bucket{");
+				sb.append(labels);
+				sb.append("le=\"");
+				sb.append(Histogram.getBucketUpperBound(ii));
+				sb.append("\"} ");
+				sb.append(cumulativeCount);
+				sb.append("\n");
+			}
+			sb.append(Metric.makeKey(name + "_sum", histogram.getLabelName(), histogram.getLabelValue()));
+			sb.append(" ");
+			sb.append(histogram.getSum());
+			sb.append("\n");
+			sb.append(Metric.makeKey(name + "_count", histogram.getLabelName(), histogram.getLabelValue()));
+			sb.append(" ");
+			sb.append(histogram.getCount());
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Method that writes all collected metrics to file in output directory.
+	 * Extension of file is determined by format ("json" or "prom").
+	 *
+	 * @param fileName	Base name of file
+	 * @param format	Format of metrics (one of FORMAT_xxx values)
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL in case of error
+	 */
+	public int writeToFile(String fileName, String format) {
+		String content, extension;
+
+		if (FORMAT_JSON.equals(format)) {
+			content = this.exportToJSON();
+			extension = "json";
+		}
+		else if (FORMAT_PROMETHEUS.equals(format)) {
+			content = this.exportToPrometheus();
+			extension = "prom";
+		}
+		else {
+			OpenGeoProver.settings.getLogger().error("Unknown format of metrics.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		CustomFileWriter writer = null;
+		try {
+			writer = new CustomFileWriter(fileName, extension);
+			writer.write(content);
+		} catch (IOException e) {
+			OpenGeoProver.settings.getLogger().error("Failed to write metrics to file.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (writer != null)
+				writer.close();
+		}
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that appends name and label of metric as JSON fields.
+	 *
+	 * @param sb		String builder to append to
+	 * @param metric	The metric
+	 */
+	private static void appendJSONNameAndLabel(StringBuilder sb, Metric metric) {
+		sb.append("\"name\": \"");
+		sb.append(metric.getName());
+		sb.append("\"");
+		if (metric.getLabelName() != null) {
+			sb.append(", \"labels\": {\"");
+			sb.append(metric.getLabelName());
+			sb.append("\": \"");
+			sb.append(metric.getLabelValue().replace("\\", "\\\\").replace("\"", "\\\""));
+			sb.append("\"}");
+		}
+	}
+}